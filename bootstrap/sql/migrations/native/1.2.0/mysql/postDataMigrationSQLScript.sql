@@ -0,0 +1,13 @@
+-- Move the test case result summaries of the test suites to test_suite_result_summary
+INSERT IGNORE INTO test_suite_result_summary (testSuiteId, testCaseId, json)
+SELECT ts.id, tc.id, summary.value
+FROM test_suite ts,
+JSON_TABLE(
+    ts.json,
+    '$.testCaseResultSummary[*]' COLUMNS (testCaseName VARCHAR(3072) PATH '$.testCaseName', value JSON PATH '$')
+) AS summary,
+test_case tc
+WHERE tc.json ->> '$.fullyQualifiedName' = summary.testCaseName;
+
+UPDATE test_suite SET json = JSON_REMOVE(json, '$.testCaseResultSummary')
+WHERE JSON_EXTRACT(json, '$.testCaseResultSummary') IS NOT NULL;
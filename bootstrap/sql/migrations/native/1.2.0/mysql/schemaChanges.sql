@@ -2,6 +2,9 @@
 ALTER TABLE query_entity DROP COLUMN deleted;
 ALTER TABLE event_subscription_entity DROP COLUMN deleted;
 
+-- Update time of the event subscriptions, read to check that the cached entities are current like the other entities
+ALTER TABLE event_subscription_entity ADD COLUMN updatedAt BIGINT UNSIGNED GENERATED ALWAYS AS (json ->> '$.updatedAt');
+
 -- create domain entity table
 CREATE TABLE IF NOT EXISTS domain_entity (
     id VARCHAR(36) GENERATED ALWAYS AS (json ->> '$.id') STORED NOT NULL,
@@ -93,3 +96,48 @@ SET json = JSON_INSERT(
     JSON_EXTRACT(json, '$.sourceConfig.config.viewParsingTimeoutLimit')
 )
 WHERE JSON_EXTRACT(json, '$.pipelineType') = 'metadata';
+
+-- Pipeline id from the lineage details, so that lineage edges of a pipeline can be looked up through an index
+ALTER TABLE entity_relationship ADD COLUMN pipelineId VARCHAR(36) DEFAULT NULL, ADD INDEX pipeline_index(pipelineId);
+
+-- Latest result status of each test case of a test suite, instead of the testCaseResultSummary list in the suite JSON
+CREATE TABLE IF NOT EXISTS test_suite_result_summary (
+    testSuiteId VARCHAR(36) NOT NULL,
+    testCaseId VARCHAR(36) NOT NULL,
+    json JSON NOT NULL,
+    status VARCHAR(16) GENERATED ALWAYS AS (json ->> '$.status') STORED,
+    timestamp BIGINT UNSIGNED GENERATED ALWAYS AS (json ->> '$.timestamp') STORED,
+    PRIMARY KEY (testSuiteId, testCaseId),
+    INDEX test_suite_status_index (testSuiteId, status),
+    INDEX test_case_index (testCaseId)
+);
+
+-- Webhook deliveries waiting to be retried, polled by the webhook delivery engine of the servers
+CREATE TABLE IF NOT EXISTS webhook_retry_queue (
+    id VARCHAR(36) NOT NULL,
+    json JSON NOT NULL,
+    subscriptionId VARCHAR(36) GENERATED ALWAYS AS (json ->> '$.subscriptionId') NOT NULL,
+    nextAttemptAt BIGINT UNSIGNED GENERATED ALWAYS AS (json ->> '$.nextAttemptAt') STORED NOT NULL,
+    PRIMARY KEY (id),
+    INDEX webhook_retry_next_attempt_index (nextAttemptAt)
+);
+
+-- Cache invalidations published by the servers, polled by every server to invalidate its own caches
+CREATE TABLE IF NOT EXISTS cache_invalidation_log (
+    id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+    cacheName VARCHAR(64) NOT NULL,
+    cacheKey TEXT NOT NULL,
+    nodeId VARCHAR(36) NOT NULL,
+    createdAt BIGINT UNSIGNED NOT NULL,
+    PRIMARY KEY (id),
+    INDEX cache_invalidation_created_at_index (createdAt)
+);
+
+-- Heartbeat written to the primary database to measure the replication lag of the read replica
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id INT NOT NULL,
+    heartbeatAt BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT IGNORE INTO replica_heartbeat (id, heartbeatAt) VALUES (1, 0);
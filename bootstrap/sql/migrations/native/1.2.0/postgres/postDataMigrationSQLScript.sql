@@ -0,0 +1,10 @@
+-- Move the test case result summaries of the test suites to test_suite_result_summary
+INSERT INTO test_suite_result_summary (testSuiteId, testCaseId, json)
+SELECT ts.id, tc.id, summary.value
+FROM test_suite ts
+CROSS JOIN LATERAL jsonb_array_elements(COALESCE(ts.json -> 'testCaseResultSummary', '[]'::jsonb)) AS summary(value)
+JOIN test_case tc ON tc.json ->> 'fullyQualifiedName' = summary.value ->> 'testCaseName'
+ON CONFLICT DO NOTHING;
+
+UPDATE test_suite SET json = json - 'testCaseResultSummary'
+WHERE json -> 'testCaseResultSummary' IS NOT NULL;
@@ -2,6 +2,9 @@
 ALTER TABLE query_entity DROP COLUMN deleted;
 ALTER TABLE event_subscription_entity DROP COLUMN deleted;
 
+-- Update time of the event subscriptions, read to check that the cached entities are current like the other entities
+ALTER TABLE event_subscription_entity ADD COLUMN IF NOT EXISTS updatedAt BIGINT GENERATED ALWAYS AS ((json ->> 'updatedAt')::bigint) STORED;
+
 -- create domain entity table
 CREATE TABLE IF NOT EXISTS domain_entity (
     id VARCHAR(36) GENERATED ALWAYS AS (json ->> 'id') STORED NOT NULL,
@@ -101,3 +104,49 @@ SET json = jsonb_set(
   true
 )
 WHERE json #>> '{pipelineType}' = 'metadata';
+
+-- Pipeline id from the lineage details, so that lineage edges of a pipeline can be looked up through an index
+ALTER TABLE entity_relationship ADD COLUMN IF NOT EXISTS pipelineId VARCHAR(36) DEFAULT NULL;
+CREATE INDEX IF NOT EXISTS entity_relationship_pipeline_index ON entity_relationship(pipelineId);
+
+-- Latest result status of each test case of a test suite, instead of the testCaseResultSummary list in the suite JSON
+CREATE TABLE IF NOT EXISTS test_suite_result_summary (
+    testSuiteId VARCHAR(36) NOT NULL,
+    testCaseId VARCHAR(36) NOT NULL,
+    json JSONB NOT NULL,
+    status VARCHAR(16) GENERATED ALWAYS AS (json ->> 'status') STORED,
+    timestamp BIGINT GENERATED ALWAYS AS ((json ->> 'timestamp')::bigint) STORED,
+    PRIMARY KEY (testSuiteId, testCaseId)
+);
+CREATE INDEX IF NOT EXISTS test_suite_result_summary_status_index ON test_suite_result_summary (testSuiteId, status);
+CREATE INDEX IF NOT EXISTS test_suite_result_summary_test_case_index ON test_suite_result_summary (testCaseId);
+
+-- Webhook deliveries waiting to be retried, polled by the webhook delivery engine of the servers
+CREATE TABLE IF NOT EXISTS webhook_retry_queue (
+    id VARCHAR(36) NOT NULL,
+    json JSONB NOT NULL,
+    subscriptionId VARCHAR(36) GENERATED ALWAYS AS (json ->> 'subscriptionId') STORED NOT NULL,
+    nextAttemptAt BIGINT GENERATED ALWAYS AS ((json ->> 'nextAttemptAt')::bigint) STORED NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS webhook_retry_queue_next_attempt_index ON webhook_retry_queue (nextAttemptAt);
+
+-- Cache invalidations published by the servers, polled by every server to invalidate its own caches
+CREATE TABLE IF NOT EXISTS cache_invalidation_log (
+    id BIGSERIAL NOT NULL,
+    cacheName VARCHAR(64) NOT NULL,
+    cacheKey TEXT NOT NULL,
+    nodeId VARCHAR(36) NOT NULL,
+    createdAt BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS cache_invalidation_log_created_at_index ON cache_invalidation_log (createdAt);
+
+-- Heartbeat written to the primary database to measure the replication lag of the read replica
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id INT NOT NULL,
+    heartbeatAt BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO replica_heartbeat (id, heartbeatAt) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
@@ -70,13 +70,18 @@ import org.openmetadata.schema.api.configuration.extension.Extension;
 import org.openmetadata.schema.api.configuration.extension.ExtensionConfiguration;
 import org.openmetadata.schema.api.security.AuthenticationConfiguration;
 import org.openmetadata.schema.api.security.AuthorizerConfiguration;
+import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
 import org.openmetadata.schema.services.connections.metadata.AuthProvider;
 import org.openmetadata.service.config.OMWebBundle;
 import org.openmetadata.service.config.OMWebConfiguration;
+import org.openmetadata.service.config.ReadReplicaConfiguration;
+import org.openmetadata.service.events.CacheInvalidationBus;
+import org.openmetadata.service.events.ChangeEventWriter;
 import org.openmetadata.service.events.EventFilter;
 import org.openmetadata.service.events.EventPubSub;
 import org.openmetadata.service.events.scheduled.PipelineServiceStatusJobHandler;
 import org.openmetadata.service.events.scheduled.ReportsHandler;
+import org.openmetadata.service.events.subscription.WebhookDeliveryEngine;
 import org.openmetadata.service.exception.CatalogGenericExceptionMapper;
 import org.openmetadata.service.exception.ConstraintViolationExceptionMapper;
 import org.openmetadata.service.exception.JsonMappingExceptionMapper;
@@ -84,12 +89,16 @@ import org.openmetadata.service.exception.OMErrorPageHandler;
 import org.openmetadata.service.extension.OpenMetadataExtension;
 import org.openmetadata.service.fernet.Fernet;
 import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.EntityCache;
 import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.jdbi3.EntityVersionCompactor;
+import org.openmetadata.service.jdbi3.TeamHierarchyIndex;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
 import org.openmetadata.service.jdbi3.locator.ConnectionType;
 import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
 import org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkApplicationEventListener;
 import org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkProvider;
+import org.openmetadata.service.jdbi3.unitofwork.ReadReplicaRouter;
 import org.openmetadata.service.migration.Migration;
 import org.openmetadata.service.migration.api.MigrationWorkflow;
 import org.openmetadata.service.monitoring.EventMonitor;
@@ -98,6 +107,8 @@ import org.openmetadata.service.monitoring.EventMonitorPublisher;
 import org.openmetadata.service.resources.CollectionRegistry;
 import org.openmetadata.service.resources.databases.DatasourceConfig;
 import org.openmetadata.service.resources.settings.SettingsCache;
+import org.openmetadata.service.search.IndexUtil;
+import org.openmetadata.service.search.SearchClient;
 import org.openmetadata.service.search.SearchEventPublisher;
 import org.openmetadata.service.secrets.SecretsManager;
 import org.openmetadata.service.secrets.SecretsManagerFactory;
@@ -108,8 +119,10 @@ import org.openmetadata.service.security.NoopAuthorizer;
 import org.openmetadata.service.security.NoopFilter;
 import org.openmetadata.service.security.auth.AuthenticatorHandler;
 import org.openmetadata.service.security.auth.BasicAuthenticator;
+import org.openmetadata.service.security.auth.BotTokenCache;
 import org.openmetadata.service.security.auth.LdapAuthenticator;
 import org.openmetadata.service.security.auth.NoopAuthenticator;
+import org.openmetadata.service.security.auth.UserTokenCache;
 import org.openmetadata.service.security.jwt.JWTTokenGenerator;
 import org.openmetadata.service.security.saml.OMMicrometerHttpFilter;
 import org.openmetadata.service.security.saml.SamlAssertionConsumerServlet;
@@ -141,8 +154,9 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     DatasourceConfig.initialize(catalogConfig.getDataSourceFactory().getDriverClass());
 
     ChangeEventConfig.initialize(catalogConfig);
-    final Jdbi jdbi = createAndSetupJDBI(environment, catalogConfig.getDataSourceFactory());
+    final Jdbi jdbi = createAndSetupJDBI(environment, catalogConfig.getDataSourceFactory(), "database");
     JdbiUnitOfWorkProvider jdbiUnitOfWorkProvider = JdbiUnitOfWorkProvider.withDefault(jdbi);
+    registerReadReplica(catalogConfig, environment, jdbi, jdbiUnitOfWorkProvider);
     CollectionDAO daoObject = (CollectionDAO) getWrappedInstanceForDaoClass(CollectionDAO.class);
     JdbiTransactionManager.initialize(jdbiUnitOfWorkProvider.getHandleManager());
     environment.jersey().register(new JdbiUnitOfWorkApplicationEventListener(new HashSet<>()));
@@ -150,6 +164,9 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     // Configure the Fernet instance
     Fernet.getInstance().setFernetKey(catalogConfig);
 
+    // Set the budgets of the entity caches before any entity is read
+    EntityCache.configure(catalogConfig.getEntityCacheConfiguration());
+
     // Init Settings Cache
     SettingsCache.initialize(daoObject, catalogConfig);
 
@@ -194,12 +211,24 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     environment.healthChecks().register("OpenMetadataServerHealthCheck", new OpenMetadataServerHealthCheck());
     // start event hub before registering publishers
     EventPubSub.start();
+    // Deliver the webhook messages of the event subscriptions. The engine is started before the subscription publishers
+    // are started by the resources, and is stopped after the publishers are shut down.
+    WebhookDeliveryEngine webhookDeliveryEngine = new WebhookDeliveryEngine(daoObject);
+    webhookDeliveryEngine.start();
+    environment.lifecycle().manage(webhookDeliveryEngine);
 
     registerResources(catalogConfig, environment, jdbi, jdbiUnitOfWorkProvider, daoObject);
 
     // Register Event Handler
+    environment.lifecycle().manage(new ChangeEventWriter(jdbi));
     registerEventFilter(catalogConfig, environment, jdbiUnitOfWorkProvider);
     environment.lifecycle().manage(new ManagedShutdown());
+    // Convert the version history stored as full entity JSON into deltas in the background
+    environment.lifecycle().manage(new EntityVersionCompactor(daoObject));
+    // Propagate the cache invalidations to the other servers sharing the database
+    environment.lifecycle().manage(registerCacheInvalidation(daoObject));
+    // Buffer the search index updates of the server and send them with the bulk API
+    registerSearchBulkIndexing(catalogConfig, environment, daoObject);
     // Register Event publishers
     registerEventPublisher(catalogConfig, daoObject);
 
@@ -272,8 +301,8 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     }
   }
 
-  private Jdbi createAndSetupJDBI(Environment environment, DataSourceFactory dbFactory) {
-    Jdbi jdbi = new JdbiFactory().build(environment, dbFactory, "database");
+  private Jdbi createAndSetupJDBI(Environment environment, DataSourceFactory dbFactory, String name) {
+    Jdbi jdbi = new JdbiFactory().build(environment, dbFactory, name);
     SqlLogger sqlLogger =
         new SqlLogger() {
           @Override
@@ -299,6 +328,26 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     return jdbi;
   }
 
+  private void registerReadReplica(
+      OpenMetadataApplicationConfig config,
+      Environment environment,
+      Jdbi jdbi,
+      JdbiUnitOfWorkProvider jdbiUnitOfWorkProvider) {
+    ReadReplicaConfiguration replicaConfig = config.getReadReplicaConfiguration();
+    if (replicaConfig == null) {
+      return;
+    }
+    if (!jdbiUnitOfWorkProvider.getHandleManager().supportsReadReplica()) {
+      LOG.warn("Read replica is not supported by the handle manager, serving all the requests from the primary");
+      return;
+    }
+    // Serve the GET requests from the read replica
+    Jdbi replicaJdbi = createAndSetupJDBI(environment, replicaConfig.getDataSourceFactory(), "replica");
+    ReadReplicaRouter router = new ReadReplicaRouter(jdbi, replicaJdbi, replicaConfig);
+    jdbiUnitOfWorkProvider.getHandleManager().setReadReplicaRouter(router);
+    environment.lifecycle().manage(router);
+  }
+
   @SneakyThrows
   @Override
   public void initialize(Bootstrap<OpenMetadataApplicationConfig> bootstrap) {
@@ -419,6 +468,28 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     }
   }
 
+  private CacheInvalidationBus registerCacheInvalidation(CollectionDAO daoObject) {
+    CacheInvalidationBus bus = new CacheInvalidationBus(daoObject.cacheInvalidationDAO());
+    EntityRepository.registerCacheInvalidation(bus);
+    SettingsCache.registerCacheInvalidation(bus);
+    BotTokenCache.registerCacheInvalidation(bus);
+    UserTokenCache.registerCacheInvalidation(bus);
+    TeamHierarchyIndex.registerCacheInvalidation(bus);
+    return bus;
+  }
+
+  private void registerSearchBulkIndexing(
+      OpenMetadataApplicationConfig config, Environment environment, CollectionDAO daoObject) {
+    ElasticSearchConfiguration esConfig = config.getElasticSearchConfiguration();
+    if (esConfig == null
+        || esConfig.getBulkIndexing() == null
+        || !Boolean.TRUE.equals(esConfig.getBulkIndexing().getEnabled())) {
+      return;
+    }
+    SearchClient searchClient = IndexUtil.getSearchClient(esConfig, daoObject);
+    environment.lifecycle().manage(searchClient.createBulkIndexBuffer(esConfig.getBulkIndexing()));
+  }
+
   private void registerEventPublisher(
       OpenMetadataApplicationConfig openMetadataApplicationConfig, CollectionDAO daoObject) {
     // register ElasticSearch Event publisher
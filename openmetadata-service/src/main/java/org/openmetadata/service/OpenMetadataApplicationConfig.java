@@ -24,6 +24,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.openmetadata.api.configuration.ApplicationConfiguration;
 import org.openmetadata.api.configuration.ChangeEventConfiguration;
+import org.openmetadata.api.configuration.EntityCacheConfiguration;
+import org.openmetadata.api.configuration.LineageConfiguration;
 import org.openmetadata.schema.api.configuration.events.EventHandlerConfiguration;
 import org.openmetadata.schema.api.configuration.extension.ExtensionConfiguration;
 import org.openmetadata.schema.api.configuration.pipelineServiceClient.PipelineServiceClientConfiguration;
@@ -35,6 +37,7 @@ import org.openmetadata.schema.email.SmtpSettings;
 import org.openmetadata.schema.security.secrets.SecretsManagerConfiguration;
 import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
 import org.openmetadata.service.config.OMWebConfiguration;
+import org.openmetadata.service.config.ReadReplicaConfiguration;
 import org.openmetadata.service.migration.MigrationConfiguration;
 import org.openmetadata.service.monitoring.EventMonitorConfiguration;
 
@@ -46,6 +49,10 @@ public class OpenMetadataApplicationConfig extends Configuration {
   @Valid
   private DataSourceFactory dataSourceFactory;
 
+  @JsonProperty("readReplica")
+  @Valid
+  private ReadReplicaConfiguration readReplicaConfiguration;
+
   @JsonProperty("swagger")
   private SwaggerBundleConfiguration swaggerBundleConfig;
 
@@ -105,6 +112,12 @@ public class OpenMetadataApplicationConfig extends Configuration {
   @JsonProperty("changeEventConfig")
   private ChangeEventConfiguration changeEventConfiguration;
 
+  @JsonProperty("lineageConfiguration")
+  private LineageConfiguration lineageConfiguration = new LineageConfiguration();
+
+  @JsonProperty("entityCacheConfiguration")
+  private EntityCacheConfiguration entityCacheConfiguration = new EntityCacheConfiguration();
+
   @Override
   public String toString() {
     return "catalogConfig{"
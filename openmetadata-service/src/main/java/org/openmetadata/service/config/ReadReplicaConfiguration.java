@@ -0,0 +1,33 @@
+package org.openmetadata.service.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.db.DataSourceFactory;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/** Read replica of the database serving the HTTP GET requests */
+@Getter
+@Setter
+public class ReadReplicaConfiguration {
+  @Valid
+  @NotNull
+  @JsonProperty("database")
+  private DataSourceFactory dataSourceFactory;
+
+  /** GET requests are served by the primary database while the replica is behind by more than this */
+  @Min(1)
+  @JsonProperty("maxLagSeconds")
+  private int maxLagSeconds = 10;
+
+  /** GET requests of a user are served by the primary database for this long after a change made by the user */
+  @Min(0)
+  @JsonProperty("readYourWritesWindowSeconds")
+  private int readYourWritesWindowSeconds = 30;
+
+  @Min(1)
+  @JsonProperty("lagCheckIntervalSeconds")
+  private int lagCheckIntervalSeconds = 1;
+}
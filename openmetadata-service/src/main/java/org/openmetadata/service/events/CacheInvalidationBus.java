@@ -0,0 +1,169 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import io.dropwizard.lifecycle.Managed;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.service.jdbi3.CollectionDAO.CacheInvalidation;
+import org.openmetadata.service.jdbi3.CollectionDAO.CacheInvalidationDAO;
+
+/**
+ * Keeps the caches of the servers sharing a database coherent. A server that invalidates a cache entry appends the
+ * cache name and key to the cache_invalidation_log table, and every server polls the table with a cursor on the
+ * increasing row id and invalidates the entry in its own cache. A change is hence seen by the other servers within
+ * {@link #POLL_INTERVAL_MILLIS}, which allows the caches to use long expiry times.
+ *
+ * <p>The ids of concurrent transactions may be committed out of order, and hence the cursor is moved only past the rows
+ * older than {@link #SETTLE_MILLIS}. The newer rows are read again on the next poll, and skipped when already applied.
+ */
+@Slf4j
+public class CacheInvalidationBus implements Managed {
+  public static final String ENTITY = "entity";
+  public static final String SETTINGS = "settings";
+  public static final String BOT_TOKEN = "botToken";
+  public static final String USER_TOKEN = "userToken";
+  public static final String TEAM_HIERARCHY = "teamHierarchy";
+  static final long POLL_INTERVAL_MILLIS = 1000;
+  static final long SETTLE_MILLIS = 10000;
+  static final long RETENTION_MILLIS = TimeUnit.HOURS.toMillis(1);
+  private static final int BATCH_SIZE = 1000;
+  private static volatile CacheInvalidationBus instance;
+
+  private final CacheInvalidationDAO dao;
+  @Getter private final String nodeId = UUID.randomUUID().toString();
+  private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+  private final Set<Long> applied = new HashSet<>(); // Rows after the cursor already applied, guarded by this
+  private long cursor; // Rows up to this id are applied, guarded by this
+  private long lastCleanup;
+  private ScheduledExecutorService poller;
+
+  public CacheInvalidationBus(CacheInvalidationDAO dao) {
+    this.dao = dao;
+  }
+
+  /**
+   * Invalidate the key of the cache on the other servers. The caller invalidates the key in the cache of this server.
+   * Does nothing when the bus is not running, such as in a single server started for migrations or tests.
+   */
+  public static void publish(String cacheName, String key) {
+    CacheInvalidationBus bus = instance;
+    if (bus != null) {
+      bus.append(cacheName, key);
+    }
+  }
+
+  /** Register the handler invalidating a key of the cache of this server when it is invalidated by another server */
+  public void register(String cacheName, Consumer<String> handler) {
+    handlers.put(cacheName, handler);
+  }
+
+  @Override
+  public void start() {
+    synchronized (this) {
+      // The caches are empty on start, and hence only the invalidations from now on are applied
+      cursor = dao.getMaxId();
+      lastCleanup = System.currentTimeMillis();
+    }
+    poller =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "cache-invalidation-poller");
+              thread.setDaemon(true);
+              return thread;
+            });
+    poller.scheduleWithFixedDelay(this::poll, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    instance = this;
+    LOG.info("Started the cache invalidation bus for node {}", nodeId);
+  }
+
+  @Override
+  public void stop() {
+    if (instance == this) {
+      instance = null;
+    }
+    if (poller != null) {
+      poller.shutdownNow();
+    }
+  }
+
+  void append(String cacheName, String key) {
+    try {
+      dao.insert(cacheName, key, nodeId, System.currentTimeMillis());
+    } catch (Exception e) {
+      // The other servers see the change when their cache entry expires
+      LOG.warn("Failed to publish the invalidation of {} {}", cacheName, key, e);
+    }
+  }
+
+  /** Apply the invalidations published by the other servers since the last poll */
+  synchronized void poll() {
+    try {
+      long now = System.currentTimeMillis();
+      long settled = now - SETTLE_MILLIS;
+      boolean moveCursor = true;
+      long after = cursor;
+      List<CacheInvalidation> invalidations;
+      do {
+        invalidations = dao.listAfter(after, BATCH_SIZE);
+        for (CacheInvalidation invalidation : invalidations) {
+          if (applied.add(invalidation.getId()) && !nodeId.equals(invalidation.getNodeId())) {
+            apply(invalidation);
+          }
+          moveCursor = moveCursor && invalidation.getCreatedAt() < settled;
+          if (moveCursor) {
+            cursor = invalidation.getId();
+          }
+          after = invalidation.getId();
+        }
+      } while (invalidations.size() == BATCH_SIZE);
+      applied.removeIf(id -> id <= cursor);
+
+      if (now - lastCleanup > RETENTION_MILLIS) {
+        lastCleanup = now;
+        LOG.debug("Deleted {} old cache invalidations", dao.deleteBefore(now - RETENTION_MILLIS));
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to poll the cache invalidations", e);
+    }
+  }
+
+  private void apply(CacheInvalidation invalidation) {
+    Consumer<String> handler = handlers.get(invalidation.getCacheName());
+    if (handler == null) {
+      LOG.debug("No handler for the invalidation of cache {}", invalidation.getCacheName());
+      return;
+    }
+    try {
+      handler.accept(invalidation.getCacheKey());
+    } catch (Exception e) {
+      LOG.warn(
+          "Failed to invalidate {} {} from node {}",
+          invalidation.getCacheName(),
+          invalidation.getCacheKey(),
+          invalidation.getNodeId(),
+          e);
+    }
+  }
+}
@@ -79,7 +79,11 @@ public class ChangeEventHandler implements EventHandler {
             changeEvent.setEntity(JsonUtils.pojoToMaskedJson(entity));
           }
 
-          changeEventDAO.insert(JsonUtils.pojoToJson(changeEvent));
+          // Wait until the group commit writer stores the event, or store it here when the writer can't take it
+          String json = JsonUtils.pojoToJson(changeEvent);
+          if (!ChangeEventWriter.write(json)) {
+            changeEventDAO.insert(json);
+          }
 
           // Add a new thread to the entity for every change event
           // for the event to appear in activity feeds
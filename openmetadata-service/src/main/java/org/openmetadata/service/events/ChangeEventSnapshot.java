@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import static org.openmetadata.service.Entity.TEAM;
+import static org.openmetadata.service.Entity.TEST_CASE;
+import static org.openmetadata.service.Entity.USER;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.Collections;
+import java.util.Set;
+import lombok.Getter;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.tests.TestCase;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.subscription.AlertsRuleEvaluator;
+import org.openmetadata.service.formatter.util.FormatterUtil;
+import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
+
+/**
+ * Values derived from a change event for evaluating the alert conditions. One snapshot is created per event published
+ * on the ring buffer and shared by the processors of all the subscriptions. Each value is computed once, by the first
+ * processor that needs it, and is not modified afterwards.
+ */
+public class ChangeEventSnapshot {
+  @Getter private final ChangeEvent event;
+  private final Supplier<EntityInterface> entity;
+  private final Supplier<String> ownerName;
+  private final Supplier<String> testCaseEntityFqn;
+  private final Supplier<Set<String>> updatedFields;
+
+  public ChangeEventSnapshot(ChangeEvent event) {
+    this.event = event;
+    this.entity = Suppliers.memoize(this::parseEntity);
+    this.ownerName = Suppliers.memoize(this::resolveOwnerName);
+    this.testCaseEntityFqn = Suppliers.memoize(this::parseTestCaseEntityFqn);
+    this.updatedFields = Suppliers.memoize(() -> Collections.unmodifiableSet(FormatterUtil.getUpdatedField(event)));
+  }
+
+  /** Entity of the change event. Returns null when the event has no entity. */
+  public EntityInterface getEntity() {
+    return entity.get();
+  }
+
+  /** Name of the user or the team owning the entity. Returns null when the entity has no owner. */
+  public String getOwnerName() {
+    return ownerName.get();
+  }
+
+  /** FQN of the entity a test case belongs to. Returns null when the entity is not a test case. */
+  public String getTestCaseEntityFqn() {
+    return testCaseEntityFqn.get();
+  }
+
+  /** Names of the fields added, updated or deleted by the change */
+  public Set<String> getUpdatedFields() {
+    return updatedFields.get();
+  }
+
+  private EntityInterface parseEntity() {
+    return event.getEntity() == null ? null : AlertsRuleEvaluator.getEntity(event);
+  }
+
+  private String resolveOwnerName() {
+    EntityInterface entityInterface = getEntity();
+    EntityReference owner = entityInterface == null ? null : entityInterface.getOwner();
+    if (owner == null || !(USER.equals(owner.getType()) || TEAM.equals(owner.getType()))) {
+      return null;
+    }
+    // The owner may have been renamed after the event, and hence read the current name
+    EntityInterface ownerEntity = Entity.getEntity(owner.getType(), owner.getId(), "", Include.NON_DELETED);
+    return ownerEntity.getName();
+  }
+
+  private String parseTestCaseEntityFqn() {
+    EntityInterface entityInterface = getEntity();
+    if (!TEST_CASE.equals(event.getEntityType()) || entityInterface == null) {
+      return null;
+    }
+    return EntityLink.parse(((TestCase) entityInterface).getEntityLink()).getEntityFQN();
+  }
+}
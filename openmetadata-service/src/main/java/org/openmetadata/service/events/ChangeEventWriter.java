@@ -0,0 +1,229 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import io.dropwizard.lifecycle.Managed;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.jdbi.v3.core.Jdbi;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+
+/**
+ * Group commit of the change events recorded by {@link ChangeEventHandler}. Events of concurrent requests are queued
+ * and inserted together in a single transaction by one background thread. The thread inserts the events queued so far,
+ * up to {@link #BATCH_SIZE}, as soon as it is idle, without waiting for more events. The events queued while a batch is
+ * being inserted make up the next batch, so a single writer is not delayed and concurrent writers share transactions.
+ * The caller of {@link #write(String)} waits until its event is inserted.
+ *
+ * <p>When the queue is full or the writer is not running, the caller inserts the event itself. A batch that fails to be
+ * inserted is retried one event at a time, and an event that still fails is parked: it is logged and reported to its
+ * caller instead of blocking the events behind it. The queued events are inserted before the writer stops.
+ */
+@Slf4j
+public class ChangeEventWriter implements Managed {
+  static final int QUEUE_CAPACITY = 10000;
+  static final int BATCH_SIZE = 500;
+  /** Time the idle writer waits for an event before checking that it is still running */
+  static final long POLL_INTERVAL_MILLIS = 100;
+
+  private static final long WRITE_TIMEOUT_SECONDS = 60;
+  private static volatile ChangeEventWriter instance;
+
+  private final Consumer<List<String>> batchSink;
+  private final Consumer<String> sink;
+  private final BlockingQueue<PendingEvent> queue;
+  private final int batchSize;
+  private final long pollIntervalMillis;
+  private final Object stateLock = new Object();
+  private final Object persistLock = new Object();
+  private long persisted; // Number of events inserted so far, guarded by persistLock
+  private long parked; // Number of events that failed to be inserted, guarded by persistLock
+  private volatile boolean running; // Written under stateLock
+  private Thread flusher;
+
+  public ChangeEventWriter(Jdbi jdbi) {
+    this(
+        jsons -> jdbi.onDemand(CollectionDAO.class).changeEventDAO().insertBatch(jsons),
+        json -> jdbi.onDemand(CollectionDAO.class).changeEventDAO().insert(json),
+        QUEUE_CAPACITY,
+        BATCH_SIZE,
+        POLL_INTERVAL_MILLIS);
+  }
+
+  ChangeEventWriter(
+      Consumer<List<String>> batchSink,
+      Consumer<String> sink,
+      int queueCapacity,
+      int batchSize,
+      long pollIntervalMillis) {
+    this.batchSink = batchSink;
+    this.sink = sink;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.pollIntervalMillis = pollIntervalMillis;
+  }
+
+  /**
+   * Insert the change event JSON through the writer that is running, and wait until it is inserted. Returns false when
+   * no writer is running or its queue is full, and the caller must insert the event itself. Throws when the event was
+   * parked after failing to be inserted.
+   */
+  public static boolean write(String json) throws InterruptedException, ExecutionException, TimeoutException {
+    ChangeEventWriter writer = instance;
+    if (writer == null) {
+      return false;
+    }
+    CompletableFuture<Void> future = writer.enqueue(json);
+    if (future == null) {
+      return false;
+    }
+    future.get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    return true;
+  }
+
+  @Override
+  public void start() {
+    synchronized (stateLock) {
+      running = true;
+    }
+    flusher = new Thread(this::run, "change-event-writer");
+    flusher.setDaemon(true);
+    flusher.start();
+    instance = this;
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    if (instance == this) {
+      instance = null;
+    }
+    synchronized (stateLock) {
+      // No event is queued after this, and the flusher exits once the queue is drained
+      running = false;
+    }
+    if (flusher != null) {
+      flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+    // Insert the events the flusher did not get to one at a time
+    PendingEvent event;
+    while ((event = queue.poll()) != null) {
+      insert(event);
+    }
+    LOG.info("Stopped the change event writer after inserting {} events, parked {}", getPersisted(), getParked());
+  }
+
+  /**
+   * Queue the event and return the future completed once it is inserted. Returns null without blocking when the writer
+   * is not running or the queue is full.
+   */
+  CompletableFuture<Void> enqueue(String json) {
+    PendingEvent event = new PendingEvent(json);
+    synchronized (stateLock) {
+      if (!running || !queue.offer(event)) {
+        return null;
+      }
+    }
+    return event.future;
+  }
+
+  long getPersisted() {
+    synchronized (persistLock) {
+      return persisted;
+    }
+  }
+
+  long getParked() {
+    synchronized (persistLock) {
+      return parked;
+    }
+  }
+
+  private void run() {
+    List<PendingEvent> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        fill(batch);
+        if (!batch.isEmpty()) {
+          insert(batch);
+          batch.clear();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        // The remaining events are inserted by stop()
+        batch.forEach(this::insert);
+        return;
+      }
+    }
+  }
+
+  private void insert(List<PendingEvent> batch) {
+    List<String> jsons = new ArrayList<>(batch.size());
+    batch.forEach(event -> jsons.add(event.json));
+    try {
+      batchSink.accept(jsons);
+    } catch (Exception e) {
+      LOG.warn("Failed to insert {} change events in a batch, inserting them one at a time", batch.size(), e);
+      batch.forEach(this::insert);
+      return;
+    }
+    synchronized (persistLock) {
+      persisted += batch.size();
+    }
+    batch.forEach(event -> event.future.complete(null));
+  }
+
+  private void insert(PendingEvent event) {
+    try {
+      sink.accept(event.json);
+    } catch (Exception e) {
+      LOG.error("Parking change event that failed to be inserted {}", event.json, e);
+      synchronized (persistLock) {
+        parked++;
+      }
+      event.future.completeExceptionally(e);
+      return;
+    }
+    synchronized (persistLock) {
+      persisted++;
+    }
+    event.future.complete(null);
+  }
+
+  /** Wait for the first event, and take the events queued along with it up to the batch size without waiting */
+  private void fill(List<PendingEvent> batch) throws InterruptedException {
+    PendingEvent first = running ? queue.poll(pollIntervalMillis, TimeUnit.MILLISECONDS) : queue.poll();
+    if (first == null) {
+      return;
+    }
+    batch.add(first);
+    queue.drainTo(batch, batchSize - 1);
+  }
+
+  private static class PendingEvent {
+    private final String json;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    PendingEvent(String json) {
+      this.json = json;
+    }
+  }
+}
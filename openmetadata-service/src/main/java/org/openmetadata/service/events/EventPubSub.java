@@ -64,6 +64,7 @@ public class EventPubSub {
 
   public static class ChangeEventHolder {
     @Getter @Setter private ChangeEvent event;
+    @Getter @Setter private ChangeEventSnapshot snapshot;
   }
 
   public static class ChangeEventFactory implements EventFactory<ChangeEventHolder> {
@@ -76,7 +77,9 @@ public class EventPubSub {
     if (event != null) {
       RingBuffer<ChangeEventHolder> ringBuffer = disruptor.getRingBuffer();
       long sequence = ringBuffer.next();
-      ringBuffer.get(sequence).setEvent(event);
+      ChangeEventHolder holder = ringBuffer.get(sequence);
+      holder.setEvent(event);
+      holder.setSnapshot(new ChangeEventSnapshot(event));
       ringBuffer.publish(sequence);
     }
   }
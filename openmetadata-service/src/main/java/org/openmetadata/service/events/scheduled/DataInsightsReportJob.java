@@ -13,6 +13,7 @@
 
 package org.openmetadata.service.events.scheduled;
 
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType.PERCENTAGE_OF_ENTITIES_WITH_DESCRIPTION_BY_TYPE;
 import static org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType.PERCENTAGE_OF_ENTITIES_WITH_OWNER_BY_TYPE;
 import static org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType.TOTAL_ENTITIES_BY_TIER;
@@ -26,9 +27,11 @@ import static org.openmetadata.service.util.SubscriptionUtil.getAdminsData;
 import static org.openmetadata.service.util.SubscriptionUtil.getNumberOfDays;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.text.ParseException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -36,6 +39,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.alert.type.DataInsightAlertConfig;
@@ -59,6 +68,7 @@ import org.openmetadata.service.events.scheduled.template.DataInsightTotalAssetT
 import org.openmetadata.service.exception.DataInsightJobException;
 import org.openmetadata.service.jdbi3.KpiRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
+import org.openmetadata.service.jdbi3.UserRepository;
 import org.openmetadata.service.search.SearchClient;
 import org.openmetadata.service.util.EmailUtil;
 import org.openmetadata.service.util.JsonUtils;
@@ -70,6 +80,10 @@ import org.quartz.JobExecutionContext;
 @Slf4j
 public class DataInsightsReportJob implements Job {
   private static final String KPI_NOT_SET = "No Kpi Set";
+  private static final int TEAM_BATCH_SIZE = 100;
+  private static final int EMAIL_SENDER_THREADS = 8;
+  private List<Kpi> availableKpis;
+  private final Map<String, KpiResult> kpiResults = new HashMap<>();
 
   @Override
   public void execute(JobExecutionContext jobExecutionContext) {
@@ -99,59 +113,157 @@ public class DataInsightsReportJob implements Job {
   }
 
   private void sendReportsToTeams(
-      SearchClient searchClient, Long scheduleTime, Long currentTime, int numberOfDaysChange) throws IOException {
-    PaginatedEntitiesSource teamReader = new PaginatedEntitiesSource(TEAM, 10, List.of("name", "email", "users"));
-    while (!teamReader.isDone()) {
-      ResultList<Team> resultList = (ResultList<Team>) teamReader.readNext(null);
-      for (Team team : resultList.getData()) {
-        Set<String> emails = new HashSet<>();
-        String email = team.getEmail();
-        if (!CommonUtil.nullOrEmpty(email)) {
-          emails.add(email);
-        } else {
-          for (EntityReference userRef : team.getUsers()) {
-            User user = Entity.getEntity(Entity.USER, userRef.getId(), "", Include.NON_DELETED);
-            emails.add(user.getEmail());
+      SearchClient searchClient, Long scheduleTime, Long currentTime, int numberOfDaysChange)
+      throws IOException, ParseException, InterruptedException {
+    String index = ENTITY_REPORT_DATA_INDEX.indexName;
+    ExecutorService emailSender = Executors.newFixedThreadPool(EMAIL_SENDER_THREADS);
+    try {
+      PaginatedEntitiesSource teamReader =
+          new PaginatedEntitiesSource(TEAM, TEAM_BATCH_SIZE, List.of("name", "email", "users"));
+      while (!teamReader.isDone()) {
+        ResultList<Team> resultList = (ResultList<Team>) teamReader.readNext(null);
+        List<Team> teams = resultList.getData();
+        if (teams.isEmpty()) {
+          continue;
+        }
+        // Data of all the teams in the batch is fetched with one request per chart
+        List<String> teamNames = teams.stream().map(Team::getName).collect(Collectors.toList());
+        Map<String, TreeMap<Long, List<Object>>> totalAssetData =
+            searchClient.getSortedDateByTeam(teamNames, scheduleTime, currentTime, TOTAL_ENTITIES_BY_TYPE, index);
+        Map<String, TreeMap<Long, List<Object>>> descriptionData =
+            searchClient.getSortedDateByTeam(
+                teamNames, scheduleTime, currentTime, PERCENTAGE_OF_ENTITIES_WITH_DESCRIPTION_BY_TYPE, index);
+        Map<String, TreeMap<Long, List<Object>>> ownershipData =
+            searchClient.getSortedDateByTeam(
+                teamNames, scheduleTime, currentTime, PERCENTAGE_OF_ENTITIES_WITH_OWNER_BY_TYPE, index);
+        Map<String, TreeMap<Long, List<Object>>> tierData =
+            searchClient.getSortedDateByTeam(teamNames, scheduleTime, currentTime, TOTAL_ENTITIES_BY_TIER, index);
+        Map<UUID, String> userEmails = getUserEmails(teams);
+
+        List<Future<?>> emails = new ArrayList<>();
+        for (Team team : teams) {
+          String teamName = team.getName();
+          try {
+            DataInsightTotalAssetTemplate totalAssetTemplate =
+                createTotalAssetTemplate(totalAssetData.get(teamName), numberOfDaysChange);
+            DataInsightDescriptionAndOwnerTemplate descriptionTemplate =
+                createDescriptionTemplate(descriptionData.get(teamName), numberOfDaysChange);
+            DataInsightDescriptionAndOwnerTemplate ownershipTemplate =
+                createOwnershipTemplate(ownershipData.get(teamName), numberOfDaysChange);
+            DataInsightDescriptionAndOwnerTemplate tierTemplate =
+                createTierTemplate(tierData.get(teamName), numberOfDaysChange);
+            Set<String> teamEmails = getTeamEmails(team, userEmails);
+            emails.add(
+                emailSender.submit(
+                    () ->
+                        sendEmail(
+                            teamName,
+                            teamEmails,
+                            totalAssetTemplate,
+                            descriptionTemplate,
+                            ownershipTemplate,
+                            tierTemplate)));
+          } catch (Exception ex) {
+            LOG.error("[DataInsightReport] Failed for Team: {}, Reason : {}", teamName, ex.getMessage());
           }
         }
-        try {
-          DataInsightTotalAssetTemplate totalAssetTemplate =
-              createTotalAssetTemplate(searchClient, team.getName(), scheduleTime, currentTime, numberOfDaysChange);
-          DataInsightDescriptionAndOwnerTemplate descriptionTemplate =
-              createDescriptionTemplate(searchClient, team.getName(), scheduleTime, currentTime, numberOfDaysChange);
-          DataInsightDescriptionAndOwnerTemplate ownershipTemplate =
-              createOwnershipTemplate(searchClient, team.getName(), scheduleTime, currentTime, numberOfDaysChange);
-          DataInsightDescriptionAndOwnerTemplate tierTemplate =
-              createTierTemplate(searchClient, team.getName(), scheduleTime, currentTime, numberOfDaysChange);
-          EmailUtil.sendDataInsightEmailNotificationToUser(
-              emails,
-              totalAssetTemplate,
-              descriptionTemplate,
-              ownershipTemplate,
-              tierTemplate,
-              EmailUtil.getDataInsightReportSubject(),
-              EmailUtil.DATA_INSIGHT_REPORT_TEMPLATE);
-        } catch (Exception ex) {
-          LOG.error("[DataInsightReport] Failed for Team: {}, Reason : {}", team.getName(), ex.getMessage());
+        // Wait for the emails of the batch, so that at most one batch of reports is held in memory
+        for (Future<?> email : emails) {
+          try {
+            email.get();
+          } catch (ExecutionException ex) {
+            LOG.error("[DataInsightReport] Failed to send the report, Reason : {}", ex.getMessage());
+          }
         }
       }
+    } finally {
+      emailSender.shutdown();
     }
   }
 
+  @VisibleForTesting
+  void sendEmail(
+      String team,
+      Set<String> emails,
+      DataInsightTotalAssetTemplate totalAssetTemplate,
+      DataInsightDescriptionAndOwnerTemplate descriptionTemplate,
+      DataInsightDescriptionAndOwnerTemplate ownershipTemplate,
+      DataInsightDescriptionAndOwnerTemplate tierTemplate) {
+    try {
+      EmailUtil.sendDataInsightEmailNotificationToUser(
+          emails,
+          totalAssetTemplate,
+          descriptionTemplate,
+          ownershipTemplate,
+          tierTemplate,
+          EmailUtil.getDataInsightReportSubject(),
+          EmailUtil.DATA_INSIGHT_REPORT_TEMPLATE);
+    } catch (Exception ex) {
+      LOG.error("[DataInsightReport] Failed for Team: {}, Reason : {}", team, ex.getMessage());
+    }
+  }
+
+  /** Get the emails of the users of the teams without an email, reading all the users in a single query */
+  private Map<UUID, String> getUserEmails(List<Team> teams) {
+    List<String> userIds = new ArrayList<>();
+    for (Team team : teams) {
+      if (CommonUtil.nullOrEmpty(team.getEmail())) {
+        for (EntityReference userRef : listOrEmpty(team.getUsers())) {
+          userIds.add(userRef.getId().toString());
+        }
+      }
+    }
+    Map<UUID, String> userEmails = new HashMap<>();
+    if (!userIds.isEmpty()) {
+      UserRepository repository = (UserRepository) Entity.getEntityRepository(Entity.USER);
+      for (User user : repository.getDao().findEntitiesByIds(userIds, Include.NON_DELETED)) {
+        userEmails.put(user.getId(), user.getEmail());
+      }
+    }
+    return userEmails;
+  }
+
+  private Set<String> getTeamEmails(Team team, Map<UUID, String> userEmails) {
+    Set<String> emails = new HashSet<>();
+    String email = team.getEmail();
+    if (!CommonUtil.nullOrEmpty(email)) {
+      emails.add(email);
+    } else {
+      for (EntityReference userRef : listOrEmpty(team.getUsers())) {
+        String userEmail = userEmails.get(userRef.getId());
+        if (userEmail != null) {
+          emails.add(userEmail);
+        }
+      }
+    }
+    return emails;
+  }
+
   private void sendToAdmins(SearchClient searchClient, Long scheduleTime, Long currentTime, int numberOfDaysChange) {
     // Get Admins
     Set<String> emailList = getAdminsData(CreateEventSubscription.SubscriptionType.DATA_INSIGHT);
 
     try {
       // Build Insights Report
+      String index = ENTITY_REPORT_DATA_INDEX.indexName;
       DataInsightTotalAssetTemplate totalAssetTemplate =
-          createTotalAssetTemplate(searchClient, null, scheduleTime, currentTime, numberOfDaysChange);
+          createTotalAssetTemplate(
+              searchClient.getSortedDate(null, scheduleTime, currentTime, TOTAL_ENTITIES_BY_TYPE, index),
+              numberOfDaysChange);
       DataInsightDescriptionAndOwnerTemplate descriptionTemplate =
-          createDescriptionTemplate(searchClient, null, scheduleTime, currentTime, numberOfDaysChange);
+          createDescriptionTemplate(
+              searchClient.getSortedDate(
+                  null, scheduleTime, currentTime, PERCENTAGE_OF_ENTITIES_WITH_DESCRIPTION_BY_TYPE, index),
+              numberOfDaysChange);
       DataInsightDescriptionAndOwnerTemplate ownershipTemplate =
-          createOwnershipTemplate(searchClient, null, scheduleTime, currentTime, numberOfDaysChange);
+          createOwnershipTemplate(
+              searchClient.getSortedDate(
+                  null, scheduleTime, currentTime, PERCENTAGE_OF_ENTITIES_WITH_OWNER_BY_TYPE, index),
+              numberOfDaysChange);
       DataInsightDescriptionAndOwnerTemplate tierTemplate =
-          createTierTemplate(searchClient, null, scheduleTime, currentTime, numberOfDaysChange);
+          createTierTemplate(
+              searchClient.getSortedDate(null, scheduleTime, currentTime, TOTAL_ENTITIES_BY_TIER, index),
+              numberOfDaysChange);
       EmailUtil.sendDataInsightEmailNotificationToUser(
           emailList,
           totalAssetTemplate,
@@ -166,23 +278,26 @@ public class DataInsightsReportJob implements Job {
   }
 
   private List<Kpi> getAvailableKpi() {
-    KpiRepository repository = (KpiRepository) Entity.getEntityRepository(KPI);
-    return repository.listAll(repository.getFields("dataInsightChart"), new ListFilter(Include.NON_DELETED));
+    // Kpis are the same for all the reports of the run
+    if (availableKpis == null) {
+      KpiRepository repository = (KpiRepository) Entity.getEntityRepository(KPI);
+      availableKpis = repository.listAll(repository.getFields("dataInsightChart"), new ListFilter(Include.NON_DELETED));
+    }
+    return availableKpis;
   }
 
   private KpiResult getKpiResult(String fqn) {
-    KpiRepository repository = (KpiRepository) Entity.getEntityRepository(KPI);
-    return repository.getKpiResult(fqn);
+    if (!kpiResults.containsKey(fqn)) {
+      KpiRepository repository = (KpiRepository) Entity.getEntityRepository(KPI);
+      kpiResults.put(fqn, repository.getKpiResult(fqn));
+    }
+    return kpiResults.get(fqn);
   }
 
   private DataInsightTotalAssetTemplate createTotalAssetTemplate(
-      SearchClient searchClient, String team, Long scheduleTime, Long currentTime, int numberOfDays)
-      throws ParseException, IOException {
+      TreeMap<Long, List<Object>> dateWithDataMap, int numberOfDays) throws IOException {
     // Get total Assets Data
-    TreeMap<Long, List<Object>> dateWithDataMap =
-        searchClient.getSortedDate(
-            team, scheduleTime, currentTime, TOTAL_ENTITIES_BY_TYPE, ENTITY_REPORT_DATA_INDEX.indexName);
-    if (dateWithDataMap.firstEntry() != null && dateWithDataMap.lastEntry() != null) {
+    if (dateWithDataMap != null && dateWithDataMap.firstEntry() != null && dateWithDataMap.lastEntry() != null) {
 
       List<TotalEntitiesByType> first =
           JsonUtils.convertValue(dateWithDataMap.firstEntry().getValue(), new TypeReference<>() {});
@@ -204,18 +319,9 @@ public class DataInsightsReportJob implements Job {
   }
 
   private DataInsightDescriptionAndOwnerTemplate createDescriptionTemplate(
-      SearchClient searchClient, String team, Long scheduleTime, Long currentTime, int numberOfDaysChange)
-      throws ParseException, IOException {
-    // Get total Assets Data
+      TreeMap<Long, List<Object>> dateWithDataMap, int numberOfDaysChange) throws IOException {
     // This assumes that on a particular date the correct count per entities are given
-    TreeMap<Long, List<Object>> dateWithDataMap =
-        searchClient.getSortedDate(
-            team,
-            scheduleTime,
-            currentTime,
-            PERCENTAGE_OF_ENTITIES_WITH_DESCRIPTION_BY_TYPE,
-            ENTITY_REPORT_DATA_INDEX.indexName);
-    if (dateWithDataMap.firstEntry() != null && dateWithDataMap.lastEntry() != null) {
+    if (dateWithDataMap != null && dateWithDataMap.firstEntry() != null && dateWithDataMap.lastEntry() != null) {
       List<PercentageOfEntitiesWithDescriptionByType> first =
           JsonUtils.convertValue(dateWithDataMap.firstEntry().getValue(), new TypeReference<>() {});
       List<PercentageOfEntitiesWithDescriptionByType> last =
@@ -253,18 +359,9 @@ public class DataInsightsReportJob implements Job {
   }
 
   private DataInsightDescriptionAndOwnerTemplate createOwnershipTemplate(
-      SearchClient searchClient, String team, Long scheduleTime, Long currentTime, int numberOfDaysChange)
-      throws ParseException, IOException {
-    // Get total Assets Data
+      TreeMap<Long, List<Object>> dateWithDataMap, int numberOfDaysChange) throws IOException {
     // This assumes that on a particular date the correct count per entities are given
-    TreeMap<Long, List<Object>> dateWithDataMap =
-        searchClient.getSortedDate(
-            team,
-            scheduleTime,
-            currentTime,
-            PERCENTAGE_OF_ENTITIES_WITH_OWNER_BY_TYPE,
-            ENTITY_REPORT_DATA_INDEX.indexName);
-    if (dateWithDataMap.firstEntry() != null && dateWithDataMap.lastEntry() != null) {
+    if (dateWithDataMap != null && dateWithDataMap.firstEntry() != null && dateWithDataMap.lastEntry() != null) {
       List<PercentageOfEntitiesWithOwnerByType> first =
           JsonUtils.convertValue(dateWithDataMap.firstEntry().getValue(), new TypeReference<>() {});
       List<PercentageOfEntitiesWithOwnerByType> last =
@@ -303,14 +400,9 @@ public class DataInsightsReportJob implements Job {
   }
 
   private DataInsightDescriptionAndOwnerTemplate createTierTemplate(
-      SearchClient searchClient, String team, Long scheduleTime, Long currentTime, int numberOfDaysChange)
-      throws ParseException, IOException {
-    // Get total Assets Data
+      TreeMap<Long, List<Object>> dateWithDataMap, int numberOfDaysChange) throws IOException {
     // This assumes that on a particular date the correct count per entities are given
-    TreeMap<Long, List<Object>> dateWithDataMap =
-        searchClient.getSortedDate(
-            team, scheduleTime, currentTime, TOTAL_ENTITIES_BY_TIER, ENTITY_REPORT_DATA_INDEX.indexName);
-    if (dateWithDataMap.lastEntry() != null) {
+    if (dateWithDataMap != null && dateWithDataMap.lastEntry() != null) {
       List<TotalEntitiesByTier> last =
           JsonUtils.convertValue(dateWithDataMap.lastEntry().getValue(), new TypeReference<>() {});
       Map<String, Double> tierData = getTierData(last);
@@ -20,27 +20,22 @@ import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.service.events.EventPubSub;
 import org.openmetadata.service.events.EventPublisher;
-import org.openmetadata.service.events.errors.RetriableException;
 import org.openmetadata.service.resources.events.EventResource.EventList;
+import org.springframework.expression.Expression;
 
 @Slf4j
 public abstract class AbstractAlertPublisher implements EventPublisher {
-  // Backoff timeout in seconds. Delivering events is retried 5 times.
-  protected static final int BACKOFF_NORMAL = 0;
-  protected static final int BACKOFF_3_SECONDS = 3 * 1000;
-  protected static final int BACKOFF_30_SECONDS = 30 * 1000;
-  protected static final int BACKOFF_5_MINUTES = 5 * 60 * 1000;
-  protected static final int BACKOFF_1_HOUR = 60 * 60 * 1000;
-  protected static final int BACKOFF_24_HOUR = 24 * 60 * 60 * 1000;
-  protected int currentBackoffTime = BACKOFF_NORMAL;
   protected final List<ChangeEvent> batch = new ArrayList<>();
 
   protected final EventSubscription eventSubscription;
   private final int batchSize;
+  // Filtering rules are compiled once as the publisher is recreated when the subscription is updated
+  private final Expression alertConditions;
 
   protected AbstractAlertPublisher(EventSubscription eventSub) {
     this.eventSubscription = eventSub;
     this.batchSize = eventSub.getBatchSize();
+    this.alertConditions = AlertUtil.compileAlertConditions(eventSub.getFilteringRules());
   }
 
   @Override
@@ -55,8 +50,7 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
     }
 
     // Evaluate ChangeEvent Alert Filtering
-    if (eventSubscription.getFilteringRules() != null
-        && !AlertUtil.evaluateAlertConditions(changeEvent, eventSubscription.getFilteringRules().getRules())) {
+    if (!AlertUtil.evaluateAlertConditions(changeEventHolder.getSnapshot(), alertConditions)) {
       return;
     }
 
@@ -70,26 +64,8 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
     try {
       publish(list);
       batch.clear();
-    } catch (RetriableException ex) {
-      setNextBackOff();
-      LOG.error("Failed to publish event in batch {} due to {}, will try again in {} ms", list, ex, currentBackoffTime);
-      Thread.sleep(currentBackoffTime);
     } catch (Exception e) {
       LOG.error("[AbstractAlertPublisher] error {}", e.getMessage(), e);
     }
   }
-
-  public void setNextBackOff() {
-    if (currentBackoffTime == BACKOFF_NORMAL) {
-      currentBackoffTime = BACKOFF_3_SECONDS;
-    } else if (currentBackoffTime == BACKOFF_3_SECONDS) {
-      currentBackoffTime = BACKOFF_30_SECONDS;
-    } else if (currentBackoffTime == BACKOFF_30_SECONDS) {
-      currentBackoffTime = BACKOFF_5_MINUTES;
-    } else if (currentBackoffTime == BACKOFF_5_MINUTES) {
-      currentBackoffTime = BACKOFF_1_HOUR;
-    } else if (currentBackoffTime == BACKOFF_1_HOUR) {
-      currentBackoffTime = BACKOFF_24_HOUR;
-    }
-  }
 }
@@ -12,13 +12,14 @@ import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
 
 @Slf4j
 public class ActivityFeedAlertCache {
   protected static final LoadingCache<String, EventSubscription> EVENT_SUB_CACHE =
       CacheBuilder.newBuilder()
           .maximumSize(1000)
-          .expireAfterWrite(3, TimeUnit.MINUTES)
+          .expireAfterWrite(30, TimeUnit.MINUTES)
           .build(new ActivityFeedAlertLoader());
   private static final String ACTIVITY_FEED_ALERT = "ActivityFeedAlert";
 
@@ -34,10 +35,18 @@ public class ActivityFeedAlertCache {
     }
   }
 
+  public static void invalidate(String alertName) {
+    if (alertName != null) {
+      EVENT_SUB_CACHE.invalidate(alertName);
+    }
+  }
+
   static class ActivityFeedAlertLoader extends CacheLoader<String, EventSubscription> {
     @Override
     public EventSubscription load(@CheckForNull String alertName) {
-      EventSubscription alert = Entity.getEntityByName(Entity.EVENT_SUBSCRIPTION, alertName, "*", Include.NON_DELETED);
+      EventSubscription alert =
+          JdbiTransactionManager.readFromPrimary(
+              () -> Entity.getEntityByName(Entity.EVENT_SUBSCRIPTION, alertName, "*", Include.NON_DELETED));
       LOG.debug("Loaded Alert {}", alert);
       return alert;
     }
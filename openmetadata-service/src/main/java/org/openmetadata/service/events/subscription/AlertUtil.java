@@ -13,11 +13,15 @@
 
 package org.openmetadata.service.events.subscription;
 
+import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.schema.api.events.CreateEventSubscription.SubscriptionType.ACTIVITY_FEED;
 import static org.openmetadata.service.Entity.TEAM;
 import static org.openmetadata.service.Entity.USER;
 import static org.openmetadata.service.security.policyevaluator.CompiledRule.parseExpression;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -40,6 +44,7 @@ import org.openmetadata.schema.type.Function;
 import org.openmetadata.schema.type.ParamAdditionalContext;
 import org.openmetadata.schema.type.SubscriptionFilterOperation;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.ChangeEventSnapshot;
 import org.openmetadata.service.events.subscription.email.EmailPublisher;
 import org.openmetadata.service.events.subscription.gchat.GChatPublisher;
 import org.openmetadata.service.events.subscription.generic.GenericPublisher;
@@ -50,11 +55,20 @@ import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.resources.CollectionRegistry;
 import org.openmetadata.service.search.IndexUtil;
 import org.openmetadata.service.search.SearchIndexDefinition;
+import org.openmetadata.service.security.policyevaluator.CompiledRule;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 @Slf4j
 public final class AlertUtil {
+  // Alert conditions only invoke the functions of AlertsRuleEvaluator passed as the root object. The context holds no
+  // state of its own, and hence one read-only context is shared across all the subscriptions and events.
+  private static final EvaluationContext ALERT_EVALUATION_CONTEXT =
+      SimpleEvaluationContext.forReadOnlyDataBinding().withInstanceMethods().build();
+  private static final LoadingCache<String, Expression> ALERT_EXPRESSION_CACHE =
+      CacheBuilder.newBuilder().maximumSize(1000).build(CacheLoader.from(CompiledRule::parseExpression));
+
   private AlertUtil() {}
 
   public static SubscriptionPublisher getNotificationsPublisher(
@@ -105,9 +119,9 @@ public final class AlertUtil {
       return null;
     }
     Expression expression = parseExpression(condition);
-    AlertsRuleEvaluator ruleEvaluator = new AlertsRuleEvaluator(null);
+    AlertsRuleEvaluator ruleEvaluator = new AlertsRuleEvaluator((ChangeEvent) null);
     try {
-      return expression.getValue(ruleEvaluator, clz);
+      return expression.getValue(ALERT_EVALUATION_CONTEXT, ruleEvaluator, clz);
     } catch (Exception exception) {
       // Remove unnecessary class details in the exception message
       String message = exception.getMessage().replaceAll("on type .*$", "").replaceAll("on object .*$", "");
@@ -168,18 +182,36 @@ public final class AlertUtil {
   }
 
   public static boolean evaluateAlertConditions(ChangeEvent changeEvent, List<EventFilterRule> alertFilterRules) {
-    if (!alertFilterRules.isEmpty()) {
-      boolean result;
-      String completeCondition = buildCompleteCondition(alertFilterRules);
-      AlertsRuleEvaluator ruleEvaluator = new AlertsRuleEvaluator(changeEvent);
-      StandardEvaluationContext evaluationContext = new StandardEvaluationContext(ruleEvaluator);
-      Expression expression = parseExpression(completeCondition);
-      result = Boolean.TRUE.equals(expression.getValue(evaluationContext, Boolean.class));
-      LOG.debug("Alert evaluated as Result : {}", result);
-      return result;
-    } else {
+    if (alertFilterRules == null || alertFilterRules.isEmpty()) {
       return true;
     }
+    return evaluateAlertConditions(
+        changeEvent, ALERT_EXPRESSION_CACHE.getUnchecked(buildCompleteCondition(alertFilterRules)));
+  }
+
+  /** Evaluate the alert conditions compiled with {@link #compileAlertConditions(FilteringRules)} */
+  public static boolean evaluateAlertConditions(ChangeEvent changeEvent, Expression alertConditions) {
+    return evaluateAlertConditions(new ChangeEventSnapshot(changeEvent), alertConditions);
+  }
+
+  /** Evaluate the alert conditions on the snapshot of the event shared by all the subscriptions */
+  public static boolean evaluateAlertConditions(ChangeEventSnapshot snapshot, Expression alertConditions) {
+    if (alertConditions == null) {
+      return true;
+    }
+    boolean result =
+        Boolean.TRUE.equals(
+            alertConditions.getValue(ALERT_EVALUATION_CONTEXT, new AlertsRuleEvaluator(snapshot), Boolean.class));
+    LOG.debug("Alert evaluated as Result : {}", result);
+    return result;
+  }
+
+  /** Parse the filtering rules into a single expression. Returns null when there are no rules to evaluate. */
+  public static Expression compileAlertConditions(FilteringRules filteringRules) {
+    if (filteringRules == null || nullOrEmpty(filteringRules.getRules())) {
+      return null;
+    }
+    return parseExpression(buildCompleteCondition(filteringRules.getRules()));
   }
 
   public static String buildCompleteCondition(List<EventFilterRule> alertFilterRules) {
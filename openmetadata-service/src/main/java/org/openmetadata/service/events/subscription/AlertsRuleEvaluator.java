@@ -5,11 +5,10 @@ import static org.openmetadata.schema.type.Function.ParameterType.NOT_REQUIRED;
 import static org.openmetadata.schema.type.Function.ParameterType.READ_FROM_PARAM_CONTEXT;
 import static org.openmetadata.schema.type.Function.ParameterType.SPECIFIC_INDEX_ELASTIC_SEARCH;
 import static org.openmetadata.service.Entity.INGESTION_PIPELINE;
-import static org.openmetadata.service.Entity.TEAM;
 import static org.openmetadata.service.Entity.TEST_CASE;
-import static org.openmetadata.service.Entity.USER;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -18,26 +17,27 @@ import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.Function;
 import org.openmetadata.schema.entity.services.ingestionPipelines.PipelineStatus;
 import org.openmetadata.schema.entity.services.ingestionPipelines.PipelineStatusType;
-import org.openmetadata.schema.entity.teams.Team;
-import org.openmetadata.schema.entity.teams.User;
-import org.openmetadata.schema.tests.TestCase;
 import org.openmetadata.schema.tests.type.TestCaseResult;
 import org.openmetadata.schema.tests.type.TestCaseStatus;
 import org.openmetadata.schema.type.ChangeEvent;
-import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.FieldChange;
-import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
-import org.openmetadata.service.formatter.util.FormatterUtil;
-import org.openmetadata.service.resources.feeds.MessageParser;
+import org.openmetadata.service.events.ChangeEventSnapshot;
 import org.openmetadata.service.util.JsonUtils;
 
 @Slf4j
 public class AlertsRuleEvaluator {
   private final ChangeEvent changeEvent;
+  private final ChangeEventSnapshot snapshot;
 
   public AlertsRuleEvaluator(ChangeEvent event) {
-    this.changeEvent = event;
+    this(event == null ? null : new ChangeEventSnapshot(event));
+  }
+
+  /** Evaluate the rules on the snapshot of the event shared with the other subscriptions */
+  public AlertsRuleEvaluator(ChangeEventSnapshot snapshot) {
+    this.snapshot = snapshot;
+    this.changeEvent = snapshot == null ? null : snapshot.getEvent();
   }
 
   @Function(
@@ -69,22 +69,11 @@ public class AlertsRuleEvaluator {
     if (changeEvent == null || changeEvent.getEntity() == null) {
       return false;
     }
-    EntityInterface entity = getEntity(changeEvent);
-    EntityReference ownerReference = entity.getOwner();
-    if (ownerReference != null) {
-      if (USER.equals(ownerReference.getType())) {
-        User user = Entity.getEntity(Entity.USER, ownerReference.getId(), "", Include.NON_DELETED);
-        for (String name : ownerNameList) {
-          if (user.getName().equals(name)) {
-            return true;
-          }
-        }
-      } else if (TEAM.equals(ownerReference.getType())) {
-        Team team = Entity.getEntity(Entity.TEAM, ownerReference.getId(), "", Include.NON_DELETED);
-        for (String name : ownerNameList) {
-          if (team.getName().equals(name)) {
-            return true;
-          }
+    String ownerName = snapshot.getOwnerName();
+    if (ownerName != null) {
+      for (String name : ownerNameList) {
+        if (ownerName.equals(name)) {
+          return true;
         }
       }
     }
@@ -101,10 +90,10 @@ public class AlertsRuleEvaluator {
     if (changeEvent == null || changeEvent.getEntity() == null) {
       return false;
     }
-    EntityInterface entity = getEntity(changeEvent);
+    EntityInterface entity = snapshot.getEntity();
+    String testCaseEntityFqn = snapshot.getTestCaseEntityFqn();
     for (String name : entityNames) {
-      if (changeEvent.getEntityType().equals(TEST_CASE)
-          && (MessageParser.EntityLink.parse(((TestCase) entity).getEntityLink()).getEntityFQN().equals(name))) {
+      if (testCaseEntityFqn != null && testCaseEntityFqn.equals(name)) {
         return true;
       }
       if (entity.getFullyQualifiedName().equals(name)) {
@@ -124,7 +113,7 @@ public class AlertsRuleEvaluator {
     if (changeEvent == null || changeEvent.getEntity() == null) {
       return false;
     }
-    EntityInterface entity = getEntity(changeEvent);
+    EntityInterface entity = snapshot.getEntity();
     for (String id : entityIds) {
       if (entity.getId().equals(UUID.fromString(id))) {
         return true;
@@ -167,11 +156,10 @@ public class AlertsRuleEvaluator {
       return true;
     }
 
-    // we need to handle both fields updated and fields added
-    List<FieldChange> fieldChanges = changeEvent.getChangeDescription().getFieldsUpdated();
-    if (!changeEvent.getChangeDescription().getFieldsAdded().isEmpty()) {
-      fieldChanges.addAll(changeEvent.getChangeDescription().getFieldsAdded());
-    }
+    // we need to handle both fields updated and fields added. The event is shared with the other subscriptions, and
+    // hence it is not modified.
+    List<FieldChange> fieldChanges = new ArrayList<>(changeEvent.getChangeDescription().getFieldsUpdated());
+    fieldChanges.addAll(changeEvent.getChangeDescription().getFieldsAdded());
 
     for (FieldChange fieldChange : fieldChanges) {
       if (fieldChange.getName().equals("testCaseResult") && fieldChange.getNewValue() != null) {
@@ -244,7 +232,7 @@ public class AlertsRuleEvaluator {
     if (changeEvent == null || changeEvent.getChangeDescription() == null) {
       return false;
     }
-    Set<String> fields = FormatterUtil.getUpdatedField(changeEvent);
+    Set<String> fields = snapshot.getUpdatedFields();
     for (String name : fieldChangeUpdate) {
       if (fields.contains(name)) {
         return true;
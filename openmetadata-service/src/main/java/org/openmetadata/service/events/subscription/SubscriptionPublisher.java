@@ -16,6 +16,7 @@ package org.openmetadata.service.events.subscription;
 import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.ACTIVE;
 import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.AWAITING_RETRY;
 import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.FAILED;
+import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.RETRY_LIMIT_REACHED;
 
 import com.lmax.disruptor.BatchEventProcessor;
 import java.util.concurrent.CountDownLatch;
@@ -40,9 +41,9 @@ import org.openmetadata.service.resources.events.EventResource;
  *   <li>Alerts with unresolvable URLs are marked as "failed" and no further attempt is made to deliver the events
  *   <li>Alerts callbacks that return 3xx are marked as "failed" and no further attempt is made to deliver the events
  *   <li>Alerts callbacks that return 4xx, 5xx, or timeout are marked as "awaitingRetry" and 5 retry attempts are made
- *       to deliver the events with the following backoff - 3 seconds, 30 seconds, 5 minutes, 1 hours, and 24 hour. When
- *       all the 5 delivery attempts fail, the alerts state is marked as "retryLimitReached" and no further attempt is
- *       made to deliver the events.
+ *       by {@link WebhookDeliveryEngine} to deliver the events with the following backoff - 3 seconds, 30 seconds, 5
+ *       minutes, 1 hours, and 24 hour. When all the 5 delivery attempts fail, the alerts state is marked as
+ *       "retryLimitReached" and no further attempt is made to deliver the events.
  * </ul>
  */
 @Slf4j
@@ -64,7 +65,6 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
 
   @Override
   public void onShutdown() {
-    currentBackoffTime = BACKOFF_NORMAL;
     shutdownLatch.countDown();
     onShutdownDelegate();
     LOG.info("Alert-lifecycle-onShutdown {}", eventSubscription.getName());
@@ -78,8 +78,12 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
     setStatus(FAILED, attemptTime, statusCode, reason, null);
   }
 
-  public synchronized void setAwaitingRetry(Long attemptTime, int statusCode, String reason) {
-    setStatus(AWAITING_RETRY, attemptTime, statusCode, reason, attemptTime + currentBackoffTime);
+  public synchronized void setAwaitingRetry(Long attemptTime, Integer statusCode, String reason, Long retryAt) {
+    setStatus(AWAITING_RETRY, attemptTime, statusCode, reason, retryAt);
+  }
+
+  public synchronized void setRetryLimitReached(Long attemptTime, Integer statusCode, String reason) {
+    setStatus(RETRY_LIMIT_REACHED, attemptTime, statusCode, reason, null);
   }
 
   public synchronized SubscriptionStatus setSuccessStatus(Long updateTime) {
@@ -118,10 +122,6 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
     /* Called on shutdown of Publisher */
   }
 
-  public int getCurrentBackOff() {
-    return currentBackoffTime;
-  }
-
   @Override
   public void publish(EventResource.EventList list) throws EventPublisherException {
     // Publish to the given Alert Actions
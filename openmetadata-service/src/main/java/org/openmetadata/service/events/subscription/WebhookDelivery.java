@@ -0,0 +1,38 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events.subscription;
+
+import java.util.Map;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/** A message to POST to a webhook endpoint. Deliveries waiting to be retried are stored as JSON in the retry queue. */
+@Jacksonized
+@Getter
+@Builder(toBuilder = true)
+public class WebhookDelivery {
+  private final String id;
+  private final UUID subscriptionId;
+  private final String endpoint;
+  private final Map<String, String> headers;
+  private final String payload;
+  /** Timeout in seconds for connecting and receiving the response */
+  private final int timeout;
+  /** Number of failed attempts to deliver the message */
+  private final int attempt;
+
+  private final long nextAttemptAt;
+}
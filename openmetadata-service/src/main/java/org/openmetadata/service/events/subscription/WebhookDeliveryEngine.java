@@ -0,0 +1,572 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events.subscription;
+
+import io.dropwizard.lifecycle.Managed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.WebhookRetryDAO;
+import org.openmetadata.service.jdbi3.EventSubscriptionRepository;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Delivers the webhook messages of the event subscriptions asynchronously, so that a slow or unreachable endpoint does
+ * not block the publisher threads consuming the change events. All the deliveries share one HTTP client and its
+ * connection pool, and at most {@link #MAX_IN_FLIGHT_PER_DESTINATION} requests are sent to a host at a time.
+ *
+ * <p>The messages of a subscription are delivered one at a time in the order they are published. The other messages of
+ * the subscription wait in memory, up to {@link #MAX_PENDING_PER_SUBSCRIPTION}, including while a failed delivery waits
+ * to be retried. The messages published beyond that are stored in the retry queue, and taken back in order once the
+ * subscription has room for them.
+ *
+ * <p>Deliveries that time out or receive a 4xx or 5xx response are stored in the {@code webhook_retry_queue} table and
+ * retried with a backoff of 3 seconds, 30 seconds, 5 minutes, 1 hour and 24 hours. A stored delivery is claimed before
+ * it is sent and deleted only once it is completed, and hence the retries survive a restart or a crash of the server.
+ * The deliveries not retried by the server that stored them, such as those waiting when the server stops, are taken
+ * from the queue by any server once they are overdue.
+ */
+@Slf4j
+public class WebhookDeliveryEngine implements Managed {
+  static final int MAX_RETRIES = 5;
+  static final int MAX_IN_FLIGHT_PER_DESTINATION = 4;
+  static final int MAX_PENDING_PER_SUBSCRIPTION = 1000;
+  private static final long[] RETRY_BACKOFF_MILLIS = {
+    TimeUnit.SECONDS.toMillis(3),
+    TimeUnit.SECONDS.toMillis(30),
+    TimeUnit.MINUTES.toMillis(5),
+    TimeUnit.HOURS.toMillis(1),
+    TimeUnit.HOURS.toMillis(24)
+  };
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+  private static final long RETRY_POLL_INTERVAL_MILLIS = 5000;
+  /** Time a delivery is overdue before the poller takes it, leaving the server that stored it the time to retry it */
+  private static final long RETRY_POLL_GRACE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+  /** Time a server holds a claimed delivery, after which the delivery is retried if the server did not complete it */
+  private static final long CLAIM_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+  private static final int RETRY_BATCH_SIZE = 100;
+  private static volatile WebhookDeliveryEngine instance;
+
+  private final HttpClient client;
+  private final WebhookRetryDAO retryDAO;
+  private final Function<UUID, SubscriptionPublisher> publishers;
+  private final MeterRegistry registry;
+  private final int maxInFlight;
+  private final Map<UUID, Lane> lanes = new ConcurrentHashMap<>();
+  private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+  /** Ids of the deliveries in memory that are stored in the retry queue, and deleted from it once completed */
+  private final Set<String> stored = ConcurrentHashMap.newKeySet();
+
+  private final Map<String, Timer> latencyByOutcome = new ConcurrentHashMap<>();
+  private final Counter retries;
+  private ScheduledExecutorService scheduler;
+
+  public WebhookDeliveryEngine(CollectionDAO daoCollection) {
+    this(
+        daoCollection.webhookRetryDAO(),
+        EventSubscriptionRepository::getPublisher,
+        MicrometerBundleSingleton.prometheusMeterRegistry,
+        MAX_IN_FLIGHT_PER_DESTINATION);
+  }
+
+  WebhookDeliveryEngine(
+      WebhookRetryDAO retryDAO,
+      Function<UUID, SubscriptionPublisher> publishers,
+      MeterRegistry registry,
+      int maxInFlight) {
+    this.client = HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build();
+    this.retryDAO = retryDAO;
+    this.publishers = publishers;
+    this.registry = registry;
+    this.maxInFlight = maxInFlight;
+    this.retries =
+        Counter.builder("webhook_delivery_retries")
+            .description("Number of failed webhook deliveries scheduled to be retried.")
+            .register(registry);
+  }
+
+  /** Returns the engine that is running, or null when the server is not started */
+  public static WebhookDeliveryEngine getInstance() {
+    return instance;
+  }
+
+  /**
+   * Start the engine. The application starts the engine before the subscription publishers, ahead of the other managed
+   * objects, and hence starting it again is a no-op.
+   */
+  @Override
+  public synchronized void start() {
+    if (scheduler != null) {
+      return;
+    }
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "webhook-retry-poller");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.scheduleWithFixedDelay(
+        this::pollRetries, RETRY_POLL_INTERVAL_MILLIS, RETRY_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    instance = this;
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (instance == this) {
+      instance = null;
+    }
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+    // Keep the deliveries in memory in the retry queue to deliver them after the restart, in the order of each
+    // subscription
+    long now = System.currentTimeMillis();
+    for (Lane lane : lanes.values()) {
+      List<WebhookDelivery> pending = lane.list();
+      long nextAttemptAt = lane.storeFrom(now, pending.size());
+      for (WebhookDelivery delivery : pending) {
+        if (stored.contains(delivery.getId())) {
+          nextAttemptAt = Math.max(nextAttemptAt, delivery.getNextAttemptAt());
+        } else {
+          store(delivery.toBuilder().nextAttemptAt(++nextAttemptAt).build());
+        }
+      }
+    }
+  }
+
+  /**
+   * Post the message as JSON to the endpoint. Returns once the delivery is queued, and the status of the subscription
+   * is updated when the response is received.
+   */
+  public void deliver(SubscriptionPublisher publisher, String endpoint, Map<String, String> headers, Object message) {
+    EventSubscription subscription = publisher.getEventSubscription();
+    enqueue(
+        WebhookDelivery.builder()
+            .id(UUID.randomUUID().toString())
+            .subscriptionId(subscription.getId())
+            .endpoint(endpoint)
+            .headers(headers)
+            .payload(message instanceof String ? (String) message : JsonUtils.pojoToJson(message))
+            .timeout(subscription.getTimeout() + subscription.getReadTimeout())
+            .build());
+  }
+
+  /**
+   * Take the overdue deliveries from the retry queue, claiming each so that only one server retries it. The deliveries
+   * are deleted from the queue once they are completed. The deliveries of a subscription with too many deliveries
+   * waiting are left in the queue until the subscription has room for them, and the queue is read past them to take up
+   * to {@link #RETRY_BATCH_SIZE} deliveries of the other subscriptions.
+   */
+  void pollRetries() {
+    try {
+      long due = System.currentTimeMillis() - RETRY_POLL_GRACE_MILLIS;
+      Set<String> seen = new HashSet<>();
+      Set<UUID> parked = new HashSet<>();
+      long after = Long.MIN_VALUE;
+      int taken = 0;
+      boolean more = true;
+      while (more && taken < RETRY_BATCH_SIZE) {
+        List<String> batch = retryDAO.listDue(after, due, RETRY_BATCH_SIZE);
+        more = false;
+        for (String json : batch) {
+          WebhookDelivery delivery = JsonUtils.readValue(json, WebhookDelivery.class);
+          // The page starts at the time of the last delivery of the previous page to not miss those due at that time
+          if (!seen.add(delivery.getId())) {
+            continue;
+          }
+          more = batch.size() == RETRY_BATCH_SIZE;
+          after = delivery.getNextAttemptAt();
+          UUID subscriptionId = delivery.getSubscriptionId();
+          if (publishers.apply(subscriptionId) == null) {
+            if (retryDAO.delete(delivery.getId()) > 0) {
+              LOG.info(
+                  "Dropping the delivery to {} of removed subscription {}", delivery.getEndpoint(), subscriptionId);
+            }
+            continue;
+          }
+          Lane lane = lanes.get(subscriptionId);
+          if (parked.contains(subscriptionId) || (lane != null && !lane.hasRoom())) {
+            // Left in the queue, with the later deliveries of the subscription, until the subscription has room
+            parked.add(subscriptionId);
+            continue;
+          }
+          WebhookDelivery claimed = claim(delivery);
+          if (claimed != null) {
+            enqueue(claimed);
+            taken++;
+          }
+        }
+      }
+    } catch (Exception e) {
+      LOG.error("Failed to poll the webhook deliveries to retry", e);
+    }
+  }
+
+  private void enqueue(WebhookDelivery delivery) {
+    Lane lane = lanes.computeIfAbsent(delivery.getSubscriptionId(), k -> new Lane());
+    Admission admission = lane.add(delivery);
+    if (admission == Admission.SEND) {
+      dispatch(lane, delivery);
+    } else if (admission == Admission.FULL) {
+      // Stored after the deliveries stored before it, and taken back by the poller once the subscription has room
+      LOG.warn("Too many deliveries waiting for {}, storing the delivery to send later", delivery.getEndpoint());
+      stored.remove(delivery.getId());
+      store(delivery.toBuilder().nextAttemptAt(lane.spill(delivery.getId(), System.currentTimeMillis())).build());
+    }
+  }
+
+  /** Send the first delivery of the subscription, or wait for the host when it has too many requests in flight */
+  private void dispatch(Lane lane, WebhookDelivery delivery) {
+    Destination destination = destinations.computeIfAbsent(destinationKey(delivery), k -> new Destination());
+    if (destination.acquire(lane, maxInFlight)) {
+      send(lane, destination, delivery);
+    }
+  }
+
+  private void send(Lane lane, Destination destination, WebhookDelivery delivery) {
+    long start = System.nanoTime();
+    CompletableFuture<HttpResponse<Void>> response;
+    try {
+      HttpRequest.Builder request =
+          HttpRequest.newBuilder(URI.create(delivery.getEndpoint()))
+              .timeout(Duration.ofSeconds(Math.max(1, delivery.getTimeout())))
+              .header("Content-Type", MediaType.APPLICATION_JSON)
+              .POST(HttpRequest.BodyPublishers.ofString(delivery.getPayload()));
+      if (delivery.getHeaders() != null) {
+        delivery.getHeaders().forEach(request::header);
+      }
+      response = client.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding());
+    } catch (Exception e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+    response.whenComplete(
+        (r, e) -> {
+          WebhookDelivery retry = null;
+          try {
+            retry = complete(delivery, r, e, System.nanoTime() - start);
+          } catch (Exception ex) {
+            LOG.error("Failed to complete the delivery to {}", delivery.getEndpoint(), ex);
+          } finally {
+            Lane next = destination.release();
+            if (next != null) {
+              send(next, destination, next.first());
+            }
+          }
+          advance(lane, delivery, retry);
+        });
+  }
+
+  /** Move on to the next delivery of the subscription, or wait to retry the delivery when it has failed */
+  private void advance(Lane lane, WebhookDelivery delivery, WebhookDelivery retry) {
+    if (retry != null) {
+      lane.replaceFirst(retry);
+      schedule(() -> resume(lane, retry), retry.getNextAttemptAt() - System.currentTimeMillis());
+      return;
+    }
+    if (stored.remove(delivery.getId())) {
+      delete(delivery);
+    }
+    WebhookDelivery next = lane.removeFirst();
+    if (next != null) {
+      dispatch(lane, next);
+    }
+  }
+
+  private void resume(Lane lane, WebhookDelivery delivery) {
+    WebhookDelivery claimed;
+    try {
+      claimed = stored.contains(delivery.getId()) ? claim(delivery) : delivery;
+    } catch (Exception e) {
+      LOG.warn("Failed to claim the delivery to {}, retrying later", delivery.getEndpoint(), e);
+      schedule(() -> resume(lane, delivery), RETRY_POLL_INTERVAL_MILLIS);
+      return;
+    }
+    if (claimed != null) {
+      lane.replaceFirst(claimed);
+      dispatch(lane, claimed);
+    } else {
+      // Taken by another server
+      WebhookDelivery next = lane.removeFirst();
+      if (next != null) {
+        dispatch(lane, next);
+      }
+    }
+  }
+
+  /** Returns the delivery to retry, or null when it is completed */
+  private WebhookDelivery complete(
+      WebhookDelivery delivery, HttpResponse<Void> response, Throwable error, long elapsedNanos) {
+    long attemptTime = System.currentTimeMillis();
+    SubscriptionPublisher publisher = publishers.apply(delivery.getSubscriptionId());
+    String outcome;
+    WebhookDelivery retry = null;
+    if (error != null) {
+      Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+      if (isUnknownHost(cause)) {
+        // Unresolvable endpoints are not retried
+        outcome = "failed";
+        LOG.warn("Invalid webhook {} endpoint {}", delivery.getSubscriptionId(), delivery.getEndpoint());
+        if (publisher != null) {
+          publisher.setErrorStatus(attemptTime, 400, "UnknownHostException");
+        }
+      } else {
+        outcome = "retry";
+        LOG.debug("Failed to deliver the webhook message to {}", delivery.getEndpoint(), cause);
+        retry = retry(delivery, publisher, attemptTime, null, cause.getClass().getSimpleName());
+      }
+    } else {
+      int status = response.statusCode();
+      Response.Status statusInfo = Response.Status.fromStatusCode(status);
+      String reason = statusInfo == null ? String.valueOf(status) : statusInfo.getReasonPhrase();
+      if (status < 300) {
+        outcome = "success";
+        if (publisher != null) {
+          publisher.setSuccessStatus(attemptTime);
+        }
+      } else if (status < 400) {
+        // 3xx response/redirection is not allowed for callback. Set the webhook state as in error
+        outcome = "failed";
+        if (publisher != null) {
+          publisher.setErrorStatus(attemptTime, status, reason);
+        }
+      } else {
+        outcome = "retry";
+        retry = retry(delivery, publisher, attemptTime, status, reason);
+      }
+    }
+    latencyTimer(outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    return retry;
+  }
+
+  private WebhookDelivery retry(
+      WebhookDelivery delivery, SubscriptionPublisher publisher, long attemptTime, Integer status, String reason) {
+    if (publisher == null) {
+      LOG.info("Not retrying the delivery to {} of removed subscription", delivery.getEndpoint());
+      return null;
+    }
+    if (delivery.getAttempt() >= MAX_RETRIES) {
+      LOG.warn("Giving up the delivery to {} after {} retries", delivery.getEndpoint(), delivery.getAttempt());
+      publisher.setRetryLimitReached(attemptTime, status, reason);
+      return null;
+    }
+    long nextAttemptAt = attemptTime + RETRY_BACKOFF_MILLIS[delivery.getAttempt()];
+    WebhookDelivery retry =
+        delivery.toBuilder().attempt(delivery.getAttempt() + 1).nextAttemptAt(nextAttemptAt).build();
+    retries.increment();
+    if (store(retry)) {
+      stored.add(retry.getId());
+    } else {
+      // Retried from memory only
+      stored.remove(retry.getId());
+    }
+    publisher.setAwaitingRetry(attemptTime, status, reason, nextAttemptAt);
+    return retry;
+  }
+
+  /** Claim the stored delivery. Returns the claimed delivery, or null when it is taken by another server. */
+  private WebhookDelivery claim(WebhookDelivery delivery) {
+    long claimedUntil = System.currentTimeMillis() + CLAIM_MILLIS;
+    if (retryDAO.claim(delivery.getId(), delivery.getNextAttemptAt(), claimedUntil) == 0) {
+      stored.remove(delivery.getId());
+      return null;
+    }
+    stored.add(delivery.getId());
+    return delivery.toBuilder().nextAttemptAt(claimedUntil).build();
+  }
+
+  private boolean store(WebhookDelivery delivery) {
+    try {
+      retryDAO.upsert(delivery.getId(), JsonUtils.pojoToJson(delivery));
+      return true;
+    } catch (Exception e) {
+      LOG.error("Failed to store the delivery to {} to retry", delivery.getEndpoint(), e);
+      return false;
+    }
+  }
+
+  private void delete(WebhookDelivery delivery) {
+    try {
+      retryDAO.delete(delivery.getId());
+    } catch (Exception e) {
+      LOG.error("Failed to delete the completed delivery to {} from the retry queue", delivery.getEndpoint(), e);
+    }
+  }
+
+  private void schedule(Runnable action, long delayMillis) {
+    try {
+      scheduler.schedule(action, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // The engine is stopped, and the stored delivery is retried after the restart
+      LOG.debug("Not scheduling the webhook delivery retry as the engine is stopped");
+    }
+  }
+
+  private Timer latencyTimer(String outcome) {
+    return latencyByOutcome.computeIfAbsent(
+        outcome,
+        o ->
+            Timer.builder("webhook_delivery_latency")
+                .description("Time from sending a webhook message until the response is received.")
+                .tag("outcome", o)
+                .register(registry));
+  }
+
+  private static String destinationKey(WebhookDelivery delivery) {
+    try {
+      URI uri = URI.create(delivery.getEndpoint());
+      return uri.getScheme() + "://" + uri.getAuthority();
+    } catch (IllegalArgumentException e) {
+      return delivery.getEndpoint();
+    }
+  }
+
+  private static boolean isUnknownHost(Throwable error) {
+    for (Throwable t = error; t != null; t = t.getCause()) {
+      if (t instanceof UnknownHostException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private enum Admission {
+    SEND,
+    QUEUED,
+    FULL
+  }
+
+  /** Deliveries of a subscription, sent one at a time in order. The first delivery is in flight or waiting. */
+  private static class Lane {
+    private final Deque<WebhookDelivery> deliveries = new ArrayDeque<>();
+    /** Next attempt time of the deliveries stored as the lane was full, by id in order, until they are taken back */
+    private final LinkedHashMap<String, Long> spilled = new LinkedHashMap<>();
+
+    private long lastSpilledAt;
+    private boolean active;
+
+    synchronized Admission add(WebhookDelivery delivery) {
+      if (spilled.containsKey(delivery.getId())) {
+        // Taken back after the deliveries in memory. Those stored before it are taken by another server.
+        Iterator<String> ids = spilled.keySet().iterator();
+        while (!ids.next().equals(delivery.getId())) {
+          ids.remove();
+        }
+        ids.remove();
+      } else if (!spilled.isEmpty() || deliveries.size() >= MAX_PENDING_PER_SUBSCRIPTION) {
+        return Admission.FULL;
+      }
+      deliveries.offer(delivery);
+      if (active) {
+        return Admission.QUEUED;
+      }
+      active = true;
+      return Admission.SEND;
+    }
+
+    synchronized WebhookDelivery first() {
+      return deliveries.peek();
+    }
+
+    synchronized void replaceFirst(WebhookDelivery delivery) {
+      deliveries.poll();
+      deliveries.addFirst(delivery);
+    }
+
+    /** Remove the completed delivery. Returns the next delivery to send, or null when none is waiting. */
+    synchronized WebhookDelivery removeFirst() {
+      deliveries.poll();
+      WebhookDelivery next = deliveries.peek();
+      if (next == null) {
+        active = false;
+      }
+      return next;
+    }
+
+    synchronized List<WebhookDelivery> list() {
+      return new ArrayList<>(deliveries);
+    }
+
+    synchronized boolean hasRoom() {
+      return deliveries.size() < MAX_PENDING_PER_SUBSCRIPTION;
+    }
+
+    /** Returns the next attempt time of the delivery to store, after that of the deliveries stored before it */
+    synchronized long spill(String id, long now) {
+      lastSpilledAt = Math.max(now, lastSpilledAt + 1);
+      spilled.put(id, lastSpilledAt);
+      return lastSpilledAt;
+    }
+
+    /** Returns the time to store the deliveries in memory after, so that they are ahead of the stored deliveries */
+    synchronized long storeFrom(long now, int count) {
+      return spilled.isEmpty() ? now : Math.min(now, spilled.values().iterator().next() - count - 1);
+    }
+  }
+
+  /** Requests in flight to a host, and the subscriptions waiting to send to the host */
+  private static class Destination {
+    private final Deque<Lane> waiting = new ArrayDeque<>();
+    private int inFlight;
+
+    synchronized boolean acquire(Lane lane, int maxInFlight) {
+      if (inFlight < maxInFlight) {
+        inFlight++;
+        return true;
+      }
+      waiting.offer(lane);
+      return false;
+    }
+
+    /** Returns the subscription to send next in place of the completed request, or null when none is waiting */
+    synchronized Lane release() {
+      Lane next = waiting.poll();
+      if (next == null) {
+        inFlight--;
+      }
+      return next;
+    }
+  }
+}
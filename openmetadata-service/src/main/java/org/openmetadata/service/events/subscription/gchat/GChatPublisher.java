@@ -14,13 +14,11 @@
 package org.openmetadata.service.events.subscription.gchat;
 
 import static org.openmetadata.schema.api.events.CreateEventSubscription.SubscriptionType.G_CHAT_WEBHOOK;
-import static org.openmetadata.service.util.SubscriptionUtil.getClient;
 import static org.openmetadata.service.util.SubscriptionUtil.getTargetsForWebhook;
 import static org.openmetadata.service.util.SubscriptionUtil.postWebhookMessage;
 
 import java.util.List;
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.Invocation;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.entity.events.EventSubscription;
@@ -39,8 +37,7 @@ import org.openmetadata.service.util.JsonUtils;
 public class GChatPublisher extends SubscriptionPublisher {
   private final MessageDecorator<GChatMessage> gChatMessageMessageDecorator = new GChatMessageDecorator();
   private final Webhook webhook;
-  private Invocation.Builder target;
-  private final Client client;
+  private String target;
   private final CollectionDAO daoCollection;
 
   public GChatPublisher(EventSubscription eventSub, CollectionDAO dao) {
@@ -49,14 +46,11 @@ public class GChatPublisher extends SubscriptionPublisher {
       this.daoCollection = dao;
       this.webhook = JsonUtils.convertValue(eventSub.getSubscriptionConfig(), Webhook.class);
 
-      // Build Client
-      client = getClient(eventSub.getTimeout(), eventSub.getReadTimeout());
-
       // Build Target
       if (webhook.getEndpoint() != null) {
         String gChatWebhookURL = webhook.getEndpoint().toString();
         if (!CommonUtil.nullOrEmpty(gChatWebhookURL)) {
-          target = client.target(gChatWebhookURL).request();
+          target = gChatWebhookURL;
         }
       }
     } else {
@@ -69,24 +63,17 @@ public class GChatPublisher extends SubscriptionPublisher {
     LOG.info("GChat Webhook publisher started");
   }
 
-  @Override
-  protected void onShutdownDelegate() {
-    if (null != client) {
-      client.close();
-    }
-  }
-
   @Override
   protected void sendAlert(EventResource.EventList list) {
     for (ChangeEvent event : list.getData()) {
       try {
         GChatMessage gchatMessage = gChatMessageMessageDecorator.buildMessage(event);
-        List<Invocation.Builder> targets = getTargetsForWebhook(webhook, G_CHAT_WEBHOOK, client, daoCollection, event);
+        List<String> targets = getTargetsForWebhook(webhook, G_CHAT_WEBHOOK, daoCollection, event);
         if (target != null) {
           targets.add(target);
         }
-        for (Invocation.Builder actionTarget : targets) {
-          postWebhookMessage(this, actionTarget, gchatMessage);
+        for (String actionTarget : targets) {
+          postWebhookMessage(this, actionTarget, Map.of(), gchatMessage);
         }
       } catch (Exception e) {
         String message = CatalogExceptionMessage.eventPublisherFailedToPublish(G_CHAT_WEBHOOK, event, e.getMessage());
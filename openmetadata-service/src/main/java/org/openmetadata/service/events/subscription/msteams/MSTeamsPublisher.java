@@ -14,13 +14,11 @@
 package org.openmetadata.service.events.subscription.msteams;
 
 import static org.openmetadata.schema.api.events.CreateEventSubscription.SubscriptionType.MS_TEAMS_WEBHOOK;
-import static org.openmetadata.service.util.SubscriptionUtil.getClient;
 import static org.openmetadata.service.util.SubscriptionUtil.getTargetsForWebhook;
 import static org.openmetadata.service.util.SubscriptionUtil.postWebhookMessage;
 
 import java.util.List;
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.Invocation;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.entity.events.EventSubscription;
@@ -39,8 +37,7 @@ import org.openmetadata.service.util.JsonUtils;
 public class MSTeamsPublisher extends SubscriptionPublisher {
   private final MessageDecorator<TeamsMessage> teamsMessageFormatter = new MSTeamsMessageDecorator();
   private final Webhook webhook;
-  private Invocation.Builder target;
-  private final Client client;
+  private String target;
   private final CollectionDAO daoCollection;
 
   public MSTeamsPublisher(EventSubscription eventSub, CollectionDAO dao) {
@@ -49,14 +46,11 @@ public class MSTeamsPublisher extends SubscriptionPublisher {
       this.daoCollection = dao;
       this.webhook = JsonUtils.convertValue(eventSub.getSubscriptionConfig(), Webhook.class);
 
-      // Build Client
-      client = getClient(eventSub.getTimeout(), eventSub.getReadTimeout());
-
       // Build Target
       if (webhook.getEndpoint() != null) {
         String msTeamsWebhookURL = webhook.getEndpoint().toString();
         if (!CommonUtil.nullOrEmpty(msTeamsWebhookURL)) {
-          target = client.target(msTeamsWebhookURL).request();
+          target = msTeamsWebhookURL;
         }
       }
     } else {
@@ -69,25 +63,17 @@ public class MSTeamsPublisher extends SubscriptionPublisher {
     LOG.info("MsTeams Webhook Publisher Started");
   }
 
-  @Override
-  public void onShutdownDelegate() {
-    if (client != null) {
-      client.close();
-    }
-  }
-
   @Override
   public void sendAlert(EventResource.EventList list) {
     for (ChangeEvent event : list.getData()) {
       try {
         TeamsMessage teamsMessage = teamsMessageFormatter.buildMessage(event);
-        List<Invocation.Builder> targets =
-            getTargetsForWebhook(webhook, MS_TEAMS_WEBHOOK, client, daoCollection, event);
+        List<String> targets = getTargetsForWebhook(webhook, MS_TEAMS_WEBHOOK, daoCollection, event);
         if (target != null) {
           targets.add(target);
         }
-        for (Invocation.Builder actionTarget : targets) {
-          postWebhookMessage(this, actionTarget, teamsMessage);
+        for (String actionTarget : targets) {
+          postWebhookMessage(this, actionTarget, Map.of(), teamsMessage);
         }
       } catch (Exception e) {
         String message = CatalogExceptionMessage.eventPublisherFailedToPublish(MS_TEAMS_WEBHOOK, event, e.getMessage());
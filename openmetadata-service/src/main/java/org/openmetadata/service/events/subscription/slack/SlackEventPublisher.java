@@ -14,13 +14,11 @@
 package org.openmetadata.service.events.subscription.slack;
 
 import static org.openmetadata.schema.api.events.CreateEventSubscription.SubscriptionType.SLACK_WEBHOOK;
-import static org.openmetadata.service.util.SubscriptionUtil.getClient;
 import static org.openmetadata.service.util.SubscriptionUtil.getTargetsForWebhook;
 import static org.openmetadata.service.util.SubscriptionUtil.postWebhookMessage;
 
 import java.util.List;
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.Invocation;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.entity.events.EventSubscription;
@@ -38,8 +36,7 @@ import org.openmetadata.service.util.JsonUtils;
 public class SlackEventPublisher extends SubscriptionPublisher {
   private final MessageDecorator<SlackMessage> slackMessageFormatter = new SlackMessageDecorator();
   private final Webhook webhook;
-  private Invocation.Builder target;
-  private final Client client;
+  private String target;
   private final CollectionDAO daoCollection;
 
   public SlackEventPublisher(EventSubscription eventSub, CollectionDAO dao) {
@@ -48,14 +45,11 @@ public class SlackEventPublisher extends SubscriptionPublisher {
       this.daoCollection = dao;
       this.webhook = JsonUtils.convertValue(eventSub.getSubscriptionConfig(), Webhook.class);
 
-      // Build Client
-      client = getClient(eventSub.getTimeout(), eventSub.getReadTimeout());
-
       // Build Target
       if (webhook.getEndpoint() != null) {
         String slackWebhookURL = webhook.getEndpoint().toString();
         if (!CommonUtil.nullOrEmpty(slackWebhookURL)) {
-          target = client.target(slackWebhookURL).request();
+          target = slackWebhookURL;
         }
       }
     } else {
@@ -68,24 +62,17 @@ public class SlackEventPublisher extends SubscriptionPublisher {
     LOG.info("Slack Webhook Publisher Started");
   }
 
-  @Override
-  public void onShutdownDelegate() {
-    if (client != null) {
-      client.close();
-    }
-  }
-
   @Override
   public void sendAlert(EventResource.EventList list) {
     for (ChangeEvent event : list.getData()) {
       try {
         SlackMessage slackMessage = slackMessageFormatter.buildMessage(event);
-        List<Invocation.Builder> targets = getTargetsForWebhook(webhook, SLACK_WEBHOOK, client, daoCollection, event);
+        List<String> targets = getTargetsForWebhook(webhook, SLACK_WEBHOOK, daoCollection, event);
         if (target != null) {
           targets.add(target);
         }
-        for (Invocation.Builder actionTarget : targets) {
-          postWebhookMessage(this, actionTarget, slackMessage);
+        for (String actionTarget : targets) {
+          postWebhookMessage(this, actionTarget, Map.of(), slackMessage);
         }
       } catch (Exception e) {
         LOG.error("Failed to publish event {} to slack due to {} ", event, e.getMessage());
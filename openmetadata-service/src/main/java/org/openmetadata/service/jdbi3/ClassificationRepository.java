@@ -22,9 +22,9 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.openmetadata.schema.entity.classification.Classification;
+import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.ProviderType;
 import org.openmetadata.schema.type.Relationship;
@@ -166,15 +166,15 @@ public class ClassificationRepository extends EntityRepository<Classification> {
             .tagUsageDAO()
             .updateTagPrefix(TagSource.CLASSIFICATION.ordinal(), original.getName(), updated.getName());
         recordChange("name", original.getName(), updated.getName());
-        invalidateClassification(original.getId());
+        invalidateClassification(original);
       }
     }
 
-    private void invalidateClassification(UUID classificationId) {
-      // Name of the classification changed. Invalidate the classification and all the children tags
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(CLASSIFICATION, classificationId));
+    private void invalidateClassification(Classification original) {
+      // Name of the classification changed. Invalidate the classification by its old name and all the children tags
+      invalidate(original);
       List<EntityRelationshipRecord> tagRecords =
-          findToRecords(classificationId, CLASSIFICATION, Relationship.CONTAINS, TAG);
+          findToRecords(original.getId(), CLASSIFICATION, Relationship.CONTAINS, TAG);
       for (EntityRelationshipRecord tagRecord : tagRecords) {
         invalidateTags(tagRecord.getId());
       }
@@ -183,7 +183,7 @@ public class ClassificationRepository extends EntityRepository<Classification> {
     private void invalidateTags(UUID tagId) {
       // The name of the tag changed. Invalidate that tag and all the children from the cache
       List<EntityRelationshipRecord> tagRecords = findToRecords(tagId, TAG, Relationship.CONTAINS, TAG);
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(TAG, tagId));
+      invalidateCaches(new EntityReference().withType(TAG).withId(tagId));
       for (EntityRelationshipRecord tagRecord : tagRecords) {
         invalidateTags(tagRecord.getId());
       }
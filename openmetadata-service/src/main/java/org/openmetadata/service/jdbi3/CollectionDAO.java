@@ -24,6 +24,8 @@ import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,12 +42,15 @@ import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.StatementException;
 import org.jdbi.v3.sqlobject.CreateSqlObject;
+import org.jdbi.v3.sqlobject.config.KeyColumn;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.config.ValueColumn;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindBeanList;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.BindMap;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.openmetadata.api.configuration.LogoConfiguration;
@@ -119,10 +124,11 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.jdbi3.CollectionDAO.TagUsageDAO.TagLabelMapper;
 import org.openmetadata.service.jdbi3.CollectionDAO.UsageDAO.UsageDetailsMapper;
 import org.openmetadata.service.jdbi3.FeedRepository.FilterType;
+import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlBatch;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlUpdate;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
-import org.openmetadata.service.resources.tags.TagLabelUtil;
+import org.openmetadata.service.resources.tags.TagLabelCache;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
@@ -270,6 +276,12 @@ public interface CollectionDAO {
   @CreateSqlObject
   ChangeEventDAO changeEventDAO();
 
+  @CreateSqlObject
+  WebhookRetryDAO webhookRetryDAO();
+
+  @CreateSqlObject
+  CacheInvalidationDAO cacheInvalidationDAO();
+
   @CreateSqlObject
   TypeEntityDAO typeEntityDAO();
 
@@ -282,6 +294,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   TestSuiteDAO testSuiteDAO();
 
+  @CreateSqlObject
+  TestSuiteResultSummaryDAO testSuiteResultSummaryDAO();
+
   @CreateSqlObject
   TestCaseDAO testCaseDAO();
 
@@ -617,12 +632,52 @@ public interface CollectionDAO {
             + "ORDER BY extension")
     List<ExtensionRecord> getExtensions(@Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
 
+    @ConnectionAwareSqlUpdate(
+        value = "UPDATE entity_extension SET json = :json WHERE id = :id AND extension = :extension",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value = "UPDATE entity_extension SET json = (:json :: jsonb) WHERE id = :id AND extension = :extension",
+        connectionType = POSTGRES)
+    void update(@Bind("id") String id, @Bind("extension") String extension, @Bind("json") String json);
+
+    @SqlQuery(
+        "SELECT extension FROM entity_extension WHERE id = :id AND extension "
+            + "LIKE CONCAT (:extensionPrefix, '.%') "
+            + "ORDER BY extension")
+    List<String> getExtensionNames(@Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
+
+    @RegisterRowMapper(ExtensionMapper.class)
+    @SqlQuery("SELECT extension, json FROM entity_extension WHERE id = :id AND extension IN (<extensions>)")
+    List<ExtensionRecord> getExtensionsByName(@Bind("id") String id, @BindList("extensions") List<String> extensions);
+
+    /** List the ids of the entities with version records after the given id in the order of id */
+    @SqlQuery(
+        "SELECT DISTINCT id FROM entity_extension WHERE id > :after AND extension LIKE '%.version.%' "
+            + "ORDER BY id LIMIT :limit")
+    List<String> listIdsWithVersions(@Bind("after") String after, @Bind("limit") int limit);
+
+    @SqlQuery("SELECT extension FROM entity_extension WHERE id = :id AND extension LIKE '%.version.%'")
+    List<String> getVersionExtensionNames(@Bind("id") String id);
+
     @SqlUpdate("DELETE FROM entity_extension WHERE id = :id AND extension = :extension")
     void delete(@Bind("id") String id, @Bind("extension") String extension);
 
     @SqlUpdate("DELETE FROM entity_extension WHERE extension = :extension")
     void deleteExtension(@Bind("extension") String extension);
 
+    @RegisterRowMapper(ExtensionWithIdMapper.class)
+    @SqlQuery(
+        "SELECT id, extension, json FROM entity_extension WHERE id IN (<ids>) AND extension "
+            + "LIKE CONCAT (:extensionPrefix, '.%') "
+            + "ORDER BY id, extension")
+    List<ExtensionRecordWithId> getExtensionsBatch(
+        @BindList("ids") List<String> ids, @Bind("extensionPrefix") String extensionPrefix);
+
+    @RegisterRowMapper(ExtensionWithIdMapper.class)
+    @SqlQuery("SELECT id, extension, json FROM entity_extension WHERE id IN (<ids>) AND extension = :extension")
+    List<ExtensionRecordWithId> getExtensionBatch(
+        @BindList("ids") List<String> ids, @Bind("extension") String extension);
+
     @SqlUpdate("DELETE FROM entity_extension WHERE id = :id")
     void deleteAll(@Bind("id") String id);
   }
@@ -648,6 +703,11 @@ public interface CollectionDAO {
     @SqlQuery("SELECT json FROM table_entity_extension WHERE id = :id AND extension = :extension")
     String getExtension(@Bind("id") String id, @Bind("extension") String extension);
 
+    @RegisterRowMapper(ExtensionWithIdMapper.class)
+    @SqlQuery("SELECT id, extension, json FROM table_entity_extension WHERE id IN (<ids>) AND extension = :extension")
+    List<ExtensionRecordWithId> getExtensionBatch(
+        @BindList("ids") List<String> ids, @Bind("extension") String extension);
+
     @RegisterRowMapper(ExtensionMapper.class)
     @SqlQuery(
         "SELECT extension, json FROM table_entity_extension WHERE id = :id AND extension "
@@ -692,6 +752,25 @@ public interface CollectionDAO {
     }
   }
 
+  @Getter
+  @Builder
+  class ExtensionRecordWithId {
+    private UUID id;
+    private String extensionName;
+    private String extensionJson;
+  }
+
+  class ExtensionWithIdMapper implements RowMapper<ExtensionRecordWithId> {
+    @Override
+    public ExtensionRecordWithId map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return ExtensionRecordWithId.builder()
+          .id(UUID.fromString(rs.getString("id")))
+          .extensionName(rs.getString("extension"))
+          .extensionJson(rs.getString("json"))
+          .build();
+    }
+  }
+
   @Getter
   @Builder
   class EntityRelationshipRecord {
@@ -708,6 +787,7 @@ public interface CollectionDAO {
     private String fromEntity;
     private String toEntity;
     private int relation;
+    private String json;
   }
 
   @Getter
@@ -772,6 +852,27 @@ public interface CollectionDAO {
         @Bind("relation") int relation,
         @Bind("json") String json);
 
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation, json, pipelineId) "
+                + "VALUES (:fromId, :toId, :fromEntity, :toEntity, :relation, :json, :pipelineId) "
+                + "ON DUPLICATE KEY UPDATE json = :json, pipelineId = :pipelineId",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation, json, pipelineId) VALUES "
+                + "(:fromId, :toId, :fromEntity, :toEntity, :relation, (:json :: jsonb), :pipelineId) "
+                + "ON CONFLICT (fromId, toId, relation) DO UPDATE SET json = EXCLUDED.json, pipelineId = EXCLUDED.pipelineId",
+        connectionType = POSTGRES)
+    void insertLineage(
+        @Bind("fromId") String fromId,
+        @Bind("toId") String toId,
+        @Bind("fromEntity") String fromEntity,
+        @Bind("toEntity") String toEntity,
+        @Bind("relation") int relation,
+        @Bind("json") String json,
+        @Bind("pipelineId") String pipelineId);
+
     @ConnectionAwareSqlUpdate(
         value = "INSERT IGNORE INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation) VALUES <values>",
         connectionType = MYSQL)
@@ -815,21 +916,6 @@ public interface CollectionDAO {
         @Bind("relation") int relation,
         @Bind("toEntity") String toEntity);
 
-    @ConnectionAwareSqlQuery(
-        value =
-            "SELECT toId, toEntity, json FROM entity_relationship "
-                + "WHERE JSON_UNQUOTE(JSON_EXTRACT(json, '$.pipeline.id')) =:fromId OR fromId = :fromId AND relation = :relation "
-                + "ORDER BY toId",
-        connectionType = MYSQL)
-    @ConnectionAwareSqlQuery(
-        value =
-            "SELECT toId, toEntity, json FROM entity_relationship "
-                + "WHERE  json->'pipeline'->>'id' =:fromId OR fromId = :fromId AND relation = :relation "
-                + "ORDER BY toId",
-        connectionType = POSTGRES)
-    @RegisterRowMapper(ToRelationshipMapper.class)
-    List<EntityRelationshipRecord> findToPipeline(@Bind("fromId") String fromId, @Bind("relation") int relation);
-
     //
     // Find from operations
     //
@@ -852,25 +938,62 @@ public interface CollectionDAO {
     List<EntityRelationshipRecord> findFrom(
         @Bind("toId") String toId, @Bind("toEntity") String toEntity, @Bind("relation") int relation);
 
-    @ConnectionAwareSqlQuery(
-        value =
-            "SELECT fromId, fromEntity, json FROM entity_relationship "
-                + "WHERE JSON_UNQUOTE(JSON_EXTRACT(json, '$.pipeline.id')) = :toId OR toId = :toId AND relation = :relation "
-                + "ORDER BY fromId",
-        connectionType = MYSQL)
-    @ConnectionAwareSqlQuery(
-        value =
-            "SELECT fromId, fromEntity, json FROM entity_relationship "
-                + "WHERE  json->'pipeline'->>'id' = :toId OR toId = :toId AND relation = :relation "
-                + "ORDER BY fromId",
-        connectionType = POSTGRES)
-    @RegisterRowMapper(FromRelationshipMapper.class)
-    List<EntityRelationshipRecord> findFromPipleine(@Bind("toId") String toId, @Bind("relation") int relation);
-
     @SqlQuery("SELECT fromId, fromEntity, json FROM entity_relationship " + "WHERE toId = :toId ORDER BY fromId")
     @RegisterRowMapper(FromRelationshipMapper.class)
     List<EntityRelationshipRecord> findFrom(@Bind("toId") String toId);
 
+    //
+    // Batch find operations used for setting relationship fields for a list of entities
+    //
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND toEntity = :toEntity AND relation = :relation "
+            + "ORDER BY fromId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromBatch(
+        @BindList("toIds") List<String> toIds, @Bind("toEntity") String toEntity, @Bind("relation") int relation);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND toEntity = :toEntity AND relation = :relation AND fromEntity = :fromEntity "
+            + "ORDER BY fromId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromBatch(
+        @BindList("toIds") List<String> toIds,
+        @Bind("toEntity") String toEntity,
+        @Bind("relation") int relation,
+        @Bind("fromEntity") String fromEntity);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) AND fromEntity = :fromEntity AND relation = :relation AND toEntity = :toEntity "
+            + "ORDER BY toId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findToBatch(
+        @BindList("fromIds") List<String> fromIds,
+        @Bind("fromEntity") String fromEntity,
+        @Bind("relation") int relation,
+        @Bind("toEntity") String toEntity);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND relation = :relation ORDER BY fromId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromBatch(@BindList("toIds") List<String> toIds, @Bind("relation") int relation);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) AND relation = :relation ORDER BY toId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findToBatch(
+        @BindList("fromIds") List<String> fromIds, @Bind("relation") int relation);
+
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation, json FROM entity_relationship "
+            + "WHERE pipelineId IN (<pipelineIds>) ORDER BY fromId, toId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findByPipelineBatch(@BindList("pipelineIds") List<String> pipelineIds);
+
     @SqlQuery("SELECT count(*) FROM entity_relationship " + "WHERE fromEntity = :fromEntity AND toEntity = :toEntity")
     int findIfAnyRelationExist(@Bind("fromEntity") String fromEntity, @Bind("toEntity") String toEntity);
 
@@ -937,6 +1060,20 @@ public interface CollectionDAO {
             .build();
       }
     }
+
+    class RelationshipObjectMapper implements RowMapper<EntityRelationshipObject> {
+      @Override
+      public EntityRelationshipObject map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return EntityRelationshipObject.builder()
+            .fromId(rs.getString("fromId"))
+            .toId(rs.getString("toId"))
+            .fromEntity(rs.getString("fromEntity"))
+            .toEntity(rs.getString("toEntity"))
+            .relation(rs.getInt("relation"))
+            .json(rs.getString("json"))
+            .build();
+      }
+    }
   }
 
   interface FeedDAO {
@@ -1369,6 +1506,20 @@ public interface CollectionDAO {
         @Bind("otherType") String otherType,
         @Bind("relation") int relation);
 
+    /** Same as {@link #listBidirectional} for a list of FQN hashes */
+    @SqlQuery(
+        "SELECT fromFQN, toFQN, json FROM field_relationship WHERE "
+            + "fromFQNHash IN (<fqnHashes>) AND fromType = :type AND toType = :otherType AND relation = :relation "
+            + "UNION "
+            + "SELECT toFQN, fromFQN, json FROM field_relationship WHERE "
+            + "toFQNHash IN (<fqnHashes>) AND toType = :type AND fromType = :otherType AND relation = :relation")
+    @RegisterRowMapper(ToFieldMapper.class)
+    List<Triple<String, String, String>> listBidirectionalBatch(
+        @BindList("fqnHashes") List<String> fqnHashes,
+        @Bind("type") String type,
+        @Bind("otherType") String otherType,
+        @Bind("relation") int relation);
+
     default void deleteAllByPrefix(String fqn) {
       String prefix = String.format("%s%s%%", FullyQualifiedName.buildHash(fqn), Entity.SEPARATOR);
       String condition = "WHERE (toFQNHash LIKE :prefix OR fromFQNHash LIKE :prefix)";
@@ -2159,7 +2310,7 @@ public interface CollectionDAO {
 
     default List<TagLabel> getTags(String targetFQN) {
       List<TagLabel> tags = getTagsInternal(targetFQN);
-      tags.forEach(TagLabelUtil::applyTagCommonFields);
+      TagLabelCache.applyTagCommonFields(tags);
       return tags;
     }
 
@@ -2167,6 +2318,25 @@ public interface CollectionDAO {
         "SELECT source, tagFQN,  labelType, state FROM tag_usage WHERE targetFQNHash = :targetFQNHash ORDER BY tagFQN")
     List<TagLabel> getTagsInternal(@BindFQN("targetFQNHash") String targetFQNHash);
 
+    /** Get tags for a list of targets keyed by the targetFQNHash of each target */
+    default Map<String, List<TagLabel>> getTagsByTargetFQNHash(List<String> targetFQNHashes) {
+      Map<String, List<TagLabel>> tagsByTarget = new HashMap<>();
+      List<TagLabelWithFQNHash> tagLabelsWithHash = getTagsInternalBatch(targetFQNHashes);
+      TagLabelCache.applyTagCommonFields(
+          tagLabelsWithHash.stream().map(TagLabelWithFQNHash::getTagLabel).collect(Collectors.toList()));
+      for (TagLabelWithFQNHash tagLabelWithHash : tagLabelsWithHash) {
+        TagLabel tagLabel = tagLabelWithHash.getTagLabel();
+        tagsByTarget.computeIfAbsent(tagLabelWithHash.getTargetFQNHash(), k -> new ArrayList<>()).add(tagLabel);
+      }
+      return tagsByTarget;
+    }
+
+    @SqlQuery(
+        "SELECT targetFQNHash, source, tagFQN, labelType, state FROM tag_usage "
+            + "WHERE targetFQNHash IN (<targetFQNHashes>) ORDER BY tagFQN")
+    @RegisterRowMapper(TagLabelWithFQNHashMapper.class)
+    List<TagLabelWithFQNHash> getTagsInternalBatch(@BindList("targetFQNHashes") List<String> targetFQNHashes);
+
     @SqlQuery("SELECT * FROM tag_usage")
     @Deprecated(since = "Release 1.1")
     @RegisterRowMapper(TagLabelMapperMigration.class)
@@ -2259,6 +2429,23 @@ public interface CollectionDAO {
       }
     }
 
+    @Getter
+    @Builder
+    class TagLabelWithFQNHash {
+      private String targetFQNHash;
+      private TagLabel tagLabel;
+    }
+
+    class TagLabelWithFQNHashMapper implements RowMapper<TagLabelWithFQNHash> {
+      @Override
+      public TagLabelWithFQNHash map(ResultSet r, StatementContext ctx) throws SQLException {
+        return TagLabelWithFQNHash.builder()
+            .targetFQNHash(r.getString("targetFQNHash"))
+            .tagLabel(new TagLabelMapper().map(r, ctx))
+            .build();
+      }
+    }
+
     @Getter
     @Setter
     @Deprecated(since = "Release 1.1")
@@ -2532,6 +2719,48 @@ public interface CollectionDAO {
         connectionType = POSTGRES)
     List<UsageDetails> getUsageById(@Bind("id") String id, @Bind("date") String date, @Bind("days") int days);
 
+    @SqlQuery(
+        "SELECT id, entityType, usageDate, count1, count7, count30 FROM entity_usage "
+            + "WHERE id IN (<ids>) AND usageDate >= :startDate AND usageDate <= :endDate")
+    @RegisterRowMapper(UsageCountMapper.class)
+    List<UsageCount> getUsageCounts(
+        @BindList("ids") List<String> ids, @Bind("startDate") LocalDate startDate, @Bind("endDate") LocalDate endDate);
+
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) VALUES <values> "
+                + "ON DUPLICATE KEY UPDATE id = id",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) VALUES <values> "
+                + "ON CONFLICT (usageDate, id) DO NOTHING",
+        connectionType = POSTGRES)
+    void insertMissingCounts(
+        @BindBeanList(
+                value = "values",
+                propertyNames = {"usageDate", "id", "entityType", "count1", "count7", "count30"})
+            List<UsageCount> values);
+
+    /** Add the counts to the stored counts of the rows. The increments are added in SQL to be atomic per row. */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) VALUES <values> "
+                + "ON DUPLICATE KEY UPDATE count1 = count1 + VALUES(count1), count7 = count7 + VALUES(count7), "
+                + "count30 = count30 + VALUES(count30)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) VALUES <values> "
+                + "ON CONFLICT (usageDate, id) DO UPDATE SET count1 = entity_usage.count1 + EXCLUDED.count1, "
+                + "count7 = entity_usage.count7 + EXCLUDED.count7, count30 = entity_usage.count30 + EXCLUDED.count30",
+        connectionType = POSTGRES)
+    void addCounts(
+        @BindBeanList(
+                value = "values",
+                propertyNames = {"usageDate", "id", "entityType", "count1", "count7", "count30"})
+            List<UsageCount> values);
+
     /** Get latest usage record */
     @SqlQuery(
         "SELECT id, usageDate, entityType, count1, count7, count30, "
@@ -2539,27 +2768,35 @@ public interface CollectionDAO {
             + "WHERE usageDate IN (SELECT MAX(usageDate) FROM entity_usage WHERE id = :id) AND id = :id")
     UsageDetails getLatestUsage(@Bind("id") String id);
 
+    /** Get latest usage record of each of the entities, as pairs of entity id and usage */
+    @SqlQuery(
+        "SELECT u.id, u.usageDate, u.entityType, u.count1, u.count7, u.count30, "
+            + "u.percentile1, u.percentile7, u.percentile30 FROM entity_usage u JOIN ("
+            + "SELECT id, MAX(usageDate) AS latestDate FROM entity_usage WHERE id IN (<ids>) GROUP BY id) latest "
+            + "ON u.id = latest.id AND u.usageDate = latest.latestDate")
+    @RegisterRowMapper(UsageDetailsWithIdMapper.class)
+    List<Pair<String, UsageDetails>> getLatestUsageBatch(@BindList("ids") List<String> ids);
+
     @SqlUpdate("DELETE FROM entity_usage WHERE id = :id")
     void delete(@Bind("id") String id);
 
     /**
-     * TODO: Not sure I get what the next comment means, but tests now use mysql 8 so maybe tests can be improved here
-     * Note not using in following percentile computation PERCENT_RANK function as unit tests use mysql5.7, and it does
-     * not have window function
+     * Compute the percentile rank of the daily, weekly and monthly usage counts of the entities of a type for a date.
+     * The percentile rank of an entity is the percentage of the entities of the type with a lower count on that date.
+     * The ranks are computed with window functions over the rows of the entity type and date in a single sort, and the
+     * statement is run for one entity type at a time. {@code RANK() - 1} is used instead of {@code PERCENT_RANK()}
+     * since the latter divides by the number of entities minus one.
      */
     @ConnectionAwareSqlUpdate(
         value =
             "UPDATE entity_usage u JOIN ( "
-                + "SELECT u1.id, "
-                + "(SELECT COUNT(*) FROM entity_usage as u2 WHERE u2.count1 <  u1.count1 AND u2.entityType = :entityType "
-                + "AND u2.usageDate = :date) as p1, "
-                + "(SELECT COUNT(*) FROM entity_usage as u3 WHERE u3.count7 <  u1.count7 AND u3.entityType = :entityType "
-                + "AND u3.usageDate = :date) as p7, "
-                + "(SELECT COUNT(*) FROM entity_usage as u4 WHERE u4.count30 <  u1.count30 AND u4.entityType = :entityType "
-                + "AND u4.usageDate = :date) as p30, "
-                + "(SELECT COUNT(*) FROM entity_usage WHERE entityType = :entityType AND usageDate = :date) as total "
-                + "FROM entity_usage u1 WHERE u1.entityType = :entityType AND u1.usageDate = :date"
-                + ") vals ON u.id = vals.id AND usageDate = :date "
+                + "SELECT id, "
+                + "RANK() OVER (ORDER BY count1) - 1 AS p1, "
+                + "RANK() OVER (ORDER BY count7) - 1 AS p7, "
+                + "RANK() OVER (ORDER BY count30) - 1 AS p30, "
+                + "COUNT(*) OVER () AS total "
+                + "FROM entity_usage WHERE entityType = :entityType AND usageDate = :date"
+                + ") vals ON u.id = vals.id AND u.usageDate = :date "
                 + "SET u.percentile1 = ROUND(100 * p1/total, 2), u.percentile7 = ROUND(p7 * 100/total, 2), u.percentile30 ="
                 + " ROUND(p30*100/total, 2)",
         connectionType = MYSQL)
@@ -2568,18 +2805,42 @@ public interface CollectionDAO {
             "UPDATE entity_usage u "
                 + "SET percentile1 = ROUND(100 * p1 / total, 2), percentile7 = ROUND(p7 * 100 / total, 2), percentile30 = ROUND(p30 * 100 / total, 2) "
                 + "FROM ("
-                + "   SELECT u1.id, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u2 WHERE u2.count1 < u1.count1 AND u2.entityType = :entityType AND u2.usageDate = (:date :: date)) as p1, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u3 WHERE u3.count7 < u1.count7 AND u3.entityType = :entityType AND u3.usageDate = (:date :: date)) as p7, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u4 WHERE u4.count30 < u1.count30 AND u4.entityType = :entityType AND u4.usageDate = (:date :: date)) as p30, "
-                + "       (SELECT COUNT(*) FROM entity_usage WHERE entityType = :entityType AND usageDate = (:date :: date)"
-                + "   ) as total FROM entity_usage u1 "
-                + "   WHERE u1.entityType = :entityType AND u1.usageDate = (:date :: date)"
+                + "   SELECT id, "
+                + "       RANK() OVER (ORDER BY count1) - 1 AS p1, "
+                + "       RANK() OVER (ORDER BY count7) - 1 AS p7, "
+                + "       RANK() OVER (ORDER BY count30) - 1 AS p30, "
+                + "       COUNT(*) OVER () AS total "
+                + "   FROM entity_usage WHERE entityType = :entityType AND usageDate = (:date :: date)"
                 + ") vals "
-                + "WHERE u.id = vals.id AND usageDate = (:date :: date);",
+                + "WHERE u.id = vals.id AND u.usageDate = (:date :: date);",
         connectionType = POSTGRES)
     void computePercentile(@Bind("entityType") String entityType, @Bind("date") String date);
 
+    @Getter
+    @Builder
+    class UsageCount {
+      private String id;
+      private String entityType;
+      private LocalDate usageDate;
+      private int count1;
+      private int count7;
+      private int count30;
+    }
+
+    class UsageCountMapper implements RowMapper<UsageCount> {
+      @Override
+      public UsageCount map(ResultSet r, StatementContext ctx) throws SQLException {
+        return UsageCount.builder()
+            .id(r.getString("id"))
+            .entityType(r.getString("entityType"))
+            .usageDate(r.getDate("usageDate").toLocalDate())
+            .count1(r.getInt("count1"))
+            .count7(r.getInt("count7"))
+            .count30(r.getInt("count30"))
+            .build();
+      }
+    }
+
     class UsageDetailsMapper implements RowMapper<UsageDetails> {
       @Override
       public UsageDetails map(ResultSet r, StatementContext ctx) throws SQLException {
@@ -2596,6 +2857,13 @@ public interface CollectionDAO {
             .withMonthlyStats(monthlyStats);
       }
     }
+
+    class UsageDetailsWithIdMapper implements RowMapper<Pair<String, UsageDetails>> {
+      @Override
+      public Pair<String, UsageDetails> map(ResultSet r, StatementContext ctx) throws SQLException {
+        return Pair.of(r.getString("id"), new UsageDetailsMapper().map(r, ctx));
+      }
+    }
   }
 
   interface UserDAO extends EntityDAO<User> {
@@ -2888,6 +3156,13 @@ public interface CollectionDAO {
         connectionType = POSTGRES)
     void insert(@Bind("json") String json);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(value = "INSERT INTO change_event (json) VALUES (:json)", connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value = "INSERT INTO change_event (json) VALUES (:json :: jsonb)",
+        connectionType = POSTGRES)
+    void insertBatch(@Bind("json") List<String> jsons);
+
     @SqlUpdate("DELETE FROM change_event WHERE entityType = :entityType")
     void deleteAll(@Bind("entityType") String entityType);
 
@@ -2917,6 +3192,99 @@ public interface CollectionDAO {
     List<String> listWithoutEntityFilter(@Bind("eventType") String eventType, @Bind("timestamp") long timestamp);
   }
 
+  interface WebhookRetryDAO {
+    @ConnectionAwareSqlUpdate(
+        value = "INSERT INTO webhook_retry_queue (id, json) VALUES (:id, :json) ON DUPLICATE KEY UPDATE json = :json",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO webhook_retry_queue (id, json) VALUES (:id, :json :: jsonb) "
+                + "ON CONFLICT (id) DO UPDATE SET json = EXCLUDED.json",
+        connectionType = POSTGRES)
+    void upsert(@Bind("id") String id, @Bind("json") String json);
+
+    /** List the deliveries due from the given time until now, in the order of their next attempt time */
+    @SqlQuery(
+        "SELECT json FROM webhook_retry_queue WHERE nextAttemptAt >= :after AND nextAttemptAt <= :now "
+            + "ORDER BY nextAttemptAt LIMIT :limit")
+    List<String> listDue(@Bind("after") long after, @Bind("now") long now, @Bind("limit") int limit);
+
+    /**
+     * Take the delivery to retry until the given time, after which another server may take it again. Returns 0 when the
+     * delivery is already taken by another server or removed.
+     */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE webhook_retry_queue SET json = JSON_SET(json, '$.nextAttemptAt', :claimedUntil) "
+                + "WHERE id = :id AND nextAttemptAt = :nextAttemptAt",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE webhook_retry_queue SET json = jsonb_set(json, '{nextAttemptAt}', to_jsonb(:claimedUntil)) "
+                + "WHERE id = :id AND nextAttemptAt = :nextAttemptAt",
+        connectionType = POSTGRES)
+    int claim(
+        @Bind("id") String id, @Bind("nextAttemptAt") long nextAttemptAt, @Bind("claimedUntil") long claimedUntil);
+
+    @SqlUpdate("DELETE FROM webhook_retry_queue WHERE id = :id")
+    int delete(@Bind("id") String id);
+  }
+
+  interface CacheInvalidationDAO {
+    @SqlUpdate(
+        "INSERT INTO cache_invalidation_log (cacheName, cacheKey, nodeId, createdAt) "
+            + "VALUES (:cacheName, :cacheKey, :nodeId, :createdAt)")
+    void insert(
+        @Bind("cacheName") String cacheName,
+        @Bind("cacheKey") String cacheKey,
+        @Bind("nodeId") String nodeId,
+        @Bind("createdAt") long createdAt);
+
+    @SqlQuery("SELECT COALESCE(MAX(id), 0) FROM cache_invalidation_log")
+    long getMaxId();
+
+    @SqlQuery(
+        "SELECT id, cacheName, cacheKey, nodeId, createdAt FROM cache_invalidation_log "
+            + "WHERE id > :after ORDER BY id LIMIT :limit")
+    @RegisterRowMapper(CacheInvalidationMapper.class)
+    List<CacheInvalidation> listAfter(@Bind("after") long after, @Bind("limit") int limit);
+
+    @SqlUpdate("DELETE FROM cache_invalidation_log WHERE createdAt < :before")
+    int deleteBefore(@Bind("before") long before);
+  }
+
+  /** Heartbeat written to the primary database, and read from the read replica to measure its replication lag */
+  interface ReplicaHeartbeatDAO {
+    @SqlUpdate("UPDATE replica_heartbeat SET heartbeatAt = :heartbeatAt WHERE id = 1")
+    void update(@Bind("heartbeatAt") long heartbeatAt);
+
+    @SqlQuery("SELECT heartbeatAt FROM replica_heartbeat WHERE id = 1")
+    Long getHeartbeat();
+  }
+
+  @Getter
+  @Builder
+  class CacheInvalidation {
+    private long id;
+    private String cacheName;
+    private String cacheKey;
+    private String nodeId;
+    private long createdAt;
+  }
+
+  class CacheInvalidationMapper implements RowMapper<CacheInvalidation> {
+    @Override
+    public CacheInvalidation map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return CacheInvalidation.builder()
+          .id(rs.getLong("id"))
+          .cacheName(rs.getString("cacheName"))
+          .cacheKey(rs.getString("cacheKey"))
+          .nodeId(rs.getString("nodeId"))
+          .createdAt(rs.getLong("createdAt"))
+          .build();
+    }
+  }
+
   interface TypeEntityDAO extends EntityDAO<Type> {
     @Override
     default String getTableName() {
@@ -3138,6 +3506,72 @@ public interface CollectionDAO {
     }
   }
 
+  /** Latest result status of each test case of a test suite, keyed by the test suite and the test case */
+  interface TestSuiteResultSummaryDAO {
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO test_suite_result_summary(testSuiteId, testCaseId, json) VALUES (:testSuiteId, :testCaseId, :json) "
+                + "ON DUPLICATE KEY UPDATE json = :json",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO test_suite_result_summary(testSuiteId, testCaseId, json) "
+                + "VALUES (:testSuiteId, :testCaseId, (:json :: jsonb)) "
+                + "ON CONFLICT (testSuiteId, testCaseId) DO UPDATE SET json = EXCLUDED.json",
+        connectionType = POSTGRES)
+    void upsert(
+        @Bind("testSuiteId") String testSuiteId, @Bind("testCaseId") String testCaseId, @Bind("json") String json);
+
+    @SqlQuery("SELECT json FROM test_suite_result_summary WHERE testSuiteId = :testSuiteId ORDER BY timestamp")
+    List<String> listResultSummaries(@Bind("testSuiteId") String testSuiteId);
+
+    @SqlQuery(
+        "SELECT testSuiteId, json FROM test_suite_result_summary WHERE testSuiteId IN (<testSuiteIds>) "
+            + "ORDER BY testSuiteId, timestamp")
+    @RegisterRowMapper(ResultSummaryMapper.class)
+    List<Pair<String, String>> listResultSummariesBatch(@BindList("testSuiteIds") List<String> testSuiteIds);
+
+    @SqlQuery(
+        "SELECT status, COUNT(*) AS count FROM test_suite_result_summary WHERE testSuiteId = :testSuiteId GROUP BY status")
+    @KeyColumn("status")
+    @ValueColumn("count")
+    Map<String, Integer> countByStatus(@Bind("testSuiteId") String testSuiteId);
+
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT s.status, COUNT(*) AS count FROM test_suite_result_summary s "
+                + "JOIN test_suite ts ON ts.id = s.testSuiteId "
+                + "WHERE JSON_UNQUOTE(JSON_EXTRACT(ts.json, '$.executable')) = 'true' AND ts.deleted = FALSE "
+                + "GROUP BY s.status",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT s.status, COUNT(*) AS count FROM test_suite_result_summary s "
+                + "JOIN test_suite ts ON ts.id = s.testSuiteId "
+                + "WHERE ts.json->>'executable' = 'true' AND ts.deleted = FALSE "
+                + "GROUP BY s.status",
+        connectionType = POSTGRES)
+    @KeyColumn("status")
+    @ValueColumn("count")
+    Map<String, Integer> countByStatusOfExecutableSuites();
+
+    @SqlUpdate("DELETE FROM test_suite_result_summary WHERE testSuiteId = :testSuiteId AND testCaseId = :testCaseId")
+    void delete(@Bind("testSuiteId") String testSuiteId, @Bind("testCaseId") String testCaseId);
+
+    @SqlUpdate("DELETE FROM test_suite_result_summary WHERE testCaseId = :testCaseId")
+    void deleteByTestCase(@Bind("testCaseId") String testCaseId);
+
+    @SqlUpdate("DELETE FROM test_suite_result_summary WHERE testSuiteId = :testSuiteId")
+    void deleteByTestSuite(@Bind("testSuiteId") String testSuiteId);
+
+    class ResultSummaryMapper implements RowMapper<Pair<String, String>> {
+      @Override
+      public Pair<String, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Pair.of(rs.getString("testSuiteId"), rs.getString("json"));
+      }
+    }
+  }
+
   interface TestCaseDAO extends EntityDAO<TestCase> {
     @Override
     default String getTableName() {
@@ -54,6 +54,15 @@ public final class ColumnUtil {
         });
   }
 
+  /** Add the given columns and all their nested children columns to {@code allColumns} */
+  public static List<Column> flattenColumns(List<Column> columns, List<Column> allColumns) {
+    for (Column c : listOrEmpty(columns)) {
+      allColumns.add(c);
+      flattenColumns(c.getChildren(), allColumns);
+    }
+    return allColumns;
+  }
+
   // Validate if a given column exists in the table
   public static void validateColumnFQN(List<Column> columns, String columnFQN) {
     boolean validColumn = false;
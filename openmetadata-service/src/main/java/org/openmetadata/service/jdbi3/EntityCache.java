@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openmetadata.api.configuration.EntityCacheBudget;
+import org.openmetadata.api.configuration.EntityCacheConfiguration;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Cache of the entities keyed by entity type and id or name, with a separate cache for each entity type. A cache is
+ * bounded by the total size of the JSON of its entities instead of the number of entities, as a table with thousands of
+ * columns takes megabytes while a tag takes a few hundred bytes. The budget of each entity type is set by the
+ * entityCacheConfiguration in openmetadata.yaml.
+ *
+ * <p>The budget is a JSON-size budget. The cache keeps the parsed entities, which take more heap than their JSON, so
+ * the heap used by a cache is a multiple of its budget. The size of an entity is the length of the JSON it is loaded
+ * from, and hence is not computed by serializing the entity again. Each cache has a single segment, so that an entity
+ * up to the whole budget can be cached, instead of the budget being split across the segments.
+ *
+ * <p>The size, hit, miss, eviction and load time metrics of each cache are tagged with the entity type, along with the
+ * gauges entity_cache_weight_bytes and entity_cache_max_weight_bytes for its occupancy.
+ */
+@Slf4j
+public class EntityCache<K> {
+  private static final long BYTES_PER_MB = 1024L * 1024L;
+  private static volatile EntityCacheConfiguration configuration = new EntityCacheConfiguration();
+
+  private final String name;
+  private final BiFunction<String, K, Entry> loader;
+  private final Map<String, TypeCache> caches = new ConcurrentHashMap<>();
+
+  /**
+   * @param name name of the cache in the metrics
+   * @param loader loads an entity along with the size of its JSON given its type and key, and throws
+   *     EntityNotFoundException when it does not exist
+   */
+  EntityCache(String name, BiFunction<String, K, Entry> loader) {
+    this.name = name;
+    this.loader = loader;
+  }
+
+  /**
+   * Set the budgets of the entity types. This is called on start up, before the caches of the entity types are used.
+   */
+  public static void configure(EntityCacheConfiguration entityCacheConfiguration) {
+    configuration = entityCacheConfiguration;
+  }
+
+  public EntityInterface get(Pair<String, K> key) throws ExecutionException {
+    return cache(key.getLeft()).get(key.getRight()).entity;
+  }
+
+  public EntityInterface getIfPresent(Pair<String, K> key) {
+    Entry entry = cache(key.getLeft()).getIfPresent(key.getRight());
+    return entry == null ? null : entry.entity;
+  }
+
+  /** Add an entity that is not read from JSON, weighed by serializing it */
+  public void put(Pair<String, K> key, EntityInterface entity) {
+    put(key, entity, JsonUtils.pojoToJson(entity).length());
+  }
+
+  /** Add an entity whose JSON is {@code weight} bytes long */
+  public void put(Pair<String, K> key, EntityInterface entity, int weight) {
+    cache(key.getLeft()).put(key.getRight(), new Entry(entity, weight));
+  }
+
+  public void invalidate(Pair<String, K> key) {
+    TypeCache typeCache = caches.get(key.getLeft());
+    if (typeCache != null) {
+      typeCache.cache.invalidate(key.getRight());
+    }
+  }
+
+  /** Stats of the caches of all the entity types */
+  public CacheStats stats() {
+    CacheStats stats = new CacheStats(0, 0, 0, 0, 0, 0);
+    for (TypeCache typeCache : caches.values()) {
+      stats = stats.plus(typeCache.cache.stats());
+    }
+    return stats;
+  }
+
+  /** Total size in bytes of the entities of the given type in the cache */
+  long weight(String entityType) {
+    TypeCache typeCache = caches.get(entityType);
+    return typeCache == null ? 0 : typeCache.weight.get();
+  }
+
+  private LoadingCache<K, Entry> cache(String entityType) {
+    return caches.computeIfAbsent(entityType, TypeCache::new).cache;
+  }
+
+  static long maxWeight(EntityCacheConfiguration config, String entityType) {
+    for (EntityCacheBudget budget : listOrEmpty(config.getEntityTypes())) {
+      if (budget.getEntityType().equals(entityType)) {
+        return budget.getMaxWeightMB() * BYTES_PER_MB;
+      }
+    }
+    return config.getDefaultMaxWeightMB() * BYTES_PER_MB;
+  }
+
+  /** Cached entity along with the size of its JSON in bytes */
+  static final class Entry {
+    private final EntityInterface entity;
+    private final int weight;
+
+    Entry(EntityInterface entity, int weight) {
+      this.entity = entity;
+      this.weight = weight;
+    }
+  }
+
+  private final class TypeCache {
+    private final LoadingCache<K, Entry> cache;
+    private final AtomicLong weight = new AtomicLong();
+
+    private TypeCache(String entityType) {
+      long maxWeight = maxWeight(configuration, entityType);
+      cache =
+          CacheBuilder.newBuilder()
+              .concurrencyLevel(1)
+              .maximumWeight(maxWeight)
+              .<K, Entry>weigher(
+                  (key, entry) -> {
+                    weight.addAndGet(entry.weight);
+                    return entry.weight;
+                  })
+              .removalListener(notification -> weight.addAndGet(-notification.getValue().weight))
+              .expireAfterWrite(5, TimeUnit.MINUTES)
+              .recordStats()
+              .build(CacheLoader.from(key -> loader.apply(entityType, key)));
+
+      MeterRegistry registry = MicrometerBundleSingleton.prometheusMeterRegistry;
+      GuavaCacheMetrics.monitor(registry, cache, name, "entityType", entityType);
+      Gauge.builder("entity_cache_weight_bytes", weight, AtomicLong::get)
+          .description("Size of the JSON of the entities in the cache.")
+          .tags("cache", name, "entityType", entityType)
+          .register(registry);
+      Gauge.builder("entity_cache_max_weight_bytes", () -> maxWeight)
+          .description("Maximum size of the JSON of the entities in the cache.")
+          .tags("cache", name, "entityType", entityType)
+          .register(registry);
+      LOG.debug("Created the {} cache for {} with {} bytes", name, entityType, maxWeight);
+    }
+  }
+}
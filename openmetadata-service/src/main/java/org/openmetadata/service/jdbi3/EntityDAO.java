@@ -21,8 +21,10 @@ import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
@@ -40,6 +42,17 @@ import org.openmetadata.service.util.jdbi.BindFQN;
 public interface EntityDAO<T extends EntityInterface> {
   org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(EntityDAO.class);
 
+  /** JSON object with the fields of an entity reference, extracted from the entity JSON */
+  String MYSQL_REFERENCE_FIELDS =
+      "JSON_OBJECT('id', json -> '$.id', 'name', json -> '$.name', "
+          + "'fullyQualifiedName', json -> '$.fullyQualifiedName', 'displayName', json -> '$.displayName', "
+          + "'description', json -> '$.description', 'deleted', json -> '$.deleted')";
+
+  String POSTGRES_REFERENCE_FIELDS =
+      "jsonb_build_object('id', json -> 'id', 'name', json -> 'name', "
+          + "'fullyQualifiedName', json -> 'fullyQualifiedName', 'displayName', json -> 'displayName', "
+          + "'description', json -> 'description', 'deleted', json -> 'deleted')";
+
   /** Methods that need to be overridden by interfaces extending this */
   String getTableName();
 
@@ -124,6 +137,9 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlQuery("SELECT json FROM <table> WHERE id = :id <cond>")
   String findById(@Define("table") String table, @Bind("id") String id, @Define("cond") String cond);
 
+  @SqlQuery("SELECT json FROM <table> WHERE id IN (<ids>) <cond>")
+  List<String> findByIds(@Define("table") String table, @BindList("ids") List<String> ids, @Define("cond") String cond);
+
   @SqlQuery("SELECT json FROM <table> WHERE <nameColumn> = :name <cond>")
   String findByName(
       @Define("table") String table,
@@ -131,6 +147,37 @@ public interface EntityDAO<T extends EntityInterface> {
       @BindFQN("name") String name,
       @Define("cond") String cond);
 
+  @SqlQuery("SELECT updatedAt FROM <table> WHERE id = :id")
+  Long findUpdatedAtById(@Define("table") String table, @Bind("id") String id);
+
+  @SqlQuery("SELECT updatedAt FROM <table> WHERE <nameColumn> = :name")
+  Long findUpdatedAtByName(
+      @Define("table") String table, @Define("nameColumn") String nameColumn, @BindFQN("name") String name);
+
+  @ConnectionAwareSqlQuery(
+      value = "SELECT " + MYSQL_REFERENCE_FIELDS + " FROM <table> WHERE id IN (<ids>)",
+      connectionType = MYSQL)
+  @ConnectionAwareSqlQuery(
+      value = "SELECT " + POSTGRES_REFERENCE_FIELDS + " FROM <table> WHERE id IN (<ids>)",
+      connectionType = POSTGRES)
+  List<String> findReferencesByIds(@Define("table") String table, @BindList("ids") List<String> ids);
+
+  @ConnectionAwareSqlQuery(
+      value = "SELECT " + MYSQL_REFERENCE_FIELDS + " FROM <table> WHERE <nameColumn> = :name",
+      connectionType = MYSQL)
+  @ConnectionAwareSqlQuery(
+      value = "SELECT " + POSTGRES_REFERENCE_FIELDS + " FROM <table> WHERE <nameColumn> = :name",
+      connectionType = POSTGRES)
+  String findReferenceByName(
+      @Define("table") String table, @Define("nameColumn") String nameColumn, @BindFQN("name") String name);
+
+  @SqlQuery("SELECT json FROM <table> WHERE <nameColumn> IN (<nameHashes>) <cond>")
+  List<String> findByNameHashes(
+      @Define("table") String table,
+      @Define("nameColumn") String nameColumn,
+      @BindList("nameHashes") List<String> nameHashes,
+      @Define("cond") String cond);
+
   @SqlQuery("SELECT count(*) FROM <table> <cond>")
   int listCount(@Define("table") String table, @Define("nameColumn") String nameColumn, @Define("cond") String cond);
 
@@ -225,6 +272,17 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlQuery("SELECT json FROM <table> LIMIT :limit OFFSET :offset")
   List<String> listAfterWithOffset(@Define("table") String table, @Bind("limit") int limit, @Bind("offset") int offset);
 
+  @SqlQuery("SELECT json FROM <table> WHERE id > :after ORDER BY id LIMIT :limit")
+  List<String> listAfterIdWithLimit(
+      @Define("table") String table, @Bind("after") String after, @Bind("limit") int limit);
+
+  @SqlQuery("SELECT json FROM <table> WHERE id > :after AND id < :before ORDER BY id LIMIT :limit")
+  List<String> listBetweenIdsWithLimit(
+      @Define("table") String table,
+      @Bind("after") String after,
+      @Bind("before") String before,
+      @Bind("limit") int limit);
+
   @SqlQuery("SELECT json FROM <table> WHERE <nameHashColumn> = '' or <nameHashColumn> is null LIMIT :limit")
   List<String> migrationListAfterWithOffset(
       @Define("table") String table, @Define("nameHashColumn") String nameHashColumnName, @Bind("limit") int limit);
@@ -295,6 +353,17 @@ public interface EntityDAO<T extends EntityInterface> {
     return jsonToEntity(findById(getTableName(), id.toString(), getCondition(include)), id.toString());
   }
 
+  default List<T> findEntitiesByIds(List<String> ids, Include include) {
+    return JsonUtils.readObjects(findByIds(getTableName(), ids, getCondition(include)), getEntityClass());
+  }
+
+  /** Get the entities with the given fully qualified names in a single query. Entities not found are skipped. */
+  default List<T> findEntitiesByNames(List<String> fqns, Include include) {
+    List<String> nameHashes = fqns.stream().map(FullyQualifiedName::buildHash).collect(Collectors.toList());
+    return JsonUtils.readObjects(
+        findByNameHashes(getTableName(), getNameHashColumn(), nameHashes, getCondition(include)), getEntityClass());
+  }
+
   default T findEntityById(UUID id) {
     return findEntityById(id, Include.NON_DELETED);
   }
@@ -323,6 +392,20 @@ public interface EntityDAO<T extends EntityInterface> {
     return entity;
   }
 
+  default String findJsonById(UUID id, Include include) {
+    return findById(getTableName(), id.toString(), getCondition(include));
+  }
+
+  /** Update time of the stored entity from the updatedAt column, or null when it does not exist */
+  default Long findUpdatedAtById(UUID id) {
+    return findUpdatedAtById(getTableName(), id.toString());
+  }
+
+  /** Update time of the stored entity from the updatedAt column, or null when it does not exist */
+  default Long findUpdatedAtByName(String fqn) {
+    return findUpdatedAtByName(getTableName(), getNameHashColumn(), fqn);
+  }
+
   default String findJsonByFqn(String fqn, Include include) {
     return findByName(getTableName(), getNameHashColumn(), fqn, getCondition(include));
   }
@@ -352,6 +435,13 @@ public interface EntityDAO<T extends EntityInterface> {
     return listAfterWithOffset(getTableName(), limit, offset);
   }
 
+  /** List the entities with id greater than {@code after} and less than {@code before}, if given, in the order of id */
+  default List<String> listAfterId(String after, String before, int limit) {
+    return before == null
+        ? listAfterIdWithLimit(getTableName(), after, limit)
+        : listBetweenIdsWithLimit(getTableName(), after, before, limit);
+  }
+
   default List<String> migrationListAfterWithOffset(int limit, String nameHashColumn) {
     // No ordering
     return migrationListAfterWithOffset(getTableName(), nameHashColumn, limit);
@@ -0,0 +1,244 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonPatch;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecord;
+import org.openmetadata.service.util.EntityUtil;
+import org.openmetadata.service.util.JsonUtils;
+
+/**
+ * Stores the previous versions of the entities in {@code entity_extension} with the extension {@code
+ * entityType.version.<version>}. A version is stored either as the full entity JSON, called a snapshot, or as a JSON
+ * patch from a snapshot of an older version:
+ *
+ * <pre>
+ *   {"versionDelta": {"baseVersion": 0.3, "patch": [{"op": "replace", "path": "/description", "value": "..."}]}}
+ * </pre>
+ *
+ * <p>A new snapshot is stored after {@link #SNAPSHOT_INTERVAL} - 1 deltas or when the delta is not much smaller than
+ * the entity, and hence a version is reconstructed from its snapshot and a single patch. Records written before deltas
+ * were introduced are snapshots and are converted by {@link #compact(UUID)}.
+ */
+@Slf4j
+public class EntityHistoryStore {
+  public static final int SNAPSHOT_INTERVAL = 10;
+  private static final String VERSION_DELTA = "versionDelta";
+  private static final String BASE_VERSION = "baseVersion";
+  private static final String PATCH = "patch";
+
+  private final EntityExtensionDAO dao;
+
+  public EntityHistoryStore(CollectionDAO daoCollection) {
+    this.dao = daoCollection.entityExtensionDAO();
+  }
+
+  /** Store the given version of an entity, which must be newer than the versions already stored */
+  public void storeVersion(String entityType, UUID id, Double version, String json) {
+    String record = json;
+    List<Double> previousVersions =
+        listVersions(entityType, id).stream().filter(v -> v < version).collect(Collectors.toList());
+    if (!previousVersions.isEmpty()) {
+      // Find the snapshot the latest stored version is based on and the number of deltas stored since then
+      Double latestVersion = previousVersions.get(0);
+      JsonObject latest = readRecord(entityType, id, latestVersion);
+      Double snapshotVersion = isDelta(latest) ? getBaseVersion(latest) : latestVersion;
+      long deltas = previousVersions.stream().filter(v -> v > snapshotVersion).count();
+      if (deltas + 1 < SNAPSHOT_INTERVAL) {
+        JsonObject snapshot =
+            snapshotVersion.equals(latestVersion) ? latest : readRecord(entityType, id, snapshotVersion);
+        if (snapshot != null && !isDelta(snapshot)) {
+          String delta = encodeDelta(snapshotVersion, snapshot, JsonUtils.readJson(json).asJsonObject());
+          record = delta != null ? delta : json;
+        }
+      }
+    }
+    dao.insert(id.toString(), EntityUtil.getVersionExtension(entityType, version), entityType, record);
+  }
+
+  /** Get the JSON of a previous version of an entity. Returns null when the version is not stored. */
+  public String getVersion(String entityType, UUID id, Double version) {
+    List<String> versions = getVersions(entityType, id, List.of(version));
+    return versions.get(0);
+  }
+
+  /** List the previous versions of an entity from the latest to the oldest */
+  public List<Double> listVersions(String entityType, UUID id) {
+    String prefix = EntityUtil.getVersionExtensionPrefix(entityType);
+    return dao.getExtensionNames(id.toString(), prefix).stream()
+        .map(EntityUtil::getVersion)
+        .sorted(Comparator.reverseOrder())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Get the JSON of the given previous versions of an entity in the same order. The records of the requested versions
+   * and of the snapshots they are based on are read in two queries. Returns null for the versions not stored.
+   */
+  public List<String> getVersions(String entityType, UUID id, List<Double> versions) {
+    Map<Double, JsonObject> records = readRecords(entityType, id, versions);
+    List<Double> baseVersions =
+        records.values().stream()
+            .filter(EntityHistoryStore::isDelta)
+            .map(EntityHistoryStore::getBaseVersion)
+            .filter(v -> !records.containsKey(v))
+            .distinct()
+            .collect(Collectors.toList());
+    records.putAll(readRecords(entityType, id, baseVersions));
+
+    List<String> jsons = new ArrayList<>(versions.size());
+    for (Double version : versions) {
+      JsonObject entity = resolve(id, version, records);
+      jsons.add(entity == null ? null : entity.toString());
+    }
+    return jsons;
+  }
+
+  /**
+   * Convert the snapshots of an entity written before deltas were introduced into deltas, keeping a snapshot every
+   * {@link #SNAPSHOT_INTERVAL} versions. The snapshots that deltas are already based on are kept, so that every delta
+   * is based on a snapshot and a version is always reconstructed from a snapshot and a single patch. The latest version
+   * is kept as well, as the versions stored while the history is compacted may be based on it. Returns the number of
+   * records converted.
+   */
+  public int compact(UUID id) {
+    List<String> extensions = dao.getVersionExtensionNames(id.toString());
+    if (extensions.isEmpty()) {
+      return 0;
+    }
+    String entityType = extensions.get(0).substring(0, extensions.get(0).indexOf('.'));
+    List<Double> versions = listVersions(entityType, id);
+    Map<Double, JsonObject> records = readRecords(entityType, id, versions);
+    Set<Double> baseVersions =
+        records.values().stream()
+            .filter(EntityHistoryStore::isDelta)
+            .map(EntityHistoryStore::getBaseVersion)
+            .collect(Collectors.toSet());
+
+    int converted = 0;
+    Double snapshotVersion = null;
+    JsonObject snapshot = null;
+    int deltas = 0;
+    for (Double version : versions.stream().sorted().collect(Collectors.toList())) {
+      JsonObject entity = records.get(version);
+      if (entity == null) {
+        continue;
+      }
+      if (isDelta(entity)) {
+        deltas++;
+        continue;
+      }
+      if (snapshot != null
+          && deltas + 1 < SNAPSHOT_INTERVAL
+          && !baseVersions.contains(version)
+          && !version.equals(versions.get(0))) {
+        String delta = encodeDelta(snapshotVersion, snapshot, entity);
+        if (delta != null) {
+          dao.update(id.toString(), EntityUtil.getVersionExtension(entityType, version), delta);
+          converted++;
+          deltas++;
+          continue;
+        }
+      }
+      snapshotVersion = version;
+      snapshot = entity;
+      deltas = 0;
+    }
+    return converted;
+  }
+
+  /**
+   * Encode the entity as a patch from the snapshot. Returns null when the patch is not much smaller than the entity or
+   * applying the patch does not produce the entity.
+   */
+  static String encodeDelta(Double baseVersion, JsonObject base, JsonObject entity) {
+    JsonPatch patch = Json.createDiff(base, entity);
+    String delta =
+        Json.createObjectBuilder()
+            .add(
+                VERSION_DELTA,
+                Json.createObjectBuilder().add(BASE_VERSION, baseVersion).add(PATCH, patch.toJsonArray()))
+            .build()
+            .toString();
+    if (delta.length() * 2 > entity.toString().length()) {
+      return null;
+    }
+    try {
+      if (!patch.apply(base).equals(entity)) {
+        LOG.warn("Patch from version {} does not reproduce the entity {}", baseVersion, entity.getString("id", null));
+        return null;
+      }
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to apply the patch from version {}", baseVersion, e);
+      return null;
+    }
+    return delta;
+  }
+
+  private static JsonObject resolve(UUID id, Double version, Map<Double, JsonObject> records) {
+    JsonObject entity = records.get(version);
+    if (entity != null && isDelta(entity)) {
+      Double baseVersion = getBaseVersion(entity);
+      JsonObject base = records.get(baseVersion);
+      if (base == null || isDelta(base)) {
+        throw new IllegalStateException(
+            String.format("Snapshot version %s of entity %s version %s is not found", baseVersion, id, version));
+      }
+      JsonPatch patch = Json.createPatch(entity.getJsonObject(VERSION_DELTA).getJsonArray(PATCH));
+      entity = patch.apply(base);
+    }
+    return entity;
+  }
+
+  private JsonObject readRecord(String entityType, UUID id, Double version) {
+    String json = dao.getExtension(id.toString(), EntityUtil.getVersionExtension(entityType, version));
+    return json == null ? null : JsonUtils.readJson(json).asJsonObject();
+  }
+
+  private Map<Double, JsonObject> readRecords(String entityType, UUID id, Collection<Double> versions) {
+    Map<Double, JsonObject> records = new HashMap<>();
+    if (versions.isEmpty()) {
+      return records;
+    }
+    List<String> extensions =
+        versions.stream().map(v -> EntityUtil.getVersionExtension(entityType, v)).collect(Collectors.toList());
+    for (ExtensionRecord extensionRecord : dao.getExtensionsByName(id.toString(), extensions)) {
+      records.put(
+          EntityUtil.getVersion(extensionRecord.getExtensionName()),
+          JsonUtils.readJson(extensionRecord.getExtensionJson()).asJsonObject());
+    }
+    return records;
+  }
+
+  static boolean isDelta(JsonObject record) {
+    return record.containsKey(VERSION_DELTA);
+  }
+
+  private static Double getBaseVersion(JsonObject record) {
+    return Double.valueOf(record.getJsonObject(VERSION_DELTA).getJsonNumber(BASE_VERSION).toString());
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import static org.openmetadata.schema.type.Include.DELETED;
+import static org.openmetadata.schema.type.Include.NON_DELETED;
+import static org.openmetadata.service.exception.CatalogExceptionMessage.entityNotFound;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.utils.EntityInterfaceUtil;
+import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Cache of the entity references, keyed by entity type and id. Only the reference fields are read from the entity JSON
+ * and kept in the cache, instead of reading, parsing and caching the whole entity to return its reference. A second
+ * cache maps the fully qualified name to the id, and is checked against the name of the cached reference on read so
+ * that it does not need to be invalidated on rename. Entries are invalidated when the entity is stored or deleted.
+ */
+public final class EntityReferenceCache {
+  private static final Cache<Pair<String, UUID>, CachedReference> CACHE =
+      CacheBuilder.newBuilder().maximumSize(100000).expireAfterWrite(30, TimeUnit.MINUTES).recordStats().build();
+  private static final Cache<Pair<String, String>, UUID> ID_BY_NAME =
+      CacheBuilder.newBuilder().maximumSize(100000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+
+  /** Maximum number of ids bound to a single IN (...) clause when loading the references missing from the cache */
+  private static final int BATCH_SIZE = 1000;
+
+  static {
+    GuavaCacheMetrics.monitor(MicrometerBundleSingleton.prometheusMeterRegistry, CACHE, "entityReference");
+  }
+
+  private EntityReferenceCache() {
+    /* Cannot create object  util class*/
+  }
+
+  static EntityReference get(EntityDAO<? extends EntityInterface> dao, String entityType, UUID id, Include include) {
+    return get(dao, entityType, List.of(id), include).get(0);
+  }
+
+  /** Get the references for the given list of ids in the same order, loading those missing with a single query */
+  static List<EntityReference> get(
+      EntityDAO<? extends EntityInterface> dao, String entityType, List<UUID> ids, Include include) {
+    Map<UUID, CachedReference> found = new HashMap<>();
+    Set<String> misses = new LinkedHashSet<>();
+    for (UUID id : ids) {
+      CachedReference cached = CACHE.getIfPresent(new ImmutablePair<>(entityType, id));
+      if (cached != null) {
+        found.put(id, cached);
+      } else {
+        misses.add(id.toString());
+      }
+    }
+    for (List<String> batch : Lists.partition(new ArrayList<>(misses), BATCH_SIZE)) {
+      List<String> jsons =
+          JdbiTransactionManager.readFromPrimary(() -> dao.findReferencesByIds(dao.getTableName(), batch));
+      for (String json : jsons) {
+        CachedReference cached = put(entityType, json);
+        found.put(cached.id, cached);
+      }
+    }
+
+    List<EntityReference> references = new ArrayList<>(ids.size());
+    for (UUID id : ids) {
+      CachedReference cached = found.get(id);
+      if (cached == null || !cached.isIncluded(include)) {
+        throw new EntityNotFoundException(entityNotFound(entityType, id));
+      }
+      references.add(cached.toEntityReference(entityType));
+    }
+    return references;
+  }
+
+  static EntityReference getByName(
+      EntityDAO<? extends EntityInterface> dao, String entityType, String fqn, Include include) {
+    UUID id = ID_BY_NAME.getIfPresent(new ImmutablePair<>(entityType, fqn));
+    CachedReference cached = id != null ? CACHE.getIfPresent(new ImmutablePair<>(entityType, id)) : null;
+    if (cached == null || !fqn.equals(cached.fullyQualifiedName)) {
+      String json =
+          JdbiTransactionManager.readFromPrimary(
+              () -> dao.findReferenceByName(dao.getTableName(), dao.getNameHashColumn(), fqn));
+      if (json == null) {
+        throw new EntityNotFoundException(entityNotFound(entityType, fqn));
+      }
+      cached = put(entityType, json);
+    }
+    if (!cached.isIncluded(include)) {
+      throw new EntityNotFoundException(entityNotFound(entityType, fqn));
+    }
+    return cached.toEntityReference(entityType);
+  }
+
+  public static void invalidate(String entityType, UUID id) {
+    CACHE.invalidate(new ImmutablePair<>(entityType, id));
+  }
+
+  public static void invalidateAll() {
+    CACHE.invalidateAll();
+    ID_BY_NAME.invalidateAll();
+  }
+
+  private static CachedReference put(String entityType, String json) {
+    CachedReference cached = new CachedReference(JsonUtils.readValue(json, EntityReference.class));
+    CACHE.put(new ImmutablePair<>(entityType, cached.id), cached);
+    ID_BY_NAME.put(new ImmutablePair<>(entityType, cached.fullyQualifiedName), cached.id);
+    return cached;
+  }
+
+  /**
+   * Immutable reference fields of an entity. A new {@link EntityReference} is returned for every read, as the callers
+   * set fields such as href on the returned reference.
+   */
+  private static final class CachedReference {
+    private final UUID id;
+    private final String name;
+    private final String fullyQualifiedName;
+    private final String displayName;
+    private final String description;
+    private final Boolean deleted;
+
+    private CachedReference(EntityReference reference) {
+      this.id = reference.getId();
+      this.name = reference.getName();
+      this.fullyQualifiedName =
+          reference.getFullyQualifiedName() == null
+              ? EntityInterfaceUtil.quoteName(reference.getName())
+              : reference.getFullyQualifiedName();
+      this.displayName = reference.getDisplayName();
+      this.description = reference.getDescription();
+      this.deleted = reference.getDeleted();
+    }
+
+    private boolean isIncluded(Include include) {
+      return !(include == NON_DELETED && Boolean.TRUE.equals(deleted)
+          || include == DELETED && !Boolean.TRUE.equals(deleted));
+    }
+
+    private EntityReference toEntityReference(String entityType) {
+      return new EntityReference()
+          .withId(id)
+          .withType(entityType)
+          .withName(name)
+          .withFullyQualifiedName(fullyQualifiedName)
+          .withDisplayName(displayName)
+          .withDescription(description)
+          .withDeleted(deleted);
+    }
+  }
+}
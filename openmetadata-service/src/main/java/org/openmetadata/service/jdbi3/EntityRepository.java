@@ -37,15 +37,15 @@ import static org.openmetadata.service.util.EntityUtil.tagLabelMatch;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
+import io.micrometer.core.instrument.Counter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -58,13 +58,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
-import javax.annotation.CheckForNull;
 import javax.json.JsonPatch;
-import javax.validation.constraints.NotNull;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 import lombok.Getter;
@@ -89,6 +88,7 @@ import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.EventType;
 import org.openmetadata.schema.type.FieldChange;
 import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.Paging;
 import org.openmetadata.schema.type.ProviderType;
 import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.type.TagLabel;
@@ -101,19 +101,26 @@ import org.openmetadata.schema.utils.EntityInterfaceUtil;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.TypeRegistry;
+import org.openmetadata.service.events.CacheInvalidationBus;
+import org.openmetadata.service.events.subscription.ActivityFeedAlertCache;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.exception.UnhandledServerException;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
-import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecordWithId;
 import org.openmetadata.service.jdbi3.FeedRepository.TaskWorkflow;
 import org.openmetadata.service.jdbi3.FeedRepository.ThreadContext;
+import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
+import org.openmetadata.service.resources.tags.TagLabelCache;
 import org.openmetadata.service.resources.tags.TagLabelUtil;
+import org.openmetadata.service.security.policyevaluator.SubjectCache;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 import org.openmetadata.service.util.RestUtil;
 import org.openmetadata.service.util.RestUtil.DeleteResponse;
 import org.openmetadata.service.util.RestUtil.PatchResponse;
@@ -154,23 +161,18 @@ import org.openmetadata.service.util.ResultList;
 @Slf4j
 public abstract class EntityRepository<T extends EntityInterface> {
 
-  public static final LoadingCache<Pair<String, String>, EntityInterface> CACHE_WITH_NAME =
-      CacheBuilder.newBuilder()
-          .maximumSize(5000)
-          .expireAfterWrite(30, TimeUnit.SECONDS)
-          .recordStats()
-          .build(new EntityLoaderWithName());
-  public static final LoadingCache<Pair<String, UUID>, EntityInterface> CACHE_WITH_ID =
-      CacheBuilder.newBuilder()
-          .maximumSize(5000)
-          .expireAfterWrite(30, TimeUnit.SECONDS)
-          .recordStats()
-          .build(new EntityLoaderWithId());
+  public static final EntityCache<String> CACHE_WITH_NAME =
+      new EntityCache<>("entityByName", EntityRepository::loadByName);
+  public static final EntityCache<UUID> CACHE_WITH_ID = new EntityCache<>("entityById", EntityRepository::loadById);
+  private static final Counter CACHE_VALIDATED_CURRENT = cacheValidationCounter("current");
+  private static final Counter CACHE_VALIDATED_STALE = cacheValidationCounter("stale");
+
   private final String collectionPath;
   private final Class<T> entityClass;
   @Getter protected final String entityType;
   @Getter protected final EntityDAO<T> dao;
   @Getter protected final CollectionDAO daoCollection;
+  protected final EntityHistoryStore historyStore;
   @Getter protected final Set<String> allowedFields;
   public final boolean supportsSoftDelete;
   @Getter protected final boolean supportsTags;
@@ -192,6 +194,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   protected boolean supportsSearchIndex = false;
 
+  /** Maximum number of ids bound to a single IN (...) clause when loading fields for a list of entities */
+  protected static final int BULK_QUERY_BATCH_SIZE = 1000;
+
   protected EntityRepository(
       String collectionPath,
       String entityType,
@@ -205,6 +210,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
     allowedFields = getEntityFields(entityClass);
     this.dao = entityDAO;
     this.daoCollection = collectionDAO;
+    this.historyStore = new EntityHistoryStore(collectionDAO);
     this.entityType = entityType;
     this.patchFields = getFields(patchFields);
     this.putFields = getFields(putFields);
@@ -403,25 +409,46 @@ public abstract class EntityRepository<T extends EntityInterface> {
   /** Used for getting an entity with a set of requested fields */
   public final T get(UriInfo uriInfo, UUID id, Fields fields, Include include, boolean fromCache) {
     if (!fromCache) {
-      // Clear the cache and always get the entity from the database to ensure read-after-write consistency
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(entityType, id));
+      // Check the cached entity is the latest version in the database to ensure read-after-write consistency
+      validateCached(CACHE_WITH_ID, new ImmutablePair<>(entityType, id), () -> dao.findUpdatedAtById(id));
     }
-    // Find the entity from the cache. Set all the fields that are not already set
-    T entity = find(id, include);
+    // Copy the entity from the cache and set the requested fields on the copy. The cached entity is never modified,
+    // so that different threads making a call to this method don't overwrite the fields of the entity being returned
+    T entity = copyCached(find(id, include));
     setFieldsInternal(entity, fields);
     setInheritedFields(entity, fields);
+    clearFieldsInternal(entity, fields);
+    return withHref(uriInfo, entity);
+  }
 
-    // Clone the entity from the cache and reset all the fields that are not already set
-    // Cloning is necessary to ensure different threads making a call to this method don't
-    // overwrite the fields of the entity being returned
-    T entityClone = JsonUtils.deepCopy(entity, entityClass);
-    clearFieldsInternal(entityClone, fields);
-    return withHref(uriInfo, entityClone);
+  /**
+   * Same as {@link #get(UriInfo, UUID, Fields, Include, boolean)} for a list of entities, which are read together and
+   * have their fields set in bulk. Entities that are not found are skipped.
+   */
+  public final List<T> get(List<UUID> ids, Fields fields, Include include) {
+    List<T> entities = new ArrayList<>();
+    for (List<String> batch : Lists.partition(toStrings(ids), BULK_QUERY_BATCH_SIZE)) {
+      entities.addAll(dao.findEntitiesByIds(batch, include));
+    }
+    setFieldsInBulkInternal(entities, fields);
+    for (T entity : entities) {
+      setInheritedFields(entity, fields);
+      clearFieldsInternal(entity, fields);
+    }
+    return entities;
   }
 
-  /** getReference is used for getting the entity references from the entity in the cache. */
+  /** getReference is used for getting the entity reference from the reference cache, without reading the entity. */
   public final EntityReference getReference(UUID id, Include include) throws EntityNotFoundException {
-    return find(id, include).getEntityReference();
+    return EntityReferenceCache.get(dao, entityType, id, include);
+  }
+
+  /**
+   * Get entity references for the given list of ids in the same order. References that are not in the cache are loaded
+   * together with a single query instead of one query per entity.
+   */
+  public final List<EntityReference> getReferences(List<UUID> ids, Include include) throws EntityNotFoundException {
+    return EntityReferenceCache.get(dao, entityType, ids, include);
   }
 
   /**
@@ -448,25 +475,72 @@ public abstract class EntityRepository<T extends EntityInterface> {
   public final T getByName(UriInfo uriInfo, String fqn, Fields fields, Include include, boolean fromCache) {
     fqn = quoteFqn ? EntityInterfaceUtil.quoteName(fqn) : fqn;
     if (!fromCache) {
-      // Clear the cache and always get the entity from the database to ensure read-after-write consistency
-      CACHE_WITH_NAME.invalidate(new ImmutablePair<>(entityType, fqn));
+      // Check the cached entity is the latest version in the database to ensure read-after-write consistency
+      String name = fqn;
+      validateCached(CACHE_WITH_NAME, new ImmutablePair<>(entityType, fqn), () -> dao.findUpdatedAtByName(name));
     }
-    // Find the entity from the cache. Set all the fields that are not already set
-    T entity = findByName(fqn, include);
+    // Copy the entity from the cache and set the requested fields on the copy. The cached entity is never modified,
+    // so that different threads making a call to this method don't overwrite the fields of the entity being returned
+    T entity = copyCached(findByName(fqn, include));
     setFieldsInternal(entity, fields);
     setInheritedFields(entity, fields);
+    clearFieldsInternal(entity, fields);
+    return withHref(uriInfo, entity);
+  }
+
+  /**
+   * Invalidate the cached entity when its update time is not the same as the stored entity. Every change of the entity
+   * sets its update time, which is read from the updatedAt column of one row by its primary key or name hash. This is
+   * cheaper than reading and parsing the entity.
+   */
+  private static <K> void validateCached(EntityCache<K> cache, Pair<String, K> key, Supplier<Long> storedUpdatedAt) {
+    EntityInterface cached = cache.getIfPresent(key);
+    if (cached == null) {
+      return;
+    }
+    if (Objects.equals(cached.getUpdatedAt(), storedUpdatedAt.get())) {
+      CACHE_VALIDATED_CURRENT.increment();
+    } else {
+      CACHE_VALIDATED_STALE.increment();
+      cache.invalidate(key);
+    }
+  }
+
+  /**
+   * Copy of a cached entity. The requested fields are set on the returned entity, including the fields of nested
+   * objects such as the tags of the columns, and hence the cached entity can't be shared. The copy is made from the
+   * tokens of the entity without writing and parsing JSON.
+   */
+  private T copyCached(T entity) {
+    return JsonUtils.deepCopy(entity, entityClass);
+  }
+
+  // The entity caches are shared by all the requests, and hence are loaded from the primary even when the request
+  // reads from the read replica. The entities are weighed by the length of the JSON they are read from.
+  private static EntityCache.Entry loadByName(String entityType, String fqn) {
+    EntityDAO<? extends EntityInterface> dao = Entity.getEntityRepository(entityType).getDao();
+    String json = JdbiTransactionManager.readFromPrimary(() -> dao.findJsonByFqn(fqn, ALL));
+    EntityInterface entity = dao.jsonToEntity(json, fqn);
+    return new EntityCache.Entry(entity, json.length());
+  }
+
+  private static EntityCache.Entry loadById(String entityType, UUID id) {
+    EntityDAO<? extends EntityInterface> dao = Entity.getEntityRepository(entityType).getDao();
+    String json = JdbiTransactionManager.readFromPrimary(() -> dao.findJsonById(id, ALL));
+    EntityInterface entity = dao.jsonToEntity(json, id.toString());
+    return new EntityCache.Entry(entity, json.length());
+  }
 
-    // Clone the entity from the cache and reset all the fields that are not already set
-    // Cloning is necessary to ensure different threads making a call to this method don't
-    // overwrite the fields of the entity being returned
-    T entityClone = JsonUtils.deepCopy(entity, entityClass);
-    clearFieldsInternal(entityClone, fields);
-    return withHref(uriInfo, entityClone);
+  private static Counter cacheValidationCounter(String result) {
+    return Counter.builder("entity_cache_validations")
+        .description("Number of cached entities checked against the database version on read.")
+        .tag("result", result)
+        .register(MicrometerBundleSingleton.prometheusMeterRegistry);
   }
 
   public final EntityReference getReferenceByName(String fqn, Include include) {
     fqn = quoteFqn ? EntityInterfaceUtil.quoteName(fqn) : fqn;
-    return findByName(fqn, include).getEntityReference();
+    return EntityReferenceCache.getByName(dao, entityType, fqn, include);
   }
 
   public T findByNameOrNull(String fqn, Include include) {
@@ -498,12 +572,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
   public final List<T> listAll(Fields fields, ListFilter filter) {
     // forward scrolling, if after == null then first page is being asked
     List<String> jsons = dao.listAfter(filter, Integer.MAX_VALUE, "");
-    List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      T entity = setFieldsInternal(JsonUtils.readValue(json, entityClass), fields);
-      entity = clearFieldsInternal(entity, fields);
-      entities.add(entity);
-    }
+    List<T> entities = JsonUtils.readObjects(jsons, entityClass);
+    setFieldsInBulkInternal(entities, fields);
+    entities.forEach(entity -> clearFieldsInternal(entity, fields));
     return entities;
   }
 
@@ -513,12 +584,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
     if (limitParam > 0) {
       // forward scrolling, if after == null then first page is being asked
       List<String> jsons = dao.listAfter(filter, limitParam + 1, after == null ? "" : RestUtil.decodeCursor(after));
-
-      for (String json : jsons) {
-        T entity = setFieldsInternal(JsonUtils.readValue(json, entityClass), fields);
-        entity = clearFieldsInternal(entity, fields);
-        entities.add(withHref(uriInfo, entity));
-      }
+      entities.addAll(JsonUtils.readObjects(jsons, entityClass));
+      setFieldsInBulkInternal(entities, fields);
+      entities.forEach(entity -> withHref(uriInfo, clearFieldsInternal(entity, fields)));
 
       String beforeCursor;
       String afterCursor = null;
@@ -564,16 +632,38 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
   }
 
-  public ResultList<T> listBefore(UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String before) {
-    // Reverse scrolling - Get one extra result used for computing before cursor
-    List<String> jsons = dao.listBefore(filter, limitParam + 1, RestUtil.decodeCursor(before));
-
+  /**
+   * List the entities with id greater than {@code after} and less than {@code before}, if given, in the order of id.
+   * Unlike offset based pagination, the cost of reading a page does not grow with the number of entities already read.
+   * The after cursor in the result is the id of the last entity read, and is null when there are no more entities.
+   */
+  public ResultList<T> listAfterIdWithSkipFailure(Fields fields, String after, String before, int limitParam) {
+    List<String> errors = new ArrayList<>();
     List<T> entities = new ArrayList<>();
+    List<String> jsons = dao.listAfterId(after, before, limitParam);
+    String lastId = after;
     for (String json : jsons) {
-      T entity = setFieldsInternal(JsonUtils.readValue(json, entityClass), fields);
-      entity = clearFieldsInternal(entity, fields);
-      entities.add(withHref(uriInfo, entity));
+      try {
+        T entity = JsonUtils.readValue(json, entityClass);
+        lastId = entity.getId().toString();
+        entity = setFieldsInternal(entity, fields);
+        entities.add(clearFieldsInternal(entity, fields));
+      } catch (Exception e) {
+        LOG.error("Failed in Set Fields for Entity with Json : {}", json);
+        lastId = JsonUtils.readTree(json).get("id").asText();
+        errors.add(json);
+      }
     }
+    String newAfter = jsons.size() < limitParam ? null : lastId;
+    return getResultList(entities, errors, after, newAfter, jsons.size());
+  }
+
+  public ResultList<T> listBefore(UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String before) {
+    // Reverse scrolling - Get one extra result used for computing before cursor
+    List<String> jsons = dao.listBefore(filter, limitParam + 1, RestUtil.decodeCursor(before));
+    List<T> entities = JsonUtils.readObjects(jsons, entityClass);
+    setFieldsInBulkInternal(entities, fields);
+    entities.forEach(entity -> withHref(uriInfo, clearFieldsInternal(entity, fields)));
     int total = dao.listCount(filter);
 
     String beforeCursor = null;
@@ -588,10 +678,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   public T getVersion(UUID id, String version) {
     Double requestedVersion = Double.parseDouble(version);
-    String extension = EntityUtil.getVersionExtension(entityType, requestedVersion);
 
     // Get previous version from version history
-    String json = daoCollection.entityExtensionDAO().getExtension(id.toString(), extension);
+    String json = historyStore.getVersion(entityType, id, requestedVersion);
     if (json != null) {
       return JsonUtils.readValue(json, entityClass);
     }
@@ -606,18 +695,61 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   public EntityHistory listVersions(UUID id) {
     T latest = setFieldsInternal(dao.findEntityById(id, ALL), putFields);
-    String extensionPrefix = EntityUtil.getVersionExtensionPrefix(entityType);
-    List<ExtensionRecord> records = daoCollection.entityExtensionDAO().getExtensions(id.toString(), extensionPrefix);
-    List<EntityVersionPair> oldVersions = new ArrayList<>();
-    records.forEach(r -> oldVersions.add(new EntityVersionPair(r)));
-    oldVersions.sort(EntityUtil.compareVersion.reversed());
+    List<Double> oldVersions = historyStore.listVersions(entityType, id);
 
     final List<Object> allVersions = new ArrayList<>();
     allVersions.add(JsonUtils.pojoToJson(latest));
-    oldVersions.forEach(version -> allVersions.add(version.getEntityJson()));
+    allVersions.addAll(historyStore.getVersions(entityType, id, oldVersions));
     return new EntityHistory().withEntityType(entityType).withVersions(allVersions);
   }
 
+  /**
+   * List a page of the versions of an entity from the latest to the oldest. Only the versions in the page are read from
+   * the version history. The {@code after} cursor is the version before which the page starts.
+   */
+  public EntityHistory listVersions(UUID id, int limit, String after) {
+    T latest = setFieldsInternal(dao.findEntityById(id, ALL), putFields);
+    List<Double> oldVersions = historyStore.listVersions(entityType, id);
+    int total = oldVersions.size() + 1;
+
+    Double afterVersion = after == null ? null : decodeVersionCursor(after);
+    final List<Object> versions = new ArrayList<>();
+    if (afterVersion == null) {
+      versions.add(JsonUtils.pojoToJson(latest));
+    }
+    List<Double> pageVersions =
+        oldVersions.stream()
+            .filter(v -> afterVersion == null || v < afterVersion)
+            .limit(Math.max(0, limit - versions.size()))
+            .collect(Collectors.toList());
+    versions.addAll(historyStore.getVersions(entityType, id, pageVersions));
+
+    Double lastVersion;
+    if (!pageVersions.isEmpty()) {
+      lastVersion = pageVersions.get(pageVersions.size() - 1);
+    } else {
+      lastVersion = afterVersion == null ? latest.getVersion() : afterVersion;
+    }
+    boolean hasMore = !versions.isEmpty() && oldVersions.stream().anyMatch(v -> v < lastVersion);
+    String afterCursor = hasMore ? RestUtil.encodeCursor(String.valueOf(lastVersion)) : null;
+    return new EntityHistory()
+        .withEntityType(entityType)
+        .withVersions(versions)
+        .withPaging(new Paging().withAfter(afterCursor).withTotal(total));
+  }
+
+  private static Double decodeVersionCursor(String after) {
+    try {
+      double version = Double.parseDouble(RestUtil.decodeCursor(after));
+      if (Double.isFinite(version)) {
+        return version;
+      }
+    } catch (IllegalArgumentException e) {
+      // Not a base64 encoded version, handled below
+    }
+    throw new IllegalArgumentException(String.format("Invalid after cursor %s", after));
+  }
+
   public final T create(UriInfo uriInfo, T entity) {
     entity = withHref(uriInfo, createInternal(entity));
     return entity;
@@ -662,6 +794,71 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return entity;
   }
 
+  /**
+   * Set the requested fields for a list of entities, typically a page of results from list operations. Relational
+   * fields common to all the entities such as owner, tags, followers, domain, dataProducts, and extension are loaded
+   * with a single query per field for the whole list instead of a query per entity. Entity specific fields are set
+   * using {@link #setFieldsInBulk(List, Fields)}.
+   */
+  public List<T> setFieldsInBulkInternal(List<T> entities, Fields fields) {
+    if (entities.isEmpty()) {
+      return entities;
+    }
+    List<UUID> ids = entities.stream().map(EntityInterface::getId).collect(Collectors.toList());
+    if (fields.contains(FIELD_OWNER)) {
+      Map<UUID, EntityReference> owners = supportsOwner ? getFromEntityRefs(ids, Relationship.OWNS, null) : Map.of();
+      entities.forEach(entity -> entity.setOwner(owners.get(entity.getId())));
+    }
+    if (fields.contains(FIELD_TAGS)) {
+      Map<String, List<TagLabel>> tags =
+          getTagsByTargetFQN(
+              entities.stream().map(EntityInterface::getFullyQualifiedName).collect(Collectors.toList()));
+      entities.forEach(
+          entity ->
+              entity.setTags(
+                  supportsTags ? tags.getOrDefault(entity.getFullyQualifiedName(), new ArrayList<>()) : null));
+    }
+    if (fields.contains(FIELD_EXTENSION)) {
+      Map<UUID, Object> extensions = getExtensions(ids);
+      entities.forEach(entity -> entity.setExtension(extensions.get(entity.getId())));
+    }
+    if (fields.contains(FIELD_DOMAIN)) {
+      Map<UUID, EntityReference> domains = getFromEntityRefs(ids, Relationship.HAS, DOMAIN);
+      entities.forEach(entity -> entity.setDomain(domains.get(entity.getId())));
+    }
+    if (fields.contains(FIELD_DATA_PRODUCTS)) {
+      Map<UUID, List<EntityReference>> dataProducts =
+          supportsDataProducts ? findFromRefs(ids, Relationship.HAS, DATA_PRODUCT) : Map.of();
+      entities.forEach(
+          entity ->
+              entity.setDataProducts(
+                  supportsDataProducts ? dataProducts.getOrDefault(entity.getId(), new ArrayList<>()) : null));
+    }
+    if (fields.contains(FIELD_FOLLOWERS)) {
+      Map<UUID, List<EntityReference>> followers =
+          supportsFollower ? findFromRefs(ids, Relationship.FOLLOWS, Entity.USER) : Map.of();
+      entities.forEach(entity -> entity.setFollowers(followers.getOrDefault(entity.getId(), new ArrayList<>())));
+    }
+    for (T entity : entities) {
+      entity.setChildren(fields.contains(FIELD_CHILDREN) ? getChildren(entity) : entity.getChildren());
+      entity.setExperts(fields.contains(FIELD_EXPERTS) ? getExperts(entity) : entity.getExperts());
+      entity.setReviewers(fields.contains(FIELD_REVIEWERS) ? getReviewers(entity) : entity.getReviewers());
+      entity.setVotes(fields.contains(FIELD_VOTES) ? getVotes(entity) : entity.getVotes());
+    }
+    setFieldsInBulk(entities, fields);
+    return entities;
+  }
+
+  /**
+   * Set the entity specific fields for a list of entities. Override this method to load fields for all the entities
+   * together instead of loading them one entity at a time using {@link #setFields(EntityInterface, Fields)}.
+   *
+   * @see TableRepository#setFieldsInBulk(List, Fields) for an example implementation
+   */
+  protected void setFieldsInBulk(List<T> entities, Fields fields) {
+    entities.forEach(entity -> setFields(entity, fields));
+  }
+
   public T clearFieldsInternal(T entity, Fields fields) {
     entity.setOwner(fields.contains(FIELD_OWNER) ? entity.getOwner() : null);
     entity.setTags(fields.contains(FIELD_TAGS) ? entity.getTags() : null);
@@ -922,6 +1119,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
     // Delete all the relationships to other entities
     daoCollection.relationshipDAO().deleteAll(id, entityType);
+    TeamHierarchyIndex.entityDeleted(entityType, entityInterface.getId());
 
     // Delete all the field relationships to other entities
     daoCollection.fieldRelationshipDAO().deleteAllByPrefix(entityInterface.getFullyQualifiedName());
@@ -950,9 +1148,45 @@ public abstract class EntityRepository<T extends EntityInterface> {
     dao.delete(id);
   }
 
-  private void invalidate(T entity) {
+  /** Remove the entity from the caches after its JSON is changed without going through {@link #storeEntity} */
+  protected void invalidate(T entity) {
+    invalidateCaches(
+        new EntityReference()
+            .withType(entityType)
+            .withId(entity.getId())
+            .withName(entity.getName())
+            .withFullyQualifiedName(entity.getFullyQualifiedName()));
+  }
+
+  /**
+   * Remove the entity from the caches of this server, and publish the invalidation to the other servers. The caches are
+   * invalidated again once the transaction completes, as a concurrent request may cache the entity it reads before the
+   * change is committed.
+   */
+  public static void invalidateCaches(EntityReference entity) {
+    invalidateLocalCaches(entity);
+    CacheInvalidationBus.publish(CacheInvalidationBus.ENTITY, JsonUtils.pojoToJson(entity));
+    JdbiTransactionManager.afterCompletion(() -> invalidateLocalCaches(entity));
+  }
+
+  /** Invalidate the entities in the caches of this server when they are changed by the other servers */
+  public static void registerCacheInvalidation(CacheInvalidationBus bus) {
+    bus.register(
+        CacheInvalidationBus.ENTITY, json -> invalidateLocalCaches(JsonUtils.readValue(json, EntityReference.class)));
+  }
+
+  private static void invalidateLocalCaches(EntityReference entity) {
+    String entityType = entity.getType();
     CACHE_WITH_ID.invalidate(new ImmutablePair<>(entityType, entity.getId()));
-    CACHE_WITH_NAME.invalidate(new ImmutablePair<>(entityType, entity.getFullyQualifiedName()));
+    EntityReferenceCache.invalidate(entityType, entity.getId());
+    if (entity.getFullyQualifiedName() != null) {
+      CACHE_WITH_NAME.invalidate(new ImmutablePair<>(entityType, entity.getFullyQualifiedName()));
+    }
+    SubjectCache.invalidate(entityType, entity.getName(), entity.getFullyQualifiedName());
+    TagLabelCache.invalidate(entityType, entity.getFullyQualifiedName());
+    if (Entity.EVENT_SUBSCRIPTION.equals(entityType)) {
+      ActivityFeedAlertCache.invalidate(entity.getName());
+    }
   }
 
   public PutResponse<T> deleteFollower(String updatedBy, UUID entityId, UUID userId) {
@@ -1026,6 +1260,8 @@ public abstract class EntityRepository<T extends EntityInterface> {
     } else {
       dao.insert(entity, entity.getFullyQualifiedName());
       LOG.info("Created {}:{}:{}", entityType, entity.getId(), entity.getFullyQualifiedName());
+      // New team or role changes the context of its users, and labels may be cached for a renamed tag of the same name
+      invalidate(entity);
     }
 
     // Restore the relationships
@@ -1224,6 +1460,90 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return !supportsTags ? null : daoCollection.tagUsageDAO().getTags(fqn);
   }
 
+  /** Get tags for a list of entities or fields identified by {@code targetFQNs} keyed by the target FQN */
+  protected Map<String, List<TagLabel>> getTagsByTargetFQN(List<String> targetFQNs) {
+    if (!supportsTags || targetFQNs.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> targetFQNByHash = new HashMap<>();
+    targetFQNs.forEach(targetFQN -> targetFQNByHash.put(FullyQualifiedName.buildHash(targetFQN), targetFQN));
+    Map<String, List<TagLabel>> tags = new HashMap<>();
+    for (List<String> batch : Lists.partition(new ArrayList<>(targetFQNByHash.keySet()), BULK_QUERY_BATCH_SIZE)) {
+      daoCollection
+          .tagUsageDAO()
+          .getTagsByTargetFQNHash(batch)
+          .forEach((targetFQNHash, tagLabels) -> tags.put(targetFQNByHash.get(targetFQNHash), tagLabels));
+    }
+    return tags;
+  }
+
+  private Map<UUID, Object> getExtensions(Collection<UUID> ids) {
+    if (!supportsExtension) {
+      return Collections.emptyMap();
+    }
+    String fieldFQNPrefix = TypeRegistry.getCustomPropertyFQNPrefix(entityType);
+    Map<UUID, Object> extensions = new HashMap<>();
+    for (List<String> batch : Lists.partition(toStrings(ids), BULK_QUERY_BATCH_SIZE)) {
+      for (ExtensionRecordWithId extensionRecord :
+          daoCollection.entityExtensionDAO().getExtensionsBatch(batch, fieldFQNPrefix)) {
+        ObjectNode objectNode =
+            (ObjectNode) extensions.computeIfAbsent(extensionRecord.getId(), k -> JsonUtils.getObjectNode());
+        String fieldName = TypeRegistry.getPropertyName(extensionRecord.getExtensionName());
+        objectNode.set(fieldName, JsonUtils.readTree(extensionRecord.getExtensionJson()));
+      }
+    }
+    return extensions;
+  }
+
+  /**
+   * Find entity references {@code fromEntityType} --- relationship ---> {@code entityType:toIds} keyed by toId. When
+   * fromEntityType is null, relationships from any entity are returned.
+   */
+  protected Map<UUID, List<EntityReference>> findFromRefs(
+      Collection<UUID> toIds, Relationship relationship, String fromEntityType) {
+    Map<UUID, List<EntityReference>> refs = new HashMap<>();
+    for (EntityRelationshipObject relation : findFromRecords(toIds, relationship, fromEntityType)) {
+      refs.computeIfAbsent(UUID.fromString(relation.getToId()), k -> new ArrayList<>())
+          .add(Entity.getEntityReferenceById(relation.getFromEntity(), UUID.fromString(relation.getFromId()), ALL));
+    }
+    refs.values().forEach(list -> list.sort(EntityUtil.compareEntityReference));
+    return refs;
+  }
+
+  /** Same as {@link #getFromEntityRef(UUID, Relationship, String, boolean)} for a list of entities keyed by toId */
+  protected Map<UUID, EntityReference> getFromEntityRefs(
+      Collection<UUID> toIds, Relationship relationship, String fromEntityType) {
+    Map<UUID, EntityReference> refs = new HashMap<>();
+    for (EntityRelationshipObject relation : findFromRecords(toIds, relationship, fromEntityType)) {
+      UUID toId = UUID.fromString(relation.getToId());
+      if (refs.containsKey(toId)) {
+        LOG.warn("Possible database issues - multiple relations {} for entity {}:{}", relationship, entityType, toId);
+        continue;
+      }
+      refs.put(
+          toId, Entity.getEntityReferenceById(relation.getFromEntity(), UUID.fromString(relation.getFromId()), ALL));
+    }
+    return refs;
+  }
+
+  private List<EntityRelationshipObject> findFromRecords(
+      Collection<UUID> toIds, Relationship relationship, String fromEntityType) {
+    List<EntityRelationshipObject> records = new ArrayList<>();
+    for (List<String> batch : Lists.partition(toStrings(toIds), BULK_QUERY_BATCH_SIZE)) {
+      records.addAll(
+          fromEntityType == null
+              ? daoCollection.relationshipDAO().findFromBatch(batch, entityType, relationship.ordinal())
+              : daoCollection
+                  .relationshipDAO()
+                  .findFromBatch(batch, entityType, relationship.ordinal(), fromEntityType));
+    }
+    return records;
+  }
+
+  private static List<String> toStrings(Collection<UUID> ids) {
+    return ids.stream().map(UUID::toString).collect(Collectors.toList());
+  }
+
   protected List<EntityReference> getFollowers(T entity) {
     return !supportsFollower || entity == null
         ? Collections.emptyList()
@@ -1238,10 +1558,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
     List<EntityReference> downVoters = new ArrayList<>();
     List<EntityRelationshipRecord> records =
         findFromRecords(entity.getId(), entityType, Relationship.VOTED, Entity.USER);
-    for (EntityRelationshipRecord entityRelationshipRecord : records) {
-      VoteRequest.VoteType type;
-      type = JsonUtils.readValue(entityRelationshipRecord.getJson(), VoteRequest.VoteType.class);
-      EntityReference user = Entity.getEntityReferenceById(Entity.USER, entityRelationshipRecord.getId(), ALL);
+    List<EntityReference> voters =
+        Entity.getEntityReferencesByIds(
+            Entity.USER, records.stream().map(EntityRelationshipRecord::getId).collect(Collectors.toList()), ALL);
+    for (int i = 0; i < records.size(); i++) {
+      VoteRequest.VoteType type = JsonUtils.readValue(records.get(i).getJson(), VoteRequest.VoteType.class);
+      EntityReference user = voters.get(i);
       if (type == VoteRequest.VoteType.VOTED_UP) {
         upVoters.add(user);
       } else if (type == VoteRequest.VoteType.VOTED_DOWN) {
@@ -1317,6 +1639,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
       to = fromId;
     }
     daoCollection.relationshipDAO().insert(from, to, fromEntity, toEntity, relationship.ordinal(), json);
+    TeamHierarchyIndex.relationshipAdded(fromEntity, from, toEntity, to, relationship);
   }
 
   public final void bulkAddToRelationship(
@@ -1324,6 +1647,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
     daoCollection
         .relationshipDAO()
         .bulkInsertToRelationship(fromId, toId, fromEntity, toEntity, relationship.ordinal());
+    toId.forEach(id -> TeamHierarchyIndex.relationshipAdded(fromEntity, fromId, toEntity, id, relationship));
   }
 
   public List<EntityReference> findBoth(UUID entity1, String entityType1, Relationship relationship, String entity2) {
@@ -1408,15 +1732,18 @@ public abstract class EntityRepository<T extends EntityInterface> {
     daoCollection
         .relationshipDAO()
         .delete(fromId.toString(), fromEntityType, toId.toString(), toEntityType, relationship.ordinal());
+    TeamHierarchyIndex.relationshipDeleted(fromEntityType, fromId, toEntityType, toId, relationship);
   }
 
   public void deleteTo(UUID toId, String toEntityType, Relationship relationship, String fromEntityType) {
     daoCollection.relationshipDAO().deleteTo(toId.toString(), toEntityType, relationship.ordinal(), fromEntityType);
+    TeamHierarchyIndex.relationshipDeleted(fromEntityType, null, toEntityType, toId, relationship);
   }
 
   public void deleteFrom(UUID fromId, String fromEntityType, Relationship relationship, String toEntityType) {
     // Remove relationships from original
     daoCollection.relationshipDAO().deleteFrom(fromId.toString(), fromEntityType, relationship.ordinal(), toEntityType);
+    TeamHierarchyIndex.relationshipDeleted(fromEntityType, fromId, toEntityType, null, relationship);
   }
 
   public void validateUsers(List<EntityReference> entityReferences) {
@@ -2021,10 +2348,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
       origList = listOrEmpty(origList);
       updatedList = listOrEmpty(updatedList);
       List<K> updatedItems = new ArrayList<>();
+      UnaryOperator<K> findUpdated = EntityUtil.matcher(updatedList, typeMatch);
+      UnaryOperator<K> findStored = EntityUtil.matcher(origList, typeMatch);
 
       for (K stored : origList) {
         // If an entry in the original list is not in updated list, then it is deleted during update
-        K u = updatedList.stream().filter(c -> typeMatch.test(c, stored)).findAny().orElse(null);
+        K u = findUpdated.apply(stored);
         if (u == null) {
           deletedItems.add(stored);
         }
@@ -2032,7 +2361,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
       for (K U : updatedList) {
         // If an entry in the updated list is not in original list, then it is added during update
-        K stored = origList.stream().filter(c -> typeMatch.test(c, U)).findAny().orElse(null);
+        K stored = findStored.apply(U);
         if (stored == null) { // New entry added
           addedItems.add(U);
         } else if (!typeMatch.test(stored, U)) {
@@ -2165,10 +2494,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
 
     private void storeOldVersion() {
-      String extensionName = EntityUtil.getVersionExtension(entityType, original.getVersion());
-      daoCollection
-          .entityExtensionDAO()
-          .insert(original.getId().toString(), extensionName, entityType, JsonUtils.pojoToJson(original));
+      historyStore.storeVersion(entityType, original.getId(), original.getVersion(), JsonUtils.pojoToJson(original));
     }
 
     private void storeNewVersion() {
@@ -2221,9 +2547,10 @@ public abstract class EntityRepository<T extends EntityInterface> {
       }
 
       // Carry forward the user generated metadata from existing columns to new columns
+      UnaryOperator<Column> findStored = EntityUtil.matcher(origColumns, columnMatch);
       for (Column updated : updatedColumns) {
         // Find stored column matching name, data type and ordinal position
-        Column stored = origColumns.stream().filter(c -> columnMatch.test(c, updated)).findAny().orElse(null);
+        Column stored = findStored.apply(updated);
         if (stored == null) { // New column added
           continue;
         }
@@ -2307,26 +2634,6 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
   }
 
-  static class EntityLoaderWithName extends CacheLoader<Pair<String, String>, EntityInterface> {
-    @Override
-    public EntityInterface load(@CheckForNull Pair<String, String> fqnPair) throws IOException {
-      String entityType = fqnPair.getLeft();
-      String fqn = fqnPair.getRight();
-      EntityRepository<? extends EntityInterface> repository = Entity.getEntityRepository(entityType);
-      return repository.getDao().findEntityByName(fqn, ALL);
-    }
-  }
-
-  static class EntityLoaderWithId extends CacheLoader<Pair<String, UUID>, EntityInterface> {
-    @Override
-    public EntityInterface load(@NotNull Pair<String, UUID> idPair) throws IOException {
-      String entityType = idPair.getLeft();
-      UUID id = idPair.getRight();
-      EntityRepository<? extends EntityInterface> repository = Entity.getEntityRepository(entityType);
-      return repository.getDao().findEntityById(id, ALL);
-    }
-  }
-
   public static class DescriptionTaskWorkflow extends TaskWorkflow {
     DescriptionTaskWorkflow(ThreadContext threadContext) {
       super(threadContext);
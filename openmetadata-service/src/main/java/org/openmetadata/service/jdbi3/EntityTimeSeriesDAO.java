@@ -5,18 +5,27 @@ import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.config.KeyColumn;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.config.ValueColumn;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.openmetadata.schema.analytics.ReportData;
+import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlBatch;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlUpdate;
+import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.jdbi.BindFQN;
 
@@ -60,6 +69,33 @@ public interface EntityTimeSeriesDAO {
     insert(getTimeSeriesTableName(), entityFQNHash, extension, jsonSchema, json);
   }
 
+  @SqlBatch
+  @ConnectionAwareSqlBatch(
+      value =
+          "INSERT INTO <table>(entityFQNHash, extension, jsonSchema, json) "
+              + "VALUES (:entityFQNHash, :extension, :jsonSchema, :json)",
+      connectionType = MYSQL)
+  @ConnectionAwareSqlBatch(
+      value =
+          "INSERT INTO <table>(entityFQNHash, extension, jsonSchema, json) "
+              + "VALUES (:entityFQNHash, :extension, :jsonSchema, (:json :: jsonb))",
+      connectionType = POSTGRES)
+  void insertBatch(
+      @Define("table") String table,
+      @Bind("entityFQNHash") List<String> entityFQNHashes,
+      @Bind("extension") String extension,
+      @Bind("jsonSchema") String jsonSchema,
+      @Bind("json") List<String> jsons);
+
+  /** Insert the records of the given entities with the same extension in a single JDBC batch */
+  default void insertBatch(List<String> entityFQNs, String extension, String jsonSchema, List<String> jsons) {
+    if (entityFQNs.isEmpty()) {
+      return;
+    }
+    List<String> entityFQNHashes = entityFQNs.stream().map(FullyQualifiedName::buildHash).collect(Collectors.toList());
+    insertBatch(getTimeSeriesTableName(), entityFQNHashes, extension, jsonSchema, jsons);
+  }
+
   @ConnectionAwareSqlUpdate(
       value =
           "UPDATE <table> set json = :json where entityFQNHash=:entityFQNHash and extension=:extension and timestamp=:timestamp",
@@ -159,27 +195,6 @@ public interface EntityTimeSeriesDAO {
     return getExtensionAtTimestamp(getTimeSeriesTableName(), entityFQNHash, extension, timestamp);
   }
 
-  @ConnectionAwareSqlQuery(
-      value =
-          "SELECT json FROM <table> WHERE entityFQNHash = :entityFQNHash AND extension = :extension AND timestamp = :timestamp AND json -> '$.operation' = :operation",
-      connectionType = MYSQL)
-  @ConnectionAwareSqlQuery(
-      value =
-          "SELECT json FROM <table> WHERE entityFQNHash = :entityFQNHash AND extension = :extension AND timestamp = :timestamp AND json #>>'{operation}' = :operation",
-      connectionType = POSTGRES)
-  String getExtensionAtTimestampWithOperation(
-      @Define("table") String table,
-      @BindFQN("entityFQNHash") String entityFQNHash,
-      @Bind("extension") String extension,
-      @Bind("timestamp") long timestamp,
-      @Bind("operation") String operation);
-
-  default String getExtensionAtTimestampWithOperation(
-      String entityFQNHash, String extension, long timestamp, String operation) {
-    return getExtensionAtTimestampWithOperation(
-        getTimeSeriesTableName(), entityFQNHash, extension, timestamp, operation);
-  }
-
   @SqlQuery(
       "SELECT json FROM <table> WHERE entityFQNHash = :entityFQNHash AND extension = :extension "
           + "ORDER BY timestamp DESC LIMIT 1")
@@ -193,15 +208,30 @@ public interface EntityTimeSeriesDAO {
   }
 
   @SqlQuery(
-      "SELECT ranked.json FROM (SELECT json, ROW_NUMBER() OVER(PARTITION BY entityFQNHash ORDER BY timestamp DESC) AS row_num "
+      "SELECT ranked.entityFQNHash, ranked.json FROM (SELECT entityFQNHash, json, "
+          + "ROW_NUMBER() OVER(PARTITION BY entityFQNHash ORDER BY timestamp DESC) AS row_num "
           + "FROM <table> WHERE entityFQNHash IN (<entityFQNHashes>) AND extension = :extension) ranked WHERE ranked.row_num = 1")
-  List<String> getLatestExtensionByFQNs(
+  @KeyColumn("entityFQNHash")
+  @ValueColumn("json")
+  Map<String, String> getLatestExtensionByFQNs(
       @Define("table") String table,
       @BindList("entityFQNHashes") List<String> entityFQNHashes,
       @Bind("extension") String extension);
 
-  default List<String> getLatestExtensionByFQNs(List<String> entityFQNHashes, String extension) {
-    return getLatestExtensionByFQNs(getTimeSeriesTableName(), entityFQNHashes, extension);
+  /**
+   * Get the latest record with the given extension of each of the entities in a single query. Returns the JSON of the
+   * records by entity FQN, without the entities that have no record.
+   */
+  default Map<String, String> getLatestExtensionByFQNs(List<String> entityFQNs, String extension) {
+    Map<String, String> jsons = new HashMap<>();
+    if (entityFQNs.isEmpty()) {
+      return jsons;
+    }
+    Map<String, String> fqnsByHash = new HashMap<>();
+    entityFQNs.forEach(fqn -> fqnsByHash.put(FullyQualifiedName.buildHash(fqn), fqn));
+    getLatestExtensionByFQNs(getTimeSeriesTableName(), new ArrayList<>(fqnsByHash.keySet()), extension)
+        .forEach((hash, json) -> jsons.put(fqnsByHash.get(hash), json));
+    return jsons;
   }
 
   @SqlQuery("SELECT json FROM <table> WHERE extension = :extension " + "ORDER BY timestamp DESC LIMIT 1")
@@ -393,21 +423,6 @@ public interface EntityTimeSeriesDAO {
     return getLatestExtensionByKeyInternal(getTimeSeriesTableName(), value, entityFQN, extension, mysqlCond, psqlCond);
   }
 
-  default void storeTimeSeriesWithOperation(
-      String fqn,
-      String extension,
-      String jsonSchema,
-      String entityJson,
-      Long timestamp,
-      String operation,
-      boolean update) {
-    if (update) {
-      updateExtensionByOperation(fqn, extension, entityJson, timestamp, operation);
-    } else {
-      insert(fqn, extension, jsonSchema, entityJson);
-    }
-  }
-
   /** @deprecated */
   @SqlQuery("SELECT DISTINCT entityFQN FROM <table> WHERE entityFQNHash = '' or entityFQNHash is null LIMIT :limit")
   @Deprecated(since = "1.1.1")
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import io.dropwizard.lifecycle.Managed;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Converts the version history stored as full entity JSON into deltas in the background. The entities with versions are
+ * walked in the order of id a batch at a time, pausing after each batch for at least as long as the batch took, so that
+ * the compaction uses at most half of a connection. Once all the entities are compacted, the next pass starts a day
+ * later to convert the history written as full JSON in the meantime, such as by the servers of an older release during
+ * an upgrade.
+ */
+@Slf4j
+public class EntityVersionCompactor implements Managed {
+  static final int BATCH_SIZE = 100;
+  private static final long MIN_BATCH_DELAY_MILLIS = 1000;
+  private static final long START_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  private static final long PASS_DELAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+  private final CollectionDAO daoCollection;
+  private final EntityHistoryStore historyStore;
+  private ScheduledExecutorService scheduler;
+
+  // Id of the last entity compacted in the current pass
+  private String after = "";
+  private long converted;
+
+  public EntityVersionCompactor(CollectionDAO daoCollection) {
+    this.daoCollection = daoCollection;
+    this.historyStore = new EntityHistoryStore(daoCollection);
+  }
+
+  @Override
+  public void start() {
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "entity-version-compactor");
+              thread.setDaemon(true);
+              thread.setPriority(Thread.MIN_PRIORITY);
+              return thread;
+            });
+    scheduler.schedule(this::run, START_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private void run() {
+    long delay;
+    try {
+      long start = System.currentTimeMillis();
+      boolean passCompleted = compactBatch();
+      delay = passCompleted ? PASS_DELAY_MILLIS : Math.max(MIN_BATCH_DELAY_MILLIS, System.currentTimeMillis() - start);
+    } catch (Exception e) {
+      // Retry the batch later, for example once the database is reachable again
+      LOG.error("Failed to compact the entity version history", e);
+      delay = START_DELAY_MILLIS;
+    }
+    if (!scheduler.isShutdown()) {
+      scheduler.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Compact the version history of the next batch of entities. Returns true when the batch completes the pass over all
+   * the entities, after which the next batch starts a new pass.
+   */
+  boolean compactBatch() {
+    List<String> ids = daoCollection.entityExtensionDAO().listIdsWithVersions(after, BATCH_SIZE);
+    for (String id : ids) {
+      converted += compact(id);
+    }
+    if (ids.size() < BATCH_SIZE) {
+      LOG.info("Converted {} entity version records to deltas", converted);
+      after = "";
+      converted = 0;
+      return true;
+    }
+    after = ids.get(ids.size() - 1);
+    return false;
+  }
+
+  private int compact(String id) {
+    try {
+      return historyStore.compact(UUID.fromString(id));
+    } catch (Exception e) {
+      // Leave the history of the entity as is and continue with the other entities
+      LOG.warn("Failed to compact the version history of entity {}", id, e);
+      return 0;
+    }
+  }
+}
@@ -98,7 +98,7 @@ public class EventSubscriptionRepository extends EntityRepository<EventSubscript
     updated.withId(original.getId()).withName(original.getName());
   }
 
-  private SubscriptionPublisher getPublisher(UUID id) {
+  public static SubscriptionPublisher getPublisher(UUID id) {
     return subscriptionPublisherMap.get(id);
   }
 
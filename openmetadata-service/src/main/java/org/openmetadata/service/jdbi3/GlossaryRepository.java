@@ -37,7 +37,6 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.CSVRecord;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openmetadata.csv.CsvUtil;
 import org.openmetadata.csv.EntityCsv;
 import org.openmetadata.schema.EntityInterface;
@@ -303,15 +302,15 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
             .tagUsageDAO()
             .updateTagPrefix(TagSource.GLOSSARY.ordinal(), original.getName(), updated.getName());
         recordChange("name", original.getName(), updated.getName());
-        invalidateGlossary(original.getId());
+        invalidateGlossary(original);
       }
     }
 
-    public void invalidateGlossary(UUID classificationId) {
-      // Glossary name changed. Invalidate the glossary and its children terms
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(GLOSSARY, classificationId));
+    public void invalidateGlossary(Glossary original) {
+      // Glossary name changed. Invalidate the glossary by its old name and its children terms
+      invalidate(original);
       List<EntityRelationshipRecord> tags =
-          findToRecords(classificationId, GLOSSARY, Relationship.CONTAINS, GLOSSARY_TERM);
+          findToRecords(original.getId(), GLOSSARY, Relationship.CONTAINS, GLOSSARY_TERM);
       for (EntityRelationshipRecord tagRecord : tags) {
         invalidateTerms(tagRecord.getId());
       }
@@ -321,7 +320,7 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
       // The name of the glossary changed or parent changed. Invalidate that tag and all the children from the cache
       List<EntityRelationshipRecord> tagRecords =
           findToRecords(termId, GLOSSARY_TERM, Relationship.CONTAINS, GLOSSARY_TERM);
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(GLOSSARY_TERM, termId));
+      invalidateCaches(new EntityReference().withType(GLOSSARY_TERM).withId(termId));
       for (EntityRelationshipRecord tagRecord : tagRecords) {
         invalidateTerms(tagRecord.getId());
       }
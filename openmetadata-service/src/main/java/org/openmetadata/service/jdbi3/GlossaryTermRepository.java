@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.data.TermReference;
 import org.openmetadata.schema.entity.data.Glossary;
@@ -335,7 +334,7 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
             .tagUsageDAO()
             .rename(TagSource.GLOSSARY.ordinal(), original.getFullyQualifiedName(), updated.getFullyQualifiedName());
         recordChange("name", original.getName(), updated.getName());
-        invalidateTerm(original.getId());
+        invalidateTerm(original);
       }
     }
 
@@ -356,13 +355,13 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
       if (glossaryChanged) {
         updateGlossaryRelationship(original, updated);
         recordChange("glossary", original.getGlossary(), updated.getGlossary(), true, entityReferenceMatch);
-        invalidateTerm(original.getId());
+        invalidateTerm(original);
       }
       if (parentChanged) {
         updateGlossaryRelationship(original, updated);
         updateParentRelationship(original, updated);
         recordChange("parent", original.getParent(), updated.getParent(), true, entityReferenceMatch);
-        invalidateTerm(original.getId());
+        invalidateTerm(original);
       }
     }
 
@@ -396,11 +395,20 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
       }
     }
 
+    private void invalidateTerm(GlossaryTerm original) {
+      // The name or the parent of the glossary term changed. Invalidate the term by its old name and all the children
+      invalidate(original);
+      for (EntityRelationshipRecord termRecord :
+          findToRecords(original.getId(), GLOSSARY_TERM, Relationship.CONTAINS, GLOSSARY_TERM)) {
+        invalidateTerm(termRecord.getId());
+      }
+    }
+
     private void invalidateTerm(UUID termId) {
       // The name of the glossary term changed or parent change. Invalidate that tag and all the children from the cache
       List<EntityRelationshipRecord> tagRecords =
           findToRecords(termId, GLOSSARY_TERM, Relationship.CONTAINS, GLOSSARY_TERM);
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(GLOSSARY_TERM, termId));
+      invalidateCaches(new EntityReference().withType(GLOSSARY_TERM).withId(termId));
       for (EntityRelationshipRecord tagRecord : tagRecords) {
         invalidateTerm(tagRecord.getId());
       }
@@ -13,10 +13,18 @@
 
 package org.openmetadata.service.jdbi3;
 
+import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openmetadata.api.configuration.LineageConfiguration;
 import org.openmetadata.schema.ColumnsEntityInterface;
 import org.openmetadata.schema.api.lineage.AddLineage;
 import org.openmetadata.schema.entity.data.Table;
@@ -28,17 +36,26 @@ import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.LineageDetails;
 import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.service.Entity;
-import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.service.util.FullyQualifiedName;
 import org.openmetadata.service.util.JsonUtils;
 
 public class LineageRepository {
   private final CollectionDAO dao;
+  private int maxNodes = new LineageConfiguration().getMaxNodes();
+  private int maxEdges = new LineageConfiguration().getMaxEdges();
 
   public LineageRepository(CollectionDAO dao) {
     this.dao = dao;
   }
 
+  public void initialize(LineageConfiguration config) {
+    if (config != null) {
+      maxNodes = config.getMaxNodes();
+      maxEdges = config.getMaxEdges();
+    }
+  }
+
   public EntityLineage get(String entityType, String id, int upstreamDepth, int downstreamDepth) {
     EntityReference ref = Entity.getEntityReferenceById(entityType, UUID.fromString(id), Include.NON_DELETED);
     return getLineage(ref, upstreamDepth, downstreamDepth);
@@ -72,9 +89,19 @@ public class LineageRepository {
     // Validate lineage details
     String detailsJson = validateLineageDetails(from, to, addLineage.getEdge().getLineageDetails());
 
-    // Finally, add lineage relationship
+    // Finally, add lineage relationship along with the pipeline id used for looking up the lineage of a pipeline
+    LineageDetails details = addLineage.getEdge().getLineageDetails();
+    String pipelineId =
+        details != null && details.getPipeline() != null ? details.getPipeline().getId().toString() : null;
     dao.relationshipDAO()
-        .insert(from.getId(), to.getId(), from.getType(), to.getType(), Relationship.UPSTREAM.ordinal(), detailsJson);
+        .insertLineage(
+            from.getId().toString(),
+            to.getId().toString(),
+            from.getType(),
+            to.getType(),
+            Relationship.UPSTREAM.ordinal(),
+            detailsJson,
+            pipelineId);
   }
 
   private String validateLineageDetails(EntityReference from, EntityReference to, LineageDetails details) {
@@ -136,80 +163,137 @@ public class LineageRepository {
   }
 
   private EntityLineage getLineage(EntityReference primary, int upstreamDepth, int downstreamDepth) {
-    List<EntityReference> entities = new ArrayList<>();
-    EntityLineage lineage =
-        new EntityLineage()
-            .withEntity(primary)
-            .withNodes(entities)
-            .withUpstreamEdges(new ArrayList<>())
-            .withDownstreamEdges(new ArrayList<>());
-    getUpstreamLineage(primary.getId(), primary.getType(), lineage, upstreamDepth);
-    getDownstreamLineage(primary.getId(), primary.getType(), lineage, downstreamDepth);
-
-    // Remove duplicate nodes
-    lineage.withNodes(lineage.getNodes().stream().distinct().collect(Collectors.toList()));
-    return lineage;
+    LineageGraph graph = new LineageGraph(primary);
+    addLineage(graph, primary, upstreamDepth, true);
+    addLineage(graph, primary, downstreamDepth, false);
+    return new EntityLineage()
+        .withEntity(primary)
+        .withNodes(getNodeReferences(graph.nodes))
+        .withUpstreamEdges(graph.upstreamEdges)
+        .withDownstreamEdges(graph.downstreamEdges)
+        .withTruncated(graph.truncated);
   }
 
-  private void getUpstreamLineage(UUID id, String entityType, EntityLineage lineage, int upstreamDepth) {
-    if (upstreamDepth == 0) {
-      return;
-    }
-    List<EntityRelationshipRecord> records;
-    // pipeline information is not maintained
-    if (entityType.equals(Entity.PIPELINE) || entityType.equals(Entity.STORED_PROCEDURE)) {
-      records = dao.relationshipDAO().findFromPipleine(id.toString(), Relationship.UPSTREAM.ordinal());
-    } else {
-      records = dao.relationshipDAO().findFrom(id.toString(), entityType, Relationship.UPSTREAM.ordinal());
-    }
-    final List<EntityReference> upstreamEntityReferences = new ArrayList<>();
-    for (EntityRelationshipRecord entityRelationshipRecord : records) {
-      EntityReference ref =
-          Entity.getEntityReferenceById(
-              entityRelationshipRecord.getType(), entityRelationshipRecord.getId(), Include.ALL);
-      LineageDetails lineageDetails = JsonUtils.readValue(entityRelationshipRecord.getJson(), LineageDetails.class);
-      upstreamEntityReferences.add(ref);
-      lineage
-          .getUpstreamEdges()
-          .add(new Edge().withFromEntity(ref.getId()).withToEntity(id).withLineageDetails(lineageDetails));
-    }
-    lineage.getNodes().addAll(upstreamEntityReferences);
-    // from this id ---> find other ids
+  /**
+   * Walk the lineage graph breadth first in one direction, fetching the edges of all the nodes at a given depth with a
+   * single query instead of one query per node. The walk stops when the node or edge limits are reached.
+   */
+  private void addLineage(LineageGraph graph, EntityReference primary, int depth, boolean upstream) {
+    Set<UUID> visited = new HashSet<>();
+    visited.add(primary.getId());
+    Map<UUID, String> frontier = new LinkedHashMap<>();
+    frontier.put(primary.getId(), primary.getType());
 
-    upstreamDepth--;
-    // Recursively add upstream nodes and edges
-    for (EntityReference entity : upstreamEntityReferences) {
-      getUpstreamLineage(entity.getId(), entity.getType(), lineage, upstreamDepth);
+    for (int level = 0; level < depth && !frontier.isEmpty(); level++) {
+      Map<UUID, String> next = new LinkedHashMap<>();
+      for (EntityRelationshipObject rel : findEdges(frontier, upstream)) {
+        UUID nodeId = UUID.fromString(upstream ? rel.getFromId() : rel.getToId());
+        String nodeType = upstream ? rel.getFromEntity() : rel.getToEntity();
+        if (!graph.addEdge(rel, nodeId, nodeType, upstream)) {
+          return;
+        }
+        if (visited.add(nodeId)) {
+          next.put(nodeId, nodeType);
+        }
+      }
+      frontier = next;
     }
   }
 
-  private void getDownstreamLineage(UUID id, String entityType, EntityLineage lineage, int downstreamDepth) {
-    if (downstreamDepth == 0) {
-      return;
+  /**
+   * Find the edges of the frontier nodes. Edges of a pipeline are found both as edges to or from the pipeline node and
+   * through the pipeline in the lineage details of the edges, so the edges are de-duplicated by (from, to).
+   */
+  private List<EntityRelationshipObject> findEdges(Map<UUID, String> frontier, boolean upstream) {
+    List<String> ids = new ArrayList<>();
+    List<String> pipelineIds = new ArrayList<>();
+    frontier.forEach(
+        (id, type) -> {
+          ids.add(id.toString());
+          if (type.equals(Entity.PIPELINE) || type.equals(Entity.STORED_PROCEDURE)) {
+            pipelineIds.add(id.toString());
+          }
+        });
+    Map<Pair<String, String>, EntityRelationshipObject> relationships = new LinkedHashMap<>();
+    for (List<String> batch : Lists.partition(ids, EntityRepository.BULK_QUERY_BATCH_SIZE)) {
+      List<EntityRelationshipObject> records =
+          upstream
+              ? dao.relationshipDAO().findFromBatch(batch, Relationship.UPSTREAM.ordinal())
+              : dao.relationshipDAO().findToBatch(batch, Relationship.UPSTREAM.ordinal());
+      records.forEach(rel -> addEdge(relationships, rel));
     }
-    List<EntityRelationshipRecord> records;
-    if (entityType.equals(Entity.PIPELINE) || entityType.equals(Entity.STORED_PROCEDURE)) {
-      records = dao.relationshipDAO().findToPipeline(id.toString(), Relationship.UPSTREAM.ordinal());
-    } else {
-      records = dao.relationshipDAO().findTo(id.toString(), entityType, Relationship.UPSTREAM.ordinal());
+    // pipeline information is not maintained as a node in lineage, but in the lineage details of the edges
+    for (List<String> batch : Lists.partition(pipelineIds, EntityRepository.BULK_QUERY_BATCH_SIZE)) {
+      for (EntityRelationshipObject rel : dao.relationshipDAO().findByPipelineBatch(batch)) {
+        EntityReference pipeline = JsonUtils.readValue(rel.getJson(), LineageDetails.class).getPipeline();
+        addEdge(
+            relationships,
+            upstream
+                ? EntityRelationshipObject.builder()
+                    .fromId(rel.getFromId())
+                    .fromEntity(rel.getFromEntity())
+                    .toId(pipeline.getId().toString())
+                    .toEntity(pipeline.getType())
+                    .json(rel.getJson())
+                    .build()
+                : EntityRelationshipObject.builder()
+                    .fromId(pipeline.getId().toString())
+                    .fromEntity(pipeline.getType())
+                    .toId(rel.getToId())
+                    .toEntity(rel.getToEntity())
+                    .json(rel.getJson())
+                    .build());
+      }
     }
-    final List<EntityReference> downstreamEntityReferences = new ArrayList<>();
-    for (EntityRelationshipRecord entityRelationshipRecord : records) {
-      EntityReference ref =
-          Entity.getEntityReferenceById(
-              entityRelationshipRecord.getType(), entityRelationshipRecord.getId(), Include.ALL);
-      LineageDetails lineageDetails = JsonUtils.readValue(entityRelationshipRecord.getJson(), LineageDetails.class);
-      downstreamEntityReferences.add(ref);
-      lineage
-          .getDownstreamEdges()
-          .add(new Edge().withToEntity(ref.getId()).withFromEntity(id).withLineageDetails(lineageDetails));
+    return new ArrayList<>(relationships.values());
+  }
+
+  private static void addEdge(
+      Map<Pair<String, String>, EntityRelationshipObject> relationships, EntityRelationshipObject rel) {
+    relationships.putIfAbsent(new ImmutablePair<>(rel.getFromId(), rel.getToId()), rel);
+  }
+
+  /** Resolve the entity references of the lineage nodes with one query per entity type */
+  private List<EntityReference> getNodeReferences(Map<UUID, String> nodes) {
+    Map<String, List<UUID>> idsByType = new LinkedHashMap<>();
+    nodes.forEach((id, type) -> idsByType.computeIfAbsent(type, t -> new ArrayList<>()).add(id));
+    Map<UUID, EntityReference> references = new HashMap<>();
+    idsByType.forEach(
+        (type, ids) ->
+            Entity.getEntityReferencesByIds(type, ids, Include.ALL).forEach(ref -> references.put(ref.getId(), ref)));
+    List<EntityReference> result = new ArrayList<>();
+    nodes.keySet().forEach(id -> result.add(references.get(id)));
+    return result;
+  }
+
+  private class LineageGraph {
+    private final UUID primaryId;
+    private final Map<UUID, String> nodes = new LinkedHashMap<>();
+    private final List<Edge> upstreamEdges = new ArrayList<>();
+    private final List<Edge> downstreamEdges = new ArrayList<>();
+    private boolean truncated = false;
+
+    LineageGraph(EntityReference primary) {
+      this.primaryId = primary.getId();
     }
-    lineage.getNodes().addAll(downstreamEntityReferences);
 
-    downstreamDepth--;
-    // Recursively add upstream nodes and edges
-    for (EntityReference entity : downstreamEntityReferences) {
-      getDownstreamLineage(entity.getId(), entity.getType(), lineage, downstreamDepth);
+    /** Add an edge and its node to the graph. Returns false when the edge can't be added due to the limits. */
+    boolean addEdge(EntityRelationshipObject rel, UUID nodeId, String nodeType, boolean upstream) {
+      boolean newNode = !nodeId.equals(primaryId) && !nodes.containsKey(nodeId);
+      if (upstreamEdges.size() + downstreamEdges.size() >= maxEdges || newNode && nodes.size() >= maxNodes) {
+        truncated = true;
+        return false;
+      }
+      if (newNode) {
+        nodes.put(nodeId, nodeType);
+      }
+      Edge edge =
+          new Edge()
+              .withFromEntity(UUID.fromString(rel.getFromId()))
+              .withToEntity(UUID.fromString(rel.getToId()))
+              .withLineageDetails(JsonUtils.readValue(rel.getJson(), LineageDetails.class));
+      (upstream ? upstreamEdges : downstreamEdges).add(edge);
+      return true;
     }
   }
 }
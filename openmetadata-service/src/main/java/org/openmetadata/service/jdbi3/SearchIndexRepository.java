@@ -31,6 +31,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.feed.ResolveTask;
@@ -434,9 +435,10 @@ public class SearchIndexRepository extends EntityRepository<SearchIndex> {
       }
 
       // Carry forward the user generated metadata from existing fields to new fields
+      UnaryOperator<SearchIndexField> findStored = EntityUtil.matcher(origFields, fieldMatch);
       for (SearchIndexField updated : updatedFields) {
         // Find stored field matching name, data type and ordinal position
-        SearchIndexField stored = origFields.stream().filter(c -> fieldMatch.test(c, updated)).findAny().orElse(null);
+        SearchIndexField stored = findStored.apply(updated);
         if (stored == null) { // New field added
           continue;
         }
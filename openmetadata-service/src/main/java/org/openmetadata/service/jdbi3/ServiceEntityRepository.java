@@ -98,6 +98,7 @@ public abstract class ServiceEntityRepository<
     T service = dao.findEntityById(serviceId);
     service.setTestConnectionResult(testConnectionResult);
     dao.update(serviceId, service.getFullyQualifiedName(), JsonUtils.pojoToJson(service));
+    invalidate(service);
     return service;
   }
 
@@ -26,11 +26,14 @@ import static org.openmetadata.service.Entity.getEntity;
 import static org.openmetadata.service.util.LambdaExceptionUtil.ignoringComparator;
 import static org.openmetadata.service.util.LambdaExceptionUtil.rethrowFunction;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -69,9 +72,12 @@ import org.openmetadata.schema.type.TableProfile;
 import org.openmetadata.schema.type.TableProfilerConfig;
 import org.openmetadata.schema.type.TagLabel;
 import org.openmetadata.schema.type.TaskType;
+import org.openmetadata.schema.type.UsageDetails;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.exception.UnhandledServerException;
+import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecordWithId;
 import org.openmetadata.service.jdbi3.FeedRepository.TaskWorkflow;
 import org.openmetadata.service.jdbi3.FeedRepository.ThreadContext;
 import org.openmetadata.service.resources.databases.DatabaseUtil;
@@ -123,13 +129,121 @@ public class TableRepository extends EntityRepository<Table> {
   @Override
   public Table setFields(Table table, Fields fields) {
     setDefaultFields(table);
+    getColumnTags(fields.contains(FIELD_TAGS), table.getColumns());
+    return setTableFields(table, fields);
+  }
+
+  @Override
+  protected void setFieldsInBulk(List<Table> tables, Fields fields) {
+    // Load database schema and column tags of all the tables together instead of one table at a time
+    Map<UUID, EntityReference> schemaRefs =
+        getFromEntityRefs(tables.stream().map(Table::getId).collect(Collectors.toList()), Relationship.CONTAINS, null);
+    List<Column> columns = new ArrayList<>();
+    for (Table table : tables) {
+      setDefaultFields(table, schemaRefs.get(table.getId()));
+      ColumnUtil.flattenColumns(table.getColumns(), columns);
+    }
+    if (fields.contains(FIELD_TAGS)) {
+      Map<String, List<TagLabel>> columnTags =
+          getTagsByTargetFQN(columns.stream().map(Column::getFullyQualifiedName).collect(Collectors.toList()));
+      columns.forEach(c -> c.setTags(columnTags.getOrDefault(c.getFullyQualifiedName(), new ArrayList<>())));
+    }
+    // Load the other fields of all the tables together, with a query per field instead of a query per table
+    List<UUID> ids = tables.stream().map(Table::getId).collect(Collectors.toList());
+    if (fields.contains("usageSummary")) {
+      Map<UUID, UsageDetails> usage = EntityUtil.getLatestUsage(daoCollection.usageDAO(), ids);
+      tables.stream().filter(t -> t.getUsageSummary() == null).forEach(t -> t.setUsageSummary(usage.get(t.getId())));
+    }
+    if (fields.contains("joins")) {
+      Map<String, TableJoins> joins = getJoins(tables);
+      tables.forEach(table -> table.setJoins(joins.get(table.getFullyQualifiedName())));
+    }
+    if (fields.contains("lifeCycle")) {
+      Map<UUID, String> lifeCycles = getExtensions(ids, TABLE_LIFE_CYCLE_EXTENSION, true);
+      tables.forEach(t -> t.setLifeCycle(JsonUtils.readValue(lifeCycles.get(t.getId()), LifeCycle.class)));
+    }
+    if (fields.contains(TABLE_PROFILER_CONFIG)) {
+      Map<UUID, String> configs = getExtensions(ids, TABLE_PROFILER_CONFIG_EXTENSION, false);
+      tables.forEach(
+          t -> t.setTableProfilerConfig(JsonUtils.readValue(configs.get(t.getId()), TableProfilerConfig.class)));
+    }
+    if (fields.contains("testSuite")) {
+      Map<UUID, TestSuite> testSuites = getTestSuites(ids);
+      tables.forEach(table -> table.setTestSuite(testSuites.get(table.getId())));
+    }
+    if (fields.contains("customMetrics")) {
+      Map<UUID, Map<String, String>> customMetrics = getColumnCustomMetrics(ids);
+      for (Table table : tables) {
+        Map<String, String> tableMetrics = customMetrics.getOrDefault(table.getId(), Map.of());
+        listOrEmpty(table.getColumns())
+            .forEach(c -> c.setCustomMetrics(JsonUtils.readObjects(tableMetrics.get(c.getName()), CustomMetric.class)));
+      }
+    }
+  }
+
+  /** JSON of an extension of the tables keyed by table id, from the table_entity_extension or entity_extension table */
+  private Map<UUID, String> getExtensions(List<UUID> ids, String extension, boolean tableExtension) {
+    Map<UUID, String> extensions = new HashMap<>();
+    List<String> tableIds = ids.stream().map(UUID::toString).collect(Collectors.toList());
+    for (List<String> batch : Lists.partition(tableIds, BULK_QUERY_BATCH_SIZE)) {
+      List<ExtensionRecordWithId> records =
+          tableExtension
+              ? daoCollection.tableEntityExtensionDAO().getExtensionBatch(batch, extension)
+              : daoCollection.entityExtensionDAO().getExtensionBatch(batch, extension);
+      records.forEach(r -> extensions.put(r.getId(), r.getExtensionJson()));
+    }
+    return extensions;
+  }
+
+  /** JSON of the custom metrics of the columns keyed by table id and column name */
+  private Map<UUID, Map<String, String>> getColumnCustomMetrics(List<UUID> ids) {
+    Map<UUID, Map<String, String>> customMetrics = new HashMap<>();
+    List<String> tableIds = ids.stream().map(UUID::toString).collect(Collectors.toList());
+    String prefix = TABLE_COLUMN_EXTENSION.substring(0, TABLE_COLUMN_EXTENSION.length() - 1);
+    for (List<String> batch : Lists.partition(tableIds, BULK_QUERY_BATCH_SIZE)) {
+      for (ExtensionRecordWithId r : daoCollection.entityExtensionDAO().getExtensionsBatch(batch, prefix)) {
+        String extension = r.getExtensionName();
+        if (extension.endsWith(CUSTOM_METRICS_EXTENSION)) {
+          String columnName =
+              extension.substring(
+                  TABLE_COLUMN_EXTENSION.length(), extension.length() - CUSTOM_METRICS_EXTENSION.length());
+          customMetrics.computeIfAbsent(r.getId(), k -> new HashMap<>()).put(columnName, r.getExtensionJson());
+        }
+      }
+    }
+    return customMetrics;
+  }
+
+  /** Same as {@link #getTestSuite(Table)} for a list of tables, keyed by table id */
+  private Map<UUID, TestSuite> getTestSuites(List<UUID> ids) {
+    Map<UUID, UUID> testSuiteIds = new HashMap<>();
+    List<String> tableIds = ids.stream().map(UUID::toString).collect(Collectors.toList());
+    for (List<String> batch : Lists.partition(tableIds, BULK_QUERY_BATCH_SIZE)) {
+      daoCollection
+          .relationshipDAO()
+          .findToBatch(batch, TABLE, Relationship.CONTAINS.ordinal(), Entity.TEST_SUITE)
+          .forEach(r -> testSuiteIds.putIfAbsent(UUID.fromString(r.getFromId()), UUID.fromString(r.getToId())));
+    }
+    if (testSuiteIds.isEmpty()) {
+      return Map.of();
+    }
+    TestSuiteRepository testSuiteRepository = (TestSuiteRepository) Entity.getEntityRepository(Entity.TEST_SUITE);
+    Map<UUID, TestSuite> testSuites = new HashMap<>();
+    testSuiteRepository
+        .get(new ArrayList<>(new HashSet<>(testSuiteIds.values())), testSuiteRepository.getFields("*"), ALL)
+        .forEach(testSuite -> testSuites.put(testSuite.getId(), testSuite));
+    Map<UUID, TestSuite> tableTestSuites = new HashMap<>();
+    testSuiteIds.forEach((tableId, testSuiteId) -> tableTestSuites.put(tableId, testSuites.get(testSuiteId)));
+    return tableTestSuites;
+  }
+
+  private Table setTableFields(Table table, Fields fields) {
     if (table.getUsageSummary() == null) {
       table.setUsageSummary(
           fields.contains("usageSummary")
               ? EntityUtil.getLatestUsage(daoCollection.usageDAO(), table.getId())
               : table.getUsageSummary());
     }
-    getColumnTags(fields.contains(FIELD_TAGS), table.getColumns());
     table.setJoins(fields.contains("joins") ? getJoins(table) : table.getJoins());
     table.setLifeCycle(fields.contains("lifeCycle") ? getLifeCycleData(table) : table.getLifeCycle());
     table.setTableProfilerConfig(
@@ -161,7 +275,13 @@ public class TableRepository extends EntityRepository<Table> {
   }
 
   private void setDefaultFields(Table table) {
-    EntityReference schemaRef = getContainer(table.getId());
+    setDefaultFields(table, getContainer(table.getId()));
+  }
+
+  private void setDefaultFields(Table table, EntityReference schemaRef) {
+    if (schemaRef == null) {
+      throw new UnhandledServerException(CatalogExceptionMessage.entityTypeNotFound(entityType));
+    }
     DatabaseSchema schema = Entity.getEntity(schemaRef, "", ALL);
     table.withDatabaseSchema(schemaRef).withDatabase(schema.getDatabase()).withService(schema.getService());
   }
@@ -405,49 +525,76 @@ public class TableRepository extends EntityRepository<Table> {
             "tableProfile",
             JsonUtils.pojoToJson(createTableProfile.getTableProfile()));
 
-    for (ColumnProfile columnProfile : createTableProfile.getColumnProfile()) {
-      // Validate all the columns
+    // Validate all the columns and then insert the column profiles in a single batch
+    List<String> columnFQNs = new ArrayList<>();
+    List<String> columnProfileJsons = new ArrayList<>();
+    for (ColumnProfile columnProfile : listOrEmpty(createTableProfile.getColumnProfile())) {
       Column column = getColumnNameForProfiler(table.getColumns(), columnProfile, null);
       if (column == null) {
         throw new IllegalArgumentException("Invalid column name " + columnProfile.getName());
       }
-      daoCollection
-          .profilerDataTimeSeriesDao()
-          .insert(
-              column.getFullyQualifiedName(),
-              TABLE_COLUMN_PROFILE_EXTENSION,
-              "columnProfile",
-              JsonUtils.pojoToJson(columnProfile));
+      columnFQNs.add(column.getFullyQualifiedName());
+      columnProfileJsons.add(JsonUtils.pojoToJson(columnProfile));
     }
+    daoCollection
+        .profilerDataTimeSeriesDao()
+        .insertBatch(columnFQNs, TABLE_COLUMN_PROFILE_EXTENSION, "columnProfile", columnProfileJsons);
 
     List<SystemProfile> systemProfiles = createTableProfile.getSystemProfile();
     if (systemProfiles != null && !systemProfiles.isEmpty()) {
-      for (SystemProfile systemProfile : createTableProfile.getSystemProfile()) {
-        // system metrics timestamp is the one of the operation. We'll need to
-        // update the entry if it already exists in the database
-        String storedSystemProfile =
-            daoCollection
-                .profilerDataTimeSeriesDao()
-                .getExtensionAtTimestampWithOperation(
-                    table.getFullyQualifiedName(),
-                    SYSTEM_PROFILE_EXTENSION,
-                    systemProfile.getTimestamp(),
-                    systemProfile.getOperation().value());
+      storeSystemProfiles(table.getFullyQualifiedName(), systemProfiles);
+    }
+
+    setFieldsInternal(table, Fields.EMPTY_FIELDS);
+    return table.withProfile(createTableProfile.getTableProfile());
+  }
+
+  private void storeSystemProfiles(String tableFQN, List<SystemProfile> systemProfiles) {
+    // system metrics timestamp is the one of the operation. We'll need to update the entry if it already exists in
+    // the database. Read the stored entries in the time range of the profiles at once instead of one profile at a time
+    long startTs = systemProfiles.stream().mapToLong(SystemProfile::getTimestamp).min().orElseThrow();
+    long endTs = systemProfiles.stream().mapToLong(SystemProfile::getTimestamp).max().orElseThrow();
+    Set<String> storedKeys =
+        JsonUtils.readObjects(
+                daoCollection
+                    .profilerDataTimeSeriesDao()
+                    .listBetweenTimestamps(tableFQN, SYSTEM_PROFILE_EXTENSION, startTs, endTs),
+                SystemProfile.class)
+            .stream()
+            .map(TableRepository::getSystemProfileKey)
+            .collect(Collectors.toSet());
+
+    // When the request has several profiles of an operation at the same timestamp, the last one is stored
+    Map<String, SystemProfile> profilesByKey = new LinkedHashMap<>();
+    systemProfiles.forEach(p -> profilesByKey.put(getSystemProfileKey(p), p));
+
+    List<String> newProfileJsons = new ArrayList<>();
+    for (Map.Entry<String, SystemProfile> entry : profilesByKey.entrySet()) {
+      SystemProfile systemProfile = entry.getValue();
+      if (storedKeys.contains(entry.getKey())) {
         daoCollection
             .profilerDataTimeSeriesDao()
-            .storeTimeSeriesWithOperation(
-                table.getFullyQualifiedName(),
+            .updateExtensionByOperation(
+                tableFQN,
                 SYSTEM_PROFILE_EXTENSION,
-                "systemProfile",
                 JsonUtils.pojoToJson(systemProfile),
                 systemProfile.getTimestamp(),
-                systemProfile.getOperation().value(),
-                storedSystemProfile != null);
+                systemProfile.getOperation().value());
+      } else {
+        newProfileJsons.add(JsonUtils.pojoToJson(systemProfile));
       }
     }
+    daoCollection
+        .profilerDataTimeSeriesDao()
+        .insertBatch(
+            Collections.nCopies(newProfileJsons.size(), tableFQN),
+            SYSTEM_PROFILE_EXTENSION,
+            "systemProfile",
+            newProfileJsons);
+  }
 
-    setFieldsInternal(table, Fields.EMPTY_FIELDS);
-    return table.withProfile(createTableProfile.getTableProfile());
+  private static String getSystemProfileKey(SystemProfile systemProfile) {
+    return systemProfile.getTimestamp() + ":" + systemProfile.getOperation().value();
   }
 
   public void deleteTableProfile(String fqn, String entityType, Long timestamp) {
@@ -513,17 +660,16 @@ public class TableRepository extends EntityRepository<Table> {
   }
 
   private void setColumnProfile(List<Column> columnList) {
-    for (Column column : columnList) {
-      ColumnProfile columnProfile =
-          JsonUtils.readValue(
-              daoCollection
-                  .profilerDataTimeSeriesDao()
-                  .getLatestExtension(column.getFullyQualifiedName(), TABLE_COLUMN_PROFILE_EXTENSION),
-              ColumnProfile.class);
-      column.setProfile(columnProfile);
-      if (column.getChildren() != null) {
-        setColumnProfile(column.getChildren());
-      }
+    // Load the latest profile of all the columns, including the nested columns, in a single query
+    List<Column> columns = ColumnUtil.flattenColumns(columnList, new ArrayList<>());
+    Map<String, String> columnProfiles =
+        daoCollection
+            .profilerDataTimeSeriesDao()
+            .getLatestExtensionByFQNs(
+                columns.stream().map(Column::getFullyQualifiedName).collect(Collectors.toList()),
+                TABLE_COLUMN_PROFILE_EXTENSION);
+    for (Column column : columns) {
+      column.setProfile(JsonUtils.readValue(columnProfiles.get(column.getFullyQualifiedName()), ColumnProfile.class));
     }
   }
 
@@ -644,6 +790,7 @@ public class TableRepository extends EntityRepository<Table> {
     }
     applyTags(table.getColumns());
     dao.update(table.getId(), table.getFullyQualifiedName(), JsonUtils.pojoToJson(table));
+    invalidate(table);
     setFieldsInternal(table, new Fields(Set.of(FIELD_OWNER), FIELD_OWNER));
     setFieldsInternal(table, new Fields(Set.of(FIELD_TAGS), FIELD_TAGS));
     return table;
@@ -964,25 +1111,90 @@ public class TableRepository extends EntityRepository<Table> {
   }
 
   private TableJoins getJoins(Table table) {
+    return getJoins(
+        daoCollection
+            .fieldRelationshipDAO()
+            .listBidirectional(
+                table.getFullyQualifiedName(),
+                FIELD_RELATION_TABLE_TYPE,
+                FIELD_RELATION_TABLE_TYPE,
+                Relationship.JOINED_WITH.ordinal()),
+        daoCollection
+            .fieldRelationshipDAO()
+            .listBidirectionalByPrefix(
+                table.getFullyQualifiedName(),
+                FIELD_RELATION_COLUMN_TYPE,
+                FIELD_RELATION_COLUMN_TYPE,
+                Relationship.JOINED_WITH.ordinal()));
+  }
+
+  /**
+   * Same as {@link #getJoins(Table)} for a list of tables, keyed by table FQN. The column joins are looked up by the
+   * FQN of the columns of the tables.
+   */
+  private Map<String, TableJoins> getJoins(List<Table> tables) {
+    Map<String, String> tableFqns = new HashMap<>(); // FQN of the table keyed by the FQN hash of the table or column
+    for (Table table : tables) {
+      tableFqns.put(FullyQualifiedName.buildHash(table.getFullyQualifiedName()), table.getFullyQualifiedName());
+      List<Column> columns = new ArrayList<>();
+      ColumnUtil.flattenColumns(table.getColumns(), columns);
+      columns.forEach(
+          c -> tableFqns.put(FullyQualifiedName.buildHash(c.getFullyQualifiedName()), table.getFullyQualifiedName()));
+    }
+    Map<String, List<Triple<String, String, String>>> tableRelations = new HashMap<>();
+    Map<String, List<Triple<String, String, String>>> columnRelations = new HashMap<>();
+    List<String> tableHashes =
+        tables.stream().map(t -> FullyQualifiedName.buildHash(t.getFullyQualifiedName())).collect(Collectors.toList());
+    List<String> columnHashes = tableFqns.keySet().stream().filter(h -> !tableHashes.contains(h)).toList();
+    listJoins(tableHashes, FIELD_RELATION_TABLE_TYPE, tableFqns, tableRelations);
+    listJoins(columnHashes, FIELD_RELATION_COLUMN_TYPE, tableFqns, columnRelations);
+    Map<String, TableJoins> joins = new HashMap<>();
+    for (Table table : tables) {
+      String fqn = table.getFullyQualifiedName();
+      joins.put(
+          fqn, getJoins(tableRelations.getOrDefault(fqn, List.of()), columnRelations.getOrDefault(fqn, List.of())));
+    }
+    return joins;
+  }
+
+  /** List the joins of the given tables or columns, and add them to the joins of their table */
+  private void listJoins(
+      List<String> fqnHashes,
+      String type,
+      Map<String, String> tableFqns,
+      Map<String, List<Triple<String, String, String>>> relations) {
+    for (List<String> batch : Lists.partition(fqnHashes, BULK_QUERY_BATCH_SIZE)) {
+      for (Triple<String, String, String> relation :
+          daoCollection
+              .fieldRelationshipDAO()
+              .listBidirectionalBatch(batch, type, type, Relationship.JOINED_WITH.ordinal())) {
+        String tableFqn = tableFqns.get(FullyQualifiedName.buildHash(relation.getLeft()));
+        if (tableFqn != null) {
+          relations.computeIfAbsent(tableFqn, k -> new ArrayList<>()).add(relation);
+        }
+      }
+    }
+  }
+
+  /**
+   * Joins of a table given its table joins and column joins as triples of the FQN of the table or column, the FQN of
+   * the joined table or column, and the daily join counts
+   */
+  private TableJoins getJoins(
+      List<Triple<String, String, String>> tableRelations, List<Triple<String, String, String>> columnRelations) {
     String today = RestUtil.DATE_FORMAT.format(new Date());
     String todayMinus30Days = CommonUtil.getDateStringByOffset(RestUtil.DATE_FORMAT, today, -30);
     return new TableJoins()
         .withStartDate(todayMinus30Days)
         .withDayCount(30)
-        .withColumnJoins(getColumnJoins(table))
-        .withDirectTableJoins(getDirectTableJoins(table));
+        .withColumnJoins(getColumnJoins(columnRelations))
+        .withDirectTableJoins(getDirectTableJoins(tableRelations));
   }
 
-  private List<JoinedWith> getDirectTableJoins(Table table) {
+  private List<JoinedWith> getDirectTableJoins(List<Triple<String, String, String>> relations) {
     // Pair<toTableFQN, List<DailyCount>>
     List<Pair<String, List<DailyCount>>> entityRelations =
-        daoCollection.fieldRelationshipDAO()
-            .listBidirectional(
-                table.getFullyQualifiedName(),
-                FIELD_RELATION_TABLE_TYPE,
-                FIELD_RELATION_TABLE_TYPE,
-                Relationship.JOINED_WITH.ordinal())
-            .stream()
+        relations.stream()
             .map(rethrowFunction(er -> Pair.of(er.getMiddle(), JsonUtils.readObjects(er.getRight(), DailyCount.class))))
             .collect(toUnmodifiableList());
 
@@ -995,16 +1207,10 @@ public class TableRepository extends EntityRepository<Table> {
         .collect(Collectors.toList());
   }
 
-  private List<ColumnJoin> getColumnJoins(Table table) {
+  private List<ColumnJoin> getColumnJoins(List<Triple<String, String, String>> relations) {
     // Triple<fromRelativeColumnName, toFQN, List<DailyCount>>
     List<Triple<String, String, List<DailyCount>>> entityRelations =
-        daoCollection.fieldRelationshipDAO()
-            .listBidirectionalByPrefix(
-                table.getFullyQualifiedName(),
-                FIELD_RELATION_COLUMN_TYPE,
-                FIELD_RELATION_COLUMN_TYPE,
-                Relationship.JOINED_WITH.ordinal())
-            .stream()
+        relations.stream()
             .map(
                 rethrowFunction(
                     er ->
@@ -23,7 +23,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.openmetadata.schema.entity.classification.Tag;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.ProviderType;
@@ -184,7 +183,7 @@ public class TagRepository extends EntityRepository<Tag> {
       }
 
       // Populate response fields
-      invalidateTags(original.getId());
+      invalidateTags(original);
       getChildren(updated);
     }
 
@@ -207,12 +206,12 @@ public class TagRepository extends EntityRepository<Tag> {
         updateClassificationRelationship(original, updated);
         recordChange(
             "Classification", original.getClassification(), updated.getClassification(), true, entityReferenceMatch);
-        invalidateTags(original.getId());
+        invalidateTags(original);
       }
       if (parentChanged) {
         updateParentRelationship(original, updated);
         recordChange("parent", original.getParent(), updated.getParent(), true, entityReferenceMatch);
-        invalidateTags(original.getId());
+        invalidateTags(original);
       }
     }
 
@@ -237,10 +236,18 @@ public class TagRepository extends EntityRepository<Tag> {
       }
     }
 
+    private void invalidateTags(Tag original) {
+      // The name or the parent of the tag changed. Invalidate the tag by its old name and all the children
+      invalidate(original);
+      for (EntityRelationshipRecord tagRecord : findToRecords(original.getId(), TAG, Relationship.CONTAINS, TAG)) {
+        invalidateTags(tagRecord.getId());
+      }
+    }
+
     private void invalidateTags(UUID tagId) {
       // The name of the tag changed. Invalidate that tag and all the children from the cache
       List<EntityRelationshipRecord> tagRecords = findToRecords(tagId, TAG, Relationship.CONTAINS, TAG);
-      CACHE_WITH_ID.invalidate(new ImmutablePair<>(TAG, tagId));
+      invalidateCaches(new EntityReference().withType(TAG).withId(tagId));
       for (EntityRelationshipRecord tagRecord : tagRecords) {
         invalidateTags(tagRecord.getId());
       }
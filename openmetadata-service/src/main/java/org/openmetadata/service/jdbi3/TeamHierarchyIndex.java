@@ -0,0 +1,406 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.entity.teams.Team;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.CacheInvalidationBus;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
+
+/**
+ * In-memory closure index of the team hierarchy.
+ *
+ * <p>Direct parents, children and users of a team are loaded once and are invalidated as {@code PARENT_OF} and {@code
+ * HAS} relationships of teams are added and removed through {@link EntityRepository}. Ancestor sets, descendant sets
+ * and the number of users in a team hierarchy are materialized from them on first use. Checking if a team is under the
+ * hierarchy of another team or counting the users of a team is then a set lookup instead of walking the team tree with
+ * one query per team.
+ *
+ * <p>A change is applied to the index right away, and again once the transaction making it completes, so that entries
+ * loaded by concurrent requests before the commit, or from a change that is rolled back, are not kept. The changed
+ * teams are published on the {@link CacheInvalidationBus} for the other servers. A change only drops the direct
+ * relationships of the changed teams and the closures that include them, so that the rest of the index is kept. The
+ * whole index is reloaded every {@link #EXPIRY_MILLIS} in case an invalidation is missed. The index is always loaded
+ * from the primary database, also when the request reads from the read replica.
+ */
+@Slf4j
+public final class TeamHierarchyIndex {
+  static final long EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  private static final String ALL_TEAMS = "*";
+
+  // Direct relationships of teams
+  private static final Map<UUID, Set<UUID>> PARENTS = new ConcurrentHashMap<>();
+  private static final Map<UUID, Set<UUID>> CHILDREN = new ConcurrentHashMap<>();
+  private static final Map<UUID, Set<UUID>> USERS = new ConcurrentHashMap<>();
+
+  // Closures derived from the direct relationships. Ancestors and descendants of a team include the team itself.
+  private static final Map<UUID, Set<UUID>> ANCESTORS = new ConcurrentHashMap<>();
+  private static final Map<UUID, Set<UUID>> DESCENDANTS = new ConcurrentHashMap<>();
+  private static final Map<UUID, Integer> USER_COUNTS = new ConcurrentHashMap<>();
+
+  private static final Map<String, UUID> TEAM_IDS = new ConcurrentHashMap<>();
+
+  // Incremented on every change so that a closure computed concurrently with a change is not cached
+  private static final AtomicLong VERSION = new AtomicLong();
+
+  // Teams without parents are children of the organization without a relationship stored for it
+  private static volatile UUID organizationId;
+
+  private static volatile long loadedAt = System.currentTimeMillis();
+
+  private TeamHierarchyIndex() {
+    /* Cannot create object  util class*/
+  }
+
+  static void setOrganization(UUID id) {
+    organizationId = id;
+  }
+
+  /** Returns true if the team is same as parentTeam or is under the team hierarchy of parentTeam */
+  public static boolean isInTeam(String parentTeam, UUID teamId) {
+    Set<UUID> ancestors = getAncestors(teamId);
+    UUID parentId = getTeamId(parentTeam);
+    return parentId != null && ancestors.contains(parentId);
+  }
+
+  /** Returns the team and all its ancestors, in the order of walking up the parents of the team depth first */
+  public static Set<UUID> getAncestors(UUID teamId) {
+    expireIfStale();
+    return getClosure(ANCESTORS, teamId, TeamHierarchyIndex::getParents);
+  }
+
+  /** Returns the team and all the teams under its hierarchy */
+  public static Set<UUID> getDescendants(UUID teamId) {
+    expireIfStale();
+    return getClosure(DESCENDANTS, teamId, TeamHierarchyIndex::getChildren);
+  }
+
+  /** Returns the number of distinct users in the team and all the teams under its hierarchy */
+  public static int getUserCount(UUID teamId) {
+    expireIfStale();
+    Integer count = USER_COUNTS.get(teamId);
+    if (count == null) {
+      long version = VERSION.get();
+      Set<UUID> users = new HashSet<>();
+      for (UUID team : getDescendants(teamId)) {
+        users.addAll(getUsers(team));
+      }
+      count = users.size();
+      if (version == VERSION.get()) {
+        USER_COUNTS.put(teamId, count);
+      }
+    }
+    return count;
+  }
+
+  /** Update the index for a relationship added between two entities */
+  static void relationshipAdded(String fromEntity, UUID fromId, String toEntity, UUID toId, Relationship relationship) {
+    relationshipChanged(fromEntity, fromId, toEntity, toId, relationship);
+  }
+
+  /**
+   * Update the index for relationships deleted between two entities. Either fromId or toId is null when all the
+   * relationships of an entity are deleted.
+   */
+  static void relationshipDeleted(
+      String fromEntity, UUID fromId, String toEntity, UUID toId, Relationship relationship) {
+    relationshipChanged(fromEntity, fromId, toEntity, toId, relationship);
+  }
+
+  /** Update the index when a team is created, updated, or deleted */
+  static void teamChanged(UUID teamId, String name) {
+    TEAM_IDS.values().remove(teamId);
+    if (name != null) {
+      TEAM_IDS.put(name, teamId);
+    }
+    invalidateTeam(teamId);
+    // The name is looked up again after the transaction completes, in case the change is rolled back
+    changed(() -> forgetTeam(teamId), teamId);
+  }
+
+  /** Update the index when all the relationships of an entity are deleted */
+  static void entityDeleted(String entityType, UUID id) {
+    if (Entity.TEAM.equals(entityType)) {
+      forgetTeam(id);
+      changed(() -> forgetTeam(id), id);
+    } else if (Entity.USER.equals(entityType)) {
+      relationshipDeleted(Entity.TEAM, null, Entity.USER, id, Relationship.HAS);
+    }
+  }
+
+  public static void invalidateAll() {
+    loadedAt = System.currentTimeMillis();
+    PARENTS.clear();
+    CHILDREN.clear();
+    USERS.clear();
+    TEAM_IDS.clear();
+    clearClosures();
+  }
+
+  /** Invalidate the teams in the index of this server when they are changed by the other servers */
+  public static void registerCacheInvalidation(CacheInvalidationBus bus) {
+    bus.register(
+        CacheInvalidationBus.TEAM_HIERARCHY,
+        key -> {
+          if (ALL_TEAMS.equals(key)) {
+            invalidateAll();
+          } else {
+            forgetTeam(UUID.fromString(key));
+          }
+        });
+  }
+
+  private static void relationshipChanged(
+      String fromEntity, UUID fromId, String toEntity, UUID toId, Relationship relationship) {
+    if (isTeamUserRelationship(fromEntity, toEntity, relationship)) {
+      Runnable invalidation = () -> usersChanged(fromId, toId);
+      invalidation.run();
+      changed(invalidation, fromId);
+    } else if (isTeamHierarchyRelationship(fromEntity, toEntity, relationship)) {
+      Runnable invalidation = () -> hierarchyChanged(fromId, toId);
+      invalidation.run();
+      changed(invalidation, fromId, toId);
+    }
+  }
+
+  /**
+   * Apply the invalidation already applied to the index again once the transaction completes, and publish the changed
+   * teams to the other servers. A null team id stands for all the teams.
+   */
+  private static void changed(Runnable invalidation, UUID... teamIds) {
+    JdbiTransactionManager.afterCompletion(invalidation);
+    for (UUID teamId : teamIds) {
+      CacheInvalidationBus.publish(CacheInvalidationBus.TEAM_HIERARCHY, teamId == null ? ALL_TEAMS : teamId.toString());
+    }
+  }
+
+  private static void usersChanged(UUID teamId, UUID userId) {
+    VERSION.incrementAndGet();
+    if (teamId == null) {
+      USERS
+          .entrySet()
+          .removeIf(
+              users -> {
+                if (users.getValue().contains(userId)) {
+                  invalidateUserCounts(users.getKey());
+                  return true;
+                }
+                return false;
+              });
+    } else {
+      USERS.remove(teamId);
+      invalidateUserCounts(teamId);
+    }
+  }
+
+  /** Drop everything known about the team, to be loaded again on next use */
+  private static void forgetTeam(UUID teamId) {
+    USERS.remove(teamId);
+    TEAM_IDS.values().remove(teamId);
+    invalidateTeam(teamId);
+  }
+
+  private static void expireIfStale() {
+    if (System.currentTimeMillis() - loadedAt > EXPIRY_MILLIS) {
+      LOG.debug("Reloading the team hierarchy index after {} ms", EXPIRY_MILLIS);
+      invalidateAll();
+    }
+  }
+
+  private static UUID getTeamId(String name) {
+    UUID teamId = TEAM_IDS.get(name);
+    if (teamId == null) {
+      try {
+        teamId =
+            JdbiTransactionManager.readFromPrimary(
+                () -> Entity.getEntityReferenceByName(Entity.TEAM, name, Include.NON_DELETED).getId());
+        TEAM_IDS.put(name, teamId);
+      } catch (Exception ex) {
+        // A team that does not exist has no teams under its hierarchy
+        LOG.debug("Failed to get team {}", name);
+      }
+    }
+    return teamId;
+  }
+
+  private static void hierarchyChanged(UUID parentId, UUID childId) {
+    if (parentId == null || childId == null) {
+      // All the parents or children of a team are removed
+      UUID teamId = parentId != null ? parentId : childId;
+      invalidateTeam(teamId);
+      return;
+    }
+    VERSION.incrementAndGet();
+    CHILDREN.remove(parentId);
+    PARENTS.remove(childId);
+    forgetOrganizationChildren();
+    invalidateClosures(parentId);
+    invalidateClosures(childId);
+  }
+
+  private static void invalidateTeam(UUID teamId) {
+    VERSION.incrementAndGet();
+    Set<UUID> parents = PARENTS.remove(teamId);
+    if (parents != null) {
+      parents.forEach(CHILDREN::remove);
+    }
+    Set<UUID> children = CHILDREN.remove(teamId);
+    if (children != null) {
+      children.forEach(PARENTS::remove);
+    }
+    forgetOrganizationChildren();
+    invalidateClosures(teamId);
+  }
+
+  private static void forgetOrganizationChildren() {
+    if (organizationId != null) {
+      // A team with no parents is a child of the organization
+      CHILDREN.remove(organizationId);
+    }
+  }
+
+  /**
+   * Drop the closures that include the changed team, which are the ancestors of the teams under its hierarchy and the
+   * descendants and user counts of the teams above it. The closures of the other teams are kept.
+   */
+  private static void invalidateClosures(UUID teamId) {
+    ANCESTORS.values().removeIf(ancestors -> ancestors.contains(teamId));
+    invalidateUserCounts(teamId);
+    DESCENDANTS.values().removeIf(descendants -> descendants.contains(teamId));
+  }
+
+  /** Drop the user counts of the team and of the teams above it */
+  private static void invalidateUserCounts(UUID teamId) {
+    USER_COUNTS.keySet().removeIf(team -> isInHierarchy(team, teamId));
+  }
+
+  private static boolean isInHierarchy(UUID team, UUID teamId) {
+    Set<UUID> descendants = DESCENDANTS.get(team);
+    // The user count of a team is counted from its descendants, and is dropped when they are no longer known
+    return descendants == null || descendants.contains(teamId);
+  }
+
+  private static void clearClosures() {
+    VERSION.incrementAndGet();
+    ANCESTORS.clear();
+    DESCENDANTS.clear();
+    USER_COUNTS.clear();
+  }
+
+  private static boolean isTeamUserRelationship(String fromEntity, String toEntity, Relationship relationship) {
+    return relationship == Relationship.HAS && Entity.TEAM.equals(fromEntity) && Entity.USER.equals(toEntity);
+  }
+
+  private static boolean isTeamHierarchyRelationship(String fromEntity, String toEntity, Relationship relationship) {
+    return relationship == Relationship.PARENT_OF && Entity.TEAM.equals(fromEntity) && Entity.TEAM.equals(toEntity);
+  }
+
+  private static Set<UUID> getClosure(
+      Map<UUID, Set<UUID>> closures, UUID teamId, Function<UUID, Set<UUID>> relatedTeams) {
+    Set<UUID> closure = closures.get(teamId);
+    if (closure == null) {
+      long version = VERSION.get();
+      Set<UUID> teams = new LinkedHashSet<>();
+      addToClosure(teams, teamId, relatedTeams);
+      closure = Collections.unmodifiableSet(teams);
+      if (version == VERSION.get()) {
+        closures.put(teamId, closure);
+      }
+    }
+    return closure;
+  }
+
+  private static void addToClosure(Set<UUID> closure, UUID teamId, Function<UUID, Set<UUID>> relatedTeams) {
+    if (closure.add(teamId)) {
+      for (UUID related : relatedTeams.apply(teamId)) {
+        addToClosure(closure, related, relatedTeams);
+      }
+    }
+  }
+
+  private static Set<UUID> getParents(UUID teamId) {
+    return getRelated(PARENTS, teamId, TeamHierarchyIndex::loadParents);
+  }
+
+  private static Set<UUID> getChildren(UUID teamId) {
+    return getRelated(CHILDREN, teamId, TeamHierarchyIndex::loadChildren);
+  }
+
+  private static Set<UUID> getUsers(UUID teamId) {
+    return getRelated(USERS, teamId, TeamHierarchyIndex::loadUsers);
+  }
+
+  private static Set<UUID> getRelated(Map<UUID, Set<UUID>> related, UUID teamId, Function<UUID, Set<UUID>> loader) {
+    Set<UUID> ids = related.get(teamId);
+    if (ids == null) {
+      long version = VERSION.get();
+      // Kept in the order they are loaded, and replaced instead of updated when the team changes
+      ids = Collections.unmodifiableSet(JdbiTransactionManager.readFromPrimary(() -> loader.apply(teamId)));
+      if (version == VERSION.get()) {
+        related.put(teamId, ids);
+      }
+    }
+    return ids;
+  }
+
+  private static Set<UUID> loadParents(UUID teamId) {
+    Set<UUID> parents = new LinkedHashSet<>();
+    try {
+      Team team = Entity.getEntity(Entity.TEAM, teamId, "parents", Include.NON_DELETED);
+      TEAM_IDS.put(team.getName(), teamId);
+      for (EntityReference parent : listOrEmpty(team.getParents())) {
+        parents.add(parent.getId());
+      }
+    } catch (Exception ex) {
+      // Deleted teams are not part of the hierarchy
+      LOG.debug("Failed to get parents of team {}", teamId);
+    }
+    return parents;
+  }
+
+  private static Set<UUID> loadChildren(UUID teamId) {
+    Set<UUID> children = new LinkedHashSet<>();
+    TeamRepository repository = (TeamRepository) Entity.getEntityRepository(Entity.TEAM);
+    for (EntityReference child : repository.getChildren(teamId)) {
+      children.add(child.getId());
+    }
+    return children;
+  }
+
+  private static Set<UUID> loadUsers(UUID teamId) {
+    Set<UUID> users = new HashSet<>();
+    TeamRepository repository = (TeamRepository) Entity.getEntityRepository(Entity.TEAM);
+    for (EntityRelationshipRecord user : repository.findToRecords(teamId, Entity.TEAM, Relationship.HAS, Entity.USER)) {
+      users.add(user.getId());
+    }
+    return users;
+  }
+}
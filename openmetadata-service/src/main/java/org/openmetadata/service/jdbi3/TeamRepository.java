@@ -45,10 +45,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -68,7 +66,6 @@ import org.openmetadata.schema.type.csv.CsvHeader;
 import org.openmetadata.schema.type.csv.CsvImportResult;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.EntityNotFoundException;
-import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.resources.teams.TeamResource;
 import org.openmetadata.service.security.policyevaluator.SubjectContext;
 import org.openmetadata.service.util.EntityUtil;
@@ -145,6 +142,7 @@ public class TeamRepository extends EntityRepository<Team> {
     team.withUsers(null).withDefaultRoles(null).withParents(null).withPolicies(null).withInheritedRoles(null);
 
     store(team, update);
+    TeamHierarchyIndex.teamChanged(team.getId(), team.getName());
 
     // Restore the relationships
     team.withUsers(users).withDefaultRoles(defaultRoles).withParents(parents).withPolicies(policies);
@@ -358,25 +356,8 @@ public class TeamRepository extends EntityRepository<Team> {
     return findTo(team.getId(), TEAM, Relationship.HAS, Entity.USER);
   }
 
-  private List<EntityRelationshipRecord> getUsersRelationshipRecords(UUID teamId) {
-    List<EntityRelationshipRecord> userRecord = findToRecords(teamId, TEAM, Relationship.HAS, Entity.USER);
-    List<EntityReference> children = getChildren(teamId);
-    for (EntityReference child : children) {
-      userRecord.addAll(getUsersRelationshipRecords(child.getId()));
-    }
-    return userRecord;
-  }
-
   private Integer getUserCount(UUID teamId) {
-    List<String> userIds = new ArrayList<>();
-    List<EntityRelationshipRecord> userRecordList = getUsersRelationshipRecords(teamId);
-    for (EntityRelationshipRecord userRecord : userRecordList) {
-      userIds.add(userRecord.getId().toString());
-    }
-    Set<String> userIdsSet = new HashSet<>(userIds);
-    userIds.clear();
-    userIds.addAll(userIdsSet);
-    return userIds.size();
+    return TeamHierarchyIndex.getUserCount(teamId);
   }
 
   private List<EntityReference> getOwns(Team team) {
@@ -556,6 +537,7 @@ public class TeamRepository extends EntityRepository<Team> {
                 .withPolicies(new ArrayList<>(List.of(organizationPolicy)))
                 .withDefaultRoles(new ArrayList<>(List.of(dataConsumerRole)));
         organization = create(null, team);
+        TeamHierarchyIndex.setOrganization(organization.getId());
         LOG.info("Organization {}:{} is successfully initialized", ORGANIZATION_NAME, organization.getId());
       } catch (Exception e) {
         LOG.error("Failed to initialize organization", e);
@@ -563,6 +545,7 @@ public class TeamRepository extends EntityRepository<Team> {
       }
     } else {
       organization = JsonUtils.readValue(json, Team.class);
+      TeamHierarchyIndex.setOrganization(organization.getId());
       LOG.info("Organization is already initialized");
     }
   }
@@ -1,6 +1,5 @@
 package org.openmetadata.service.jdbi3;
 
-import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.service.Entity.TEST_CASE;
 import static org.openmetadata.service.Entity.TEST_DEFINITION;
 import static org.openmetadata.service.Entity.TEST_SUITE;
@@ -247,29 +246,15 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
   }
 
   private void setTestSuiteSummary(TestCase testCase, Long timestamp, TestCaseStatus testCaseStatus) {
-    ResultSummary resultSummary = getResultSummary(testCase, timestamp, testCaseStatus);
-
-    // list all executable and logical test suite linked to the test case
-    List<TestSuite> testSuites = getTestSuites(testCase);
-
-    // update the summary for each test suite
-    for (TestSuite testSuite : testSuites) {
-      testSuite.setSummary(null); // we don't want to store the summary in the database
-      List<ResultSummary> resultSummaries = listOrEmpty(testSuite.getTestCaseResultSummary());
-      if (resultSummaries.isEmpty()) {
-        resultSummaries.add(resultSummary);
-      } else {
-        // We'll remove the existing summary for this test case and add the new one
-        resultSummaries.removeIf(summary -> summary.getTestCaseName().equals(resultSummary.getTestCaseName()));
-        resultSummaries.add(resultSummary);
-      }
+    String resultSummary = JsonUtils.pojoToJson(getResultSummary(testCase, timestamp, testCaseStatus));
 
-      // set test case result summary for the test suite
-      // and update it in the database
-      testSuite.setTestCaseResultSummary(resultSummaries);
+    // update the summary of each executable and logical test suite linked to the test case
+    // without loading and rewriting the test suites
+    for (CollectionDAO.EntityRelationshipRecord testSuite :
+        findFromRecords(testCase.getId(), entityType, Relationship.CONTAINS, TEST_SUITE)) {
       daoCollection
-          .testSuiteDAO()
-          .update(testSuite.getId(), testSuite.getFullyQualifiedName(), JsonUtils.pojoToJson(testSuite));
+          .testSuiteResultSummaryDAO()
+          .upsert(testSuite.getId().toString(), testCase.getId().toString(), resultSummary);
     }
   }
 
@@ -339,7 +324,6 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
   public RestUtil.PutResponse<TestSuite> addTestCasesToLogicalTestSuite(TestSuite testSuite, List<UUID> testCaseIds) {
     bulkAddToRelationship(testSuite.getId(), testCaseIds, TEST_SUITE, TEST_CASE, Relationship.CONTAINS);
     List<EntityReference> testCasesEntityReferences = new ArrayList<>();
-    List<ResultSummary> resultSummaries = listOrEmpty(testSuite.getTestCaseResultSummary());
     for (UUID testCaseId : testCaseIds) {
       TestCase testCase = Entity.getEntity(Entity.TEST_CASE, testCaseId, "*", Include.ALL);
       postUpdate(testCase);
@@ -352,8 +336,9 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
         TestCaseResult testCaseResult = JsonUtils.readValue(result, TestCaseResult.class);
         ResultSummary resultSummary =
             getResultSummary(testCase, testCaseResult.getTimestamp(), testCaseResult.getTestCaseStatus());
-        resultSummaries.removeIf(summary -> summary.getTestCaseName().equals(resultSummary.getTestCaseName()));
-        resultSummaries.add(resultSummary);
+        daoCollection
+            .testSuiteResultSummaryDAO()
+            .upsert(testSuite.getId().toString(), testCaseId.toString(), JsonUtils.pojoToJson(resultSummary));
       }
       testCasesEntityReferences.add(
           new EntityReference()
@@ -365,14 +350,10 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
               .withHref(testCase.getHref())
               .withDeleted(testCase.getDeleted()));
     }
-    // set test case result summary for logical test suite
-    // and update it in the database
-    testSuite.setTestCaseResultSummary(resultSummaries);
-    testSuite.setSummary(null); // we don't want to store the summary in the database
-    daoCollection
-        .testSuiteDAO()
-        .update(testSuite.getId(), testSuite.getFullyQualifiedName(), JsonUtils.pojoToJson(testSuite));
-
+    testSuite.setTestCaseResultSummary(
+        JsonUtils.readObjects(
+            daoCollection.testSuiteResultSummaryDAO().listResultSummaries(testSuite.getId().toString()),
+            ResultSummary.class));
     testSuite.setTests(testCasesEntityReferences);
     return new RestUtil.PutResponse<>(Response.Status.OK, testSuite, LOGICAL_TEST_CASES_ADDED);
   }
@@ -381,24 +362,12 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
     TestCase testCase = Entity.getEntity(Entity.TEST_CASE, testCaseId, null, null);
     deleteRelationship(testSuiteId, TEST_SUITE, testCaseId, TEST_CASE, Relationship.CONTAINS);
     // remove test case from logical test suite summary and update test suite
-    removeTestCaseFromTestSuiteResultSummary(testSuiteId, testCase.getFullyQualifiedName());
+    daoCollection.testSuiteResultSummaryDAO().delete(testSuiteId.toString(), testCaseId.toString());
     EntityReference entityReference = Entity.getEntityReferenceById(TEST_SUITE, testSuiteId, Include.ALL);
     testCase.setTestSuite(entityReference);
     return new RestUtil.DeleteResponse<>(testCase, RestUtil.ENTITY_DELETED);
   }
 
-  /** Remove test case from test suite summary and update test suite */
-  private void removeTestCaseFromTestSuiteResultSummary(UUID testSuiteId, String testCaseFqn) {
-    TestSuite testSuite = Entity.getEntity(TEST_SUITE, testSuiteId, "*", Include.ALL, false);
-    testSuite.setSummary(null); // we don't want to store the summary in the database
-    List<ResultSummary> resultSummaries = testSuite.getTestCaseResultSummary();
-    resultSummaries.removeIf(summary -> summary.getTestCaseName().equals(testCaseFqn));
-    testSuite.setTestCaseResultSummary(resultSummaries);
-    daoCollection
-        .testSuiteDAO()
-        .update(testSuite.getId(), testSuite.getFullyQualifiedName(), JsonUtils.pojoToJson(testSuite));
-  }
-
   @Override
   public EntityUpdater getUpdater(TestCase original, TestCase updated, Operation operation) {
     return new TestUpdater(original, updated, operation);
@@ -406,14 +375,8 @@ public class TestCaseRepository extends EntityRepository<TestCase> {
 
   @Override
   protected void preDelete(TestCase entity, String deletedBy) {
-    // delete test case from test suite summary when test case is deleted
-    // from an executable test suite
-    List<TestSuite> testSuites = getTestSuites(entity);
-    if (!testSuites.isEmpty()) {
-      for (TestSuite testSuite : testSuites) {
-        removeTestCaseFromTestSuiteResultSummary(testSuite.getId(), entity.getFullyQualifiedName());
-      }
-    }
+    // delete test case from the summary of the test suites when test case is deleted
+    daoCollection.testSuiteResultSummaryDAO().deleteByTestCase(entity.getId().toString());
   }
 
   public class TestUpdater extends EntityUpdater {
@@ -6,12 +6,16 @@ import static org.openmetadata.service.Entity.TEST_SUITE;
 import static org.openmetadata.service.resources.EntityResource.searchClient;
 import static org.openmetadata.service.util.FullyQualifiedName.quoteName;
 
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.SecurityContext;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.tests.ResultSummary;
 import org.openmetadata.schema.tests.TestCase;
@@ -32,6 +36,7 @@ import org.openmetadata.service.util.RestUtil;
 public class TestSuiteRepository extends EntityRepository<TestSuite> {
   private static final String UPDATE_FIELDS = "tests";
   private static final String PATCH_FIELDS = "tests";
+  private static final String RESULT_SUMMARY_FIELD = "testCaseResultSummary";
 
   public TestSuiteRepository(CollectionDAO dao) {
     super(
@@ -48,6 +53,31 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
 
   @Override
   public TestSuite setFields(TestSuite entity, EntityUtil.Fields fields) {
+    entity.setTestCaseResultSummary(
+        fields.contains(RESULT_SUMMARY_FIELD) ? getResultSummaries(entity) : entity.getTestCaseResultSummary());
+    return setTestSuiteFields(entity, fields);
+  }
+
+  @Override
+  protected void setFieldsInBulk(List<TestSuite> testSuites, EntityUtil.Fields fields) {
+    if (fields.contains(RESULT_SUMMARY_FIELD)) {
+      // Load the result summaries of all the test suites together instead of one test suite at a time
+      Map<String, List<ResultSummary>> resultSummaries = new HashMap<>();
+      List<String> ids = testSuites.stream().map(t -> t.getId().toString()).collect(Collectors.toList());
+      for (List<String> batch : Lists.partition(ids, BULK_QUERY_BATCH_SIZE)) {
+        for (Pair<String, String> summary : daoCollection.testSuiteResultSummaryDAO().listResultSummariesBatch(batch)) {
+          resultSummaries
+              .computeIfAbsent(summary.getLeft(), k -> new ArrayList<>())
+              .add(JsonUtils.readValue(summary.getRight(), ResultSummary.class));
+        }
+      }
+      testSuites.forEach(
+          t -> t.setTestCaseResultSummary(resultSummaries.getOrDefault(t.getId().toString(), new ArrayList<>())));
+    }
+    testSuites.forEach(testSuite -> setTestSuiteFields(testSuite, fields));
+  }
+
+  private TestSuite setTestSuiteFields(TestSuite entity, EntityUtil.Fields fields) {
     entity.setPipelines(fields.contains("pipelines") ? getIngestionPipelines(entity) : entity.getPipelines());
     entity.setSummary(fields.contains("summary") ? getTestCasesExecutionSummary(entity) : entity.getSummary());
     return entity.withTests(fields.contains("tests") ? getTestCases(entity) : entity.getTests());
@@ -57,10 +87,13 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
   public TestSuite clearFields(TestSuite entity, EntityUtil.Fields fields) {
     entity.setPipelines(fields.contains("pipelines") ? entity.getPipelines() : null);
     entity.setSummary(fields.contains("summary") ? entity.getSummary() : null);
+    entity.setTestCaseResultSummary(fields.contains(RESULT_SUMMARY_FIELD) ? entity.getTestCaseResultSummary() : null);
     return entity.withTests(fields.contains("tests") ? entity.getTests() : null);
   }
 
-  private TestSummary buildTestSummary(HashMap<String, Integer> testCaseSummary, int total) {
+  private TestSummary buildTestSummary(Map<String, Integer> testCaseSummary) {
+    int total = testCaseSummary.values().stream().mapToInt(Integer::intValue).sum();
+    if (total == 0) return new TestSummary();
 
     return new TestSummary()
         .withAborted(testCaseSummary.getOrDefault(TestCaseStatus.Aborted.toString(), 0))
@@ -79,14 +112,10 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
     }
   }
 
-  private HashMap<String, Integer> getResultSummary(TestSuite testSuite) {
-    HashMap<String, Integer> testCaseSummary = new HashMap<>();
-    for (ResultSummary resultSummary : testSuite.getTestCaseResultSummary()) {
-      String status = resultSummary.getStatus().toString();
-      testCaseSummary.put(status, testCaseSummary.getOrDefault(status, 0) + 1);
-    }
-
-    return testCaseSummary;
+  private List<ResultSummary> getResultSummaries(TestSuite testSuite) {
+    return JsonUtils.readObjects(
+        daoCollection.testSuiteResultSummaryDAO().listResultSummaries(testSuite.getId().toString()),
+        ResultSummary.class);
   }
 
   private ResultSummary getResultSummary(TestCase testCase, Long timestamp, TestCaseStatus testCaseStatus) {
@@ -97,40 +126,16 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
   }
 
   private TestSummary getTestCasesExecutionSummary(TestSuite entity) {
-    if (entity.getTestCaseResultSummary().isEmpty()) return new TestSummary();
-    HashMap<String, Integer> testSummary = getResultSummary(entity);
-    return buildTestSummary(testSummary, entity.getTestCaseResultSummary().size());
-  }
-
-  private TestSummary getTestCasesExecutionSummary(List<TestSuite> entities) {
-    if (entities.isEmpty()) return new TestSummary();
-
-    HashMap<String, Integer> testsSummary = new HashMap<>();
-    int total = 0;
-    for (TestSuite testSuite : entities) {
-      HashMap<String, Integer> testSummary = getResultSummary(testSuite);
-      for (Map.Entry<String, Integer> entry : testSummary.entrySet()) {
-        testsSummary.put(entry.getKey(), testsSummary.getOrDefault(entry.getKey(), 0) + entry.getValue());
-      }
-      total += testSuite.getTestCaseResultSummary().size();
-    }
-
-    return buildTestSummary(testsSummary, total);
+    return buildTestSummary(daoCollection.testSuiteResultSummaryDAO().countByStatus(entity.getId().toString()));
   }
 
   public TestSummary getTestSummary(UUID testSuiteId) {
-    TestSummary testSummary;
     if (testSuiteId == null) {
-      ListFilter filter = new ListFilter();
-      filter.addQueryParam("testSuiteType", "executable");
-      List<TestSuite> testSuites = listAll(EntityUtil.Fields.EMPTY_FIELDS, filter);
-      testSummary = getTestCasesExecutionSummary(testSuites);
-    } else {
-      // don't want to get it from the cache as test results summary may be stale
-      TestSuite testSuite = Entity.getEntity(TEST_SUITE, testSuiteId, "", Include.ALL, false);
-      testSummary = getTestCasesExecutionSummary(testSuite);
+      // Aggregate the summaries of all the executable test suites in the database
+      return buildTestSummary(daoCollection.testSuiteResultSummaryDAO().countByStatusOfExecutableSuites());
     }
-    return testSummary;
+    TestSuite testSuite = Entity.getEntity(TEST_SUITE, testSuiteId, "", Include.ALL, false);
+    return getTestCasesExecutionSummary(testSuite);
   }
 
   @Override
@@ -150,7 +155,17 @@ public class TestSuiteRepository extends EntityRepository<TestSuite> {
 
   @Override
   public void storeEntity(TestSuite entity, boolean update) {
+    // Test case result summaries are stored in test_suite_result_summary and not as part of json
+    List<ResultSummary> resultSummaries = entity.getTestCaseResultSummary();
+    entity.setTestCaseResultSummary(null);
     store(entity, update);
+    entity.setTestCaseResultSummary(resultSummaries);
+  }
+
+  @Override
+  protected void cleanup(TestSuite entity) {
+    daoCollection.testSuiteResultSummaryDAO().deleteByTestSuite(entity.getId().toString());
+    super.cleanup(entity);
   }
 
   @Override
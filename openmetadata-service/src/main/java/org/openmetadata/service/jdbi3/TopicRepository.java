@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.feed.ResolveTask;
@@ -449,9 +450,10 @@ public class TopicRepository extends EntityRepository<Topic> {
       }
 
       // Carry forward the user generated metadata from existing fields to new fields
+      UnaryOperator<Field> findStored = EntityUtil.matcher(origFields, fieldMatch);
       for (Field updated : updatedFields) {
         // Find stored field matching name, data type and ordinal position
-        Field stored = origFields.stream().filter(c -> fieldMatch.test(c, updated)).findAny().orElse(null);
+        Field stored = findStored.apply(updated);
         if (stored == null) { // New field added
           continue;
         }
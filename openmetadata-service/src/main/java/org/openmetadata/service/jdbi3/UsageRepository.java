@@ -20,15 +20,28 @@ import static org.openmetadata.service.Entity.MLMODEL;
 import static org.openmetadata.service.Entity.TABLE;
 import static org.openmetadata.service.util.EntityUtil.fieldUpdated;
 
+import com.google.common.collect.Lists;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.api.EntityUsageCount;
 import org.openmetadata.schema.entity.data.Chart;
 import org.openmetadata.schema.entity.data.Dashboard;
 import org.openmetadata.schema.entity.data.MlModel;
@@ -44,13 +57,16 @@ import org.openmetadata.schema.type.UsageDetails;
 import org.openmetadata.schema.type.UsageStats;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
+import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.exception.UnhandledServerException;
+import org.openmetadata.service.jdbi3.CollectionDAO.UsageDAO.UsageCount;
 import org.openmetadata.service.util.RestUtil;
 
 @Slf4j
 public class UsageRepository {
   private static final String PUT = "createOrUpdate";
   private static final String POST = "createNew";
+  private static final int BULK_BATCH_SIZE = 1000;
   private final CollectionDAO dao;
 
   public UsageRepository(CollectionDAO dao) {
@@ -69,6 +85,14 @@ public class UsageRepository {
     return new EntityUsage().withUsage(usageDetails).withEntity(ref);
   }
 
+  public void createBulk(String entityType, List<EntityUsageCount> usage) {
+    addBulkUsage(POST, entityType, usage);
+  }
+
+  public void createOrUpdateBulk(String entityType, List<EntityUsageCount> usage) {
+    addBulkUsage(PUT, entityType, usage);
+  }
+
   public RestUtil.PutResponse<?> create(String entityType, String id, DailyCount usage) {
     // Validate data entity for which usage is being collected
     Entity.getEntityReferenceById(entityType, UUID.fromString(id), Include.NON_DELETED);
@@ -95,6 +119,171 @@ public class UsageRepository {
     dao.usageDAO().computePercentile(entityType, date);
   }
 
+  /**
+   * Add the daily usage counts of several entities of a type reported with POST, which replaces the stored daily count
+   * of an entity on a date, or with PUT, which adds to it. The usage of tables is also added to their database schemas
+   * and databases. The daily counts are read with a single range query per batch of entities. The rows missing for the
+   * reported dates are inserted with the rolling weekly and monthly counts of the days before, and the reported counts
+   * are then added to the stored daily, weekly and monthly counts in SQL with a multi-row upsert, so that concurrent
+   * reports don't overwrite each other. No change event is published for the entities.
+   */
+  private void addBulkUsage(String method, String entityType, List<EntityUsageCount> usage) {
+    String type = entityType.toLowerCase();
+    if (!List.of(TABLE, DASHBOARD, CHART, MLMODEL).contains(type)) {
+      throw new UnhandledServerException(CatalogExceptionMessage.entityTypeNotSupported(entityType));
+    }
+    Map<String, String> entityTypes = new HashMap<>();
+    Map<String, Map<LocalDate, Integer>> entityCounts = new HashMap<>();
+    for (EntityUsageCount count : usage) {
+      String id = count.getId().toString();
+      entityTypes.put(id, type);
+      Map<LocalDate, Integer> counts = entityCounts.computeIfAbsent(id, k -> new HashMap<>());
+      counts.merge(parseDate(count.getDate()), count.getCount(), method.equals(POST) ? (c1, c2) -> c2 : Integer::sum);
+    }
+
+    // Validate the entities, and add the usage of tables to their database schemas and databases
+    List<UUID> ids = usage.stream().map(EntityUsageCount::getId).distinct().collect(Collectors.toList());
+    Map<String, Map<LocalDate, Integer>> containerCounts = new HashMap<>();
+    if (type.equals(TABLE)) {
+      for (Table table : getTables(ids)) {
+        Map<LocalDate, Integer> tableCounts = entityCounts.get(table.getId().toString());
+        for (EntityReference container : List.of(table.getDatabaseSchema(), table.getDatabase())) {
+          String containerId = container.getId().toString();
+          entityTypes.put(containerId, container.getType());
+          Map<LocalDate, Integer> counts = containerCounts.computeIfAbsent(containerId, k -> new HashMap<>());
+          tableCounts.forEach((date, count) -> counts.merge(date, count, Integer::sum));
+        }
+      }
+    } else {
+      Entity.getEntityReferencesByIds(entityType, ids, Include.ALL);
+    }
+
+    List<UsageCount> missingCounts = new ArrayList<>();
+    List<UsageCount> increments = new ArrayList<>();
+    getUsageCounts(entityCounts, entityTypes, method.equals(POST), missingCounts, increments);
+    getUsageCounts(containerCounts, entityTypes, false, missingCounts, increments);
+    for (List<UsageCount> batch : Lists.partition(missingCounts, BULK_BATCH_SIZE)) {
+      dao.usageDAO().insertMissingCounts(batch);
+    }
+    for (List<UsageCount> batch : Lists.partition(increments, BULK_BATCH_SIZE)) {
+      dao.usageDAO().addCounts(batch);
+    }
+  }
+
+  private void getUsageCounts(
+      Map<String, Map<LocalDate, Integer>> reportedCounts,
+      Map<String, String> entityTypes,
+      boolean replace,
+      List<UsageCount> missingCounts,
+      List<UsageCount> increments) {
+    for (List<String> ids : Lists.partition(new ArrayList<>(reportedCounts.keySet()), BULK_BATCH_SIZE)) {
+      // Read the daily counts of the entities in the batch from 29 days before the earliest reported date
+      List<LocalDate> dates =
+          ids.stream().flatMap(id -> reportedCounts.get(id).keySet().stream()).collect(Collectors.toList());
+      LocalDate startDate = Collections.min(dates).minusDays(29);
+      LocalDate endDate = Collections.max(dates);
+      Map<String, NavigableMap<LocalDate, Integer>> dailyCounts = new HashMap<>();
+      for (UsageCount stored : dao.usageDAO().getUsageCounts(ids, startDate, endDate)) {
+        dailyCounts
+            .computeIfAbsent(stored.getId(), k -> new TreeMap<>())
+            .put(stored.getUsageDate(), stored.getCount1());
+      }
+      for (String id : ids) {
+        NavigableMap<LocalDate, Integer> stored = dailyCounts.getOrDefault(id, new TreeMap<>());
+        missingCounts.addAll(computeMissingCounts(id, entityTypes.get(id), stored, reportedCounts.get(id).keySet()));
+        increments.addAll(computeUsageIncrements(id, entityTypes.get(id), stored, reportedCounts.get(id), replace));
+      }
+    }
+  }
+
+  /**
+   * Rows for the reported dates of an entity without stored usage. The daily count is zero, and the weekly and monthly
+   * counts are those of the days before. The reported counts are added to them by {@link #computeUsageIncrements}.
+   */
+  static List<UsageCount> computeMissingCounts(
+      String id, String entityType, NavigableMap<LocalDate, Integer> storedCounts, Set<LocalDate> reportedDates) {
+    List<UsageCount> usageCounts = new ArrayList<>();
+    for (LocalDate date : new TreeSet<>(reportedDates)) {
+      if (!storedCounts.containsKey(date)) {
+        LocalDate dayBefore = date.minusDays(1);
+        usageCounts.add(
+            UsageCount.builder()
+                .id(id)
+                .entityType(entityType)
+                .usageDate(date)
+                .count1(0)
+                .count7(sumCounts(storedCounts, dayBefore, 6))
+                .count30(sumCounts(storedCounts, dayBefore, 29))
+                .build());
+      }
+    }
+    return usageCounts;
+  }
+
+  /**
+   * Increments of the daily, weekly and monthly counts of the reported dates of an entity, to be added to the stored
+   * counts. A replaced daily count is incremented by its difference with the stored count.
+   */
+  static List<UsageCount> computeUsageIncrements(
+      String id,
+      String entityType,
+      NavigableMap<LocalDate, Integer> storedCounts,
+      Map<LocalDate, Integer> reportedCounts,
+      boolean replace) {
+    NavigableMap<LocalDate, Integer> dailyIncrements = new TreeMap<>();
+    reportedCounts.forEach(
+        (date, count) -> dailyIncrements.put(date, replace ? count - storedCounts.getOrDefault(date, 0) : count));
+    List<UsageCount> usageCounts = new ArrayList<>();
+    for (LocalDate date : dailyIncrements.keySet()) {
+      usageCounts.add(
+          UsageCount.builder()
+              .id(id)
+              .entityType(entityType)
+              .usageDate(date)
+              .count1(dailyIncrements.get(date))
+              .count7(sumCounts(dailyIncrements, date, 7))
+              .count30(sumCounts(dailyIncrements, date, 30))
+              .build());
+    }
+    return usageCounts;
+  }
+
+  private static int sumCounts(NavigableMap<LocalDate, Integer> dailyCounts, LocalDate date, int days) {
+    return dailyCounts.subMap(date.minusDays(days - 1L), true, date, true).values().stream()
+        .mapToInt(Integer::intValue)
+        .sum();
+  }
+
+  private List<Table> getTables(List<UUID> ids) {
+    // we accept usage for deleted entities
+    List<Table> tables = new ArrayList<>();
+    for (List<UUID> batch : Lists.partition(ids, BULK_BATCH_SIZE)) {
+      Map<UUID, Table> found =
+          dao.tableDAO().findEntitiesByIds(batch.stream().map(UUID::toString).collect(Collectors.toList()), Include.ALL)
+              .stream()
+              .collect(Collectors.toMap(Table::getId, table -> table));
+      for (UUID id : batch) {
+        Table table = found.get(id);
+        if (table == null) {
+          throw new EntityNotFoundException(CatalogExceptionMessage.entityNotFound(Entity.TABLE, id));
+        }
+        if (table.getDatabaseSchema() == null || table.getDatabase() == null) {
+          table = Entity.getEntity(Entity.TABLE, id, "", Include.ALL);
+        }
+        tables.add(table);
+      }
+    }
+    return tables;
+  }
+
+  private static LocalDate parseDate(String date) {
+    try {
+      return LocalDate.parse(date);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid usage date " + date);
+    }
+  }
+
   private RestUtil.PutResponse<?> addUsage(String method, String entityType, String entityId, DailyCount usage) {
     String fields = "usageSummary";
     // If table usage was reported, add the usage count to schema and database
@@ -65,6 +65,13 @@ public class ConnectionAwareAnnotationSqlLocator implements SqlLocator {
                 .map(l -> l.stream().filter(a -> a.connectionType().equals(connectionType)).findFirst())
                 .flatMap(identity()) // Unwrap Option<Optional<?>> to Optional<?>
                 .map(ConnectionAwareSqlQuery::value),
+        () ->
+            Optional.ofNullable(method.getAnnotation(ConnectionAwareSqlBatchContainer.class))
+                .map(ConnectionAwareSqlBatchContainer::value)
+                .map(Arrays::asList)
+                .map(l -> l.stream().filter(a -> a.connectionType().equals(connectionType)).findFirst())
+                .flatMap(identity()) // Unwrap Option<Optional<?>> to Optional<?>
+                .map(ConnectionAwareSqlBatch::value),
         () -> SqlAnnotations.getAnnotationValue(method));
   }
 }
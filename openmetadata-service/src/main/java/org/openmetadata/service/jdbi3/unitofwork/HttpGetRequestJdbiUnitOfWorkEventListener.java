@@ -1,5 +1,7 @@
 package org.openmetadata.service.jdbi3.unitofwork;
 
+import static org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkApplicationEventListener.getUserName;
+
 import lombok.extern.slf4j.Slf4j;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
 import org.glassfish.jersey.server.monitoring.RequestEventListener;
@@ -14,7 +16,7 @@ class HttpGetRequestJdbiUnitOfWorkEventListener implements RequestEventListener
     RequestEvent.Type type = event.getType();
     LOG.debug("Handling GET Request Event {} {}", type, Thread.currentThread().getId());
     if (type == RequestEvent.Type.RESOURCE_METHOD_START) {
-      JdbiTransactionManager.getInstance().begin(true);
+      JdbiTransactionManager.getInstance().beginReadOnly(getUserName(event));
     } else if (type == RequestEvent.Type.FINISHED) {
       JdbiTransactionManager.getInstance().terminateHandle();
     }
@@ -1,6 +1,7 @@
 package org.openmetadata.service.jdbi3.unitofwork;
 
 import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 
@@ -13,6 +14,31 @@ public interface JdbiHandleManager {
 
   void clear();
 
+  /** Whether the units of work that only read can be served by a read replica */
+  default boolean supportsReadReplica() {
+    return false;
+  }
+
+  /** Set the read replica serving the units of work that only read, when {@link #supportsReadReplica()} */
+  default void setReadReplicaRouter(ReadReplicaRouter router) {}
+
+  default ReadReplicaRouter getReadReplicaRouter() {
+    return null;
+  }
+
+  /** Open the handle of this thread on the read replica instead of the primary database */
+  default void setUseReplica(boolean useReplica) {}
+
+  /** Whether the handle of this thread is open on the read replica */
+  default boolean isOnReplica() {
+    return false;
+  }
+
+  /** Run the action with a handle on the primary database when this thread reads from the read replica */
+  default <T> T onPrimary(Supplier<T> action) {
+    return action.get();
+  }
+
   default ThreadFactory createThreadFactory() {
     throw new UnsupportedOperationException("Thread factory creation is not supported");
   }
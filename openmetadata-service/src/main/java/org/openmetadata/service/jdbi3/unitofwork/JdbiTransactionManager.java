@@ -1,8 +1,12 @@
 package org.openmetadata.service.jdbi3.unitofwork;
 
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Handles;
@@ -14,7 +18,11 @@ public class JdbiTransactionManager {
   private final JdbiHandleManager handleManager;
   private final Set<Integer> IN_TRANSACTION_HANDLES = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
-  private JdbiTransactionManager(JdbiHandleManager handleManager) {
+  /** Actions to run when the unit of work that writes on this thread is committed or rolled back */
+  @SuppressWarnings("ThreadLocalUsage")
+  private static final ThreadLocal<List<Runnable>> COMPLETION_ACTIONS = new ThreadLocal<>();
+
+  JdbiTransactionManager(JdbiHandleManager handleManager) {
     this.handleManager = handleManager;
   }
 
@@ -31,8 +39,69 @@ public class JdbiTransactionManager {
     return instance;
   }
 
+  /** Replace the transaction manager used by the static methods, and return the previous one */
+  @VisibleForTesting
+  static JdbiTransactionManager setInstance(JdbiTransactionManager manager) {
+    JdbiTransactionManager previous = instance;
+    instance = manager;
+    return previous;
+  }
+
   public void begin(boolean autoCommit) {
+    begin(autoCommit, false);
+  }
+
+  /**
+   * Run the action once the unit of work writing on this thread is committed or rolled back, or right away when the
+   * thread has no such unit of work. Caches use this to drop the entries that concurrent requests loaded before the
+   * changes of the unit of work were committed, or loaded from changes that were rolled back.
+   */
+  public static void afterCompletion(Runnable action) {
+    List<Runnable> actions = COMPLETION_ACTIONS.get();
+    if (actions == null) {
+      action.run();
+    } else {
+      actions.add(action);
+    }
+  }
+
+  /** Begin the unit of work of a request that only reads, on the read replica when the user can read from it */
+  public void beginReadOnly(String userName) {
+    ReadReplicaRouter router = handleManager.getReadReplicaRouter();
+    begin(true, router != null && router.canRead(userName));
+  }
+
+  /**
+   * Run the action reading from the primary database even when the unit of work of this thread reads from the read
+   * replica. The caches shared by all the requests load their entries with this, so that they don't keep data that is
+   * behind the primary until they expire.
+   */
+  public static <T> T readFromPrimary(Supplier<T> action) {
+    JdbiTransactionManager manager = instance;
+    return manager == null ? action.get() : manager.handleManager.onPrimary(action);
+  }
+
+  /** Move the unit of work of this thread from the read replica to the primary database after the given failure */
+  public void fallbackToPrimary(Throwable failure) {
+    handleManager.getReadReplicaRouter().fallback(failure);
+    terminateHandle();
+    begin(true, false);
+  }
+
+  /** Record a change made by the user, so that the user reads their own writes */
+  public void recordWrite(String userName) {
+    ReadReplicaRouter router = handleManager.getReadReplicaRouter();
+    if (router != null) {
+      router.recordWrite(userName);
+    }
+  }
+
+  private void begin(boolean autoCommit, boolean useReplica) {
+    if (!autoCommit) {
+      COMPLETION_ACTIONS.set(new ArrayList<>());
+    }
     try {
+      handleManager.setUseReplica(useReplica);
       Handle handle = handleManager.get();
       if (autoCommit) {
         handle.getConnection().setAutoCommit(autoCommit);
@@ -69,7 +138,9 @@ public class JdbiTransactionManager {
           handle.getTransactionIsolationLevel());
     } catch (Exception ex) {
       rollback();
+      return;
     }
+    runCompletionActions();
   }
 
   public void rollback() {
@@ -93,6 +164,7 @@ public class JdbiTransactionManager {
         terminateHandle();
       }
     }
+    runCompletionActions();
   }
 
   public void terminateHandle() {
@@ -100,5 +172,21 @@ public class JdbiTransactionManager {
       IN_TRANSACTION_HANDLES.remove(handleManager.get().hashCode());
       handleManager.clear();
     }
+    runCompletionActions();
+  }
+
+  private static void runCompletionActions() {
+    List<Runnable> actions = COMPLETION_ACTIONS.get();
+    if (actions == null) {
+      return;
+    }
+    COMPLETION_ACTIONS.remove();
+    for (Runnable action : actions) {
+      try {
+        action.run();
+      } catch (Exception e) {
+        LOG.warn("Failed to run the action after the unit of work completed", e);
+      }
+    }
   }
 }
@@ -1,8 +1,10 @@
 package org.openmetadata.service.jdbi3.unitofwork;
 
+import java.security.Principal;
 import java.util.Set;
 import javax.annotation.Nullable;
 import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.SecurityContext;
 import lombok.extern.slf4j.Slf4j;
 import org.glassfish.jersey.server.monitoring.ApplicationEvent;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
@@ -34,4 +36,12 @@ public class JdbiUnitOfWorkApplicationEventListener implements ApplicationEventL
     }
     return new NonHttpGetRequestJdbiUnitOfWorkEventListener();
   }
+
+  /** Name of the authenticated user of the request, or null when the request is not authenticated */
+  @Nullable
+  static String getUserName(RequestEvent event) {
+    SecurityContext securityContext = event.getContainerRequest().getSecurityContext();
+    Principal principal = securityContext == null ? null : securityContext.getUserPrincipal();
+    return principal == null ? null : principal.getName();
+  }
 }
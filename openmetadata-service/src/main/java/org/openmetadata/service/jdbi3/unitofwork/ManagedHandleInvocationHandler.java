@@ -6,6 +6,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.JdbiException;
 import org.jdbi.v3.sqlobject.CreateSqlObject;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 
@@ -54,7 +55,18 @@ public class ManagedHandleInvocationHandler<T> implements InvocationHandler {
             handle.hashCode());
 
         dao = handle.attach(underlying);
-        result = invokeMethod(method, dao, args);
+        try {
+          result = invokeMethod(method, dao, args);
+        } catch (JdbiException ex) {
+          if (!JdbiUnitOfWorkProvider.getInstance().getHandleManager().isOnReplica()
+              || !ReadReplicaRouter.isReplicaFailure(ex)) {
+            throw ex;
+          }
+          // Run the query again on the primary database, and the rest of the unit of work along with it
+          JdbiTransactionManager.getInstance().fallbackToPrimary(ex);
+          dao = JdbiUnitOfWorkProvider.getInstance().getHandle().attach(underlying);
+          result = invokeMethod(method, dao, args);
+        }
       } else {
         // This is non-transactional request
         Handle handle = JdbiUnitOfWorkProvider.getInstance().getHandleManager().getJdbi().open();
@@ -1,5 +1,7 @@
 package org.openmetadata.service.jdbi3.unitofwork;
 
+import static org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkApplicationEventListener.getUserName;
+
 import javax.ws.rs.HttpMethod;
 import lombok.extern.slf4j.Slf4j;
 import org.glassfish.jersey.server.monitoring.RequestEvent;
@@ -22,6 +24,7 @@ class NonHttpGetRequestJdbiUnitOfWorkEventListener implements RequestEventListen
         JdbiTransactionManager.getInstance().begin(false);
       } else if (type == RequestEvent.Type.RESP_FILTERS_START) {
         JdbiTransactionManager.getInstance().commit();
+        JdbiTransactionManager.getInstance().recordWrite(getUserName(event));
       } else if (type == RequestEvent.Type.ON_EXCEPTION) {
         JdbiTransactionManager.getInstance().rollback();
       } else if (type == RequestEvent.Type.FINISHED) {
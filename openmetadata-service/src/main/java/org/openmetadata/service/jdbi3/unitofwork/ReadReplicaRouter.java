@@ -0,0 +1,203 @@
+package org.openmetadata.service.jdbi3.unitofwork;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.dropwizard.lifecycle.Managed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jdbi.v3.core.ConnectionException;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.openmetadata.service.config.ReadReplicaConfiguration;
+import org.openmetadata.service.jdbi3.CollectionDAO.ReplicaHeartbeatDAO;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Routes the units of work of the HTTP GET requests to the read replica of the database. The primary database is used
+ * instead when:
+ *
+ * <ul>
+ *   <li>the replica is behind the primary by more than maxLagSeconds. The lag is measured by writing a heartbeat to the
+ *       primary every lagCheckIntervalSeconds and reading it back from the replica.
+ *   <li>the replica fails to open a connection or to run a query, until the next lag check succeeds.
+ *   <li>the user of the request made a change within readYourWritesWindowSeconds, so that the user reads their own
+ *       writes. Changes are tracked by each server, and hence this relies on the requests of a user going to the same
+ *       server, as with sticky sessions.
+ * </ul>
+ *
+ * <p>The caches shared by all the requests load their entries from the primary with {@link
+ * JdbiTransactionManager#readFromPrimary}, so that data read from a lagging replica is never cached.
+ */
+@Slf4j
+public class ReadReplicaRouter implements Managed {
+  private static final String READ_ONLY_SQL_TRANSACTION = "25006";
+  private static final int MYSQL_READ_ONLY_OPTION = 1290;
+  private static final int MYSQL_READ_ONLY_TRANSACTION = 1792;
+
+  private final Jdbi primary;
+  private final Jdbi replica;
+  private final long maxLagMillis;
+  private final long lagCheckIntervalMillis;
+  private final Cache<String, Boolean> recentWriters;
+  private final Counter fallbacks;
+  @Getter private volatile boolean available;
+  @Getter private volatile long lagMillis = -1;
+  private ScheduledExecutorService lagChecker;
+
+  public ReadReplicaRouter(Jdbi primary, Jdbi replica, ReadReplicaConfiguration config) {
+    this.primary = primary;
+    this.replica = replica;
+    this.maxLagMillis = TimeUnit.SECONDS.toMillis(config.getMaxLagSeconds());
+    this.lagCheckIntervalMillis = TimeUnit.SECONDS.toMillis(config.getLagCheckIntervalSeconds());
+    this.recentWriters =
+        CacheBuilder.newBuilder()
+            .maximumSize(100000)
+            .expireAfterWrite(config.getReadYourWritesWindowSeconds(), TimeUnit.SECONDS)
+            .build();
+    this.fallbacks =
+        Counter.builder("replica_fallbacks")
+            .description("Number of GET requests moved from the read replica to the primary database on a failure.")
+            .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+    Gauge.builder("replica_lag_millis", this, ReadReplicaRouter::getLagMillis)
+        .description("Replication lag of the read replica measured with the heartbeat.")
+        .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+    Gauge.builder("replica_available", this, router -> router.isAvailable() ? 1 : 0)
+        .description("Whether the GET requests are served by the read replica.")
+        .register(MicrometerBundleSingleton.prometheusMeterRegistry);
+  }
+
+  @Override
+  public void start() {
+    lagChecker =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "replica-lag-checker");
+              thread.setDaemon(true);
+              return thread;
+            });
+    lagChecker.scheduleWithFixedDelay(this::checkLag, 0, lagCheckIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void stop() {
+    if (lagChecker != null) {
+      lagChecker.shutdownNow();
+    }
+  }
+
+  /** Whether a GET request of the given user can be served by the replica. The user is null when not authenticated. */
+  public boolean canRead(String userName) {
+    return available && (userName == null || recentWriters.getIfPresent(userName) == null);
+  }
+
+  /** Record a change made by the user, so that their GET requests are served by the primary for a while */
+  public void recordWrite(String userName) {
+    if (userName != null) {
+      recentWriters.put(userName, Boolean.TRUE);
+    }
+  }
+
+  /** Open a read only handle on the replica, or return null when the replica fails */
+  Handle openReplicaHandle() {
+    Handle handle = null;
+    try {
+      handle = replica.open();
+      handle.getConnection().setReadOnly(true);
+      return handle;
+    } catch (Exception e) {
+      if (handle != null) {
+        handle.close();
+      }
+      markUnavailable("Failed to open a connection to the read replica", e);
+      return null;
+    }
+  }
+
+  /** Record that a unit of work moved from the replica to the primary after the given failure */
+  void fallback(Throwable failure) {
+    fallbacks.increment();
+    if (isConnectionFailure(failure)) {
+      markUnavailable("Read replica connection failed", failure);
+    } else {
+      LOG.debug("Write in a GET request moved to the primary database", failure);
+    }
+  }
+
+  /**
+   * Whether the query failed because of the replica, and can be run again on the primary. This is a failure of the
+   * connection to the replica, or a change made by a GET request on the read only connection.
+   */
+  static boolean isReplicaFailure(Throwable failure) {
+    return isConnectionFailure(failure) || isReadOnlyViolation(failure);
+  }
+
+  static boolean isConnectionFailure(Throwable failure) {
+    for (Throwable t = failure; t != null; t = t.getCause()) {
+      if (t instanceof ConnectionException
+          || t instanceof SQLRecoverableException
+          || t instanceof SQLNonTransientConnectionException
+          || t instanceof SQLTransientConnectionException) {
+        return true;
+      }
+      if (t instanceof SQLException) {
+        String sqlState = ((SQLException) t).getSQLState();
+        if (sqlState != null && sqlState.startsWith("08")) { // Connection exception class
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  static boolean isReadOnlyViolation(Throwable failure) {
+    for (Throwable t = failure; t != null; t = t.getCause()) {
+      if (t instanceof SQLException) {
+        SQLException e = (SQLException) t;
+        if (READ_ONLY_SQL_TRANSACTION.equals(e.getSQLState())
+            || e.getErrorCode() == MYSQL_READ_ONLY_OPTION
+            || e.getErrorCode() == MYSQL_READ_ONLY_TRANSACTION
+            || e.getMessage() != null && e.getMessage().startsWith("Connection is read-only")) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  void checkLag() {
+    long now = System.currentTimeMillis();
+    try {
+      primary.useHandle(handle -> handle.attach(ReplicaHeartbeatDAO.class).update(now));
+    } catch (Exception e) {
+      LOG.warn("Failed to write the read replica heartbeat", e);
+    }
+    try {
+      Long heartbeat = replica.withHandle(handle -> handle.attach(ReplicaHeartbeatDAO.class).getHeartbeat());
+      lagMillis = heartbeat == null ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - heartbeat);
+      if (lagMillis > maxLagMillis) {
+        markUnavailable(String.format("Read replica is behind by %d ms", lagMillis), null);
+      } else if (!available) {
+        available = true;
+        LOG.info("Read replica is available with a lag of {} ms", lagMillis);
+      }
+    } catch (Exception e) {
+      markUnavailable("Failed to read the read replica heartbeat", e);
+    }
+  }
+
+  private void markUnavailable(String reason, Throwable cause) {
+    if (available) {
+      available = false;
+      LOG.warn("{}, serving the GET requests from the primary database", reason, cause);
+    }
+  }
+}
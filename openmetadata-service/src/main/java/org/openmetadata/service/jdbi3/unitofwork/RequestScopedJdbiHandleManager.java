@@ -1,5 +1,8 @@
 package org.openmetadata.service.jdbi3.unitofwork;
 
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
@@ -8,9 +11,17 @@ import org.jdbi.v3.core.Jdbi;
 class RequestScopedJdbiHandleManager implements JdbiHandleManager {
   private final Jdbi dbi;
 
+  @Getter @Setter private volatile ReadReplicaRouter readReplicaRouter;
+
   @SuppressWarnings("ThreadLocalUsage")
   private final ThreadLocal<Handle> threadLocal = new ThreadLocal<>();
 
+  @SuppressWarnings("ThreadLocalUsage")
+  private final ThreadLocal<Boolean> useReplica = new ThreadLocal<>();
+
+  @SuppressWarnings("ThreadLocalUsage")
+  private final ThreadLocal<Boolean> onReplica = new ThreadLocal<>();
+
   public RequestScopedJdbiHandleManager(Jdbi dbi) {
     this.dbi = dbi;
   }
@@ -23,13 +34,64 @@ class RequestScopedJdbiHandleManager implements JdbiHandleManager {
   @Override
   public Handle get() {
     if (threadLocal.get() == null) {
-      threadLocal.set(dbi.open());
+      threadLocal.set(open());
     }
     Handle handle = threadLocal.get();
     LOG.debug("handle [{}] : Thread Id [{}]", handle.hashCode(), Thread.currentThread().getId());
     return handle;
   }
 
+  @Override
+  public boolean supportsReadReplica() {
+    return true;
+  }
+
+  @Override
+  public void setUseReplica(boolean replica) {
+    useReplica.set(replica);
+  }
+
+  @Override
+  public boolean isOnReplica() {
+    return Boolean.TRUE.equals(onReplica.get());
+  }
+
+  @Override
+  public <T> T onPrimary(Supplier<T> action) {
+    if (!Boolean.TRUE.equals(useReplica.get())) {
+      return action.get();
+    }
+    // Set the handle on the replica aside, and open one on the primary for the action
+    Handle replicaHandle = threadLocal.get();
+    Boolean replica = onReplica.get();
+    threadLocal.remove();
+    onReplica.remove();
+    useReplica.set(false);
+    try {
+      return action.get();
+    } finally {
+      Handle primaryHandle = threadLocal.get();
+      if (primaryHandle != null) {
+        primaryHandle.close();
+      }
+      threadLocal.set(replicaHandle);
+      onReplica.set(replica);
+      useReplica.set(true);
+    }
+  }
+
+  private Handle open() {
+    ReadReplicaRouter router = readReplicaRouter;
+    if (router != null && Boolean.TRUE.equals(useReplica.get())) {
+      Handle handle = router.openReplicaHandle();
+      if (handle != null) {
+        onReplica.set(true);
+        return handle;
+      }
+    }
+    return dbi.open();
+  }
+
   @Override
   public boolean handleExists() {
     return threadLocal.get() != null;
@@ -37,12 +99,14 @@ class RequestScopedJdbiHandleManager implements JdbiHandleManager {
 
   @Override
   public void clear() {
+    useReplica.remove();
     Handle handle = threadLocal.get();
     if (handle != null) {
       handle.close();
       LOG.debug("Closed handle Thread Id [{}] has handle id [{}]", Thread.currentThread().getId(), handle.hashCode());
 
       threadLocal.remove();
+      onReplica.remove();
       LOG.debug("Clearing handle member for thread [{}] ", Thread.currentThread().getId());
     }
   }
@@ -0,0 +1,35 @@
+package org.openmetadata.service.migration.postgres.v120;
+
+import static org.openmetadata.service.migration.utils.v120.MigrationUtil.addPipelineIdToLineage;
+
+import lombok.SneakyThrows;
+import org.jdbi.v3.core.Handle;
+import org.openmetadata.service.migration.api.MigrationProcessImpl;
+import org.openmetadata.service.migration.utils.MigrationFile;
+
+public class Migration extends MigrationProcessImpl {
+  /** Copy the pipeline id of the lineage details to the pipelineId column for a batch of lineage edges */
+  public static final String PIPELINE_ID_UPDATE =
+      "UPDATE entity_relationship SET pipelineId = json->'pipeline'->>'id' "
+          + "WHERE relation = :relation AND json->'pipeline'->>'id' IS NOT NULL "
+          + "AND (fromId > :fromId OR (fromId = :fromId AND toId > :toId)) "
+          + "AND (fromId < :lastFromId OR (fromId = :lastFromId AND toId <= :lastToId))";
+
+  private Handle handle;
+
+  public Migration(MigrationFile migrationFile) {
+    super(migrationFile);
+  }
+
+  @Override
+  public void initialize(Handle handle) {
+    super.initialize(handle);
+    this.handle = handle;
+  }
+
+  @Override
+  @SneakyThrows
+  public void runDataMigration() {
+    addPipelineIdToLineage(handle, PIPELINE_ID_UPDATE);
+  }
+}
@@ -0,0 +1,57 @@
+package org.openmetadata.service.migration.utils.v120;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.jdbi.v3.core.Handle;
+import org.openmetadata.schema.type.Relationship;
+
+@Slf4j
+public class MigrationUtil {
+  private static final int BATCH_SIZE = 1000;
+
+  private MigrationUtil() {
+    /* Cannot create object  util class*/
+  }
+
+  /**
+   * Store the pipeline id of the lineage details in the pipelineId column of entity_relationship. Lineage edges are
+   * walked in the primary key order in batches so that each batch is an index range scan and the update does not lock
+   * the whole table.
+   */
+  public static void addPipelineIdToLineage(Handle handle, String updateSql) {
+    LOG.debug("Starting migration of pipeline id in lineage");
+    String selectSql =
+        "SELECT fromId, toId FROM entity_relationship WHERE relation = :relation "
+            + "AND (fromId > :fromId OR (fromId = :fromId AND toId > :toId)) ORDER BY fromId, toId LIMIT :limit";
+    String fromId = "";
+    String toId = "";
+    int updated = 0;
+    while (true) {
+      List<String[]> keys =
+          handle
+              .createQuery(selectSql)
+              .bind("relation", Relationship.UPSTREAM.ordinal())
+              .bind("fromId", fromId)
+              .bind("toId", toId)
+              .bind("limit", BATCH_SIZE)
+              .map((rs, ctx) -> new String[] {rs.getString(1), rs.getString(2)})
+              .list();
+      if (keys.isEmpty()) {
+        break;
+      }
+      String[] last = keys.get(keys.size() - 1);
+      updated +=
+          handle
+              .createUpdate(updateSql)
+              .bind("relation", Relationship.UPSTREAM.ordinal())
+              .bind("fromId", fromId)
+              .bind("toId", toId)
+              .bind("lastFromId", last[0])
+              .bind("lastToId", last[1])
+              .execute();
+      fromId = last[0];
+      toId = last[1];
+    }
+    LOG.debug("Completed migration of pipeline id in lineage, updated {} edges", updated);
+  }
+}
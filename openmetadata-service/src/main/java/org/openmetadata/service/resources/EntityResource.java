@@ -201,6 +201,16 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return repository.listVersions(id);
   }
 
+  /** List a page of the versions when {@code limit} is given, and otherwise all the versions of the entity */
+  protected EntityHistory listVersionsInternal(SecurityContext securityContext, UUID id, Integer limit, String after) {
+    if (limit == null) {
+      return listVersionsInternal(securityContext, id);
+    }
+    OperationContext operationContext = new OperationContext(entityType, MetadataOperation.VIEW_BASIC);
+    authorizer.authorize(securityContext, operationContext, getResourceContextById(id));
+    return repository.listVersions(id, limit, after);
+  }
+
   public T getByNameInternal(
       UriInfo uriInfo, SecurityContext securityContext, String name, String fieldsParam, Include include) {
     Fields fields = getFields(fieldsParam);
@@ -272,7 +272,9 @@ public class TableResource extends EntityResource<Table, TableRepository> {
   @Operation(
       operationId = "listAllTableVersion",
       summary = "List table versions",
-      description = "Get a list of all the versions of a table identified by `Id`",
+      description =
+          "Get a list of all the versions of a table identified by `Id`. Use `limit` and `after` to list the "
+              + "versions a page at a time.",
       responses = {
         @ApiResponse(
             responseCode = "200",
@@ -282,8 +284,15 @@ public class TableResource extends EntityResource<Table, TableRepository> {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "Table Id", schema = @Schema(type = "string")) @PathParam("id") UUID id) {
-    return super.listVersionsInternal(securityContext, id);
+      @Parameter(description = "Table Id", schema = @Schema(type = "string")) @PathParam("id") UUID id,
+      @Parameter(description = "Limit the number of versions returned. All the versions are returned by default.")
+          @Min(1)
+          @QueryParam("limit")
+          Integer limitParam,
+      @Parameter(description = "Returns list of versions older than this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after) {
+    return super.listVersionsInternal(securityContext, id, limitParam, after);
   }
 
   @GET
@@ -69,7 +69,7 @@ public class TestSuiteResource extends EntityResource<TestSuite, TestSuiteReposi
   public static final String NON_EXECUTABLE_TEST_SUITE_DELETION_ERROR =
       "Cannot delete executable test suite. To delete executable test suite, use DELETE /v1/dataQuality/testSuites/executable/<...>";
 
-  static final String FIELDS = "owner,tests,summary";
+  static final String FIELDS = "owner,tests,summary,testCaseResultSummary";
 
   public TestSuiteResource(CollectionDAO dao, Authorizer authorizer) {
     super(TestSuite.class, new TestSuiteRepository(dao), authorizer);
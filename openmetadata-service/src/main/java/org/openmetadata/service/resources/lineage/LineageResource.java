@@ -50,6 +50,7 @@ import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.MetadataOperation;
 import org.openmetadata.schema.type.TagLabel;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.LineageRepository;
 import org.openmetadata.service.resources.Collection;
@@ -76,6 +77,11 @@ public class LineageResource {
     this.authorizer = authorizer;
   }
 
+  @SuppressWarnings("unused") // Method used by reflection
+  public void initialize(OpenMetadataApplicationConfig config) {
+    dao.initialize(config.getLineageConfiguration());
+  }
+
   @GET
   @Valid
   @Path("/{entity}/{id}")
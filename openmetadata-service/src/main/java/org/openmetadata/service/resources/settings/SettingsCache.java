@@ -27,16 +27,18 @@ import org.openmetadata.schema.email.SmtpSettings;
 import org.openmetadata.schema.settings.Settings;
 import org.openmetadata.schema.settings.SettingsType;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
+import org.openmetadata.service.events.CacheInvalidationBus;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.SystemRepository;
+import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
 import org.openmetadata.service.util.JsonUtils;
 
 @Slf4j
 public class SettingsCache {
   private static volatile boolean initialized = false;
   protected static final LoadingCache<String, Settings> CACHE =
-      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(3, TimeUnit.MINUTES).build(new SettingsLoader());
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(30, TimeUnit.MINUTES).build(new SettingsLoader());
   protected static SystemRepository systemRepository;
 
   private SettingsCache() {
@@ -92,14 +94,23 @@ public class SettingsCache {
   public static void invalidateSettings(String settingsName) {
     try {
       CACHE.invalidate(settingsName);
+      CacheInvalidationBus.publish(CacheInvalidationBus.SETTINGS, settingsName);
     } catch (Exception ex) {
       LOG.error("Failed to invalidate cache for settings {}", settingsName, ex);
     }
   }
 
+  public static void registerCacheInvalidation(CacheInvalidationBus bus) {
+    bus.register(CacheInvalidationBus.SETTINGS, CACHE::invalidate);
+  }
+
   static class SettingsLoader extends CacheLoader<String, Settings> {
     @Override
     public Settings load(@CheckForNull String settingsName) {
+      return JdbiTransactionManager.readFromPrimary(() -> loadSettings(settingsName));
+    }
+
+    private Settings loadSettings(String settingsName) {
       Settings fetchedSettings;
       switch (SettingsType.fromValue(settingsName)) {
         case EMAIL_CONFIGURATION:
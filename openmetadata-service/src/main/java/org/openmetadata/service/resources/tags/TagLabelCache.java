@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.resources.tags;
+
+import static org.openmetadata.schema.type.Include.NON_DELETED;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.entity.type.Style;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.schema.type.TagLabel.TagSource;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.exception.CatalogExceptionMessage;
+import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
+import org.openmetadata.service.util.FullyQualifiedName;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Cache of the name, display name, description and style of the tags and glossary terms applied as tag labels, keyed by
+ * the tag source and tag FQN. The labels missing from the cache are loaded with one query per source. Entries are
+ * invalidated when a tag, classification, glossary term or glossary is stored or deleted, along with the entries of the
+ * tags or terms under it. Renames invalidate the entries under the old FQN.
+ */
+@Slf4j
+public final class TagLabelCache {
+  private static final Cache<Pair<TagSource, String>, LabelMetadata> CACHE =
+      CacheBuilder.newBuilder().maximumSize(20000).expireAfterWrite(10, TimeUnit.MINUTES).recordStats().build();
+
+  static {
+    GuavaCacheMetrics.monitor(MicrometerBundleSingleton.prometheusMeterRegistry, CACHE, "tagLabel");
+  }
+
+  private TagLabelCache() {
+    /* Cannot create object  util class*/
+  }
+
+  /** Set the name, display name, description and style of the given labels */
+  public static void applyTagCommonFields(Collection<TagLabel> labels) {
+    Map<Pair<TagSource, String>, LabelMetadata> found = new HashMap<>();
+    Set<String> tagMisses = new LinkedHashSet<>();
+    Set<String> termMisses = new LinkedHashSet<>();
+    for (TagLabel label : labels) {
+      Pair<TagSource, String> key = key(label.getSource(), label.getTagFQN());
+      LabelMetadata metadata = found.containsKey(key) ? found.get(key) : CACHE.getIfPresent(key);
+      if (metadata != null) {
+        found.put(key, metadata);
+      } else if (label.getSource() == TagSource.CLASSIFICATION) {
+        tagMisses.add(label.getTagFQN());
+      } else {
+        termMisses.add(label.getTagFQN());
+      }
+    }
+    load(TagSource.CLASSIFICATION, Entity.TAG, tagMisses, found);
+    load(TagSource.GLOSSARY, Entity.GLOSSARY_TERM, termMisses, found);
+
+    for (TagLabel label : labels) {
+      LabelMetadata metadata = found.get(key(label.getSource(), label.getTagFQN()));
+      if (metadata == null) {
+        String entityType = label.getSource() == TagSource.CLASSIFICATION ? Entity.TAG : Entity.GLOSSARY_TERM;
+        throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(entityType, label.getTagFQN()));
+      }
+      label.setName(metadata.name);
+      label.setDisplayName(metadata.displayName);
+      label.setDescription(metadata.description);
+      label.setStyle(metadata.style);
+    }
+  }
+
+  /** Invalidate the cached labels affected by storing or deleting the given entity */
+  public static void invalidate(String entityType, String fqn) {
+    if (fqn == null) {
+      return;
+    }
+    switch (entityType) {
+      case Entity.TAG:
+        CACHE.invalidate(key(TagSource.CLASSIFICATION, fqn));
+        invalidatePrefix(TagSource.CLASSIFICATION, fqn);
+        break;
+      case Entity.GLOSSARY_TERM:
+        CACHE.invalidate(key(TagSource.GLOSSARY, fqn));
+        invalidatePrefix(TagSource.GLOSSARY, fqn);
+        break;
+      case Entity.CLASSIFICATION:
+        invalidatePrefix(TagSource.CLASSIFICATION, fqn);
+        break;
+      case Entity.GLOSSARY:
+        invalidatePrefix(TagSource.GLOSSARY, fqn);
+        break;
+      default:
+        break;
+    }
+  }
+
+  public static void invalidateAll() {
+    LOG.debug("Invalidating all the tag labels");
+    CACHE.invalidateAll();
+  }
+
+  private static void invalidatePrefix(TagSource source, String fqn) {
+    // Renaming, moving or deleting a classification, glossary, tag or term changes all the tags or terms under it
+    String prefix = FullyQualifiedName.buildHash(fqn) + Entity.SEPARATOR;
+    CACHE.asMap().keySet().removeIf(k -> k.getLeft() == source && k.getRight().startsWith(prefix));
+  }
+
+  /** Load the tags or glossary terms missing from the cache in a single query */
+  private static void load(
+      TagSource source, String entityType, Set<String> fqns, Map<Pair<TagSource, String>, LabelMetadata> found) {
+    if (fqns.isEmpty()) {
+      return;
+    }
+    List<? extends EntityInterface> entities =
+        JdbiTransactionManager.readFromPrimary(
+            () ->
+                Entity.getEntityRepository(entityType)
+                    .getDao()
+                    .findEntitiesByNames(new ArrayList<>(fqns), NON_DELETED));
+    for (EntityInterface entity : entities) {
+      Pair<TagSource, String> key = key(source, entity.getFullyQualifiedName());
+      LabelMetadata metadata =
+          new LabelMetadata(entity.getName(), entity.getDisplayName(), entity.getDescription(), entity.getStyle());
+      CACHE.put(key, metadata);
+      found.put(key, metadata);
+    }
+  }
+
+  /** Labels are keyed by the FQN hash, the same way the tags and glossary terms are looked up by name */
+  private static Pair<TagSource, String> key(TagSource source, String fqn) {
+    if (source != TagSource.CLASSIFICATION && source != TagSource.GLOSSARY) {
+      throw new IllegalArgumentException("Invalid source type " + source);
+    }
+    return new ImmutablePair<>(source, FullyQualifiedName.buildHash(fqn));
+  }
+
+  private static final class LabelMetadata {
+    private final String name;
+    private final String displayName;
+    private final String description;
+    private final Style style;
+
+    private LabelMetadata(String name, String displayName, String description, Style style) {
+      this.name = name;
+      this.displayName = displayName;
+      this.description = description;
+      this.style = style;
+    }
+  }
+}
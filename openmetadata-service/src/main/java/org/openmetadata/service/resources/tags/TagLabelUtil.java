@@ -15,6 +15,7 @@ package org.openmetadata.service.resources.tags;
 
 import static org.openmetadata.schema.type.Include.NON_DELETED;
 
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.classification.Classification;
 import org.openmetadata.schema.entity.classification.Tag;
@@ -48,21 +49,7 @@ public class TagLabelUtil {
   }
 
   public static void applyTagCommonFields(TagLabel label) {
-    if (label.getSource() == TagSource.CLASSIFICATION) {
-      Tag tag = getTag(label.getTagFQN());
-      label.setName(tag.getName());
-      label.setDisplayName(tag.getDisplayName());
-      label.setDescription(tag.getDescription());
-      label.setStyle(tag.getStyle());
-    } else if (label.getSource() == TagSource.GLOSSARY) {
-      GlossaryTerm glossaryTerm = getGlossaryTerm(label.getTagFQN());
-      label.setName(glossaryTerm.getName());
-      label.setDisplayName(glossaryTerm.getDisplayName());
-      label.setDescription(glossaryTerm.getDescription());
-      label.setStyle(glossaryTerm.getStyle());
-    } else {
-      throw new IllegalArgumentException("Invalid source type " + label.getSource());
-    }
+    TagLabelCache.applyTagCommonFields(List.of(label));
   }
 
   /** Returns true if the parent of the tag label is mutually exclusive */
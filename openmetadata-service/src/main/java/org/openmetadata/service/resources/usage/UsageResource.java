@@ -37,6 +37,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.api.BulkUsage;
 import org.openmetadata.schema.type.DailyCount;
 import org.openmetadata.schema.type.EntityUsage;
 import org.openmetadata.schema.type.MetadataOperation;
@@ -293,6 +294,64 @@ public class UsageResource {
     return dao.createOrUpdateByName(entity, fullyQualifiedName, usage).toResponse();
   }
 
+  @POST
+  @Path("/{entity}/bulk")
+  @Operation(
+      operationId = "reportBulkEntityUsage",
+      summary = "Report usage of several entities",
+      description =
+          "Report usage information for several entities of a type on given dates. The reported count replaces "
+              + "the count of an entity already reported for a date.",
+      responses = {
+        @ApiResponse(responseCode = "201", description = "Usage information reported"),
+        @ApiResponse(responseCode = "400", description = "Bad request")
+      })
+  public Response createBulk(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Entity type for which usage is reported",
+              required = true,
+              schema = @Schema(type = "string", example = "table, report, metrics, or dashboard"))
+          @PathParam("entity")
+          String entity,
+      @Parameter(description = "Usage information of the entities") @Valid BulkUsage bulkUsage) {
+    OperationContext operationContext = new OperationContext(entity, MetadataOperation.EDIT_USAGE);
+    ResourceContext resourceContext = new ResourceContext(entity);
+    authorizer.authorize(securityContext, operationContext, resourceContext);
+    dao.createBulk(entity, bulkUsage.getUsage());
+    return Response.status(Response.Status.CREATED).build();
+  }
+
+  @PUT
+  @Path("/{entity}/bulk")
+  @Operation(
+      operationId = "reportOrUpdateBulkEntityUsage",
+      summary = "Report or update usage of several entities",
+      description =
+          "Report usage information for several entities of a type on given dates. The reported count is added "
+              + "to the count of an entity already reported for a date.",
+      responses = {
+        @ApiResponse(responseCode = "201", description = "Usage information reported"),
+        @ApiResponse(responseCode = "400", description = "Bad request")
+      })
+  public Response createOrUpdateBulk(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Entity type for which usage is reported",
+              required = true,
+              schema = @Schema(type = "string", example = "table, report, metrics, or dashboard"))
+          @PathParam("entity")
+          String entity,
+      @Parameter(description = "Usage information of the entities") @Valid BulkUsage bulkUsage) {
+    OperationContext operationContext = new OperationContext(entity, MetadataOperation.EDIT_USAGE);
+    ResourceContext resourceContext = new ResourceContext(entity);
+    authorizer.authorize(securityContext, operationContext, resourceContext);
+    dao.createOrUpdateBulk(entity, bulkUsage.getUsage());
+    return Response.status(Response.Status.CREATED).build();
+  }
+
   @POST
   @Path("/compute.percentile/{entity}/{date}")
   @Operation(
@@ -0,0 +1,398 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.search;
+
+import io.dropwizard.lifecycle.Managed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.service.configuration.elasticsearch.BulkIndexingConfiguration;
+
+/**
+ * Write-behind buffer for the search index updates. Requests are buffered per document and sent with the bulk API when
+ * {@code bulkActions} requests are buffered or every {@code flushIntervalMs}, whichever happens first.
+ *
+ * <p>Requests for a document are sent in the order they are added. A delete replaces the pending requests for the
+ * document, and a document upsert replaces an upsert pending right before it. Other requests, such as scripted updates,
+ * are applied incrementally and hence are kept. When {@code maxBufferedRequests} requests are buffered, the callers
+ * adding requests are blocked until the buffer is flushed.
+ *
+ * <p>The requests that fail with an error that can be retried are put back in front of the pending requests of their
+ * document, and are sent again after a backoff of {@code flushIntervalMs} doubled on each attempt, up to {@link
+ * #MAX_ATTEMPTS} attempts. A failed request is dropped when a later upsert or delete of the document, sent or pending,
+ * replaces it. The requests of a document that is waiting for a retry are held back, so that they are sent in order.
+ *
+ * <p>There is one buffer per server, created with a dedicated search client and managed by the application lifecycle.
+ * The search clients buffer their requests with the {@link #getInstance() running buffer}, and send them directly when
+ * bulk indexing is disabled or the buffer is not running. The buffer is flushed when the server stops.
+ *
+ * @param <R> type of the request of the search client
+ */
+@Slf4j
+public class BulkIndexBuffer<R> implements Managed {
+  private static volatile BulkIndexBuffer<?> instance;
+  static final int MAX_ATTEMPTS = 5;
+
+  public enum Operation {
+    UPSERT,
+    UPDATE,
+    DELETE
+  }
+
+  /** Sends the requests with the bulk API, and returns the requests that failed with an error that can be retried */
+  @FunctionalInterface
+  public interface Sink<R> {
+    List<R> send(List<R> requests);
+
+    /** Release the resources of the sink after the last requests are sent */
+    default void close() {
+      /* Nothing to do */
+    }
+  }
+
+  private final Sink<R> sink;
+  private final int bulkActions;
+  private final int maxBufferedRequests;
+  private final MeterRegistry registry;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ReentrantLock sendLock = new ReentrantLock(); // Sends the drained requests one flush at a time
+  private final Condition notFull = lock.newCondition();
+  private final Map<String, List<PendingRequest<R>>> pending = new LinkedHashMap<>();
+  private final Map<String, AtomicInteger> pendingByIndex = new ConcurrentHashMap<>();
+  private final Map<String, Timer> lagByIndex = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+  private final ScheduledExecutorService flusher;
+  private final long flushIntervalMs;
+  private final Counter dropped;
+  private int buffered = 0;
+  private volatile boolean closed = false;
+
+  public BulkIndexBuffer(BulkIndexingConfiguration config, Sink<R> sink, MeterRegistry registry) {
+    this.sink = sink;
+    this.bulkActions = Math.max(1, config.getBulkActions());
+    this.maxBufferedRequests = Math.max(bulkActions, config.getMaxBufferedRequests());
+    this.registry = registry;
+    this.flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "search-bulk-indexer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.flushIntervalMs = Math.max(1, config.getFlushIntervalMs());
+    this.dropped =
+        Counter.builder("search_bulk_dropped_requests")
+            .description("Number of search index requests dropped after failing to be sent.")
+            .register(registry);
+  }
+
+  /** The buffer of the server, or null when bulk indexing is disabled or the buffer is not running */
+  @SuppressWarnings("unchecked")
+  public static <R> BulkIndexBuffer<R> getInstance() {
+    return (BulkIndexBuffer<R>) instance;
+  }
+
+  /** Send the requests of the buffer of the server, if any, before a request that is not buffered */
+  public static void flushInstance() {
+    BulkIndexBuffer<?> buffer = instance;
+    if (buffer != null) {
+      buffer.flush();
+    }
+  }
+
+  @Override
+  public void start() {
+    flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    instance = this;
+  }
+
+  @Override
+  public void stop() {
+    if (instance == this) {
+      instance = null;
+    }
+    close();
+    sink.close();
+  }
+
+  /** Buffer the request for the document {@code id} in the given index */
+  public void add(String index, String id, R request, Operation operation) {
+    if (closed) {
+      pendingCounter(index).incrementAndGet();
+      send(List.of(new PendingRequest<>(index + "/" + id, index, request, operation, System.nanoTime())));
+      return;
+    }
+    boolean flush;
+    lock.lock();
+    try {
+      while (buffered >= maxBufferedRequests && !closed) {
+        scheduleFlush();
+        notFull.awaitUninterruptibly();
+      }
+      List<PendingRequest<R>> requests = pending.computeIfAbsent(index + "/" + id, k -> new ArrayList<>());
+      if (operation == Operation.DELETE) {
+        removePending(index, requests, requests.size());
+      } else if (operation == Operation.UPSERT
+          && !requests.isEmpty()
+          && requests.get(requests.size() - 1).operation == Operation.UPSERT) {
+        removePending(index, requests, 1);
+      }
+      requests.add(new PendingRequest<>(index + "/" + id, index, request, operation, System.nanoTime()));
+      buffered++;
+      pendingCounter(index).incrementAndGet();
+      flush = buffered >= bulkActions;
+    } finally {
+      lock.unlock();
+    }
+    if (flush) {
+      scheduleFlush();
+    }
+  }
+
+  /** Flush the buffered requests and stop the background flushes */
+  public void close() {
+    closed = true;
+    flusher.shutdown();
+    try {
+      if (!flusher.awaitTermination(30, TimeUnit.SECONDS)) {
+        LOG.warn("Timed out waiting for the search bulk indexer to stop");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  /**
+   * Send all the buffered requests in batches of {@code bulkActions} requests, including those waiting for a retry.
+   * This returns once the requests buffered before the call are sent, and is called before the requests that are not
+   * buffered, such as updates by query, so that they run after the buffered updates of the documents.
+   */
+  public void flush() {
+    flush(false);
+  }
+
+  private void flush(boolean waitForRetries) {
+    sendLock.lock();
+    try {
+      List<PendingRequest<R>> drained = drain(waitForRetries);
+      for (int i = 0; i < drained.size(); i += bulkActions) {
+        send(drained.subList(i, Math.min(drained.size(), i + bulkActions)));
+      }
+    } finally {
+      sendLock.unlock();
+    }
+  }
+
+  /** Take the pending requests of the documents, except the documents waiting for a retry when requested */
+  private List<PendingRequest<R>> drain(boolean waitForRetries) {
+    List<PendingRequest<R>> drained = new ArrayList<>();
+    long now = System.nanoTime();
+    lock.lock();
+    try {
+      Iterator<List<PendingRequest<R>>> documents = pending.values().iterator();
+      while (documents.hasNext()) {
+        List<PendingRequest<R>> requests = documents.next();
+        if (waitForRetries && requests.get(0).notBefore - now > 0) {
+          continue;
+        }
+        drained.addAll(requests);
+        buffered -= requests.size();
+        documents.remove();
+      }
+      if (!drained.isEmpty()) {
+        notFull.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+    return drained;
+  }
+
+  private void send(List<PendingRequest<R>> batch) {
+    List<R> requests = new ArrayList<>(batch.size());
+    batch.forEach(p -> requests.add(p.request));
+    List<R> failed;
+    try {
+      failed = sink.send(requests);
+    } catch (RuntimeException e) {
+      LOG.error("Failed to send {} search index requests", requests.size(), e);
+      failed = requests;
+    } finally {
+      long now = System.nanoTime();
+      for (PendingRequest<R> p : batch) {
+        pendingCounter(p.index).decrementAndGet();
+        lagTimer(p.index).record(now - p.enqueuedAt, TimeUnit.NANOSECONDS);
+      }
+    }
+    if (failed != null && !failed.isEmpty()) {
+      retry(batch, failed);
+    }
+  }
+
+  /** Put the failed requests back in front of the pending requests of their documents, in the order they were sent */
+  private void retry(List<PendingRequest<R>> batch, List<R> failed) {
+    Set<R> failedRequests = Collections.newSetFromMap(new IdentityHashMap<>());
+    failedRequests.addAll(failed);
+    Map<String, Integer> lastReplaced = new HashMap<>();
+    for (int i = 0; i < batch.size(); i++) {
+      PendingRequest<R> p = batch.get(i);
+      if (p.operation != Operation.UPDATE && !failedRequests.contains(p.request)) {
+        lastReplaced.put(p.key, i);
+      }
+    }
+    Map<String, List<PendingRequest<R>>> retries = new LinkedHashMap<>();
+    for (int i = 0; i < batch.size(); i++) {
+      PendingRequest<R> p = batch.get(i);
+      if (!failedRequests.contains(p.request) || lastReplaced.getOrDefault(p.key, -1) > i) {
+        // Sent, or replaced by a later upsert or delete of the document that was sent
+        continue;
+      }
+      if (closed || p.attempts + 1 >= MAX_ATTEMPTS) {
+        LOG.error("Dropping the search index request for {} after {} attempts", p.key, p.attempts + 1);
+        dropped.increment();
+        continue;
+      }
+      long backoff = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs << p.attempts);
+      retries.computeIfAbsent(p.key, k -> new ArrayList<>()).add(p.retry(System.nanoTime() + backoff));
+    }
+    if (retries.isEmpty()) {
+      return;
+    }
+    lock.lock();
+    try {
+      for (Map.Entry<String, List<PendingRequest<R>>> entry : retries.entrySet()) {
+        List<PendingRequest<R>> requests = pending.get(entry.getKey());
+        if (requests != null && requests.get(0).operation != Operation.UPDATE) {
+          // A newer upsert or delete of the document replaces the failed requests
+          continue;
+        }
+        if (requests == null) {
+          // Kept at the end of the pending documents, as the requests are ordered per document only
+          requests = new ArrayList<>();
+          pending.put(entry.getKey(), requests);
+        }
+        requests.addAll(0, entry.getValue());
+        buffered += entry.getValue().size();
+        entry.getValue().forEach(p -> pendingCounter(p.index).incrementAndGet());
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int getBufferedCount() {
+    lock.lock();
+    try {
+      return buffered;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void scheduleFlush() {
+    if (!closed && flushScheduled.compareAndSet(false, true)) {
+      flusher.execute(this::flushQuietly);
+    }
+  }
+
+  private void flushQuietly() {
+    flushScheduled.set(false);
+    try {
+      flush(true);
+    } catch (Exception e) {
+      LOG.error("Failed to flush the search index requests", e);
+    }
+  }
+
+  private void removePending(String index, List<PendingRequest<R>> requests, int count) {
+    for (int i = 0; i < count; i++) {
+      requests.remove(requests.size() - 1);
+      buffered--;
+      pendingCounter(index).decrementAndGet();
+    }
+  }
+
+  private AtomicInteger pendingCounter(String index) {
+    return pendingByIndex.computeIfAbsent(
+        index,
+        i -> {
+          AtomicInteger counter = new AtomicInteger();
+          Gauge.builder("search_bulk_pending_requests", counter, AtomicInteger::get)
+              .description("Number of search index requests waiting to be sent.")
+              .tag("index", i)
+              .register(registry);
+          return counter;
+        });
+  }
+
+  private Timer lagTimer(String index) {
+    return lagByIndex.computeIfAbsent(
+        index,
+        i ->
+            Timer.builder("search_bulk_lag")
+                .description("Time from buffering a search index request until it is sent.")
+                .tag("index", i)
+                .register(registry));
+  }
+
+  private static class PendingRequest<R> {
+    private final String key;
+    private final String index;
+    private final R request;
+    private final Operation operation;
+    private final long enqueuedAt;
+    private final int attempts;
+    private final long notBefore;
+
+    PendingRequest(String key, String index, R request, Operation operation, long enqueuedAt) {
+      this(key, index, request, operation, enqueuedAt, 0, enqueuedAt);
+    }
+
+    private PendingRequest(
+        String key, String index, R request, Operation operation, long enqueuedAt, int attempts, long notBefore) {
+      this.key = key;
+      this.index = index;
+      this.request = request;
+      this.operation = operation;
+      this.enqueuedAt = enqueuedAt;
+      this.attempts = attempts;
+      this.notBefore = notBefore;
+    }
+
+    /** The request to send again after a failed attempt, not before the given time */
+    PendingRequest<R> retry(long notBefore) {
+      return new PendingRequest<>(key, index, request, operation, enqueuedAt, attempts + 1, notBefore);
+    }
+  }
+}
@@ -23,6 +23,7 @@ import javax.ws.rs.core.Response;
 import lombok.SneakyThrows;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.dataInsight.DataInsightChartResult;
+import org.openmetadata.schema.service.configuration.elasticsearch.BulkIndexingConfiguration;
 import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
 import org.openmetadata.schema.system.EventPublisherJob;
 import org.openmetadata.schema.system.Failure;
@@ -85,6 +86,12 @@ public interface SearchClient {
 
   void close();
 
+  /**
+   * Create the write-behind buffer of the server, sending the buffered requests with this client. The client is closed
+   * when the buffer is stopped.
+   */
+  BulkIndexBuffer<?> createBulkIndexBuffer(BulkIndexingConfiguration bulkIndexing);
+
   default BulkResponse bulk(BulkRequest data, RequestOptions options) throws IOException {
     throw new CustomExceptionMessage(Response.Status.NOT_IMPLEMENTED, NOT_IMPLEMENTED_METHOD);
   }
@@ -111,6 +118,15 @@ public interface SearchClient {
       String indexName)
       throws IOException, ParseException;
 
+  /** Same as {@link #getSortedDate} for each of the teams, fetched with a single multi-search request */
+  Map<String, TreeMap<Long, List<Object>>> getSortedDateByTeam(
+      List<String> teams,
+      Long scheduleTime,
+      Long currentTime,
+      DataInsightChartResult.DataInsightChartType chartType,
+      String indexName)
+      throws IOException, ParseException;
+
   Response listDataInsightChartResult(
       Long startTs,
       Long endTs,
@@ -20,6 +20,7 @@ import static org.openmetadata.service.search.IndexUtil.createElasticSearchSSLCo
 import static org.openmetadata.service.search.SearchIndexDefinition.ENTITY_TO_MAPPING_SCHEMA_MAP;
 import static org.openmetadata.service.search.UpdateSearchEventsConstant.SENDING_REQUEST_TO_ELASTIC_SEARCH;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.ArrayList;
@@ -45,6 +46,7 @@ import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.elasticsearch.ElasticsearchException;
 import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
 import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
 import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
@@ -53,6 +55,8 @@ import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.delete.DeleteResponse;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
@@ -118,11 +122,13 @@ import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.DataInsightInterface;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.dataInsight.DataInsightChartResult;
+import org.openmetadata.schema.service.configuration.elasticsearch.BulkIndexingConfiguration;
 import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
 import org.openmetadata.schema.system.EventPublisherJob;
 import org.openmetadata.service.dataInsight.DataInsightAggregatorInterface;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.DataInsightChartRepository;
+import org.openmetadata.service.search.BulkIndexBuffer;
 import org.openmetadata.service.search.IndexUtil;
 import org.openmetadata.service.search.SearchClient;
 import org.openmetadata.service.search.SearchEventPublisher;
@@ -144,6 +150,7 @@ import org.openmetadata.service.search.indexes.TestCaseIndex;
 import org.openmetadata.service.search.indexes.TopicIndex;
 import org.openmetadata.service.search.indexes.UserIndex;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
 @Slf4j
 public class ElasticSearchClientImpl implements SearchClient {
@@ -151,6 +158,8 @@ public class ElasticSearchClientImpl implements SearchClient {
   @SuppressWarnings("deprecated")
   private final RestHighLevelClient client;
 
+  private final WriteRequest.RefreshPolicy refreshPolicy;
+
   private final CollectionDAO dao;
 
   private static final EnumMap<SearchIndexDefinition.ElasticSearchIndexType, IndexUtil.ElasticSearchIndexStatus>
@@ -159,6 +168,34 @@ public class ElasticSearchClientImpl implements SearchClient {
   public ElasticSearchClientImpl(ElasticSearchConfiguration esConfig, CollectionDAO dao) {
     this.client = createElasticSearchClient(esConfig);
     this.dao = dao;
+    BulkIndexingConfiguration bulkIndexing =
+        esConfig.getBulkIndexing() != null ? esConfig.getBulkIndexing() : new BulkIndexingConfiguration();
+    this.refreshPolicy = getRefreshPolicy(bulkIndexing.getRefreshPolicy());
+  }
+
+  /** Client sending the requests to the given Elasticsearch client */
+  @VisibleForTesting
+  ElasticSearchClientImpl(RestHighLevelClient client, CollectionDAO dao) {
+    this.client = client;
+    this.dao = dao;
+    this.refreshPolicy = WriteRequest.RefreshPolicy.NONE;
+  }
+
+  @Override
+  public BulkIndexBuffer<DocWriteRequest<?>> createBulkIndexBuffer(BulkIndexingConfiguration bulkIndexing) {
+    BulkIndexBuffer.Sink<DocWriteRequest<?>> sink =
+        new BulkIndexBuffer.Sink<>() {
+          @Override
+          public List<DocWriteRequest<?>> send(List<DocWriteRequest<?>> requests) {
+            return sendBulk(requests);
+          }
+
+          @Override
+          public void close() {
+            ElasticSearchClientImpl.this.close();
+          }
+        };
+    return new BulkIndexBuffer<>(bulkIndexing, sink, MicrometerBundleSingleton.prometheusMeterRegistry);
   }
 
   public CollectionDAO getDao() {
@@ -788,7 +825,6 @@ public class ElasticSearchClientImpl implements SearchClient {
     ElasticSearchIndex index = SearchIndexFactory.buildIndex(entityType, entity);
     updateRequest.doc(JsonUtils.pojoToJson(index.buildESDoc()), XContentType.JSON);
     updateRequest.docAsUpsert(true);
-    updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
       updateElasticSearch(updateRequest);
     } catch (DocumentMissingException ex) {
@@ -810,7 +846,6 @@ public class ElasticSearchClientImpl implements SearchClient {
     String entityType = entity.getEntityReference().getType();
     SearchIndexDefinition.ElasticSearchIndexType indexType = IndexUtil.getIndexMappingByEntityType(entityType);
     DeleteRequest deleteRequest = new DeleteRequest(indexType.indexName, entity.getId().toString());
-    deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
       deleteEntityFromElasticSearch(deleteRequest);
     } catch (DocumentMissingException ex) {
@@ -825,7 +860,7 @@ public class ElasticSearchClientImpl implements SearchClient {
       DeleteByQueryRequest request = new DeleteByQueryRequest("SearchAlias");
       queryBuilder.must(new TermQueryBuilder(field, entity.getFullyQualifiedName()));
       request.setQuery(queryBuilder);
-      request.setRefresh(true);
+      request.setRefresh(refreshPolicy == WriteRequest.RefreshPolicy.IMMEDIATE);
       try {
         deleteEntityFromElasticSearchByQuery(request);
       } catch (DocumentMissingException ex) {
@@ -853,7 +888,6 @@ public class ElasticSearchClientImpl implements SearchClient {
     String entityType = entity.getEntityReference().getType();
     SearchIndexDefinition.ElasticSearchIndexType indexType = IndexUtil.getIndexMappingByEntityType(entityType);
     DeleteRequest deleteRequest = new DeleteRequest(indexType.indexName, entity.getId().toString());
-    deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
       deleteEntityFromElasticSearch(deleteRequest);
     } catch (DocumentMissingException ex) {
@@ -866,7 +900,7 @@ public class ElasticSearchClientImpl implements SearchClient {
     if (!CommonUtil.nullOrEmpty(scriptTxt) && !CommonUtil.nullOrEmpty(field)) {
       UpdateByQueryRequest updateByQueryRequest = new UpdateByQueryRequest("SearchAlias");
       updateByQueryRequest.setQuery(new MatchQueryBuilder(field, entity.getFullyQualifiedName()));
-      updateByQueryRequest.setRefresh(true);
+      updateByQueryRequest.setRefresh(refreshPolicy == WriteRequest.RefreshPolicy.IMMEDIATE);
       Script script =
           new Script(
               ScriptType.INLINE,
@@ -898,7 +932,6 @@ public class ElasticSearchClientImpl implements SearchClient {
     String scriptTxt = "ctx._source.deleted=" + delete;
     Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, new HashMap<>());
     updateRequest.script(script);
-    updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
       updateElasticSearch(updateRequest);
     } catch (DocumentMissingException ex) {
@@ -948,7 +981,6 @@ public class ElasticSearchClientImpl implements SearchClient {
       Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, JsonUtils.getMap(doc));
       updateRequest.script(script);
       updateRequest.scriptedUpsert(true);
-      updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     }
     try {
       updateElasticSearch(updateRequest);
@@ -965,6 +997,15 @@ public class ElasticSearchClientImpl implements SearchClient {
   public void updateElasticSearch(UpdateRequest updateRequest) throws IOException {
     if (updateRequest != null) {
       LOG.debug(UpdateSearchEventsConstant.SENDING_REQUEST_TO_ELASTIC_SEARCH, updateRequest);
+      BulkIndexBuffer<DocWriteRequest<?>> bulkIndexBuffer = BulkIndexBuffer.getInstance();
+      if (bulkIndexBuffer != null) {
+        bulkIndexBuffer.add(
+            updateRequest.index(),
+            updateRequest.id(),
+            updateRequest,
+            updateRequest.docAsUpsert() ? BulkIndexBuffer.Operation.UPSERT : BulkIndexBuffer.Operation.UPDATE);
+        return;
+      }
       ActionListener<UpdateResponse> listener =
           new ActionListener<UpdateResponse>() {
             @Override
@@ -977,12 +1018,15 @@ public class ElasticSearchClientImpl implements SearchClient {
               LOG.error("Creation failed: " + e.getMessage());
             }
           };
+      updateRequest.setRefreshPolicy(refreshPolicy);
       client.updateAsync(updateRequest, RequestOptions.DEFAULT, listener);
     }
   }
 
   private void updateElasticSearchByQuery(UpdateByQueryRequest updateByQueryRequest) throws IOException {
     if (updateByQueryRequest != null) {
+      // The query runs after the buffered updates of the documents it matches
+      BulkIndexBuffer.flushInstance();
       LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, updateByQueryRequest);
       ActionListener<BulkByScrollResponse> listener =
           new ActionListener<BulkByScrollResponse>() {
@@ -1000,6 +1044,58 @@ public class ElasticSearchClientImpl implements SearchClient {
     }
   }
 
+  /** Sends the requests with the bulk API, and returns the requests that failed with an error that can be retried */
+  private List<DocWriteRequest<?>> sendBulk(List<DocWriteRequest<?>> requests) {
+    BulkRequest bulkRequest = new BulkRequest();
+    bulkRequest.setRefreshPolicy(refreshPolicy);
+    requests.forEach(bulkRequest::add);
+    String contextInfo = String.format("Bulk request of %d search index updates", requests.size());
+    try {
+      LOG.debug(UpdateSearchEventsConstant.SENDING_REQUEST_TO_ELASTIC_SEARCH, bulkRequest);
+      BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+      if (!response.hasFailures()) {
+        return List.of();
+      }
+      String failureMessage = response.buildFailureMessage();
+      LOG.error("Bulk search index update failed: {}", failureMessage);
+      SearchEventPublisher.updateElasticSearchFailureStatus(
+          contextInfo,
+          EventPublisherJob.Status.ACTIVE_WITH_ERROR,
+          String.format("Failed while updating the search index. Reason[%s]", failureMessage));
+      List<DocWriteRequest<?>> failed = new ArrayList<>();
+      for (BulkItemResponse item : response.getItems()) {
+        if (item.isFailed() && isRetryable(item.status())) {
+          failed.add(requests.get(item.getItemId()));
+        }
+      }
+      return failed;
+    } catch (ElasticsearchException e) {
+      handleElasticsearchException(contextInfo, e);
+      return isRetryable(e.status()) ? requests : List.of();
+    } catch (IOException ie) {
+      handleIOException(contextInfo, ie);
+      return requests;
+    }
+  }
+
+  private static boolean isRetryable(RestStatus status) {
+    return status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= 500;
+  }
+
+  private static WriteRequest.RefreshPolicy getRefreshPolicy(BulkIndexingConfiguration.RefreshPolicy refreshPolicy) {
+    if (refreshPolicy == null) {
+      return WriteRequest.RefreshPolicy.NONE;
+    }
+    switch (refreshPolicy) {
+      case IMMEDIATE:
+        return WriteRequest.RefreshPolicy.IMMEDIATE;
+      case WAIT_FOR:
+        return WriteRequest.RefreshPolicy.WAIT_UNTIL;
+      default:
+        return WriteRequest.RefreshPolicy.NONE;
+    }
+  }
+
   /** */
   @Override
   public void close() {
@@ -1013,6 +1109,11 @@ public class ElasticSearchClientImpl implements SearchClient {
   private void deleteEntityFromElasticSearch(DeleteRequest deleteRequest) throws IOException {
     if (deleteRequest != null) {
       LOG.debug(UpdateSearchEventsConstant.SENDING_REQUEST_TO_ELASTIC_SEARCH, deleteRequest);
+      BulkIndexBuffer<DocWriteRequest<?>> bulkIndexBuffer = BulkIndexBuffer.getInstance();
+      if (bulkIndexBuffer != null) {
+        bulkIndexBuffer.add(deleteRequest.index(), deleteRequest.id(), deleteRequest, BulkIndexBuffer.Operation.DELETE);
+        return;
+      }
       ActionListener<DeleteResponse> listener =
           new ActionListener<DeleteResponse>() {
             @Override
@@ -1025,15 +1126,17 @@ public class ElasticSearchClientImpl implements SearchClient {
               LOG.error("Delete failed: " + e.getMessage());
             }
           };
-      deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+      deleteRequest.setRefreshPolicy(refreshPolicy);
       client.deleteAsync(deleteRequest, RequestOptions.DEFAULT, listener);
     }
   }
 
   private void deleteEntityFromElasticSearchByQuery(DeleteByQueryRequest deleteRequest) throws IOException {
     if (deleteRequest != null) {
+      // The query runs after the buffered updates of the documents it matches
+      BulkIndexBuffer.flushInstance();
       LOG.debug(UpdateSearchEventsConstant.SENDING_REQUEST_TO_ELASTIC_SEARCH, deleteRequest);
-      deleteRequest.setRefresh(true);
+      deleteRequest.setRefresh(refreshPolicy == WriteRequest.RefreshPolicy.IMMEDIATE);
       ActionListener<BulkByScrollResponse> listener =
           new ActionListener<BulkByScrollResponse>() {
             @Override
@@ -1099,8 +1202,38 @@ public class ElasticSearchClientImpl implements SearchClient {
     org.elasticsearch.action.search.SearchRequest searchRequestTotalAssets =
         buildSearchRequest(scheduleTime, currentTime, null, team, chartType, indexName);
     SearchResponse searchResponseTotalAssets = client.search(searchRequestTotalAssets, RequestOptions.DEFAULT);
-    DataInsightChartResult processedDataTotalAssets =
-        processDataInsightChartResult(searchResponseTotalAssets, chartType);
+    return getDateWithDataMap(searchResponseTotalAssets, chartType);
+  }
+
+  @Override
+  public Map<String, TreeMap<Long, List<Object>>> getSortedDateByTeam(
+      List<String> teams,
+      Long scheduleTime,
+      Long currentTime,
+      DataInsightChartResult.DataInsightChartType chartType,
+      String indexName)
+      throws IOException, ParseException {
+    // One request per team sent together in a single round trip
+    MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    for (String team : teams) {
+      multiSearchRequest.add(buildSearchRequest(scheduleTime, currentTime, null, team, chartType, indexName));
+    }
+    MultiSearchResponse multiSearchResponse = client.msearch(multiSearchRequest, RequestOptions.DEFAULT);
+    Map<String, TreeMap<Long, List<Object>>> dateWithDataMapByTeam = new HashMap<>();
+    MultiSearchResponse.Item[] items = multiSearchResponse.getResponses();
+    for (int i = 0; i < items.length; i++) {
+      if (items[i].isFailure()) {
+        LOG.warn("Failed to get {} data for team {}", chartType.value(), teams.get(i), items[i].getFailure());
+        continue;
+      }
+      dateWithDataMapByTeam.put(teams.get(i), getDateWithDataMap(items[i].getResponse(), chartType));
+    }
+    return dateWithDataMapByTeam;
+  }
+
+  private static TreeMap<Long, List<Object>> getDateWithDataMap(
+      SearchResponse searchResponse, DataInsightChartResult.DataInsightChartType chartType) throws ParseException {
+    DataInsightChartResult processedDataTotalAssets = processDataInsightChartResult(searchResponse, chartType);
     TreeMap<Long, List<Object>> dateWithDataMap = new TreeMap<>();
     for (Object data : processedDataTotalAssets.getData()) {
       DataInsightInterface convertedData = (DataInsightInterface) data;
@@ -47,11 +47,13 @@ import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.DataInsightInterface;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.dataInsight.DataInsightChartResult;
+import org.openmetadata.schema.service.configuration.elasticsearch.BulkIndexingConfiguration;
 import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
 import org.openmetadata.schema.system.EventPublisherJob;
 import org.openmetadata.service.dataInsight.DataInsightAggregatorInterface;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.DataInsightChartRepository;
+import org.openmetadata.service.search.BulkIndexBuffer;
 import org.openmetadata.service.search.IndexUtil;
 import org.openmetadata.service.search.SearchClient;
 import org.openmetadata.service.search.SearchEventPublisher;
@@ -73,8 +75,10 @@ import org.openmetadata.service.search.indexes.TestCaseIndex;
 import org.openmetadata.service.search.indexes.TopicIndex;
 import org.openmetadata.service.search.indexes.UserIndex;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
 import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
@@ -83,6 +87,8 @@ import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.support.master.AcknowledgedResponse;
@@ -148,6 +154,7 @@ import org.opensearch.search.suggest.completion.context.CategoryQueryContext;
 @Slf4j
 public class OpenSearchClientImpl implements SearchClient {
   private final RestHighLevelClient client;
+  private final WriteRequest.RefreshPolicy refreshPolicy;
   private final CollectionDAO dao;
   private final EnumMap<SearchIndexDefinition.ElasticSearchIndexType, IndexUtil.ElasticSearchIndexStatus>
       elasticSearchIndexes = new EnumMap<>(SearchIndexDefinition.ElasticSearchIndexType.class);
@@ -155,6 +162,26 @@ public class OpenSearchClientImpl implements SearchClient {
   public OpenSearchClientImpl(ElasticSearchConfiguration esConfig, CollectionDAO dao) {
     this.client = createOpenSearchClient(esConfig);
     this.dao = dao;
+    BulkIndexingConfiguration bulkIndexing =
+        esConfig.getBulkIndexing() != null ? esConfig.getBulkIndexing() : new BulkIndexingConfiguration();
+    this.refreshPolicy = getRefreshPolicy(bulkIndexing.getRefreshPolicy());
+  }
+
+  @Override
+  public BulkIndexBuffer<DocWriteRequest<?>> createBulkIndexBuffer(BulkIndexingConfiguration bulkIndexing) {
+    BulkIndexBuffer.Sink<DocWriteRequest<?>> sink =
+        new BulkIndexBuffer.Sink<>() {
+          @Override
+          public List<DocWriteRequest<?>> send(List<DocWriteRequest<?>> requests) {
+            return sendBulk(requests);
+          }
+
+          @Override
+          public void close() {
+            OpenSearchClientImpl.this.close();
+          }
+        };
+    return new BulkIndexBuffer<>(bulkIndexing, sink, MicrometerBundleSingleton.prometheusMeterRegistry);
   }
 
   private static final NamedXContentRegistry X_CONTENT_REGISTRY;
@@ -421,6 +448,15 @@ public class OpenSearchClientImpl implements SearchClient {
   public void updateElasticSearch(UpdateRequest updateRequest) throws IOException {
     if (updateRequest != null) {
       LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, updateRequest);
+      BulkIndexBuffer<DocWriteRequest<?>> bulkIndexBuffer = BulkIndexBuffer.getInstance();
+      if (bulkIndexBuffer != null) {
+        bulkIndexBuffer.add(
+            updateRequest.index(),
+            updateRequest.id(),
+            updateRequest,
+            updateRequest.docAsUpsert() ? BulkIndexBuffer.Operation.UPSERT : BulkIndexBuffer.Operation.UPDATE);
+        return;
+      }
       ActionListener<UpdateResponse> listener =
           new ActionListener<UpdateResponse>() {
             @Override
@@ -433,6 +469,7 @@ public class OpenSearchClientImpl implements SearchClient {
               LOG.error("Creation failed: " + e.getMessage());
             }
           };
+      updateRequest.setRefreshPolicy(refreshPolicy);
       client.updateAsync(updateRequest, RequestOptions.DEFAULT, listener);
     }
   }
@@ -801,7 +838,6 @@ public class OpenSearchClientImpl implements SearchClient {
     ElasticSearchIndex index = SearchIndexFactory.buildIndex(entityType, entity);
     updateRequest.doc(JsonUtils.pojoToJson(index.buildESDoc()), XContentType.JSON);
     updateRequest.docAsUpsert(true);
-    updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
       updateElasticSearch(updateRequest);
     } catch (DocumentMissingException ex) {
@@ -823,7 +859,6 @@ public class OpenSearchClientImpl implements SearchClient {
     String entityType = entity.getEntityReference().getType();
     SearchIndexDefinition.ElasticSearchIndexType indexType = IndexUtil.getIndexMappingByEntityType(entityType);
     DeleteRequest deleteRequest = new DeleteRequest(indexType.indexName, entity.getId().toString());
-    deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
       deleteEntityFromElasticSearch(deleteRequest);
     } catch (DocumentMissingException ex) {
@@ -836,7 +871,7 @@ public class OpenSearchClientImpl implements SearchClient {
     if (!CommonUtil.nullOrEmpty(field)) {
       BoolQueryBuilder queryBuilder = new BoolQueryBuilder();
       DeleteByQueryRequest request = new DeleteByQueryRequest("SearchAlias");
-      request.setRefresh(true);
+      request.setRefresh(refreshPolicy == WriteRequest.RefreshPolicy.IMMEDIATE);
       queryBuilder.must(new TermQueryBuilder(field, entity.getFullyQualifiedName()));
       request.setQuery(queryBuilder);
       try {
@@ -866,7 +901,6 @@ public class OpenSearchClientImpl implements SearchClient {
     String entityType = entity.getEntityReference().getType();
     SearchIndexDefinition.ElasticSearchIndexType indexType = IndexUtil.getIndexMappingByEntityType(entityType);
     DeleteRequest deleteRequest = new DeleteRequest(indexType.indexName, entity.getId().toString());
-    deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
       deleteEntityFromElasticSearch(deleteRequest);
     } catch (DocumentMissingException ex) {
@@ -886,7 +920,7 @@ public class OpenSearchClientImpl implements SearchClient {
               String.format(scriptTxt, entity.getFullyQualifiedName()),
               new HashMap<>());
       updateByQueryRequest.setScript(script);
-      updateByQueryRequest.setRefresh(true);
+      updateByQueryRequest.setRefresh(refreshPolicy == WriteRequest.RefreshPolicy.IMMEDIATE);
       try {
         updateElasticSearchByQuery(updateByQueryRequest);
       } catch (DocumentMissingException ex) {
@@ -912,7 +946,6 @@ public class OpenSearchClientImpl implements SearchClient {
     String scriptTxt = "ctx._source.deleted=" + delete;
     Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, new HashMap<>());
     updateRequest.script(script);
-    updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
       updateElasticSearch(updateRequest);
     } catch (DocumentMissingException ex) {
@@ -953,7 +986,6 @@ public class OpenSearchClientImpl implements SearchClient {
     String entityType = entity.getEntityReference().getType();
     SearchIndexDefinition.ElasticSearchIndexType indexType = IndexUtil.getIndexMappingByEntityType(entityType);
     UpdateRequest updateRequest = new UpdateRequest(indexType.indexName, entity.getId().toString());
-    updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     if (entity.getChangeDescription() != null
         && Objects.equals(entity.getVersion(), entity.getChangeDescription().getPreviousVersion())) {
       updateRequest = applyOSChangeEvent(entity);
@@ -963,7 +995,6 @@ public class OpenSearchClientImpl implements SearchClient {
       Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, JsonUtils.getMap(doc));
       updateRequest.script(script);
       updateRequest.scriptedUpsert(true);
-      updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     }
     try {
       updateElasticSearch(updateRequest);
@@ -1020,6 +1051,8 @@ public class OpenSearchClientImpl implements SearchClient {
 
   private void updateElasticSearchByQuery(UpdateByQueryRequest updateByQueryRequest) throws IOException {
     if (updateByQueryRequest != null) {
+      // The query runs after the buffered updates of the documents it matches
+      BulkIndexBuffer.flushInstance();
       LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, updateByQueryRequest);
       ActionListener<BulkByScrollResponse> listener =
           new ActionListener<BulkByScrollResponse>() {
@@ -1040,6 +1073,11 @@ public class OpenSearchClientImpl implements SearchClient {
   private void deleteEntityFromElasticSearch(DeleteRequest deleteRequest) throws IOException {
     if (deleteRequest != null) {
       LOG.debug(UpdateSearchEventsConstant.SENDING_REQUEST_TO_ELASTIC_SEARCH, deleteRequest);
+      BulkIndexBuffer<DocWriteRequest<?>> bulkIndexBuffer = BulkIndexBuffer.getInstance();
+      if (bulkIndexBuffer != null) {
+        bulkIndexBuffer.add(deleteRequest.index(), deleteRequest.id(), deleteRequest, BulkIndexBuffer.Operation.DELETE);
+        return;
+      }
       ActionListener<DeleteResponse> listener =
           new ActionListener<DeleteResponse>() {
             @Override
@@ -1052,15 +1090,17 @@ public class OpenSearchClientImpl implements SearchClient {
               LOG.error("Delete failed: " + e.getMessage());
             }
           };
-      deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+      deleteRequest.setRefreshPolicy(refreshPolicy);
       client.deleteAsync(deleteRequest, RequestOptions.DEFAULT, listener);
     }
   }
 
   private void deleteEntityFromElasticSearchByQuery(DeleteByQueryRequest deleteRequest) throws IOException {
     if (deleteRequest != null) {
+      // The query runs after the buffered updates of the documents it matches
+      BulkIndexBuffer.flushInstance();
       LOG.debug(UpdateSearchEventsConstant.SENDING_REQUEST_TO_ELASTIC_SEARCH, deleteRequest);
-      deleteRequest.setRefresh(true);
+      deleteRequest.setRefresh(refreshPolicy == WriteRequest.RefreshPolicy.IMMEDIATE);
       ActionListener<BulkByScrollResponse> listener =
           new ActionListener<BulkByScrollResponse>() {
             @Override
@@ -1077,6 +1117,58 @@ public class OpenSearchClientImpl implements SearchClient {
     }
   }
 
+  /** Sends the requests with the bulk API, and returns the requests that failed with an error that can be retried */
+  private List<DocWriteRequest<?>> sendBulk(List<DocWriteRequest<?>> requests) {
+    BulkRequest bulkRequest = new BulkRequest();
+    bulkRequest.setRefreshPolicy(refreshPolicy);
+    requests.forEach(bulkRequest::add);
+    String contextInfo = String.format("Bulk request of %d search index updates", requests.size());
+    try {
+      LOG.debug(UpdateSearchEventsConstant.SENDING_REQUEST_TO_ELASTIC_SEARCH, bulkRequest);
+      BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+      if (!response.hasFailures()) {
+        return List.of();
+      }
+      String failureMessage = response.buildFailureMessage();
+      LOG.error("Bulk search index update failed: {}", failureMessage);
+      SearchEventPublisher.updateElasticSearchFailureStatus(
+          contextInfo,
+          EventPublisherJob.Status.ACTIVE_WITH_ERROR,
+          String.format("Failed while updating the search index. Reason[%s]", failureMessage));
+      List<DocWriteRequest<?>> failed = new ArrayList<>();
+      for (BulkItemResponse item : response.getItems()) {
+        if (item.isFailed() && isRetryable(item.status())) {
+          failed.add(requests.get(item.getItemId()));
+        }
+      }
+      return failed;
+    } catch (OpenSearchException e) {
+      handleOpenSearchException(contextInfo, e);
+      return isRetryable(e.status()) ? requests : List.of();
+    } catch (IOException ie) {
+      handleIOException(contextInfo, ie);
+      return requests;
+    }
+  }
+
+  private static boolean isRetryable(RestStatus status) {
+    return status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= 500;
+  }
+
+  private static WriteRequest.RefreshPolicy getRefreshPolicy(BulkIndexingConfiguration.RefreshPolicy refreshPolicy) {
+    if (refreshPolicy == null) {
+      return WriteRequest.RefreshPolicy.NONE;
+    }
+    switch (refreshPolicy) {
+      case IMMEDIATE:
+        return WriteRequest.RefreshPolicy.IMMEDIATE;
+      case WAIT_FOR:
+        return WriteRequest.RefreshPolicy.WAIT_UNTIL;
+      default:
+        return WriteRequest.RefreshPolicy.NONE;
+    }
+  }
+
   /** */
   @Override
   public void close() {
@@ -1136,8 +1228,38 @@ public class OpenSearchClientImpl implements SearchClient {
     org.opensearch.action.search.SearchRequest searchRequestTotalAssets =
         buildSearchRequest(scheduleTime, currentTime, null, team, chartType, indexName);
     SearchResponse searchResponseTotalAssets = client.search(searchRequestTotalAssets, RequestOptions.DEFAULT);
-    DataInsightChartResult processedDataTotalAssets =
-        processDataInsightChartResult(searchResponseTotalAssets, chartType);
+    return getDateWithDataMap(searchResponseTotalAssets, chartType);
+  }
+
+  @Override
+  public Map<String, TreeMap<Long, List<Object>>> getSortedDateByTeam(
+      List<String> teams,
+      Long scheduleTime,
+      Long currentTime,
+      DataInsightChartResult.DataInsightChartType chartType,
+      String indexName)
+      throws IOException, ParseException {
+    // One request per team sent together in a single round trip
+    MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    for (String team : teams) {
+      multiSearchRequest.add(buildSearchRequest(scheduleTime, currentTime, null, team, chartType, indexName));
+    }
+    MultiSearchResponse multiSearchResponse = client.msearch(multiSearchRequest, RequestOptions.DEFAULT);
+    Map<String, TreeMap<Long, List<Object>>> dateWithDataMapByTeam = new HashMap<>();
+    MultiSearchResponse.Item[] items = multiSearchResponse.getResponses();
+    for (int i = 0; i < items.length; i++) {
+      if (items[i].isFailure()) {
+        LOG.warn("Failed to get {} data for team {}", chartType.value(), teams.get(i), items[i].getFailure());
+        continue;
+      }
+      dateWithDataMapByTeam.put(teams.get(i), getDateWithDataMap(items[i].getResponse(), chartType));
+    }
+    return dateWithDataMapByTeam;
+  }
+
+  private static TreeMap<Long, List<Object>> getDateWithDataMap(
+      SearchResponse searchResponse, DataInsightChartResult.DataInsightChartType chartType) throws ParseException {
+    DataInsightChartResult processedDataTotalAssets = processDataInsightChartResult(searchResponse, chartType);
     TreeMap<Long, List<Object>> dateWithDataMap = new TreeMap<>();
     for (Object data : processedDataTotalAssets.getData()) {
       DataInsightInterface convertedData = (DataInsightInterface) data;
@@ -16,6 +16,7 @@ import org.openmetadata.schema.auth.JWTAuthMechanism;
 import org.openmetadata.schema.entity.teams.AuthenticationMechanism;
 import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.CacheInvalidationBus;
 import org.openmetadata.service.jdbi3.UserRepository;
 import org.openmetadata.service.resources.teams.UserResource;
 import org.openmetadata.service.util.EntityUtil.Fields;
@@ -45,11 +46,16 @@ public class BotTokenCache {
   public static void invalidateToken(String botName) {
     try {
       BOTS_TOKEN_CACHE.invalidate(botName);
+      CacheInvalidationBus.publish(CacheInvalidationBus.BOT_TOKEN, botName);
     } catch (Exception ex) {
       LOG.error("Failed to invalidate Bot token cache for Bot {}", botName, ex);
     }
   }
 
+  public static void registerCacheInvalidation(CacheInvalidationBus bus) {
+    bus.register(CacheInvalidationBus.BOT_TOKEN, BOTS_TOKEN_CACHE::invalidate);
+  }
+
   static class BotTokenLoader extends CacheLoader<String, String> {
     @Override
     public String load(@CheckForNull String botName) throws IOException {
@@ -19,6 +19,7 @@ import org.openmetadata.schema.auth.PersonalAccessToken;
 import org.openmetadata.schema.auth.TokenType;
 import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.CacheInvalidationBus;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.TokenRepository;
 import org.openmetadata.service.jdbi3.UserRepository;
@@ -28,7 +29,7 @@ import org.openmetadata.service.util.EntityUtil.Fields;
 @Slf4j
 public class UserTokenCache {
   private static final LoadingCache<String, HashSet<String>> CACHE =
-      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(2, TimeUnit.MINUTES).build(new UserTokenLoader());
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(10, TimeUnit.MINUTES).build(new UserTokenLoader());
   private static volatile boolean initialized = false;
   private static TokenRepository tokenRepository;
 
@@ -58,11 +59,16 @@ public class UserTokenCache {
   public static void invalidateToken(String userName) {
     try {
       CACHE.invalidate(userName);
+      CacheInvalidationBus.publish(CacheInvalidationBus.USER_TOKEN, userName);
     } catch (Exception ex) {
       LOG.error("Failed to invalidate User token cache for User {}", userName, ex);
     }
   }
 
+  public static void registerCacheInvalidation(CacheInvalidationBus bus) {
+    bus.register(CacheInvalidationBus.USER_TOKEN, CACHE::invalidate);
+  }
+
   static class UserTokenLoader extends CacheLoader<String, HashSet<String>> {
     @Override
     public HashSet<String> load(@CheckForNull String userName) throws IOException {
@@ -20,7 +20,10 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
-/** This class is used in a single threaded model and hence does not have concurrency support */
+/**
+ * Compiled rules are cached in {@link SubjectCache} and shared across requests. The condition expression is parsed when
+ * the rule is loaded into the cache, after which the rule is only read.
+ */
 @Slf4j
 public class CompiledRule extends Rule {
   private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
@@ -0,0 +1,183 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.security.policyevaluator;
+
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
+import static org.openmetadata.schema.type.Include.NON_DELETED;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.entity.policies.Policy;
+import org.openmetadata.schema.entity.policies.accessControl.Rule;
+import org.openmetadata.schema.entity.teams.Role;
+import org.openmetadata.schema.entity.teams.Team;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.unitofwork.JdbiTransactionManager;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Cache of the authorization context of users along with the teams, roles and the compiled policy rules used for
+ * evaluating policies. Entries are invalidated when a user, team, role or policy is stored or deleted, and again after
+ * the transaction storing it completes, so that a context loaded by a concurrent request before the commit is not kept.
+ * Entries are always loaded from the primary database, also when the request reads from the read replica.
+ */
+@Slf4j
+public final class SubjectCache {
+  private static final LoadingCache<String, SubjectContext> USER_CACHE =
+      CacheBuilder.newBuilder()
+          .maximumSize(5000)
+          .expireAfterWrite(5, TimeUnit.MINUTES)
+          .recordStats()
+          .build(new UserLoader());
+  private static final LoadingCache<UUID, Team> TEAM_CACHE =
+      CacheBuilder.newBuilder()
+          .maximumSize(5000)
+          .expireAfterWrite(5, TimeUnit.MINUTES)
+          .recordStats()
+          .build(new TeamLoader());
+  private static final LoadingCache<UUID, Role> ROLE_CACHE =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(5, TimeUnit.MINUTES)
+          .recordStats()
+          .build(new RoleLoader());
+  private static final LoadingCache<UUID, List<CompiledRule>> POLICY_CACHE =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(5, TimeUnit.MINUTES)
+          .recordStats()
+          .build(new PolicyLoader());
+
+  static {
+    GuavaCacheMetrics.monitor(MicrometerBundleSingleton.prometheusMeterRegistry, USER_CACHE, "subjectContext");
+    GuavaCacheMetrics.monitor(MicrometerBundleSingleton.prometheusMeterRegistry, TEAM_CACHE, "subjectTeam");
+    GuavaCacheMetrics.monitor(MicrometerBundleSingleton.prometheusMeterRegistry, ROLE_CACHE, "subjectRole");
+    GuavaCacheMetrics.monitor(MicrometerBundleSingleton.prometheusMeterRegistry, POLICY_CACHE, "subjectPolicy");
+  }
+
+  private SubjectCache() {
+    /* Cannot create object  util class*/
+  }
+
+  public static SubjectContext getSubjectContext(@NonNull String userName) {
+    return get(USER_CACHE, userName);
+  }
+
+  public static Team getTeam(@NonNull UUID teamId) {
+    return get(TEAM_CACHE, teamId);
+  }
+
+  public static Role getRole(@NonNull UUID roleId) {
+    return get(ROLE_CACHE, roleId);
+  }
+
+  /** Get the rules of a policy with the conditions already parsed */
+  public static List<CompiledRule> getPolicyRules(@NonNull UUID policyId) {
+    return get(POLICY_CACHE, policyId);
+  }
+
+  /** Invalidate the cached entries affected by storing or deleting the given entity */
+  public static void invalidate(String entityType, EntityInterface entity) {
+    invalidate(entityType, entity.getName(), entity.getFullyQualifiedName());
+  }
+
+  public static void invalidate(String entityType, String name, String fqn) {
+    switch (entityType) {
+      case Entity.USER:
+        if (name != null) {
+          USER_CACHE.invalidate(name);
+        }
+        if (fqn != null) {
+          USER_CACHE.invalidate(fqn);
+        }
+        break;
+      case Entity.TEAM:
+      case Entity.ROLE:
+      case Entity.POLICY:
+        // Teams, roles, and policies are shared by many users, and hence invalidate all the users
+        invalidateAll();
+        break;
+      default:
+        break;
+    }
+  }
+
+  public static void invalidateAll() {
+    LOG.debug("Invalidating all the subject contexts");
+    USER_CACHE.invalidateAll();
+    TEAM_CACHE.invalidateAll();
+    ROLE_CACHE.invalidateAll();
+    POLICY_CACHE.invalidateAll();
+  }
+
+  private static <K, V> V get(LoadingCache<K, V> cache, K key) {
+    try {
+      return cache.getUnchecked(key);
+    } catch (UncheckedExecutionException ex) {
+      // Throw the original exception, such as EntityNotFoundException, from the loader
+      Throwables.throwIfUnchecked(ex.getCause());
+      throw ex;
+    }
+  }
+
+  static class UserLoader extends CacheLoader<String, SubjectContext> {
+    @Override
+    public SubjectContext load(@NonNull String userName) {
+      return JdbiTransactionManager.readFromPrimary(() -> SubjectContext.loadSubjectContext(userName));
+    }
+  }
+
+  static class TeamLoader extends CacheLoader<UUID, Team> {
+    @Override
+    public Team load(@NonNull UUID teamId) {
+      return JdbiTransactionManager.readFromPrimary(
+          () -> Entity.getEntity(Entity.TEAM, teamId, SubjectContext.TEAM_FIELDS, NON_DELETED));
+    }
+  }
+
+  static class RoleLoader extends CacheLoader<UUID, Role> {
+    @Override
+    public Role load(@NonNull UUID roleId) {
+      return JdbiTransactionManager.readFromPrimary(
+          () -> Entity.getEntity(Entity.ROLE, roleId, "policies", NON_DELETED));
+    }
+  }
+
+  static class PolicyLoader extends CacheLoader<UUID, List<CompiledRule>> {
+    @Override
+    public List<CompiledRule> load(@NonNull UUID policyId) {
+      Policy policy =
+          JdbiTransactionManager.readFromPrimary(() -> Entity.getEntity(Entity.POLICY, policyId, "rules", NON_DELETED));
+      List<CompiledRule> rules = new ArrayList<>();
+      for (Rule r : listOrEmpty(policy.getRules())) {
+        CompiledRule rule = new CompiledRule(r);
+        rule.getExpression(); // Parse the condition once when the policy is loaded
+        rules.add(rule);
+      }
+      return Collections.unmodifiableList(rules);
+    }
+  }
+}
@@ -16,24 +16,24 @@ package org.openmetadata.service.security.policyevaluator;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.schema.type.Include.NON_DELETED;
 
-import java.util.ArrayDeque;
+import com.google.common.collect.Iterators;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.openmetadata.schema.entity.policies.Policy;
-import org.openmetadata.schema.entity.policies.accessControl.Rule;
 import org.openmetadata.schema.entity.teams.Role;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.schema.type.EntityReference;
-import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.TeamHierarchyIndex;
 
 /** Subject context used for Access Control Policies */
 @Slf4j
@@ -42,13 +42,28 @@ public class SubjectContext {
   public static final String TEAM_FIELDS = "defaultRoles, policies, parents, profile";
   @Getter protected final User user;
 
+  // Policies from the user roles and the teams of the user, along with the teams visited to get them. These are
+  // computed once and reused for all the policy evaluations of the user while this context is cached.
+  private List<PolicyContext> userPolicies;
+  private List<UUID> userTeamsVisited;
+
+  // Names of the roles assigned to the user directly and inherited from the team hierarchy
+  private Set<String> roleNames;
+
   protected SubjectContext(User user) {
     this.user = user;
   }
 
   public static SubjectContext getSubjectContext(String userName) {
+    return SubjectCache.getSubjectContext(userName);
+  }
+
+  static SubjectContext loadSubjectContext(String userName) {
     User user = Entity.getEntityByName(Entity.USER, userName, USER_FIELDS, NON_DELETED);
-    return new SubjectContext(user);
+    SubjectContext subjectContext = new SubjectContext(user);
+    subjectContext.getUserPolicies();
+    subjectContext.getRoleNames();
+    return subjectContext;
   }
 
   public boolean isAdmin() {
@@ -93,7 +108,7 @@ public class SubjectContext {
       return subjectContext.isUserUnderTeam(parentTeam);
     } else if (owner.getType().equals(Entity.TEAM)) {
       try {
-        Team team = Entity.getEntity(Entity.TEAM, owner.getId(), TEAM_FIELDS, Include.NON_DELETED);
+        Team team = SubjectCache.getTeam(owner.getId());
         return isInTeam(parentTeam, team.getEntityReference());
       } catch (Exception ex) {
         // Ignore and return false
@@ -104,39 +119,58 @@ public class SubjectContext {
 
   /** Return true if the team is part of the hierarchy of parentTeam */
   public static boolean isInTeam(String parentTeam, EntityReference team) {
-    Deque<EntityReference> stack = new ArrayDeque<>();
-    stack.push(team); // Start with team and see if the parent matches
-    while (!stack.isEmpty()) {
-      try {
-        Team parent = Entity.getEntity(Entity.TEAM, stack.pop().getId(), "parents", NON_DELETED);
-        if (parent.getName().equals(parentTeam)) {
-          return true;
-        }
-        listOrEmpty(parent.getParents()).forEach(stack::push); // Continue to go up the chain of parents
-      } catch (Exception ex) {
-        // Ignore and return false
-      }
-    }
-    return false;
+    return TeamHierarchyIndex.isInTeam(parentTeam, team.getId());
   }
 
   public static List<EntityReference> getRolesForTeams(List<EntityReference> teams) {
     List<EntityReference> roles = new ArrayList<>();
     for (EntityReference teamRef : listOrEmpty(teams)) {
-      try {
-        Team team = Entity.getEntity(Entity.TEAM, teamRef.getId(), TEAM_FIELDS, NON_DELETED);
-        roles.addAll(team.getDefaultRoles());
-        roles.addAll(getRolesForTeams(team.getParents()));
-      } catch (Exception ex) {
-        // Ignore and continue
+      for (UUID teamId : TeamHierarchyIndex.getAncestors(teamRef.getId())) {
+        try {
+          roles.addAll(listOrEmpty(SubjectCache.getTeam(teamId).getDefaultRoles()));
+        } catch (Exception ex) {
+          // Ignore and continue
+        }
       }
     }
     return roles.stream().distinct().collect(Collectors.toList());
   }
 
-  // Iterate over all the policies of the team hierarchy the user belongs to
+  // Iterate over all the policies of the team hierarchy the user belongs to, followed by the policies of the team
+  // that owns the resource
   public Iterator<PolicyContext> getPolicies(EntityReference resourceOwner) {
-    return new UserPolicyIterator(user, resourceOwner, new ArrayList<>());
+    Iterator<PolicyContext> policies = getUserPolicies().iterator();
+    if (resourceOwner != null && resourceOwner.getType().equals(Entity.TEAM)) {
+      try {
+        Team team = SubjectCache.getTeam(resourceOwner.getId());
+        List<UUID> teamsVisited = new ArrayList<>(userTeamsVisited);
+        return Iterators.concat(policies, new TeamPolicyIterator(team.getId(), teamsVisited, true));
+      } catch (Exception ex) {
+        // Ignore
+      }
+    }
+    return policies;
+  }
+
+  private synchronized List<PolicyContext> getUserPolicies() {
+    if (userPolicies == null) {
+      List<UUID> teamsVisited = new ArrayList<>();
+      List<PolicyContext> policies = new ArrayList<>();
+      new UserPolicyIterator(user, teamsVisited).forEachRemaining(policies::add);
+      userTeamsVisited = Collections.unmodifiableList(teamsVisited);
+      userPolicies = Collections.unmodifiableList(policies);
+    }
+    return userPolicies;
+  }
+
+  private synchronized Set<String> getRoleNames() {
+    if (roleNames == null) {
+      Set<String> names = new HashSet<>();
+      listOrEmpty(user.getRoles()).forEach(role -> names.add(role.getName()));
+      getRolesForTeams(user.getTeams()).forEach(role -> names.add(role.getName()));
+      roleNames = Collections.unmodifiableSet(names);
+    }
+    return roleNames;
   }
 
   public List<EntityReference> getTeams() {
@@ -145,29 +179,16 @@ public class SubjectContext {
 
   /** Returns true if the user has any of the roles (either direct or inherited roles) */
   public boolean hasAnyRole(String roles) {
-    return hasRole(getUser(), roles);
+    return getRoleNames().contains(roles);
   }
 
   /** Return true if the given user has any roles the list of roles */
   public static boolean hasRole(User user, String role) {
-    Deque<EntityReference> stack = new ArrayDeque<>();
     // If user has one of the roles directly assigned then return true
     if (hasRole(user.getRoles(), role)) {
       return true;
     }
-    listOrEmpty(user.getTeams()).forEach(stack::push); // Continue to go up the chain of parents
-    while (!stack.isEmpty()) {
-      try {
-        Team parent = Entity.getEntity(Entity.TEAM, stack.pop().getId(), TEAM_FIELDS, NON_DELETED);
-        if (hasRole(parent.getDefaultRoles(), role)) {
-          return true;
-        }
-        listOrEmpty(parent.getParents()).forEach(stack::push); // Continue to go up the chain of parents
-      } catch (Exception ex) {
-        // Ignore the exception and return false
-      }
-    }
-    return false;
+    return hasRole(getRolesForTeams(user.getTeams()), role);
   }
 
   private static boolean hasRole(List<EntityReference> userRoles, String expectedRole) {
@@ -238,12 +259,7 @@ public class SubjectContext {
     }
 
     private static List<CompiledRule> getPolicyRules(UUID policyId) {
-      Policy policy = Entity.getEntity(Entity.POLICY, policyId, "rules", Include.NON_DELETED);
-      List<CompiledRule> rules = new ArrayList<>();
-      for (Rule r : policy.getRules()) {
-        rules.add(new CompiledRule(r));
-      }
-      return rules;
+      return SubjectCache.getPolicyRules(policyId);
     }
   }
 
@@ -262,7 +278,7 @@ public class SubjectContext {
       this.entityType = entityType;
       this.entityName = entityName;
       for (EntityReference role : listOrEmpty(roles)) {
-        Role roleEntity = Entity.getEntity(Entity.ROLE, role.getId(), "policies", Include.NON_DELETED);
+        Role roleEntity = SubjectCache.getRole(role.getId());
         policyIterators.add(new PolicyIterator(entityType, entityName, role.getName(), roleEntity.getPolicies()));
       }
     }
@@ -290,7 +306,8 @@ public class SubjectContext {
 
   /**
    * A class that allows iterating over policies of a user using iterator of iterators. For a user, the policies in user
-   * roles are visited one by one, followed by policies in the teams that a user belongs to.
+   * roles are visited one by one, followed by policies in the teams that a user belongs to. Policies of the team that
+   * owns a resource are not part of this iterator, see {@link #getPolicies(EntityReference)}.
    */
   static class UserPolicyIterator implements Iterator<PolicyContext> {
     private final User user;
@@ -298,7 +315,7 @@ public class SubjectContext {
     private final List<Iterator<PolicyContext>> iterators = new ArrayList<>();
 
     /** Policy iterator for a user */
-    UserPolicyIterator(User user, EntityReference resourceOwner, List<UUID> teamsVisited) {
+    UserPolicyIterator(User user, List<UUID> teamsVisited) {
       this.user = user;
 
       // Iterate over policies in user role
@@ -313,16 +330,6 @@ public class SubjectContext {
           iterators.add(new TeamPolicyIterator(team.getId(), teamsVisited, false));
         }
       }
-
-      // Finally, iterate over policies of teams that own the resource
-      if (resourceOwner != null && resourceOwner.getType().equals(Entity.TEAM)) {
-        try {
-          Team team = Entity.getEntity(Entity.TEAM, resourceOwner.getId(), TEAM_FIELDS, Include.NON_DELETED);
-          iterators.add(new TeamPolicyIterator(team.getId(), teamsVisited, true));
-        } catch (Exception ex) {
-          // Ignore
-        }
-      }
     }
 
     @Override
@@ -356,7 +363,7 @@ public class SubjectContext {
 
     /** Policy iterator for a team */
     TeamPolicyIterator(UUID teamId, List<UUID> teamsVisited, boolean skipRoles) {
-      Team team = Entity.getEntity(Entity.TEAM, teamId, TEAM_FIELDS, Include.NON_DELETED);
+      Team team = SubjectCache.getTeam(teamId);
 
       // If a team is already visited (because user can belong to multiple teams
       // and a team can belong to multiple teams) then don't visit the roles/policies of that team
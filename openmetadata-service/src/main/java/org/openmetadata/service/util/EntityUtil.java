@@ -13,9 +13,11 @@
 
 package org.openmetadata.service.util;
 
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.schema.type.Include.ALL;
 
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.security.MessageDigest;
 import java.util.ArrayList;
@@ -23,11 +25,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
@@ -59,6 +66,8 @@ import org.openmetadata.service.security.policyevaluator.ResourceContext;
 
 @Slf4j
 public final class EntityUtil {
+  // MessageDigest is not thread safe, and hence a digest is reused per thread instead of creating one for every hash
+  private static final ThreadLocal<MessageDigest> MD5_DIGEST = ThreadLocal.withInitial(EntityUtil::newMd5Digest);
 
   //
   // Comparators used for sorting list based on the given type
@@ -83,21 +92,18 @@ public final class EntityUtil {
   public static final BiPredicate<EntityReference, EntityReference> entityReferenceMatch =
       (ref1, ref2) -> ref1.getId().equals(ref2.getId()) && ref1.getType().equals(ref2.getType());
 
-  public static final BiPredicate<TagLabel, TagLabel> tagLabelMatch =
-      (tag1, tag2) -> tag1.getTagFQN().equals(tag2.getTagFQN()) && tag1.getSource().equals(tag2.getSource());
+  public static final KeyMatch<TagLabel> tagLabelMatch =
+      new KeyMatch<>(tag -> Arrays.asList(tag.getTagFQN(), tag.getSource()));
 
   public static final BiPredicate<Task, Task> taskMatch = (task1, task2) -> task1.getName().equals(task2.getName());
 
   public static final BiPredicate<String, String> stringMatch = String::equals;
 
-  public static final BiPredicate<Column, Column> columnMatch =
-      (column1, column2) ->
-          column1.getName().equalsIgnoreCase(column2.getName())
-              && column1.getDataType() == column2.getDataType()
-              && column1.getArrayDataType() == column2.getArrayDataType();
+  public static final KeyMatch<Column> columnMatch =
+      new KeyMatch<>(
+          column -> Arrays.asList(ignoreCaseKey(column.getName()), column.getDataType(), column.getArrayDataType()));
 
-  public static final BiPredicate<Column, Column> columnNameMatch =
-      (column1, column2) -> column1.getName().equalsIgnoreCase(column2.getName());
+  public static final KeyMatch<Column> columnNameMatch = new KeyMatch<>(column -> ignoreCaseKey(column.getName()));
 
   public static final BiPredicate<TableConstraint, TableConstraint> tableConstraintMatch =
       (constraint1, constraint2) ->
@@ -123,16 +129,61 @@ public final class EntityUtil {
 
   public static final BiPredicate<Rule, Rule> ruleMatch = (ref1, ref2) -> ref1.getName().equals(ref2.getName());
 
-  public static final BiPredicate<Field, Field> schemaFieldMatch =
-      (field1, field2) ->
-          field1.getName().equalsIgnoreCase(field2.getName()) && field1.getDataType() == field2.getDataType();
+  public static final KeyMatch<Field> schemaFieldMatch =
+      new KeyMatch<>(field -> Arrays.asList(ignoreCaseKey(field.getName()), field.getDataType()));
 
-  public static final BiPredicate<SearchIndexField, SearchIndexField> searchIndexFieldMatch =
-      (field1, field2) ->
-          field1.getName().equalsIgnoreCase(field2.getName()) && field1.getDataType() == field2.getDataType();
+  public static final KeyMatch<SearchIndexField> searchIndexFieldMatch =
+      new KeyMatch<>(field -> Arrays.asList(ignoreCaseKey(field.getName()), field.getDataType()));
 
   private EntityUtil() {}
 
+  /**
+   * Matcher of two items with equal keys. A list is searched for the items matching another list by a lookup in an
+   * index of the list by key with {@link #matcher(List, BiPredicate)}, instead of comparing all the pairs of items.
+   */
+  public static class KeyMatch<T> implements BiPredicate<T, T> {
+    private final Function<T, Object> keyFunction;
+
+    public KeyMatch(Function<T, Object> keyFunction) {
+      this.keyFunction = keyFunction;
+    }
+
+    public Object key(T item) {
+      return keyFunction.apply(item);
+    }
+
+    @Override
+    public boolean test(T item1, T item2) {
+      return Objects.equals(key(item1), key(item2));
+    }
+  }
+
+  /**
+   * Returns a function that finds the first item in the list matching a given item. For a {@link KeyMatch}, the list is
+   * indexed once and each item is found by a map lookup.
+   */
+  public static <T> UnaryOperator<T> matcher(List<T> list, BiPredicate<T, T> match) {
+    if (match instanceof KeyMatch) {
+      KeyMatch<T> keyMatch = (KeyMatch<T>) match;
+      Map<Object, T> index = new HashMap<>();
+      listOrEmpty(list).forEach(item -> index.putIfAbsent(keyMatch.key(item), item));
+      return item -> index.get(keyMatch.key(item));
+    }
+    return item -> listOrEmpty(list).stream().filter(c -> match.test(c, item)).findFirst().orElse(null);
+  }
+
+  /** Key for matching names the same way as {@link String#equalsIgnoreCase(String)} */
+  public static String ignoreCaseKey(String name) {
+    if (name == null) {
+      return null;
+    }
+    char[] chars = name.toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+    }
+    return new String(chars);
+  }
+
   /** Validate that JSON payload can be turned into POJO object */
   public static <T> T validate(String identity, String json, Class<T> clz) throws WebApplicationException {
     T entity = null;
@@ -162,10 +213,13 @@ public final class EntityUtil {
     if (nullOrEmpty(list)) {
       return Collections.emptyList();
     }
-    List<EntityReference> refs = new ArrayList<>();
+    // Load the references of each entity type together
+    Map<String, List<UUID>> idsByType = new HashMap<>();
     for (EntityRelationshipRecord ref : list) {
-      refs.add(Entity.getEntityReferenceById(ref.getType(), ref.getId(), ALL));
+      idsByType.computeIfAbsent(ref.getType(), k -> new ArrayList<>()).add(ref.getId());
     }
+    List<EntityReference> refs = new ArrayList<>();
+    idsByType.forEach((type, ids) -> refs.addAll(Entity.getEntityReferencesByIds(type, ids, ALL)));
     refs.sort(compareEntityReference);
     return refs;
   }
@@ -186,17 +240,31 @@ public final class EntityUtil {
     UsageDetails details = usageDAO.getLatestUsage(entityId.toString());
     if (details == null) {
       LOG.debug("Usage details not found. Sending default usage");
-      UsageStats stats = new UsageStats().withCount(0).withPercentileRank(0.0);
-      details =
-          new UsageDetails()
-              .withDailyStats(stats)
-              .withWeeklyStats(stats)
-              .withMonthlyStats(stats)
-              .withDate(RestUtil.DATE_FORMAT.format(new Date()));
+      details = getDefaultUsage();
     }
     return details;
   }
 
+  /** Same as {@link #getLatestUsage(UsageDAO, UUID)} for a list of entities with a single query, keyed by entity id */
+  public static Map<UUID, UsageDetails> getLatestUsage(UsageDAO usageDAO, List<UUID> entityIds) {
+    Map<UUID, UsageDetails> usage = new HashMap<>();
+    List<String> ids = entityIds.stream().map(UUID::toString).collect(Collectors.toList());
+    for (List<String> batch : Lists.partition(ids, 1000)) {
+      usageDAO.getLatestUsageBatch(batch).forEach(u -> usage.put(UUID.fromString(u.getLeft()), u.getRight()));
+    }
+    entityIds.forEach(id -> usage.computeIfAbsent(id, k -> getDefaultUsage()));
+    return usage;
+  }
+
+  private static UsageDetails getDefaultUsage() {
+    UsageStats stats = new UsageStats().withCount(0).withPercentileRank(0.0);
+    return new UsageDetails()
+        .withDailyStats(stats)
+        .withWeeklyStats(stats)
+        .withMonthlyStats(stats)
+        .withDate(RestUtil.DATE_FORMAT.format(new Date()));
+  }
+
   /** Merge two sets of tags */
   public static void mergeTags(List<TagLabel> mergeTo, List<TagLabel> mergeFrom) {
     if (nullOrEmpty(mergeFrom)) {
@@ -529,9 +597,13 @@ public final class EntityUtil {
   }
 
   @SneakyThrows
+  private static MessageDigest newMd5Digest() {
+    return MessageDigest.getInstance("MD5");
+  }
+
   public static String hash(String input) {
     if (input != null) {
-      byte[] checksum = MessageDigest.getInstance("MD5").digest(input.getBytes());
+      byte[] checksum = MD5_DIGEST.get().digest(input.getBytes());
       return Hex.encodeHexString(checksum);
     }
     return null;
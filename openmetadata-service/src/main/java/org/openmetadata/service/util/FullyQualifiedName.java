@@ -13,20 +13,14 @@
 
 package org.openmetadata.service.util;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.antlr.v4.runtime.BailErrorStrategy;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.openmetadata.schema.FqnBaseListener;
-import org.openmetadata.schema.FqnLexer;
-import org.openmetadata.schema.FqnParser;
-import org.openmetadata.schema.FqnParser.FqnContext;
-import org.openmetadata.schema.FqnParser.QuotedNameContext;
-import org.openmetadata.schema.FqnParser.UnquotedNameContext;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 
@@ -34,6 +28,10 @@ public class FullyQualifiedName {
   // Quoted name of format "sss" or unquoted string sss
   private static final Pattern namePattern = Pattern.compile("^(\")([^\"]+)(\")$|^(.*)$");
 
+  // Hashes of the FQN parts. Parts such as service, database, and schema names are shared by many entities.
+  private static final LoadingCache<String, String> HASH_CACHE =
+      CacheBuilder.newBuilder().maximumSize(50000).build(CacheLoader.from(EntityUtil::hash));
+
   private FullyQualifiedName() {
     /* Utility class with private constructor */
   }
@@ -53,35 +51,72 @@ public class FullyQualifiedName {
   }
 
   public static String buildHash(String... strings) {
-    List<String> list = new ArrayList<>();
+    StringBuilder builder = new StringBuilder();
     for (String string : strings) {
-      list.add(EntityUtil.hash(quoteName(string)));
+      appendHash(builder, quoteName(string));
     }
-    return String.join(Entity.SEPARATOR, list);
+    return builder.toString();
   }
 
   public static String buildHash(String fullyQualifiedName) {
     if (fullyQualifiedName != null && !fullyQualifiedName.isEmpty()) {
-      String[] split = split(fullyQualifiedName);
-      return buildHash(split);
+      // Parts from split are already quoted as required and need not go through quoteName again
+      StringBuilder builder = new StringBuilder();
+      for (String part : split(fullyQualifiedName)) {
+        appendHash(builder, part);
+      }
+      return builder.toString();
     }
     return fullyQualifiedName;
   }
 
-  public static String[] split(String string) {
-    SplitListener listener = new SplitListener();
-    walk(string, listener);
-    return listener.split();
+  private static void appendHash(StringBuilder builder, String quotedName) {
+    if (builder.length() > 0) {
+      builder.append(Entity.SEPARATOR);
+    }
+    builder.append(HASH_CACHE.getUnchecked(quotedName));
   }
 
-  private static <L extends FqnBaseListener> void walk(String string, L listener) {
-    FqnLexer fqnLexer = new FqnLexer(CharStreams.fromString(string));
-    CommonTokenStream tokens = new CommonTokenStream(fqnLexer);
-    FqnParser fqnParser = new FqnParser(tokens);
-    fqnParser.setErrorHandler(new BailErrorStrategy());
-    FqnContext fqn = fqnParser.fqn();
-    ParseTreeWalker walker = new ParseTreeWalker();
-    walker.walk(listener, fqn);
+  /**
+   * Split the FQN into its parts following the rules of the grammar in Fqn.g4 in a single pass. A part is either an
+   * unquoted name without any '.' or '"', or a quoted name "sss" that contains at least one '.' and no '"'. Quoted
+   * parts are returned with the quotes.
+   */
+  public static String[] split(String string) {
+    List<String> list = new ArrayList<>();
+    int length = string.length();
+    int start = 0;
+    while (true) {
+      int end;
+      if (start < length && string.charAt(start) == '"') {
+        int close = string.indexOf('"', start + 1);
+        int reserved = string.indexOf('.', start + 1);
+        if (close < 0 || reserved < 0 || reserved > close) {
+          throw invalidFqn(string);
+        }
+        end = close + 1;
+      } else {
+        end = start;
+        while (end < length && string.charAt(end) != '.' && string.charAt(end) != '"') {
+          end++;
+        }
+        if (end == start || end < length && string.charAt(end) == '"') {
+          throw invalidFqn(string);
+        }
+      }
+      list.add(string.substring(start, end));
+      if (end == length) {
+        return list.toArray(new String[0]);
+      }
+      if (string.charAt(end) != '.') {
+        throw invalidFqn(string);
+      }
+      start = end + 1;
+    }
+  }
+
+  private static ParseCancellationException invalidFqn(String fqn) {
+    return new ParseCancellationException("Invalid fully qualified name " + fqn);
   }
 
   public static String getParentFQN(String fqn) {
@@ -120,24 +155,6 @@ public class FullyQualifiedName {
     return childFqn.startsWith(parentFqn) && childFqn.length() > parentFqn.length();
   }
 
-  private static class SplitListener extends FqnBaseListener {
-    final List<String> list = new ArrayList<>();
-
-    public String[] split() {
-      return list.toArray(new String[0]);
-    }
-
-    @Override
-    public void enterQuotedName(QuotedNameContext ctx) {
-      list.add(ctx.getText());
-    }
-
-    @Override
-    public void enterUnquotedName(UnquotedNameContext ctx) {
-      list.add(ctx.getText());
-    }
-  }
-
   /** Adds quotes to name as required */
   public static String quoteName(String name) {
     Matcher matcher = namePattern.matcher(name);
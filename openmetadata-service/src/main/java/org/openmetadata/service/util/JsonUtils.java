@@ -15,6 +15,7 @@ package org.openmetadata.service.util;
 
 import static org.openmetadata.service.util.RestUtil.DATE_TIME_FORMAT;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -25,6 +26,7 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
@@ -486,13 +488,17 @@ public final class JsonUtils {
     }
   }
 
+  /**
+   * Copy an object by writing it to a buffer of JSON tokens and reading the copy from the buffer, which avoids writing
+   * and parsing the JSON text.
+   */
   @SneakyThrows
   public static <T> T deepCopy(T original, Class<T> clazz) {
-    // Serialize the original object to JSON
-    String json = pojoToJson(original);
-
-    // Deserialize the JSON back into a new object of the specified class
-    return OBJECT_MAPPER.readValue(json, clazz);
+    TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false);
+    OBJECT_MAPPER.writeValue(buffer, original);
+    try (JsonParser parser = buffer.asParser()) {
+      return OBJECT_MAPPER.readValue(parser, clazz);
+    }
   }
 
   static class SortedNodeFactory extends JsonNodeFactory {
@@ -13,6 +13,7 @@
 
 package org.openmetadata.service.util;
 
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkProvider.getWrappedInstanceForDaoClass;
 
 import java.time.LocalDateTime;
@@ -39,6 +40,7 @@ import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.api.CreateEventPublisherJob;
 import org.openmetadata.schema.system.EventPublisherJob;
 import org.openmetadata.schema.system.Failure;
+import org.openmetadata.schema.system.ReindexRange;
 import org.openmetadata.schema.system.Stats;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CustomExceptionMessage;
@@ -94,6 +96,9 @@ public class ReIndexingHandler {
       throw new UnhandledServerException("Thread unavailable to run the jobs. There are pending jobs.");
     } else {
       EventPublisherJob jobData = getReindexJob(startedBy, createReindexingJob);
+      if (createReindexingJob.getResumeJobId() != null) {
+        jobData.setCheckpoints(getCheckpointsToResume(createReindexingJob.getResumeJobId(), jobData.getEntities()));
+      }
       List<SearchIndexWorkflow> activeJobs = new ArrayList<>(REINDEXING_JOB_MAP.values());
       Set<String> entityList = jobData.getEntities();
       for (SearchIndexWorkflow job : activeJobs) {
@@ -166,6 +171,25 @@ public class ReIndexingHandler {
     }
   }
 
+  /**
+   * Get the ranges of a failed or stopped job for the given entities. Completed ranges are carried forward as well, so
+   * that the resumed job does not index them again nor recreate the indexes of their entity types.
+   */
+  private List<ReindexRange> getCheckpointsToResume(UUID jobId, Set<String> entities) {
+    EventPublisherJob job = getJob(jobId);
+    if (job == null
+        || job.getStatus() != EventPublisherJob.Status.FAILED && job.getStatus() != EventPublisherJob.Status.STOPPED) {
+      throw new IllegalArgumentException(String.format("Job %s is not a failed or stopped job to resume", jobId));
+    }
+    List<ReindexRange> checkpoints = new ArrayList<>();
+    for (ReindexRange range : listOrEmpty(job.getCheckpoints())) {
+      if (entities.contains(range.getEntityType())) {
+        checkpoints.add(range);
+      }
+    }
+    return checkpoints;
+  }
+
   public void removeCompletedJob(UUID jobId) {
     REINDEXING_JOB_MAP.remove(jobId);
   }
@@ -229,6 +253,7 @@ public class ReIndexingHandler {
         .withFailure(new Failure())
         .withRecreateIndex(job.getRecreateIndex())
         .withSearchIndexMappingLanguage(job.getSearchIndexMappingLanguage())
-        .withAfterCursor(job.getAfterCursor());
+        .withAfterCursor(job.getAfterCursor())
+        .withParallelism(job.getParallelism());
   }
 }
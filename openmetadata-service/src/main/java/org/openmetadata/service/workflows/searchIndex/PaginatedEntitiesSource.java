@@ -15,18 +15,16 @@ package org.openmetadata.service.workflows.searchIndex;
 
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.getUpdatedStats;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.system.ReindexRange;
 import org.openmetadata.schema.system.StepStats;
-import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.SourceException;
 import org.openmetadata.service.jdbi3.EntityRepository;
-import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.util.RestUtil;
 import org.openmetadata.service.util.ResultList;
 import org.openmetadata.service.workflows.interfaces.Source;
@@ -36,26 +34,39 @@ public class PaginatedEntitiesSource implements Source<ResultList<? extends Enti
   @Getter private final int batchSize;
   @Getter private final String entityType;
   @Getter private final List<String> fields;
-  private final StepStats stats = new StepStats();
+  @Getter private final ReindexRange range;
+  private final StepStats stats;
   private String lastFailedCursor = null;
 
-  private String cursor = RestUtil.encodeCursor("0");
-  @Getter private boolean isDone = false;
+  // Id of the last entity read. Entities are read in the order of id using keyset pagination.
+  @Getter private String cursor;
+  @Getter private boolean isDone;
 
   public PaginatedEntitiesSource(String entityType, int batchSize, List<String> fields) {
-    this.entityType = entityType;
+    this(new ReindexRange().withEntityType(entityType).withStart(""), batchSize, fields, new StepStats());
+    this.stats.setTotalRecords(Entity.getEntityRepository(entityType).getDao().listTotalCount());
+  }
+
+  /** Source for reading the entities in the given range of ids, starting after the cursor of the range if set */
+  public PaginatedEntitiesSource(ReindexRange range, int batchSize, List<String> fields, StepStats stats) {
+    this.range = range;
+    this.entityType = range.getEntityType();
     this.batchSize = batchSize;
     this.fields = fields;
-    this.stats.setTotalRecords(Entity.getEntityRepository(entityType).getDao().listTotalCount());
+    this.stats = stats;
+    this.cursor = range.getCursor() != null ? range.getCursor() : range.getStart();
+    this.isDone = Boolean.TRUE.equals(range.getCompleted());
   }
 
   @Override
   public ResultList<? extends EntityInterface> readNext(Map<String, Object> contextData) throws SourceException {
     if (!isDone) {
       ResultList<? extends EntityInterface> data = read(cursor);
-      cursor = data.getPaging().getAfter();
-      if (cursor == null) {
+      String after = data.getPaging().getAfter();
+      if (after == null) {
         isDone = true;
+      } else {
+        cursor = RestUtil.decodeCursor(after);
       }
       return data;
     } else {
@@ -69,10 +80,10 @@ public class PaginatedEntitiesSource implements Source<ResultList<? extends Enti
     ResultList<? extends EntityInterface> result;
     try {
       result =
-          entityRepository.listAfterWithSkipFailure(
-              null, Entity.getFields(entityType, fields), new ListFilter(Include.ALL), batchSize, cursor);
+          entityRepository.listAfterIdWithSkipFailure(
+              Entity.getFields(entityType, fields), cursor, range.getEnd(), batchSize);
       if (!result.getErrors().isEmpty()) {
-        lastFailedCursor = this.cursor;
+        lastFailedCursor = RestUtil.encodeCursor(cursor);
         result
             .getErrors()
             .forEach(
@@ -90,20 +101,17 @@ public class PaginatedEntitiesSource implements Source<ResultList<? extends Enti
           result.getErrors().size());
       updateStats(result.getData().size(), result.getErrors().size());
 
-    } catch (IOException e) {
-      lastFailedCursor = this.cursor;
+    } catch (Exception e) {
+      lastFailedCursor = RestUtil.encodeCursor(cursor);
       LOG.debug(
           "[PaginatedEntitiesSource] After Cursor : {}, Batch Stats :- Submitted : {} Success: {} Failed: {}",
           this.lastFailedCursor,
           batchSize,
           0,
           batchSize);
-      if (stats.getTotalRecords() - stats.getProcessedRecords() <= batchSize) {
-        isDone = true;
-        updateStats(0, stats.getTotalRecords() - stats.getProcessedRecords());
-      } else {
-        updateStats(0, batchSize);
-      }
+      // Stop reading the range. The range is not completed, and a job resuming this job reads it from the cursor.
+      isDone = true;
+      updateStats(0, batchSize);
       throw new SourceException(
           String.format(
               "[PaginatedEntitiesSource] After Cursor : %s, Batch encountered Exception. Failing Completely.",
@@ -116,7 +124,7 @@ public class PaginatedEntitiesSource implements Source<ResultList<? extends Enti
 
   @Override
   public void reset() {
-    cursor = null;
+    cursor = range.getStart();
     isDone = false;
   }
 
@@ -134,7 +142,8 @@ public class PaginatedEntitiesSource implements Source<ResultList<? extends Enti
     return lastFailedCursor;
   }
 
+  /** Set the cursor from the encoded id of the entity after which to read */
   public void setCursor(String cursor) {
-    this.cursor = cursor;
+    this.cursor = RestUtil.decodeCursor(cursor);
   }
 }
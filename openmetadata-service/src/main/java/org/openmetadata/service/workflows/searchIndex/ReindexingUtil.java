@@ -13,7 +13,10 @@
 
 package org.openmetadata.service.workflows.searchIndex;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import org.openmetadata.schema.system.ReindexRange;
 import org.openmetadata.schema.system.StepStats;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.jdbi3.CollectionDAO;
@@ -26,9 +29,35 @@ public class ReindexingUtil {
   public static final String ENTITY_TYPE_KEY = "entityType";
 
   public static void getUpdatedStats(StepStats stats, int currentSuccess, int currentFailed) {
-    stats.setProcessedRecords(stats.getProcessedRecords() + currentSuccess + currentFailed);
-    stats.setSuccessRecords(stats.getSuccessRecords() + currentSuccess);
-    stats.setFailedRecords(stats.getFailedRecords() + currentFailed);
+    // Stats are shared by the ranges of entities indexed concurrently
+    synchronized (stats) {
+      stats.setProcessedRecords(stats.getProcessedRecords() + currentSuccess + currentFailed);
+      stats.setSuccessRecords(stats.getSuccessRecords() + currentSuccess);
+      stats.setFailedRecords(stats.getFailedRecords() + currentFailed);
+    }
+  }
+
+  /**
+   * Split the entities of an entity type into ranges of ids that can be indexed concurrently. Ids are random UUIDs, and
+   * hence the ranges split on the leading hex digits of the id have about the same number of entities.
+   */
+  public static List<ReindexRange> getReindexRanges(String entityType, int count) {
+    count = Math.max(1, Math.min(count, 256));
+    List<ReindexRange> ranges = new ArrayList<>();
+    String start = "";
+    for (int i = 1; i <= count; i++) {
+      String end = i == count ? null : String.format("%02x", i * 256 / count);
+      ranges.add(new ReindexRange().withEntityType(entityType).withStart(start).withEnd(end));
+      start = end;
+    }
+    return ranges;
+  }
+
+  /** Ranges of the entity type stored in the checkpoints of a job, which a job resuming it continues from */
+  public static List<ReindexRange> getCheckpointedRanges(String entityType, List<ReindexRange> checkpoints) {
+    List<ReindexRange> ranges = new ArrayList<>();
+    checkpoints.stream().filter(r -> r.getEntityType().equals(entityType)).forEach(ranges::add);
+    return ranges;
   }
 
   public static boolean isDataInsightIndex(String entityType) {
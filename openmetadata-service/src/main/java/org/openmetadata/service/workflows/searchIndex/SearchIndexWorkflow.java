@@ -13,9 +13,12 @@
 
 package org.openmetadata.service.workflows.searchIndex;
 
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.service.jdbi3.unitofwork.JdbiUnitOfWorkProvider.getWrappedInstanceForDaoClass;
 import static org.openmetadata.service.util.ReIndexingHandler.REINDEXING_JOB_EXTENSION;
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.ENTITY_TYPE_KEY;
+import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.getCheckpointedRanges;
+import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.getReindexRanges;
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.getTotalRequestToProcess;
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.getUpdatedStats;
 import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.isDataInsightIndex;
@@ -23,9 +26,16 @@ import static org.openmetadata.service.workflows.searchIndex.ReindexingUtil.isDa
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -40,8 +50,10 @@ import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearch
 import org.openmetadata.schema.system.EventPublisherJob;
 import org.openmetadata.schema.system.Failure;
 import org.openmetadata.schema.system.FailureDetails;
+import org.openmetadata.schema.system.ReindexRange;
 import org.openmetadata.schema.system.Stats;
 import org.openmetadata.schema.system.StepStats;
+import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.ProcessorException;
 import org.openmetadata.service.exception.SinkException;
 import org.openmetadata.service.exception.SourceException;
@@ -58,6 +70,7 @@ import org.openmetadata.service.search.openSearch.OpenSearchIndexSink;
 import org.openmetadata.service.socket.WebSocketManager;
 import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.ReIndexingHandler;
+import org.openmetadata.service.util.RestUtil;
 import org.openmetadata.service.util.ResultList;
 import org.openmetadata.service.workflows.interfaces.Processor;
 import org.openmetadata.service.workflows.interfaces.Sink;
@@ -65,6 +78,7 @@ import org.openmetadata.service.workflows.interfaces.Sink;
 @Slf4j
 public class SearchIndexWorkflow implements Runnable {
   private static final String ENTITY_TYPE_ERROR_MSG = "EntityType: %s %n Cause: %s %n Stack: %s";
+  private static final long CHECKPOINT_INTERVAL_MS = 10000;
   private final List<PaginatedEntitiesSource> paginatedEntitiesSources = new ArrayList<>();
   private final List<PaginatedDataInsightSource> paginatedDataInsightSources = new ArrayList<>();
   private final Processor entityProcessor;
@@ -73,11 +87,18 @@ public class SearchIndexWorkflow implements Runnable {
   private final SearchClient searchClient;
   @Getter final EventPublisherJob jobData;
   private final CollectionDAO dao;
+  private final int parallelism;
+  private final StepStats entitySourceStats = new StepStats();
+  private final Set<String> resumedEntityTypes = new HashSet<>();
+  private long lastCheckpointTime = System.currentTimeMillis();
   private volatile boolean stopped = false;
 
   public SearchIndexWorkflow(SearchClient client, EventPublisherJob request) {
     this.dao = (CollectionDAO) getWrappedInstanceForDaoClass(CollectionDAO.class);
     this.jobData = request;
+    this.parallelism = request.getParallelism() != null ? Math.max(1, request.getParallelism()) : 1;
+    // Ranges carried over from the job being resumed
+    List<ReindexRange> checkpoints = listOrEmpty(request.getCheckpoints());
     request
         .getEntities()
         .forEach(
@@ -87,17 +108,18 @@ public class SearchIndexWorkflow implements Runnable {
                     new ArrayList<>(
                         Objects.requireNonNull(
                             IndexUtil.getIndexFields(entityType, jobData.getSearchIndexMappingLanguage())));
-                PaginatedEntitiesSource source =
-                    new PaginatedEntitiesSource(entityType, jobData.getBatchSize(), fields);
-                if (!CommonUtil.nullOrEmpty(request.getAfterCursor())) {
-                  source.setCursor(request.getAfterCursor());
+                for (ReindexRange range : getRanges(entityType, checkpoints)) {
+                  paginatedEntitiesSources.add(
+                      new PaginatedEntitiesSource(range, jobData.getBatchSize(), fields, entitySourceStats));
                 }
-                paginatedEntitiesSources.add(source);
               } else {
                 paginatedDataInsightSources.add(
                     new PaginatedDataInsightSource(dao, entityType, jobData.getBatchSize()));
               }
             });
+    entitySourceStats.setTotalRecords(getTotalRequestToProcess(entityTypes(), dao));
+    jobData.setCheckpoints(new ArrayList<>());
+    paginatedEntitiesSources.forEach(source -> jobData.getCheckpoints().add(source.getRange()));
     this.searchClient = client;
     if (searchClient.getSearchType().equals(ElasticSearchConfiguration.SearchType.OPENSEARCH)) {
       this.entityProcessor = new OpenSearchEntitiesProcessor();
@@ -110,6 +132,29 @@ public class SearchIndexWorkflow implements Runnable {
     }
   }
 
+  private List<ReindexRange> getRanges(String entityType, List<ReindexRange> checkpoints) {
+    List<ReindexRange> ranges = getCheckpointedRanges(entityType, checkpoints);
+    if (!ranges.isEmpty()) {
+      // Resume the job from the ranges of the previous job. Completed ranges are kept, so that they are carried forward
+      // in the checkpoints, but their sources are done and are not read again.
+      resumedEntityTypes.add(entityType);
+      return ranges;
+    }
+    if (!CommonUtil.nullOrEmpty(jobData.getAfterCursor())) {
+      ReindexRange range = new ReindexRange().withEntityType(entityType).withStart("");
+      range.setCursor(RestUtil.decodeCursor(jobData.getAfterCursor()));
+      return List.of(range);
+    }
+    int total = Entity.getEntityRepository(entityType).getDao().listTotalCount();
+    return getReindexRanges(entityType, total > jobData.getBatchSize() ? parallelism : 1);
+  }
+
+  private Set<String> entityTypes() {
+    Set<String> entityTypes = new LinkedHashSet<>();
+    paginatedEntitiesSources.forEach(source -> entityTypes.add(source.getEntityType()));
+    return entityTypes;
+  }
+
   @SneakyThrows
   public void run() {
     try {
@@ -140,82 +185,133 @@ public class SearchIndexWorkflow implements Runnable {
     }
   }
 
-  private void entitiesReIndex() {
+  /**
+   * Index the ranges of entities concurrently using up to {@code parallelism} threads. Each range is read in the order
+   * of id and the progress is checkpointed, so a failed or stopped job can be resumed from where it stopped.
+   */
+  private void entitiesReIndex() throws InterruptedException, ExecutionException {
+    for (String entityType : entityTypes()) {
+      if (!resumedEntityTypes.contains(entityType)) {
+        reCreateIndexes(entityType);
+      }
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (PaginatedEntitiesSource paginatedEntitiesSource : paginatedEntitiesSources) {
+        if (paginatedEntitiesSource.isDone()) {
+          continue; // Range completed by the job being resumed
+        }
+        futures.add(executor.submit(() -> reIndex(paginatedEntitiesSource)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      stopped = true; // Stop indexing the other ranges as the job has failed
+      throw e;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void reIndex(PaginatedEntitiesSource paginatedEntitiesSource) {
     Map<String, Object> contextData = new HashMap<>();
-    for (PaginatedEntitiesSource paginatedEntitiesSource : paginatedEntitiesSources) {
-      reCreateIndexes(paginatedEntitiesSource.getEntityType());
-      contextData.put(ENTITY_TYPE_KEY, paginatedEntitiesSource.getEntityType());
-      ResultList<? extends EntityInterface> resultList;
-      while (!stopped && !paginatedEntitiesSource.isDone()) {
-        long currentTime = System.currentTimeMillis();
-        int requestToProcess = jobData.getBatchSize();
-        int failed = requestToProcess;
-        int success = 0;
-        try {
-          resultList = paginatedEntitiesSource.readNext(null);
-          requestToProcess = resultList.getData().size() + resultList.getErrors().size();
-          if (!resultList.getData().isEmpty()) {
-            if (searchClient.getSearchType().equals(ElasticSearchConfiguration.SearchType.OPENSEARCH)) {
-              // process data to build Reindex Request
-              org.opensearch.action.bulk.BulkRequest requests =
-                  (org.opensearch.action.bulk.BulkRequest) entityProcessor.process(resultList, contextData);
-              // process data to build Reindex Request
-              org.opensearch.action.bulk.BulkResponse response =
-                  (org.opensearch.action.bulk.BulkResponse) searchIndexSink.write(requests, contextData);
-              // update Status
-              handleErrorsOs(resultList, paginatedEntitiesSource.getLastFailedCursor(), response, currentTime);
-              // Update stats
-              success = searchClient.getSuccessFromBulkResponse(response);
-            } else {
-              // process data to build Reindex Request
-              BulkRequest requests = (BulkRequest) entityProcessor.process(resultList, contextData);
-              // process data to build Reindex Request
-              BulkResponse response = (BulkResponse) searchIndexSink.write(requests, contextData);
-              // update Status
-              handleErrorsEs(resultList, paginatedEntitiesSource.getLastFailedCursor(), response, currentTime);
-              // Update stats
-              success = searchClient.getSuccessFromBulkResponse(response);
-            }
-            failed = requestToProcess - success;
+    contextData.put(ENTITY_TYPE_KEY, paginatedEntitiesSource.getEntityType());
+    // Checkpoint is not moved past a batch that failed, so that a resumed job indexes it again
+    boolean failedBatch = false;
+    ResultList<? extends EntityInterface> resultList;
+    while (!stopped && !paginatedEntitiesSource.isDone()) {
+      long currentTime = System.currentTimeMillis();
+      int requestToProcess = jobData.getBatchSize();
+      int failed = requestToProcess;
+      int success = 0;
+      try {
+        resultList = paginatedEntitiesSource.readNext(null);
+        requestToProcess = resultList.getData().size() + resultList.getErrors().size();
+        if (!resultList.getData().isEmpty()) {
+          if (searchClient.getSearchType().equals(ElasticSearchConfiguration.SearchType.OPENSEARCH)) {
+            // process data to build Reindex Request
+            org.opensearch.action.bulk.BulkRequest requests =
+                (org.opensearch.action.bulk.BulkRequest) entityProcessor.process(resultList, contextData);
+            // process data to build Reindex Request
+            org.opensearch.action.bulk.BulkResponse response =
+                (org.opensearch.action.bulk.BulkResponse) searchIndexSink.write(requests, contextData);
+            // update Status
+            handleErrorsOs(resultList, paginatedEntitiesSource.getLastFailedCursor(), response, currentTime);
+            // Update stats
+            success = searchClient.getSuccessFromBulkResponse(response);
           } else {
-            failed = 0;
+            // process data to build Reindex Request
+            BulkRequest requests = (BulkRequest) entityProcessor.process(resultList, contextData);
+            // process data to build Reindex Request
+            BulkResponse response = (BulkResponse) searchIndexSink.write(requests, contextData);
+            // update Status
+            handleErrorsEs(resultList, paginatedEntitiesSource.getLastFailedCursor(), response, currentTime);
+            // Update stats
+            success = searchClient.getSuccessFromBulkResponse(response);
           }
-        } catch (SourceException rx) {
-          handleSourceError(
-              rx.getMessage(),
-              String.format(
-                  ENTITY_TYPE_ERROR_MSG,
-                  paginatedEntitiesSource.getEntityType(),
-                  rx.getCause(),
-                  ExceptionUtils.getStackTrace(rx)),
-              currentTime);
-        } catch (ProcessorException px) {
-          handleProcessorError(
-              px.getMessage(),
-              String.format(
-                  ENTITY_TYPE_ERROR_MSG,
-                  paginatedEntitiesSource.getEntityType(),
-                  px.getCause(),
-                  ExceptionUtils.getStackTrace(px)),
-              currentTime);
-        } catch (SinkException wx) {
-          handleEsSinkError(
-              wx.getMessage(),
-              String.format(
-                  ENTITY_TYPE_ERROR_MSG,
-                  paginatedEntitiesSource.getEntityType(),
-                  wx.getCause(),
-                  ExceptionUtils.getStackTrace(wx)),
-              currentTime);
-        } finally {
-          updateStats(
-              success,
-              failed,
-              paginatedEntitiesSource.getStats(),
-              entityProcessor.getStats(),
-              searchIndexSink.getStats());
-          sendUpdates();
+          failed = requestToProcess - success;
+        } else {
+          failed = 0;
+        }
+      } catch (SourceException rx) {
+        failedBatch = true;
+        handleSourceError(
+            rx.getMessage(),
+            String.format(
+                ENTITY_TYPE_ERROR_MSG,
+                paginatedEntitiesSource.getEntityType(),
+                rx.getCause(),
+                ExceptionUtils.getStackTrace(rx)),
+            currentTime);
+      } catch (ProcessorException px) {
+        failedBatch = true;
+        handleProcessorError(
+            px.getMessage(),
+            String.format(
+                ENTITY_TYPE_ERROR_MSG,
+                paginatedEntitiesSource.getEntityType(),
+                px.getCause(),
+                ExceptionUtils.getStackTrace(px)),
+            currentTime);
+      } catch (SinkException wx) {
+        failedBatch = true;
+        handleEsSinkError(
+            wx.getMessage(),
+            String.format(
+                ENTITY_TYPE_ERROR_MSG,
+                paginatedEntitiesSource.getEntityType(),
+                wx.getCause(),
+                ExceptionUtils.getStackTrace(wx)),
+            currentTime);
+      } finally {
+        updateStats(
+            success,
+            failed,
+            paginatedEntitiesSource.getStats(),
+            entityProcessor.getStats(),
+            searchIndexSink.getStats());
+        if (!failedBatch) {
+          checkpoint(paginatedEntitiesSource);
         }
+        sendUpdates();
+      }
+    }
+  }
+
+  /** Record the progress of the range and store the job periodically, and when a range is completed */
+  private synchronized void checkpoint(PaginatedEntitiesSource source) {
+    ReindexRange range = source.getRange();
+    range.setCursor(source.getCursor());
+    range.setCompleted(source.isDone());
+    long now = System.currentTimeMillis();
+    if (range.getCompleted() || now - lastCheckpointTime > CHECKPOINT_INTERVAL_MS) {
+      lastCheckpointTime = now;
+      try {
+        updateRecordToDb();
+      } catch (Exception e) {
+        LOG.error("Failed to store the progress of the Reindexing Job {}", jobData.getId(), e);
       }
     }
   }
@@ -298,7 +394,7 @@ public class SearchIndexWorkflow implements Runnable {
     }
   }
 
-  private void sendUpdates() {
+  private synchronized void sendUpdates() {
     try {
       WebSocketManager.getInstance()
           .sendToOne(
@@ -308,7 +404,7 @@ public class SearchIndexWorkflow implements Runnable {
     }
   }
 
-  public void updateStats(
+  public synchronized void updateStats(
       int currentSuccess, int currentFailed, StepStats reader, StepStats processor, StepStats writer) {
     // Job Level Stats
     Stats jobDataStats = jobData.getStats() != null ? jobData.getStats() : new Stats();
@@ -332,7 +428,7 @@ public class SearchIndexWorkflow implements Runnable {
     jobData.setStats(jobDataStats);
   }
 
-  public void updateRecordToDb() throws IOException {
+  public synchronized void updateRecordToDb() throws IOException {
     String recordString =
         dao.entityExtensionTimeSeriesDao().getExtension(jobData.getId().toString(), REINDEXING_JOB_EXTENSION);
     EventPublisherJob lastRecord = JsonUtils.readValue(recordString, EventPublisherJob.class);
@@ -365,28 +461,28 @@ public class SearchIndexWorkflow implements Runnable {
     handleEsSinkErrors(response, time);
   }
 
-  private void handleSourceError(String context, String reason, long time) {
+  private synchronized void handleSourceError(String context, String reason, long time) {
     Failure failures = getFailure();
     FailureDetails readerFailures = getFailureDetails(context, reason, time);
     failures.setSourceError(readerFailures);
     jobData.setFailure(failures);
   }
 
-  private void handleProcessorError(String context, String reason, long time) {
+  private synchronized void handleProcessorError(String context, String reason, long time) {
     Failure failures = getFailure();
     FailureDetails processorError = getFailureDetails(context, reason, time);
     failures.setProcessorError(processorError);
     jobData.setFailure(failures);
   }
 
-  private void handleEsSinkError(String context, String reason, long time) {
+  private synchronized void handleEsSinkError(String context, String reason, long time) {
     Failure failures = getFailure();
     FailureDetails writerFailure = getFailureDetails(context, reason, time);
     failures.setSinkError(writerFailure);
     jobData.setFailure(failures);
   }
 
-  private void handleJobError(String context, String reason, long time) {
+  private synchronized void handleJobError(String context, String reason, long time) {
     Failure failures = getFailure();
     FailureDetails jobFailure = getFailureDetails(context, reason, time);
     failures.setJobError(jobFailure);
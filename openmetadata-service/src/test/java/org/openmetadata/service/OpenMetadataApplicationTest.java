@@ -65,6 +65,9 @@ public abstract class OpenMetadataApplicationTest {
 
   private static String HOST;
   private static String PORT;
+  // Database of the application, for tests that check what is stored in it
+  protected static Jdbi jdbi;
+  protected static ConnectionType connectionType;
 
   static {
     CollectionRegistry.addTestResource(webhookCallbackResource);
@@ -145,12 +148,12 @@ public abstract class OpenMetadataApplicationTest {
     APP = new DropwizardAppExtension<>(OpenMetadataApplication.class, CONFIG_PATH, configOverridesArray);
 
     // Run System Migrations
-    final Jdbi jdbi = Jdbi.create(sqlContainer.getJdbcUrl(), sqlContainer.getUsername(), sqlContainer.getPassword());
+    jdbi = Jdbi.create(sqlContainer.getJdbcUrl(), sqlContainer.getUsername(), sqlContainer.getPassword());
     jdbi.installPlugin(new SqlObjectPlugin());
     jdbi.getConfig(SqlObjects.class)
         .setSqlLocator(new ConnectionAwareAnnotationSqlLocator(sqlContainer.getDriverClassName()));
-    validateAndRunSystemDataMigrations(
-        jdbi, ConnectionType.from(sqlContainer.getDriverClassName()), nativeMigrationScripsLocation, false);
+    connectionType = ConnectionType.from(sqlContainer.getDriverClassName());
+    validateAndRunSystemDataMigrations(jdbi, connectionType, nativeMigrationScripsLocation, false);
 
     APP.before();
   }
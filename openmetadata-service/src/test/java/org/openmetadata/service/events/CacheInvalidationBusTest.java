@@ -0,0 +1,122 @@
+package org.openmetadata.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.jdbi3.CollectionDAO.CacheInvalidation;
+import org.openmetadata.service.jdbi3.CollectionDAO.CacheInvalidationDAO;
+
+class CacheInvalidationBusTest {
+  private FakeCacheInvalidationDAO dao;
+  private CacheInvalidationBus nodeA;
+  private CacheInvalidationBus nodeB;
+  private final List<String> invalidatedOnA = new ArrayList<>();
+  private final List<String> invalidatedOnB = new ArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    // Two servers sharing the same database
+    dao = new FakeCacheInvalidationDAO();
+    nodeA = new CacheInvalidationBus(dao);
+    nodeB = new CacheInvalidationBus(dao);
+    nodeA.register(CacheInvalidationBus.SETTINGS, invalidatedOnA::add);
+    nodeB.register(CacheInvalidationBus.SETTINGS, invalidatedOnB::add);
+  }
+
+  @Test
+  void invalidationIsAppliedOnOtherServers() {
+    nodeA.append(CacheInvalidationBus.SETTINGS, "emailConfiguration");
+    nodeA.poll();
+    nodeB.poll();
+
+    // The server publishing the invalidation has already invalidated its own cache
+    assertTrue(invalidatedOnA.isEmpty());
+    assertEquals(List.of("emailConfiguration"), invalidatedOnB);
+
+    // Polling again does not apply the same invalidation twice
+    nodeB.poll();
+    assertEquals(List.of("emailConfiguration"), invalidatedOnB);
+  }
+
+  @Test
+  void invalidationWithoutHandlerIsSkipped() {
+    nodeA.append(CacheInvalidationBus.USER_TOKEN, "alice");
+    nodeA.append(CacheInvalidationBus.SETTINGS, "customLogoConfiguration");
+    nodeB.poll();
+    assertEquals(List.of("customLogoConfiguration"), invalidatedOnB);
+  }
+
+  @Test
+  void invalidationCommittedOutOfOrderIsApplied() {
+    // A concurrent transaction is assigned id 1, but commits after the row with id 2
+    long now = System.currentTimeMillis();
+    dao.insertAt(2, CacheInvalidationBus.SETTINGS, "second", nodeA.getNodeId(), now);
+    nodeB.poll();
+    assertEquals(List.of("second"), invalidatedOnB);
+
+    dao.insertAt(1, CacheInvalidationBus.SETTINGS, "first", nodeA.getNodeId(), now);
+    nodeB.poll();
+    assertEquals(List.of("second", "first"), invalidatedOnB);
+    assertEquals(0, dao.lastAfter); // Recent rows are read again on the next poll
+  }
+
+  @Test
+  void cursorMovesPastSettledInvalidations() {
+    long settled = System.currentTimeMillis() - CacheInvalidationBus.SETTLE_MILLIS - 1;
+    dao.insertAt(1, CacheInvalidationBus.SETTINGS, "first", nodeA.getNodeId(), settled);
+    dao.insertAt(2, CacheInvalidationBus.SETTINGS, "second", nodeA.getNodeId(), settled);
+    dao.insertAt(3, CacheInvalidationBus.SETTINGS, "third", nodeA.getNodeId(), System.currentTimeMillis());
+    nodeB.poll();
+    nodeB.poll();
+
+    assertEquals(List.of("first", "second", "third"), invalidatedOnB);
+    assertEquals(2, dao.lastAfter); // Only the row not yet settled is read again
+  }
+
+  /** In-memory cache_invalidation_log table */
+  static class FakeCacheInvalidationDAO implements CacheInvalidationDAO {
+    private final TreeMap<Long, CacheInvalidation> rows = new TreeMap<>();
+    private long lastAfter = -1;
+
+    @Override
+    public synchronized void insert(String cacheName, String cacheKey, String nodeId, long createdAt) {
+      insertAt(rows.isEmpty() ? 1 : rows.lastKey() + 1, cacheName, cacheKey, nodeId, createdAt);
+    }
+
+    synchronized void insertAt(long id, String cacheName, String cacheKey, String nodeId, long createdAt) {
+      rows.put(
+          id,
+          CacheInvalidation.builder()
+              .id(id)
+              .cacheName(cacheName)
+              .cacheKey(cacheKey)
+              .nodeId(nodeId)
+              .createdAt(createdAt)
+              .build());
+    }
+
+    @Override
+    public synchronized long getMaxId() {
+      return rows.isEmpty() ? 0 : rows.lastKey();
+    }
+
+    @Override
+    public synchronized List<CacheInvalidation> listAfter(long after, int limit) {
+      lastAfter = after;
+      return rows.tailMap(after, false).values().stream().limit(limit).collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized int deleteBefore(long before) {
+      int size = rows.size();
+      rows.values().removeIf(row -> row.getCreatedAt() < before);
+      return size - rows.size();
+    }
+  }
+}
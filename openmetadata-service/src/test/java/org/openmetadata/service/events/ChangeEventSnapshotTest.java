@@ -0,0 +1,133 @@
+package org.openmetadata.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.entity.events.EventFilterRule;
+import org.openmetadata.schema.entity.events.FilteringRules;
+import org.openmetadata.schema.entity.teams.User;
+import org.openmetadata.schema.tests.type.TestCaseResult;
+import org.openmetadata.schema.tests.type.TestCaseStatus;
+import org.openmetadata.schema.type.ChangeDescription;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.schema.type.FieldChange;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.subscription.AlertUtil;
+import org.openmetadata.service.jdbi3.TableRepository;
+import org.openmetadata.service.jdbi3.UserRepository;
+import org.openmetadata.service.util.JsonUtils;
+import org.springframework.expression.Expression;
+
+class ChangeEventSnapshotTest {
+  private UserRepository userRepository;
+  private User owner;
+
+  @BeforeEach
+  void setup() {
+    owner = new User().withId(UUID.randomUUID()).withName("owner1");
+    userRepository = mock(UserRepository.class);
+    Entity.registerEntity(User.class, Entity.USER, userRepository, null);
+    Entity.registerEntity(Table.class, Entity.TABLE, mock(TableRepository.class), null);
+    when(userRepository.get(isNull(), eq(owner.getId()), any(), any(Include.class), anyBoolean())).thenReturn(owner);
+  }
+
+  @Test
+  void testSubscriptionsShareTheSnapshot() {
+    Table table =
+        new Table()
+            .withId(UUID.randomUUID())
+            .withName("table")
+            .withFullyQualifiedName("service.db.schema.table")
+            .withOwner(new EntityReference().withId(owner.getId()).withType(Entity.USER));
+    ChangeEvent event =
+        new ChangeEvent()
+            .withEntityType(Entity.TABLE)
+            .withEventType(EventType.ENTITY_UPDATED)
+            .withEntity(JsonUtils.pojoToJson(table))
+            .withChangeDescription(
+                new ChangeDescription().withFieldsUpdated(List.of(new FieldChange().withName("description"))));
+
+    // Conditions of the subscriptions processing the event
+    List<Expression> subscriptions =
+        List.of(
+            compile("matchAnyOwnerName('owner1')"),
+            compile("matchAnyOwnerName('owner2')"),
+            compile("matchAnyEntityFqn('service.db.schema.table') && matchAnyOwnerName('owner1')"),
+            compile("matchAnyEntityId('" + table.getId() + "')"),
+            compile("matchAnyFieldChange('description')"));
+
+    // All the subscriptions evaluate the snapshot published with the event
+    ChangeEventSnapshot snapshot = new ChangeEventSnapshot(event);
+    List<Boolean> results =
+        subscriptions.stream()
+            .map(conditions -> AlertUtil.evaluateAlertConditions(snapshot, conditions))
+            .collect(Collectors.toList());
+    assertEquals(List.of(true, false, true, true, true), results);
+
+    // The entity is parsed and its owner is looked up once for all the subscriptions
+    verify(userRepository, times(1)).get(isNull(), eq(owner.getId()), any(), any(Include.class), anyBoolean());
+    assertSame(snapshot.getEntity(), snapshot.getEntity());
+    assertSame(snapshot.getUpdatedFields(), snapshot.getUpdatedFields());
+    assertEquals(table.getId(), snapshot.getEntity().getId());
+
+    // A snapshot per subscription looks up the owner for each of them
+    for (Expression conditions : subscriptions.subList(0, 2)) {
+      AlertUtil.evaluateAlertConditions(new ChangeEventSnapshot(event), conditions);
+    }
+    verify(userRepository, times(3)).get(isNull(), eq(owner.getId()), any(), any(Include.class), anyBoolean());
+  }
+
+  @Test
+  void testMatchTestResultDoesNotModifyTheEvent() {
+    ChangeEvent event =
+        new ChangeEvent()
+            .withEntityType(Entity.TEST_CASE)
+            .withEventType(EventType.ENTITY_UPDATED)
+            .withChangeDescription(
+                new ChangeDescription()
+                    .withFieldsUpdated(new ArrayList<>(List.of(testCaseResultChange(TestCaseStatus.Failed))))
+                    .withFieldsAdded(new ArrayList<>(List.of(testCaseResultChange(TestCaseStatus.Success)))));
+    String json = JsonUtils.pojoToJson(event);
+
+    // Results in both the updated and the added fields are matched, by each of the subscriptions sharing the event
+    ChangeEventSnapshot snapshot = new ChangeEventSnapshot(event);
+    for (int i = 0; i < 2; i++) {
+      assertTrue(AlertUtil.evaluateAlertConditions(snapshot, compile("matchTestResult('Failed')")));
+      assertTrue(AlertUtil.evaluateAlertConditions(snapshot, compile("matchTestResult('Success')")));
+      assertFalse(AlertUtil.evaluateAlertConditions(snapshot, compile("matchTestResult('Aborted')")));
+    }
+
+    assertEquals(1, event.getChangeDescription().getFieldsUpdated().size());
+    assertEquals(1, event.getChangeDescription().getFieldsAdded().size());
+    assertEquals(json, JsonUtils.pojoToJson(event));
+  }
+
+  private static FieldChange testCaseResultChange(TestCaseStatus status) {
+    return new FieldChange().withName("testCaseResult").withNewValue(new TestCaseResult().withTestCaseStatus(status));
+  }
+
+  private static Expression compile(String condition) {
+    EventFilterRule rule = new EventFilterRule().withCondition(condition).withEffect(EventFilterRule.Effect.INCLUDE);
+    return AlertUtil.compileAlertConditions(new FilteringRules().withRules(List.of(rule)));
+  }
+}
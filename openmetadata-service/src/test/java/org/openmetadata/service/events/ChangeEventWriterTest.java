@@ -0,0 +1,174 @@
+package org.openmetadata.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ChangeEventWriterTest {
+  @Test
+  void test_groupCommit() throws Exception {
+    List<List<String>> batches = new CopyOnWriteArrayList<>();
+    ChangeEventWriter writer =
+        new ChangeEventWriter(
+            b -> {
+              sleep(5);
+              batches.add(new ArrayList<>(b));
+            },
+            j -> batches.add(List.of(j)),
+            1000,
+            50,
+            20);
+    writer.start();
+
+    // Events queued while a batch is inserted are inserted together in the next batch, and each writer waits until
+    // its event is inserted
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      String json = String.valueOf(i);
+      executor.execute(() -> futures.add(writer.enqueue(json)));
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+    assertEquals(1000, writer.getPersisted());
+    List<String> inserted = batches.stream().flatMap(List::stream).collect(Collectors.toList());
+    assertEquals(1000, inserted.stream().distinct().count());
+    assertTrue(batches.size() < 1000);
+    assertTrue(batches.stream().allMatch(b -> b.size() <= 50));
+    writer.stop();
+  }
+
+  @Test
+  void test_singleWriterNotDelayed() throws Exception {
+    List<List<String>> batches = new CopyOnWriteArrayList<>();
+    ChangeEventWriter writer =
+        new ChangeEventWriter(b -> batches.add(new ArrayList<>(b)), j -> batches.add(List.of(j)), 100, 50, 5000);
+    writer.start();
+
+    // Each event of a sequential writer is inserted right away, without waiting for more events to batch with
+    long start = System.nanoTime();
+    for (int i = 0; i < 20; i++) {
+      writer.enqueue(String.valueOf(i)).get(30, TimeUnit.SECONDS);
+    }
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    assertEquals(20, batches.size());
+    assertEquals(20, writer.getPersisted());
+    writer.stop();
+  }
+
+  @Test
+  void test_failedBatchRetriedPerEvent() throws Exception {
+    List<String> inserted = new CopyOnWriteArrayList<>();
+    ChangeEventWriter writer =
+        new ChangeEventWriter(
+            b -> {
+              if (b.contains("bad")) {
+                throw new IllegalStateException("Invalid change event");
+              }
+              inserted.addAll(b);
+            },
+            j -> {
+              if (j.equals("bad")) {
+                throw new IllegalStateException("Invalid change event");
+              }
+              inserted.add(j);
+            },
+            100,
+            50,
+            20);
+    writer.start();
+
+    // A batch with a bad event is inserted one event at a time, and only the bad event is parked
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(writer.enqueue(i == 5 ? "bad" : String.valueOf(i)));
+    }
+    for (int i = 0; i < 10; i++) {
+      if (i == 5) {
+        CompletableFuture<Void> parked = futures.get(i);
+        assertThrows(ExecutionException.class, () -> parked.get(30, TimeUnit.SECONDS));
+      } else {
+        futures.get(i).get(30, TimeUnit.SECONDS);
+      }
+    }
+    assertEquals(9, inserted.size());
+    assertFalse(inserted.contains("bad"));
+    assertEquals(1, writer.getParked());
+
+    // The writer keeps inserting events after a parked event
+    writer.enqueue("10").get(30, TimeUnit.SECONDS);
+    assertEquals(10, writer.getPersisted());
+    writer.stop();
+  }
+
+  @Test
+  void test_fullQueueAndDrainOnStop() throws Exception {
+    CountDownLatch inserting = new CountDownLatch(1);
+    CountDownLatch blocked = new CountDownLatch(1);
+    List<String> inserted = new CopyOnWriteArrayList<>();
+    ChangeEventWriter writer =
+        new ChangeEventWriter(
+            b -> {
+              inserting.countDown();
+              await(blocked);
+              inserted.addAll(b);
+            },
+            inserted::add,
+            5,
+            1,
+            20);
+    writer.start();
+
+    // The caller does not block on a full queue, and inserts the event itself
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    futures.add(writer.enqueue("0"));
+    assertTrue(inserting.await(30, TimeUnit.SECONDS));
+    for (int i = 1; i < 6; i++) {
+      futures.add(writer.enqueue(String.valueOf(i)));
+    }
+    assertNull(writer.enqueue("overflow"));
+
+    // The events queued before stopping are inserted
+    blocked.countDown();
+    writer.stop();
+    for (CompletableFuture<Void> future : futures) {
+      assertNotNull(future);
+      assertTrue(future.isDone());
+    }
+    assertEquals(6, inserted.size());
+    assertEquals(6, writer.getPersisted());
+    assertNull(writer.enqueue("stopped"));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events.scheduled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import static org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType.PERCENTAGE_OF_ENTITIES_WITH_DESCRIPTION_BY_TYPE;
+import static org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType.PERCENTAGE_OF_ENTITIES_WITH_OWNER_BY_TYPE;
+import static org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType.TOTAL_ENTITIES_BY_TIER;
+import static org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType.TOTAL_ENTITIES_BY_TYPE;
+import static org.openmetadata.service.events.scheduled.ReportsHandler.SEARCH_CLIENT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType;
+import org.openmetadata.schema.dataInsight.kpi.Kpi;
+import org.openmetadata.schema.dataInsight.type.PercentageOfEntitiesWithDescriptionByType;
+import org.openmetadata.schema.dataInsight.type.PercentageOfEntitiesWithOwnerByType;
+import org.openmetadata.schema.dataInsight.type.TotalEntitiesByTier;
+import org.openmetadata.schema.dataInsight.type.TotalEntitiesByType;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.schema.entity.events.TriggerConfig;
+import org.openmetadata.schema.entity.teams.Team;
+import org.openmetadata.schema.entity.teams.User;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.events.scheduled.template.DataInsightDescriptionAndOwnerTemplate;
+import org.openmetadata.service.events.scheduled.template.DataInsightTotalAssetTemplate;
+import org.openmetadata.service.jdbi3.CollectionDAO.TeamDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.UserDAO;
+import org.openmetadata.service.jdbi3.KpiRepository;
+import org.openmetadata.service.jdbi3.TeamRepository;
+import org.openmetadata.service.jdbi3.UserRepository;
+import org.openmetadata.service.search.SearchClient;
+import org.openmetadata.service.util.ResultList;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+
+class DataInsightsReportJobTest {
+  private static final int TEAMS = 250;
+  private static final String FAILED_TEAM = "team7";
+  private static final long FIRST_DAY = 1_000L;
+  private static final long LAST_DAY = 2_000L;
+
+  // Teams in the order of id, as they are read by the job
+  private final TreeMap<String, Team> teams = new TreeMap<>();
+  private final Map<UUID, User> users = new HashMap<>();
+  private final Map<DataInsightChartType, List<List<String>>> searches = new ConcurrentHashMap<>();
+  private final List<List<String>> userQueries = Collections.synchronizedList(new ArrayList<>());
+  private final Map<String, SentReport> reports = new ConcurrentHashMap<>();
+  private SearchClient searchClient;
+
+  @BeforeEach
+  void setup() throws Exception {
+    for (int i = 0; i < TEAMS; i++) {
+      Team team = new Team().withId(UUID.randomUUID()).withName("team" + i);
+      if (i % 2 == 0) {
+        team.withEmail(team.getName() + "@example.com");
+      } else {
+        User user = new User().withId(UUID.randomUUID()).withName("user" + i).withEmail("user" + i + "@example.com");
+        users.put(user.getId(), user);
+        team.withUsers(List.of(new EntityReference().withId(user.getId()).withType(Entity.USER)));
+      }
+      teams.put(team.getId().toString(), team);
+    }
+
+    TeamRepository teamRepository = mock(TeamRepository.class);
+    TeamDAO teamDAO = mock(TeamDAO.class);
+    when(teamRepository.getDao()).thenReturn(teamDAO);
+    when(teamDAO.listTotalCount()).thenReturn(TEAMS);
+    when(teamRepository.listAfterIdWithSkipFailure(any(), anyString(), isNull(), anyInt()))
+        .thenAnswer(i -> listTeams(i.getArgument(1), i.getArgument(3)));
+    Entity.registerEntity(Team.class, Entity.TEAM, teamRepository, null);
+
+    UserRepository userRepository = mock(UserRepository.class);
+    UserDAO userDAO = mock(UserDAO.class);
+    when(userRepository.getDao()).thenReturn(userDAO);
+    when(userDAO.findEntitiesByIds(anyList(), eq(Include.NON_DELETED))).thenAnswer(i -> findUsers(i.getArgument(0)));
+    Entity.registerEntity(User.class, Entity.USER, userRepository, null);
+    Entity.registerEntity(Kpi.class, Entity.KPI, mock(KpiRepository.class), null);
+
+    // Search results of each team are numbered after the team, and the failed search of a team is missing
+    searchClient = mock(SearchClient.class);
+    when(searchClient.getSortedDateByTeam(anyList(), anyLong(), anyLong(), any(), anyString()))
+        .thenAnswer(i -> search(i.getArgument(0), i.getArgument(3)));
+  }
+
+  @Test
+  void testReportsAreSentToTeamsInBatches() {
+    DataInsightsReportJob job = spy(new DataInsightsReportJob());
+    doAnswer(
+            i -> {
+              DataInsightTotalAssetTemplate totalAssets = i.getArgument(2);
+              DataInsightDescriptionAndOwnerTemplate tier = i.getArgument(5);
+              reports.put(i.getArgument(0), new SentReport(i.getArgument(1), totalAssets, tier));
+              return null;
+            })
+        .when(job)
+        .sendEmail(anyString(), any(), any(), any(), any(), any());
+    job.execute(jobContext());
+
+    // The teams are read 100 at a time, and each chart is fetched with one search for all the teams of the batch
+    List<Team> ordered = new ArrayList<>(teams.values());
+    List<List<String>> batches = List.of(names(ordered, 0, 100), names(ordered, 100, 200), names(ordered, 200, TEAMS));
+    for (DataInsightChartType chartType :
+        List.of(
+            TOTAL_ENTITIES_BY_TYPE,
+            PERCENTAGE_OF_ENTITIES_WITH_DESCRIPTION_BY_TYPE,
+            PERCENTAGE_OF_ENTITIES_WITH_OWNER_BY_TYPE,
+            TOTAL_ENTITIES_BY_TIER)) {
+      assertEquals(batches, searches.get(chartType));
+    }
+
+    // The members of the teams without an email are read with one query per batch
+    assertEquals(3, userQueries.size());
+    assertEquals(users.size(), userQueries.stream().mapToInt(List::size).sum());
+
+    // Each team gets the report of its own data, sent to its email or to the emails of its members
+    assertEquals(TEAMS - 1, reports.size());
+    assertFalse(reports.containsKey(FAILED_TEAM));
+    for (int i = 0; i < TEAMS; i++) {
+      String name = "team" + i;
+      if (name.equals(FAILED_TEAM)) {
+        continue;
+      }
+      SentReport report = reports.get(name);
+      assertEquals(Set.of((i % 2 == 0 ? name : "user" + i) + "@example.com"), report.emails);
+      assertEquals(2.0 * (i + 1), report.totalAssets.getTotalDataAssets());
+      assertEquals(100.0, report.totalAssets.getPercentChangeTotalAssets());
+      assertEquals(Set.of("Tier.Tier1"), report.tier.getTierMap().keySet());
+      assertEquals((i + 1) / 10.0, report.tier.getTierMap().get("Tier.Tier1"), 1e-9);
+    }
+  }
+
+  private JobExecutionContext jobContext() {
+    EventSubscription subscription =
+        new EventSubscription()
+            .withName("DataInsightReport")
+            .withTrigger(
+                new TriggerConfig()
+                    .withTriggerType(TriggerConfig.TriggerType.SCHEDULED)
+                    .withScheduleInfo(TriggerConfig.ScheduleInfo.WEEKLY))
+            .withSubscriptionConfig(Map.of("sendToAdmins", false, "sendToTeams", true));
+    JobDataMap dataMap = new JobDataMap();
+    dataMap.put(SEARCH_CLIENT, searchClient);
+    dataMap.put(Entity.EVENT_SUBSCRIPTION, subscription);
+    JobDetail jobDetail = mock(JobDetail.class);
+    when(jobDetail.getJobDataMap()).thenReturn(dataMap);
+    JobExecutionContext context = mock(JobExecutionContext.class);
+    when(context.getJobDetail()).thenReturn(jobDetail);
+    return context;
+  }
+
+  private ResultList<Team> listTeams(String after, int limit) {
+    List<Team> page = new ArrayList<>(teams.tailMap(after, false).values());
+    String next = null;
+    if (page.size() > limit) {
+      page = page.subList(0, limit);
+      next = page.get(limit - 1).getId().toString();
+    }
+    return new ResultList<>(page, new ArrayList<>(), null, next, TEAMS);
+  }
+
+  private List<User> findUsers(List<String> ids) {
+    userQueries.add(List.copyOf(ids));
+    List<User> found = new ArrayList<>();
+    for (String id : ids) {
+      found.add(users.get(UUID.fromString(id)));
+    }
+    return found;
+  }
+
+  private Map<String, TreeMap<Long, List<Object>>> search(List<String> teamNames, DataInsightChartType chartType) {
+    searches.computeIfAbsent(chartType, k -> Collections.synchronizedList(new ArrayList<>())).add(teamNames);
+    Map<String, TreeMap<Long, List<Object>>> results = new HashMap<>();
+    for (String name : teamNames) {
+      if (!name.equals(FAILED_TEAM)) {
+        int number = Integer.parseInt(name.substring("team".length())) + 1;
+        TreeMap<Long, List<Object>> data = new TreeMap<>();
+        data.put(FIRST_DAY, List.of(chartData(chartType, FIRST_DAY, number)));
+        data.put(LAST_DAY, List.of(chartData(chartType, LAST_DAY, 2 * number)));
+        results.put(name, data);
+      }
+    }
+    return results;
+  }
+
+  private static Object chartData(DataInsightChartType chartType, long timestamp, int count) {
+    switch (chartType) {
+      case TOTAL_ENTITIES_BY_TYPE:
+        return new TotalEntitiesByType().withTimestamp(timestamp).withEntityType("Table").withEntityCount(count * 1.0);
+      case PERCENTAGE_OF_ENTITIES_WITH_DESCRIPTION_BY_TYPE:
+        return new PercentageOfEntitiesWithDescriptionByType()
+            .withTimestamp(timestamp)
+            .withEntityType("Table")
+            .withEntityCount(count * 1.0)
+            .withCompletedDescription(count / 2.0);
+      case PERCENTAGE_OF_ENTITIES_WITH_OWNER_BY_TYPE:
+        return new PercentageOfEntitiesWithOwnerByType()
+            .withTimestamp(timestamp)
+            .withEntityType("Table")
+            .withEntityCount(count * 1.0)
+            .withHasOwner(count / 2.0);
+      default:
+        return new TotalEntitiesByTier()
+            .withTimestamp(timestamp)
+            .withEntityTier("Tier.Tier1")
+            .withEntityCountFraction(count / 2000.0);
+    }
+  }
+
+  private static List<String> names(List<Team> teams, int from, int to) {
+    List<String> names = new ArrayList<>();
+    for (Team team : teams.subList(from, to)) {
+      names.add(team.getName());
+    }
+    return names;
+  }
+
+  private static final class SentReport {
+    private final Set<String> emails;
+    private final DataInsightTotalAssetTemplate totalAssets;
+    private final DataInsightDescriptionAndOwnerTemplate tier;
+
+    private SentReport(
+        Set<String> emails, DataInsightTotalAssetTemplate totalAssets, DataInsightDescriptionAndOwnerTemplate tier) {
+      this.emails = emails;
+      this.totalAssets = totalAssets;
+      this.tier = tier;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package org.openmetadata.service.events.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.events.EventFilterRule;
+import org.openmetadata.schema.entity.events.FilteringRules;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
+import org.springframework.expression.Expression;
+
+class AlertUtilTest {
+  @Test
+  void test_compiledAlertConditions() {
+    List<EventFilterRule> rules =
+        List.of(
+            new EventFilterRule()
+                .withCondition("matchAnySource('table', 'topic')")
+                .withEffect(EventFilterRule.Effect.INCLUDE),
+            new EventFilterRule()
+                .withCondition("matchAnyEventType('entityDeleted')")
+                .withEffect(EventFilterRule.Effect.EXCLUDE));
+    Expression conditions = AlertUtil.compileAlertConditions(new FilteringRules().withRules(rules));
+
+    // The compiled expression is reused across events and matches evaluating the rules
+    ChangeEvent tableCreated = new ChangeEvent().withEntityType("table").withEventType(EventType.ENTITY_CREATED);
+    ChangeEvent tableDeleted = new ChangeEvent().withEntityType("table").withEventType(EventType.ENTITY_DELETED);
+    ChangeEvent userCreated = new ChangeEvent().withEntityType("user").withEventType(EventType.ENTITY_CREATED);
+    assertTrue(AlertUtil.evaluateAlertConditions(tableCreated, conditions));
+    assertFalse(AlertUtil.evaluateAlertConditions(tableDeleted, conditions));
+    assertFalse(AlertUtil.evaluateAlertConditions(userCreated, conditions));
+    assertTrue(AlertUtil.evaluateAlertConditions(tableCreated, rules));
+    assertFalse(AlertUtil.evaluateAlertConditions(tableDeleted, rules));
+    assertFalse(AlertUtil.evaluateAlertConditions(userCreated, rules));
+
+    // No rules match all the events
+    assertNull(AlertUtil.compileAlertConditions(null));
+    assertNull(AlertUtil.compileAlertConditions(new FilteringRules()));
+    assertTrue(AlertUtil.evaluateAlertConditions(userCreated, (Expression) null));
+  }
+
+  @Test
+  void test_alertConditionsCannotReferenceTypes() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AlertUtil.validateExpression("T(java.lang.System).currentTimeMillis() > 0", Boolean.class));
+  }
+}
@@ -0,0 +1,283 @@
+package org.openmetadata.service.events.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.service.jdbi3.CollectionDAO.WebhookRetryDAO;
+import org.openmetadata.service.util.JsonUtils;
+
+class WebhookDeliveryEngineTest {
+  private final AtomicInteger status = new AtomicInteger(200);
+  private final AtomicInteger delay = new AtomicInteger(50);
+  private final CountDownLatch blocked = new CountDownLatch(1);
+  private final AtomicInteger blockedRequests = new AtomicInteger();
+  private final AtomicInteger failures = new AtomicInteger();
+  private final AtomicInteger concurrent = new AtomicInteger();
+  private final AtomicInteger maxConcurrent = new AtomicInteger();
+  private final Queue<String> received = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger statusUpdates = new AtomicInteger();
+  private final List<String> stored = new ArrayList<>();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private HttpServer server;
+  private String endpoint;
+  private SubscriptionPublisher publisher;
+  private WebhookRetryDAO retryDAO;
+  private WebhookDeliveryEngine engine;
+
+  @BeforeEach
+  void setup() throws IOException {
+    // Mock webhook endpoint responding with the status set by the test after a short delay
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newFixedThreadPool(8));
+    server.createContext(
+        "/webhook",
+        exchange -> {
+          maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+          try {
+            received.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            if (blockedRequests.getAndDecrement() > 0) {
+              blocked.await(10, TimeUnit.SECONDS);
+            }
+            Thread.sleep(delay.get());
+            exchange.sendResponseHeaders(failures.getAndDecrement() > 0 ? 503 : status.get(), -1);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            concurrent.decrementAndGet();
+            exchange.close();
+          }
+        });
+    server.start();
+    endpoint = "http://localhost:" + server.getAddress().getPort() + "/webhook";
+
+    EventSubscription subscription =
+        new EventSubscription().withId(UUID.randomUUID()).withName("test").withTimeout(10).withReadTimeout(12);
+    publisher = mock(SubscriptionPublisher.class);
+    when(publisher.getEventSubscription()).thenReturn(subscription);
+    // The status updates are counted to wait for them, since verify with timeout holds the lock of the synchronized
+    // publisher methods and blocks the delivery threads
+    doAnswer(i -> countStatusUpdate()).when(publisher).setSuccessStatus(anyLong());
+    doAnswer(i -> countStatusUpdate()).when(publisher).setAwaitingRetry(anyLong(), any(), any(), anyLong());
+    doAnswer(i -> countStatusUpdate()).when(publisher).setRetryLimitReached(anyLong(), any(), any());
+    retryDAO = mock(WebhookRetryDAO.class);
+    doAnswer(i -> stored.add(i.getArgument(1))).when(retryDAO).upsert(anyString(), anyString());
+    when(retryDAO.claim(anyString(), anyLong(), anyLong())).thenReturn(1);
+    when(retryDAO.delete(anyString())).thenReturn(1);
+    engine = new WebhookDeliveryEngine(retryDAO, id -> publisher, registry, 2);
+    engine.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    engine.stop();
+    server.stop(0);
+  }
+
+  @Test
+  void test_deliverWithConcurrencyLimit() {
+    for (int i = 0; i < 10; i++) {
+      engine.deliver(publisher, endpoint, Map.of("X-Test", "test"), Map.of("message", i));
+    }
+
+    // All the messages are delivered with at most 2 requests at a time to the endpoint
+    awaitStatusUpdates(10);
+    verify(publisher, times(10)).setSuccessStatus(anyLong());
+    assertEquals(10, received.size());
+    assertTrue(received.contains("{\"message\":3}"));
+    assertTrue(maxConcurrent.get() <= 2);
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(10))
+        .until(() -> successLatency() != null && successLatency().count() == 10);
+  }
+
+  @Test
+  void test_retryFailedDelivery() {
+    status.set(503);
+    engine.deliver(publisher, endpoint, Map.of(), "{}");
+
+    // The failed delivery is stored in the retry queue with the next attempt time
+    awaitStatusUpdates(1);
+    verify(publisher).setAwaitingRetry(anyLong(), eq(503), anyString(), anyLong());
+    assertEquals(1, stored.size());
+    WebhookDelivery delivery = JsonUtils.readValue(stored.get(0), WebhookDelivery.class);
+    assertEquals(1, delivery.getAttempt());
+    assertTrue(delivery.getNextAttemptAt() > System.currentTimeMillis());
+    assertEquals(1, registry.counter("webhook_delivery_retries").count());
+
+    // The delivery is claimed and sent again when it is due, and deleted from the queue once delivered
+    status.set(200);
+    awaitStatusUpdates(2);
+    verify(retryDAO).claim(eq(delivery.getId()), eq(delivery.getNextAttemptAt()), anyLong());
+    verify(publisher).setSuccessStatus(anyLong());
+    verify(retryDAO, timeout(1000)).delete(delivery.getId());
+    assertEquals(2, received.size());
+  }
+
+  @Test
+  void test_retryKeepsOrderOfSubscription() {
+    // The first delivery fails once, and the deliveries after it wait for its retry
+    failures.set(1);
+    for (int i = 0; i < 5; i++) {
+      engine.deliver(publisher, endpoint, Map.of(), Map.of("message", i));
+    }
+    awaitStatusUpdates(6);
+    assertEquals(
+        List.of(
+            "{\"message\":0}",
+            "{\"message\":0}",
+            "{\"message\":1}",
+            "{\"message\":2}",
+            "{\"message\":3}",
+            "{\"message\":4}"),
+        new ArrayList<>(received));
+    assertTrue(maxConcurrent.get() <= 1);
+  }
+
+  @Test
+  void test_pollRetries() {
+    WebhookDelivery delivery =
+        WebhookDelivery.builder()
+            .id(UUID.randomUUID().toString())
+            .subscriptionId(publisher.getEventSubscription().getId())
+            .endpoint(endpoint)
+            .payload("{}")
+            .timeout(10)
+            .attempt(1)
+            .nextAttemptAt(System.currentTimeMillis() - 60000)
+            .build();
+    when(retryDAO.listDue(anyLong(), anyLong(), anyInt())).thenReturn(List.of(JsonUtils.pojoToJson(delivery)));
+
+    // A delivery claimed by another server is not sent
+    when(retryDAO.claim(anyString(), anyLong(), anyLong())).thenReturn(0);
+    engine.pollRetries();
+    verify(retryDAO, never()).delete(anyString());
+    assertTrue(received.isEmpty());
+
+    // The row is kept in the queue while the delivery is in flight, and deleted once it is delivered
+    when(retryDAO.claim(anyString(), anyLong(), anyLong())).thenReturn(1);
+    engine.pollRetries();
+    awaitStatusUpdates(1);
+    verify(retryDAO, timeout(1000)).delete(delivery.getId());
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  void test_retryLimitReached() {
+    status.set(500);
+    WebhookDelivery delivery =
+        WebhookDelivery.builder()
+            .id(UUID.randomUUID().toString())
+            .subscriptionId(publisher.getEventSubscription().getId())
+            .endpoint(endpoint)
+            .payload("{}")
+            .timeout(10)
+            .attempt(WebhookDeliveryEngine.MAX_RETRIES)
+            .nextAttemptAt(System.currentTimeMillis() - 60000)
+            .build();
+    when(retryDAO.listDue(anyLong(), anyLong(), anyInt())).thenReturn(List.of(JsonUtils.pojoToJson(delivery)));
+    engine.pollRetries();
+
+    // The delivery is not retried after the last retry fails
+    awaitStatusUpdates(1);
+    verify(publisher).setRetryLimitReached(anyLong(), eq(500), anyString());
+    verify(retryDAO, timeout(1000)).delete(delivery.getId());
+    assertTrue(stored.isEmpty());
+  }
+
+  @Test
+  void test_fullSubscriptionKeepsOrder() {
+    // The first delivery is held by the endpoint, and the deliveries after it fill the subscription
+    delay.set(0);
+    blockedRequests.set(1);
+    int pending = WebhookDeliveryEngine.MAX_PENDING_PER_SUBSCRIPTION;
+    for (int i = 0; i < pending + 2; i++) {
+      engine.deliver(publisher, endpoint, Map.of(), Map.of("message", i));
+    }
+
+    // The deliveries beyond the limit are stored in order, and are not counted as retries
+    assertEquals(2, stored.size());
+    List<WebhookDelivery> spilled = new ArrayList<>();
+    stored.forEach(json -> spilled.add(JsonUtils.readValue(json, WebhookDelivery.class)));
+    assertEquals("{\"message\":" + pending + "}", spilled.get(0).getPayload());
+    assertTrue(spilled.get(0).getNextAttemptAt() < spilled.get(1).getNextAttemptAt());
+    assertEquals(0, registry.counter("webhook_delivery_retries").count());
+
+    // The stored deliveries are left in the queue while the subscription is full
+    when(retryDAO.listDue(anyLong(), anyLong(), anyInt())).thenAnswer(i -> List.copyOf(stored));
+    engine.pollRetries();
+    verify(retryDAO, never()).claim(anyString(), anyLong(), anyLong());
+
+    // The deliveries published while deliveries are stored are stored after them, even when the subscription has room
+    blocked.countDown();
+    awaitStatusUpdates(pending);
+    engine.deliver(publisher, endpoint, Map.of(), Map.of("message", pending + 2));
+    assertEquals(3, stored.size());
+
+    // The stored deliveries are taken back in order once the subscription has room
+    engine.pollRetries();
+    awaitStatusUpdates(pending + 3);
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < pending + 3; i++) {
+      expected.add("{\"message\":" + i + "}");
+    }
+    assertEquals(expected, new ArrayList<>(received));
+    verify(retryDAO, timeout(1000).times(3)).delete(anyString());
+  }
+
+  @Test
+  void test_connectionFailure() {
+    // Connection refused by the endpoint is retried
+    engine.deliver(publisher, "http://localhost:1/webhook", Map.of(), "{}");
+    awaitStatusUpdates(1);
+    verify(publisher).setAwaitingRetry(anyLong(), isNull(), anyString(), anyLong());
+    verify(retryDAO).upsert(anyString(), any());
+  }
+
+  private Object countStatusUpdate() {
+    statusUpdates.incrementAndGet();
+    return null;
+  }
+
+  private Timer successLatency() {
+    return registry.find("webhook_delivery_latency").tag("outcome", "success").timer();
+  }
+
+  private void awaitStatusUpdates(int count) {
+    Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> statusUpdates.get() >= count);
+  }
+}
@@ -0,0 +1,93 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.api.configuration.EntityCacheBudget;
+import org.openmetadata.api.configuration.EntityCacheConfiguration;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.service.Entity;
+
+class EntityCacheTest {
+  private static final int ENTITY_WEIGHT = 1000;
+  private static final long MB = 1024L * 1024L;
+  private EntityCache<UUID> cache;
+
+  @BeforeEach
+  void setup() {
+    EntityCache.configure(
+        new EntityCacheConfiguration()
+            .withDefaultMaxWeightMB(2)
+            .withEntityTypes(List.of(new EntityCacheBudget().withEntityType(Entity.TABLE).withMaxWeightMB(1))));
+    cache =
+        new EntityCache<>(
+            "entityCacheTest" + UUID.randomUUID(),
+            (type, id) -> new EntityCache.Entry(new Table().withId(id), ENTITY_WEIGHT));
+  }
+
+  @AfterEach
+  void cleanup() {
+    EntityCache.configure(new EntityCacheConfiguration());
+  }
+
+  @Test
+  void budgetIsPerEntityType() {
+    assertEquals(MB, EntityCache.maxWeight(new EntityCacheConfiguration().withDefaultMaxWeightMB(1), Entity.TAG));
+
+    // Tables beyond the budget of the table cache are evicted
+    for (int i = 0; i < 5000; i++) {
+      cache.put(new ImmutablePair<>(Entity.TABLE, UUID.randomUUID()), new Table(), ENTITY_WEIGHT);
+    }
+    assertTrue(cache.weight(Entity.TABLE) <= MB);
+    assertTrue(cache.weight(Entity.TABLE) > 0);
+    assertTrue(cache.stats().evictionCount() > 0);
+
+    // Other entity types are not evicted to make space for the tables
+    for (int i = 0; i < 1000; i++) {
+      cache.put(new ImmutablePair<>(Entity.TAG, UUID.randomUUID()), new Table(), ENTITY_WEIGHT);
+    }
+    assertEquals(1000L * ENTITY_WEIGHT, cache.weight(Entity.TAG));
+  }
+
+  @Test
+  void entityUpToBudgetIsCached() {
+    // An entity larger than a part of the budget is not evicted as soon as it is added
+    EntityCache<UUID> largeEntities = new EntityCache<>("entityCacheTest" + UUID.randomUUID(), (type, id) -> null);
+    ImmutablePair<String, UUID> key = new ImmutablePair<>(Entity.TABLE, UUID.randomUUID());
+    largeEntities.put(key, new Table(), 900 * 1024);
+    assertNotNull(largeEntities.getIfPresent(key));
+    assertEquals(900 * 1024, largeEntities.weight(Entity.TABLE));
+    assertEquals(0, largeEntities.stats().evictionCount());
+  }
+
+  @Test
+  void weightTracksLoadsAndInvalidations() throws ExecutionException {
+    UUID id = UUID.randomUUID();
+    ImmutablePair<String, UUID> key = new ImmutablePair<>(Entity.TABLE, id);
+    assertNull(cache.getIfPresent(key));
+
+    Table table = (Table) cache.get(key);
+    assertEquals(id, table.getId());
+    assertSame(table, cache.getIfPresent(key));
+    assertEquals(ENTITY_WEIGHT, cache.weight(Entity.TABLE));
+    assertEquals(1, cache.stats().loadSuccessCount());
+
+    cache.invalidate(key);
+    assertNull(cache.getIfPresent(key));
+    assertEquals(0, cache.weight(Entity.TABLE));
+
+    // Invalidating an entity type without a cache is a no-op
+    cache.invalidate(new ImmutablePair<>(Entity.USER, id));
+    assertNotNull(cache.get(key));
+  }
+}
@@ -0,0 +1,151 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.json.JsonObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecord;
+import org.openmetadata.service.util.JsonUtils;
+
+class EntityHistoryStoreTest {
+  private static final UUID ID = UUID.randomUUID();
+  private final Map<String, String> rows = new TreeMap<>();
+  private EntityHistoryStore store;
+
+  @BeforeEach
+  void setup() {
+    EntityExtensionDAO dao = mock(EntityExtensionDAO.class);
+    doAnswer(i -> rows.put(i.getArgument(1), i.getArgument(3)))
+        .when(dao)
+        .insert(anyString(), anyString(), anyString(), anyString());
+    doAnswer(i -> rows.put(i.getArgument(1), i.getArgument(2))).when(dao).update(anyString(), anyString(), any());
+    when(dao.getExtension(anyString(), anyString())).thenAnswer(i -> rows.get(i.<String>getArgument(1)));
+    when(dao.getExtensionNames(anyString(), anyString()))
+        .thenAnswer(
+            i -> rows.keySet().stream().filter(e -> e.startsWith(i.getArgument(1) + ".")).collect(Collectors.toList()));
+    when(dao.getVersionExtensionNames(anyString())).thenAnswer(i -> new ArrayList<>(rows.keySet()));
+    when(dao.getExtensionsByName(anyString(), anyList()))
+        .thenAnswer(
+            i ->
+                i.<List<String>>getArgument(1).stream()
+                    .filter(rows::containsKey)
+                    .map(e -> new ExtensionRecord(e, rows.get(e)))
+                    .collect(Collectors.toList()));
+    CollectionDAO daoCollection = mock(CollectionDAO.class);
+    when(daoCollection.entityExtensionDAO()).thenReturn(dao);
+    store = new EntityHistoryStore(daoCollection);
+  }
+
+  @Test
+  void test_storeVersionsAsDeltas() {
+    List<Table> tables = createVersions(25);
+    for (Table table : tables) {
+      store.storeVersion("table", ID, table.getVersion(), JsonUtils.pojoToJson(table));
+    }
+
+    // A snapshot is stored every SNAPSHOT_INTERVAL versions, and the other versions are stored as deltas
+    assertEquals(3, countSnapshots());
+    assertVersions(tables);
+    assertNull(store.getVersion("table", ID, 9.9));
+  }
+
+  @Test
+  void test_compactFullVersions() {
+    List<Table> tables = createVersions(25);
+    for (Table table : tables) {
+      rows.put("table.version." + table.getVersion(), JsonUtils.pojoToJson(table));
+    }
+    // The latest version is kept as a snapshot, as a version stored concurrently may be based on it
+    assertEquals(21, store.compact(ID));
+    assertEquals(4, countSnapshots());
+    assertFalse(rows.get("table.version.2.5").contains("versionDelta"));
+    assertVersions(tables);
+
+    // Compacting again does not change the history
+    assertEquals(0, store.compact(ID));
+  }
+
+  @Test
+  void test_compactKeepsSnapshotsOfDeltas() {
+    List<Table> tables = createVersions(5);
+    for (Table table : tables) {
+      rows.put("table.version." + table.getVersion(), JsonUtils.pojoToJson(table));
+    }
+    // Version 0.3 is already stored as a delta from the snapshot of version 0.2
+    rows.put(
+        "table.version.0.3",
+        EntityHistoryStore.encodeDelta(
+            0.2,
+            JsonUtils.readJson(rows.get("table.version.0.2")).asJsonObject(),
+            JsonUtils.readJson(rows.get("table.version.0.3")).asJsonObject()));
+
+    // Version 0.2 is kept as a snapshot and the later versions but the latest are converted to deltas from it
+    assertEquals(1, store.compact(ID));
+    assertEquals(3, countSnapshots());
+    for (String json : rows.values()) {
+      if (json.contains("versionDelta")) {
+        JsonObject delta = JsonUtils.readJson(json).asJsonObject().getJsonObject("versionDelta");
+        String base = rows.get("table.version." + delta.getJsonNumber("baseVersion").doubleValue());
+        assertFalse(base.contains("versionDelta"));
+      }
+    }
+    assertVersions(tables);
+  }
+
+  private List<Table> createVersions(int count) {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      columns.add(new Column().withName("c" + i).withDataType(ColumnDataType.INT).withDescription("column " + i));
+    }
+    List<Table> tables = new ArrayList<>();
+    double version = 0.1;
+    for (int i = 0; i < count; i++) {
+      columns.get(i % columns.size()).setDescription("updated " + i);
+      tables.add(
+          new Table()
+              .withId(ID)
+              .withName("t")
+              .withVersion(version)
+              .withDescription("version " + i)
+              .withColumns(JsonUtils.readObjects(JsonUtils.pojoToJson(columns), Column.class)));
+      version = Math.round((version + 0.1) * 10) / 10.0;
+    }
+    return tables;
+  }
+
+  private long countSnapshots() {
+    return rows.values().stream().filter(json -> !json.contains("versionDelta")).count();
+  }
+
+  private void assertVersions(List<Table> tables) {
+    List<Double> versions = store.listVersions("table", ID);
+    assertEquals(tables.size(), versions.size());
+    assertTrue(versions.get(0) > versions.get(versions.size() - 1)); // Latest version first
+    List<String> jsons = store.getVersions("table", ID, versions);
+    for (int i = 0; i < versions.size(); i++) {
+      Table expected = tables.get(tables.size() - 1 - i);
+      assertEquals(expected, JsonUtils.readValue(jsons.get(i), Table.class));
+      assertEquals(expected, JsonUtils.readValue(store.getVersion("table", ID, versions.get(i)), Table.class));
+    }
+  }
+}
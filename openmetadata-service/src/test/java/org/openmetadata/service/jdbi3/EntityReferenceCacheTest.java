@@ -0,0 +1,110 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.teams.User;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.exception.EntityNotFoundException;
+
+class EntityReferenceCacheTest {
+  private final UUID aliceId = UUID.randomUUID();
+  private final UUID bobId = UUID.randomUUID();
+  private EntityDAO<User> dao;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    EntityReferenceCache.invalidateAll();
+    dao = mock(EntityDAO.class);
+    when(dao.getTableName()).thenReturn("user_entity");
+    when(dao.getNameHashColumn()).thenReturn("nameHash");
+  }
+
+  @Test
+  void referencesAreLoadedOnceInBulk() {
+    when(dao.findReferencesByIds(eq("user_entity"), anyList()))
+        .thenReturn(List.of(referenceJson(bobId, "bob", true), referenceJson(aliceId, "alice", false)));
+
+    List<EntityReference> refs = EntityReferenceCache.get(dao, Entity.USER, List.of(aliceId, bobId), Include.ALL);
+    assertEquals(List.of("alice", "bob"), List.of(refs.get(0).getName(), refs.get(1).getName()));
+    assertEquals(Entity.USER, refs.get(0).getType());
+    assertEquals("alice", refs.get(0).getFullyQualifiedName()); // Name when the fqn is not stored
+    assertEquals(true, refs.get(1).getDeleted());
+    verify(dao).findReferencesByIds("user_entity", List.of(aliceId.toString(), bobId.toString()));
+
+    // Cached references are returned as new objects without querying again
+    EntityReference alice = EntityReferenceCache.get(dao, Entity.USER, aliceId, Include.NON_DELETED);
+    assertNotSame(refs.get(0), alice);
+    alice.setHref(null);
+    assertNull(EntityReferenceCache.get(dao, Entity.USER, aliceId, Include.ALL).getHref());
+    verify(dao, times(1)).findReferencesByIds(anyString(), anyList());
+
+    // Deleted entities are filtered by include
+    assertThrows(
+        EntityNotFoundException.class, () -> EntityReferenceCache.get(dao, Entity.USER, bobId, Include.NON_DELETED));
+  }
+
+  @Test
+  void missingReferenceIsNotFound() {
+    when(dao.findReferencesByIds(eq("user_entity"), anyList())).thenReturn(List.of());
+    assertThrows(EntityNotFoundException.class, () -> EntityReferenceCache.get(dao, Entity.USER, aliceId, Include.ALL));
+  }
+
+  @Test
+  void invalidatedReferenceIsReloaded() {
+    when(dao.findReferencesByIds(eq("user_entity"), anyList()))
+        .thenReturn(List.of(referenceJson(aliceId, "alice", false)))
+        .thenReturn(List.of(referenceJson(aliceId, "alice2", false)));
+    assertEquals("alice", EntityReferenceCache.get(dao, Entity.USER, aliceId, Include.ALL).getName());
+
+    EntityReferenceCache.invalidate(Entity.USER, aliceId);
+    assertEquals("alice2", EntityReferenceCache.get(dao, Entity.USER, aliceId, Include.ALL).getName());
+  }
+
+  @Test
+  void referenceByNameIsCheckedAgainstTheCachedName() {
+    when(dao.findReferenceByName("user_entity", "nameHash", "alice"))
+        .thenReturn(referenceJson(aliceId, "alice", false));
+    assertEquals(aliceId, EntityReferenceCache.getByName(dao, Entity.USER, "alice", Include.ALL).getId());
+    assertEquals(aliceId, EntityReferenceCache.getByName(dao, Entity.USER, "alice", Include.ALL).getId());
+    verify(dao, times(1)).findReferenceByName(anyString(), anyString(), anyString());
+
+    // The same id is cached by id
+    EntityReferenceCache.get(dao, Entity.USER, aliceId, Include.ALL);
+    verify(dao, never()).findReferencesByIds(anyString(), anyList());
+
+    // After a rename, the old name no longer resolves to the renamed entity
+    EntityReferenceCache.invalidate(Entity.USER, aliceId);
+    when(dao.findReferencesByIds(eq("user_entity"), anyList()))
+        .thenReturn(List.of(referenceJson(aliceId, "carol", false)));
+    assertEquals("carol", EntityReferenceCache.get(dao, Entity.USER, aliceId, Include.ALL).getName());
+    when(dao.findReferenceByName("user_entity", "nameHash", "alice")).thenReturn(null);
+    assertThrows(
+        EntityNotFoundException.class, () -> EntityReferenceCache.getByName(dao, Entity.USER, "alice", Include.ALL));
+  }
+
+  private static String referenceJson(UUID id, String name, boolean deleted) {
+    // Reference fields extracted from the entity JSON by the projection query
+    return String.format(
+        "{\"id\": \"%s\", \"name\": \"%s\", \"fullyQualifiedName\": null, \"displayName\": null, "
+            + "\"description\": \"%s description\", \"deleted\": %s}",
+        id, name, name, deleted);
+  }
+}
@@ -0,0 +1,81 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
+import org.openmetadata.service.jdbi3.locator.ConnectionType;
+import org.openmetadata.service.util.FullyQualifiedName;
+
+class EntityTimeSeriesDAOTest {
+  private static final String TABLE = "profiler_data_time_series";
+  private static final String EXTENSION = "table.columnProfile";
+  private EntityTimeSeriesDAO dao;
+
+  @BeforeEach
+  void setup() {
+    dao = mock(EntityTimeSeriesDAO.class, CALLS_REAL_METHODS);
+    when(dao.getTimeSeriesTableName()).thenReturn(TABLE);
+  }
+
+  @Test
+  void insertBatchHashesTheEntityNames() {
+    List<String> fqns = List.of("service.db.schema.table.c1", "service.db.schema.table.\"c.2\"");
+    List<String> jsons = List.of("{\"name\":\"c1\"}", "{\"name\":\"c.2\"}");
+    dao.insertBatch(fqns, EXTENSION, "columnProfile", jsons);
+    verify(dao)
+        .insertBatch(
+            TABLE,
+            List.of(FullyQualifiedName.buildHash(fqns.get(0)), FullyQualifiedName.buildHash(fqns.get(1))),
+            EXTENSION,
+            "columnProfile",
+            jsons);
+
+    // An empty batch is not sent to the database
+    dao = mock(EntityTimeSeriesDAO.class, CALLS_REAL_METHODS);
+    dao.insertBatch(List.of(), EXTENSION, "columnProfile", List.of());
+    verify(dao, never()).insertBatch(anyString(), anyList(), anyString(), anyString(), anyList());
+  }
+
+  @Test
+  void latestExtensionIsKeyedByEntityName() {
+    String c1 = "service.db.schema.table.c1";
+    String c2 = "service.db.schema.table.c2";
+    when(dao.getLatestExtensionByFQNs(eq(TABLE), anyList(), eq(EXTENSION)))
+        .thenReturn(Map.of(FullyQualifiedName.buildHash(c1), "{\"name\":\"c1\"}"));
+
+    // Entities without a record are not in the result
+    assertEquals(Map.of(c1, "{\"name\":\"c1\"}"), dao.getLatestExtensionByFQNs(List.of(c1, c2), EXTENSION));
+    assertTrue(dao.getLatestExtensionByFQNs(List.of(), EXTENSION).isEmpty());
+  }
+
+  @Test
+  void insertBatchSqlIsLocatedForTheConnectionType() throws NoSuchMethodException {
+    Method method =
+        EntityTimeSeriesDAO.class.getMethod(
+            "insertBatch", String.class, List.class, String.class, String.class, List.class);
+    String mysql =
+        new ConnectionAwareAnnotationSqlLocator(ConnectionType.MYSQL.label)
+            .locate(EntityTimeSeriesDAO.class, method, null);
+    String postgres =
+        new ConnectionAwareAnnotationSqlLocator(ConnectionType.POSTGRES.label)
+            .locate(EntityTimeSeriesDAO.class, method, null);
+    assertTrue(mysql.startsWith("INSERT INTO <table>"));
+    assertFalse(mysql.contains("jsonb"));
+    assertTrue(postgres.contains("(:json :: jsonb)"));
+  }
+}
@@ -0,0 +1,67 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionDAO;
+
+class EntityVersionCompactorTest {
+  @Test
+  void test_compactInBatches() {
+    TreeSet<String> ids = new TreeSet<>();
+    for (int i = 0; i < 250; i++) {
+      ids.add(UUID.randomUUID().toString());
+    }
+    String failing = ids.first();
+    List<String> compacted = new ArrayList<>();
+    List<String> queries = new ArrayList<>();
+    EntityExtensionDAO dao = mock(EntityExtensionDAO.class);
+    when(dao.listIdsWithVersions(anyString(), anyInt()))
+        .thenAnswer(
+            i -> {
+              queries.add(i.getArgument(0));
+              return ids.tailSet(i.getArgument(0), false).stream()
+                  .limit(i.<Integer>getArgument(1))
+                  .collect(Collectors.toList());
+            });
+    when(dao.getVersionExtensionNames(anyString()))
+        .thenAnswer(
+            i -> {
+              if (failing.equals(i.getArgument(0))) {
+                throw new IllegalStateException("Failed to read the versions");
+              }
+              compacted.add(i.getArgument(0));
+              return List.of();
+            });
+    CollectionDAO daoCollection = mock(CollectionDAO.class);
+    when(daoCollection.entityExtensionDAO()).thenReturn(dao);
+    EntityVersionCompactor compactor = new EntityVersionCompactor(daoCollection);
+
+    // Each batch continues after the last entity of the previous batch, until the pass over all the entities completes
+    assertFalse(compactor.compactBatch());
+    assertFalse(compactor.compactBatch());
+    assertTrue(compactor.compactBatch());
+    List<String> all = new ArrayList<>(ids);
+    assertEquals(List.of("", all.get(99), all.get(199)), queries);
+
+    // An entity failing to be compacted does not stop the compaction of the others
+    assertEquals(all.subList(1, all.size()), compacted);
+
+    // The next pass starts from the first entity
+    assertFalse(compactor.compactBatch());
+    assertEquals("", queries.get(3));
+    assertEquals(
+        all.subList(1, EntityVersionCompactor.BATCH_SIZE), compacted.subList(all.size() - 1, compacted.size()));
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.teams.Team;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.Relationship;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+
+class TeamHierarchyIndexTest {
+  // Team hierarchy stored in the database, which the index loads through the team repository
+  private final Map<UUID, String> names = new HashMap<>();
+  private final Map<UUID, Set<UUID>> parents = new HashMap<>();
+  private final Map<UUID, Set<UUID>> users = new HashMap<>();
+  private TeamRepository repository;
+
+  //            team1
+  //           /     \
+  //       team11   team12
+  //           \     /
+  //           team111
+  private UUID team1;
+  private UUID team11;
+  private UUID team12;
+  private UUID team111;
+
+  @BeforeEach
+  void setup() {
+    repository = mock(TeamRepository.class);
+    Entity.registerEntity(Team.class, Entity.TEAM, repository, null);
+    when(repository.get(isNull(), any(UUID.class), any(), any(Include.class), anyBoolean()))
+        .thenAnswer(i -> getTeam(i.getArgument(1)));
+    when(repository.getChildren(any(UUID.class))).thenAnswer(i -> getChildren(i.getArgument(0)));
+    when(repository.findToRecords(any(UUID.class), eq(Entity.TEAM), eq(Relationship.HAS), eq(Entity.USER)))
+        .thenAnswer(i -> getUsers(i.getArgument(0)));
+    when(repository.getReferenceByName(anyString(), any(Include.class)))
+        .thenAnswer(i -> getReference(getTeamId(i.getArgument(0))));
+
+    TeamHierarchyIndex.setOrganization(null);
+    TeamHierarchyIndex.invalidateAll();
+    team1 = createTeam("team1");
+    team11 = createTeam("team11", team1);
+    team12 = createTeam("team12", team1);
+    team111 = createTeam("team111", team11, team12);
+  }
+
+  @Test
+  void testTraverseParentsAndChildren() {
+    assertEquals(List.of(team111, team11, team1, team12), List.copyOf(TeamHierarchyIndex.getAncestors(team111)));
+    assertEquals(Set.of(team11, team1), TeamHierarchyIndex.getAncestors(team11));
+    assertEquals(Set.of(team1, team11, team12, team111), TeamHierarchyIndex.getDescendants(team1));
+    assertEquals(Set.of(team12, team111), TeamHierarchyIndex.getDescendants(team12));
+
+    assertTrue(TeamHierarchyIndex.isInTeam("team1", team111));
+    assertTrue(TeamHierarchyIndex.isInTeam("team111", team111));
+    assertFalse(TeamHierarchyIndex.isInTeam("team111", team1));
+    assertFalse(TeamHierarchyIndex.isInTeam("unknownTeam", team111));
+
+    // A user in several teams of the hierarchy is counted once
+    UUID user1 = addUser(team11);
+    addUser(team111);
+    users.get(team111).add(user1);
+    assertEquals(2, TeamHierarchyIndex.getUserCount(team1));
+    assertEquals(2, TeamHierarchyIndex.getUserCount(team11));
+    assertEquals(2, TeamHierarchyIndex.getUserCount(team12));
+
+    // The relationships of each team are loaded once
+    clearInvocations(repository);
+    TeamHierarchyIndex.getAncestors(team111);
+    TeamHierarchyIndex.getDescendants(team1);
+    TeamHierarchyIndex.getUserCount(team1);
+    verify(repository, never()).get(isNull(), any(UUID.class), any(), any(Include.class), anyBoolean());
+    verify(repository, never()).getChildren(any(UUID.class));
+  }
+
+  @Test
+  void testCycleInTheHierarchy() {
+    // team1 is made a child of team111, which is under the hierarchy of team1
+    addParent(team1, team111);
+    TeamHierarchyIndex.relationshipAdded(Entity.TEAM, team111, Entity.TEAM, team1, Relationship.PARENT_OF);
+
+    Set<UUID> allTeams = Set.of(team1, team11, team12, team111);
+    assertEquals(allTeams, TeamHierarchyIndex.getAncestors(team1));
+    assertEquals(allTeams, TeamHierarchyIndex.getAncestors(team111));
+    assertEquals(allTeams, TeamHierarchyIndex.getDescendants(team11));
+    assertTrue(TeamHierarchyIndex.isInTeam("team111", team1));
+
+    addUser(team1);
+    assertEquals(1, TeamHierarchyIndex.getUserCount(team111));
+  }
+
+  @Test
+  void testInvalidateOnParentChange() {
+    UUID team2 = createTeam("team2");
+    UUID team21 = createTeam("team21", team2);
+    assertEquals(Set.of(team111, team11, team1, team12), TeamHierarchyIndex.getAncestors(team111));
+    assertEquals(Set.of(team21, team2), TeamHierarchyIndex.getAncestors(team21));
+    assertEquals(Set.of(team2, team21), TeamHierarchyIndex.getDescendants(team2));
+    addUser(team111);
+    assertEquals(1, TeamHierarchyIndex.getUserCount(team1));
+    assertEquals(0, TeamHierarchyIndex.getUserCount(team2));
+
+    // Move team111 from team12 to team21
+    parents.get(team111).remove(team12);
+    TeamHierarchyIndex.relationshipDeleted(Entity.TEAM, team12, Entity.TEAM, team111, Relationship.PARENT_OF);
+    addParent(team111, team21);
+    TeamHierarchyIndex.relationshipAdded(Entity.TEAM, team21, Entity.TEAM, team111, Relationship.PARENT_OF);
+
+    assertEquals(Set.of(team111, team11, team1, team21, team2), TeamHierarchyIndex.getAncestors(team111));
+    assertEquals(Set.of(team12), TeamHierarchyIndex.getDescendants(team12));
+    assertEquals(Set.of(team2, team21, team111), TeamHierarchyIndex.getDescendants(team2));
+    assertEquals(1, TeamHierarchyIndex.getUserCount(team2));
+    assertEquals(0, TeamHierarchyIndex.getUserCount(team12));
+    assertTrue(TeamHierarchyIndex.isInTeam("team2", team111));
+    assertFalse(TeamHierarchyIndex.isInTeam("team12", team111));
+
+    // Only the teams of the changed relationship are loaded again
+    clearInvocations(repository);
+    TeamHierarchyIndex.getAncestors(team111);
+    TeamHierarchyIndex.getDescendants(team2);
+    verify(repository, never()).get(isNull(), any(UUID.class), any(), any(Include.class), anyBoolean());
+    verify(repository, never()).getChildren(any(UUID.class));
+
+    // The closures of the teams not related to the change are kept
+    assertEquals(Set.of(team11, team1), TeamHierarchyIndex.getAncestors(team11));
+    addParent(team21, team12);
+    TeamHierarchyIndex.relationshipAdded(Entity.TEAM, team12, Entity.TEAM, team21, Relationship.PARENT_OF);
+    assertEquals(Set.of(team1, team11, team12, team111, team21), TeamHierarchyIndex.getDescendants(team1));
+    clearInvocations(repository);
+    assertEquals(Set.of(team11, team1), TeamHierarchyIndex.getAncestors(team11));
+    verify(repository, never()).get(isNull(), any(UUID.class), any(), any(Include.class), anyBoolean());
+  }
+
+  @Test
+  void testInvalidateOnMembershipChange() {
+    UUID user1 = addUser(team111);
+    assertEquals(1, TeamHierarchyIndex.getUserCount(team1));
+    assertEquals(1, TeamHierarchyIndex.getUserCount(team12));
+
+    UUID user2 = addUser(team12);
+    TeamHierarchyIndex.relationshipAdded(Entity.TEAM, team12, Entity.USER, user2, Relationship.HAS);
+    assertEquals(2, TeamHierarchyIndex.getUserCount(team1));
+    assertEquals(2, TeamHierarchyIndex.getUserCount(team12));
+    assertEquals(1, TeamHierarchyIndex.getUserCount(team11));
+
+    // Only the users of the changed team are loaded again
+    UUID user3 = addUser(team11);
+    clearInvocations(repository);
+    TeamHierarchyIndex.relationshipAdded(Entity.TEAM, team11, Entity.USER, user3, Relationship.HAS);
+    assertEquals(3, TeamHierarchyIndex.getUserCount(team1));
+    assertEquals(2, TeamHierarchyIndex.getUserCount(team11));
+    assertEquals(2, TeamHierarchyIndex.getUserCount(team12));
+    verify(repository, times(1)).findToRecords(any(UUID.class), anyString(), any(Relationship.class), anyString());
+    verify(repository).findToRecords(team11, Entity.TEAM, Relationship.HAS, Entity.USER);
+
+    // Deleting a user removes it from all its teams
+    users.values().forEach(teamUsers -> teamUsers.remove(user1));
+    TeamHierarchyIndex.entityDeleted(Entity.USER, user1);
+    assertEquals(2, TeamHierarchyIndex.getUserCount(team1));
+    assertEquals(1, TeamHierarchyIndex.getUserCount(team12));
+  }
+
+  @Test
+  void testInvalidateOnTeamDelete() {
+    assertTrue(TeamHierarchyIndex.isInTeam("team11", team111));
+    assertEquals(Set.of(team1, team11, team12, team111), TeamHierarchyIndex.getDescendants(team1));
+
+    // Delete team11 along with its relationships
+    parents.remove(team11);
+    parents.get(team111).remove(team11);
+    names.remove(team11);
+    TeamHierarchyIndex.entityDeleted(Entity.TEAM, team11);
+
+    assertEquals(Set.of(team1, team12, team111), TeamHierarchyIndex.getDescendants(team1));
+    assertEquals(Set.of(team111, team12, team1), TeamHierarchyIndex.getAncestors(team111));
+    assertFalse(TeamHierarchyIndex.isInTeam("team11", team111));
+  }
+
+  private UUID createTeam(String name, UUID... parentIds) {
+    UUID id = UUID.randomUUID();
+    names.put(id, name);
+    parents.put(id, new LinkedHashSet<>(List.of(parentIds)));
+    users.put(id, new LinkedHashSet<>());
+    return id;
+  }
+
+  private void addParent(UUID teamId, UUID parentId) {
+    parents.get(teamId).add(parentId);
+  }
+
+  private UUID addUser(UUID teamId) {
+    UUID userId = UUID.randomUUID();
+    users.get(teamId).add(userId);
+    return userId;
+  }
+
+  private Team getTeam(UUID id) {
+    if (!names.containsKey(id)) {
+      throw new IllegalArgumentException("Team not found " + id);
+    }
+    return new Team()
+        .withId(id)
+        .withName(names.get(id))
+        .withParents(parents.get(id).stream().map(this::getReference).collect(Collectors.toList()));
+  }
+
+  private List<EntityReference> getChildren(UUID id) {
+    return parents.entrySet().stream()
+        .filter(entry -> entry.getValue().contains(id))
+        .map(entry -> getReference(entry.getKey()))
+        .collect(Collectors.toList());
+  }
+
+  private List<EntityRelationshipRecord> getUsers(UUID id) {
+    return users.getOrDefault(id, Set.of()).stream()
+        .map(user -> EntityRelationshipRecord.builder().id(user).type(Entity.USER).build())
+        .collect(Collectors.toList());
+  }
+
+  private UUID getTeamId(String name) {
+    return names.entrySet().stream()
+        .filter(entry -> entry.getValue().equals(name))
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Team not found " + name));
+  }
+
+  private EntityReference getReference(UUID id) {
+    return new EntityReference().withId(id).withType(Entity.TEAM).withName(names.get(id));
+  }
+}
@@ -0,0 +1,58 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.jdbi3.CollectionDAO.UsageDAO.UsageCount;
+
+class UsageRepositoryTest {
+  private static final LocalDate DATE = LocalDate.parse("2023-10-31");
+
+  @Test
+  void test_computeUsageCounts() {
+    // Stored daily count of 1 for each of the 40 days before the date
+    NavigableMap<LocalDate, Integer> dailyCounts = new TreeMap<>();
+    for (int i = 1; i <= 40; i++) {
+      dailyCounts.put(DATE.minusDays(i), 1);
+    }
+    dailyCounts.put(DATE, 5);
+
+    // The row of the next date is missing, and is inserted with the rolling counts of the days before
+    Map<LocalDate, Integer> reported = Map.of(DATE, 10, DATE.plusDays(1), 20);
+    List<UsageCount> missing = UsageRepository.computeMissingCounts("id", "table", dailyCounts, reported.keySet());
+    assertEquals(1, missing.size());
+    assertUsageCount(missing.get(0), DATE.plusDays(1), 0, 10, 33);
+
+    // Replacing the count of the date increments it by the difference, which also counts for the next date
+    List<UsageCount> increments = UsageRepository.computeUsageIncrements("id", "table", dailyCounts, reported, true);
+    assertEquals(2, increments.size());
+    assertUsageCount(increments.get(0), DATE, 5, 5, 5);
+    assertUsageCount(increments.get(1), DATE.plusDays(1), 20, 25, 25);
+
+    // Adding to the count of the date
+    increments = UsageRepository.computeUsageIncrements("id", "table", dailyCounts, Map.of(DATE, 10), false);
+    assertUsageCount(increments.get(0), DATE, 10, 10, 10);
+    assertEquals(0, UsageRepository.computeMissingCounts("id", "table", dailyCounts, Set.of(DATE)).size());
+
+    // Reporting the usage of an entity without stored usage
+    missing = UsageRepository.computeMissingCounts("id", "table", new TreeMap<>(), Set.of(DATE));
+    assertUsageCount(missing.get(0), DATE, 0, 0, 0);
+    increments = UsageRepository.computeUsageIncrements("id", "table", new TreeMap<>(), Map.of(DATE, 3), false);
+    assertUsageCount(increments.get(0), DATE, 3, 3, 3);
+  }
+
+  private void assertUsageCount(UsageCount count, LocalDate date, int count1, int count7, int count30) {
+    assertEquals("id", count.getId());
+    assertEquals("table", count.getEntityType());
+    assertEquals(date, count.getUsageDate());
+    assertEquals(count1, count.getCount1());
+    assertEquals(count7, count.getCount7());
+    assertEquals(count30, count.getCount30());
+  }
+}
@@ -0,0 +1,61 @@
+package org.openmetadata.service.jdbi3.unitofwork;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.jdbi.v3.core.Handle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JdbiTransactionManagerTest {
+  private Connection connection;
+  private JdbiTransactionManager manager;
+  private final List<String> actions = new ArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    connection = mock(Connection.class);
+    Handle handle = mock(Handle.class);
+    when(handle.getConnection()).thenReturn(connection);
+    JdbiHandleManager handleManager = mock(JdbiHandleManager.class);
+    when(handleManager.get()).thenReturn(handle);
+    when(handleManager.handleExists()).thenReturn(true);
+    manager = new JdbiTransactionManager(handleManager);
+  }
+
+  @Test
+  void actionsRunAfterCommit() {
+    manager.begin(false);
+    JdbiTransactionManager.afterCompletion(() -> actions.add("invalidate"));
+    assertEquals(List.of(), actions);
+
+    manager.commit();
+    assertEquals(List.of("invalidate"), actions);
+
+    // Actions run only once, and right away outside a unit of work that writes
+    manager.terminateHandle();
+    JdbiTransactionManager.afterCompletion(() -> actions.add("outside"));
+    assertEquals(List.of("invalidate", "outside"), actions);
+  }
+
+  @Test
+  void actionsRunAfterRollback() throws SQLException {
+    manager.begin(false);
+    JdbiTransactionManager.afterCompletion(() -> actions.add("invalidate"));
+    manager.rollback();
+    assertEquals(List.of("invalidate"), actions);
+
+    // A failed commit is rolled back, and the actions still run
+    doThrow(new SQLException("Connection lost")).when(connection).commit();
+    manager.begin(false);
+    JdbiTransactionManager.afterCompletion(() -> actions.add("failed"));
+    manager.commit();
+    assertEquals(List.of("invalidate", "failed"), actions);
+  }
+}
@@ -0,0 +1,156 @@
+package org.openmetadata.service.jdbi3.unitofwork;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.config.ReadReplicaConfiguration;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.jdbi3.TableRepository;
+import org.openmetadata.service.util.JsonUtils;
+
+class ReadReplicaRouterTest {
+  private Jdbi replica;
+  private ReadReplicaRouter router;
+
+  @BeforeEach
+  void setup() {
+    replica = mock(Jdbi.class);
+    ReadReplicaConfiguration config = new ReadReplicaConfiguration();
+    config.setMaxLagSeconds(10);
+    config.setReadYourWritesWindowSeconds(30);
+    router = new ReadReplicaRouter(mock(Jdbi.class), replica, config);
+  }
+
+  @Test
+  void replicaIsUsedOnlyWhenWithinMaxLag() {
+    // Replica is not used until the first lag check
+    assertFalse(router.canRead(null));
+
+    when(replica.withHandle(any())).thenReturn(System.currentTimeMillis());
+    router.checkLag();
+    assertTrue(router.canRead(null));
+    assertTrue(router.canRead("alice"));
+
+    when(replica.withHandle(any())).thenReturn(System.currentTimeMillis() - 60_000);
+    router.checkLag();
+    assertFalse(router.canRead(null));
+
+    when(replica.withHandle(any())).thenReturn(null);
+    router.checkLag();
+    assertFalse(router.canRead(null));
+
+    when(replica.withHandle(any())).thenThrow(new UnableToExecuteStatementException("Replica is down"));
+    router.checkLag();
+    assertFalse(router.canRead(null));
+  }
+
+  @Test
+  void usersReadTheirWritesFromThePrimary() {
+    when(replica.withHandle(any())).thenReturn(System.currentTimeMillis());
+    router.checkLag();
+
+    router.recordWrite("alice");
+    router.recordWrite(null);
+    assertFalse(router.canRead("alice"));
+    assertTrue(router.canRead("bob"));
+    assertTrue(router.canRead(null));
+  }
+
+  @Test
+  void connectionFailuresMarkTheReplicaUnavailable() {
+    when(replica.withHandle(any())).thenReturn(System.currentTimeMillis());
+    router.checkLag();
+
+    // A change made by a GET request is retried on the primary, and the replica stays in use
+    router.fallback(readOnlyViolation());
+    assertTrue(router.canRead(null));
+
+    router.fallback(
+        new UnableToExecuteStatementException(new SQLNonTransientConnectionException("Connection reset"), null));
+    assertFalse(router.canRead(null));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void cacheMissOnReplicaReadsFromThePrimary() throws Exception {
+    Jdbi primary = mock(Jdbi.class);
+    Handle primaryHandle = mock(Handle.class);
+    when(primary.open()).thenReturn(primaryHandle);
+    Handle replicaHandle = mock(Handle.class);
+    when(replicaHandle.getConnection()).thenReturn(mock(Connection.class));
+    when(replica.open()).thenReturn(replicaHandle);
+    when(replica.withHandle(any())).thenReturn(System.currentTimeMillis());
+    router.checkLag();
+
+    RequestScopedJdbiHandleManager handleManager = new RequestScopedJdbiHandleManager(primary);
+    handleManager.setReadReplicaRouter(router);
+    JdbiTransactionManager previous = JdbiTransactionManager.setInstance(new JdbiTransactionManager(handleManager));
+    try {
+      // The entity read by the request is loaded into the shared cache with a handle on the primary
+      UUID id = UUID.randomUUID();
+      Table table = new Table().withId(id).withName("table");
+      List<Handle> loadHandles = new ArrayList<>();
+      EntityDAO<Table> dao = mock(EntityDAO.class);
+      when(dao.findJsonById(id, Include.ALL))
+          .thenAnswer(
+              i -> {
+                loadHandles.add(handleManager.get());
+                return JsonUtils.pojoToJson(table);
+              });
+      when(dao.jsonToEntity(any(), eq(id.toString()))).thenReturn(table);
+      TableRepository repository = mock(TableRepository.class);
+      when(repository.getDao()).thenReturn(dao);
+      Entity.registerEntity(Table.class, Entity.TABLE, repository, null);
+
+      handleManager.setUseReplica(true);
+      assertSame(replicaHandle, handleManager.get());
+      assertSame(table, EntityRepository.CACHE_WITH_ID.get(new ImmutablePair<>(Entity.TABLE, id)));
+      assertEquals(List.of(primaryHandle), loadHandles);
+
+      // The request continues on the replica
+      assertSame(replicaHandle, handleManager.get());
+      assertTrue(handleManager.isOnReplica());
+    } finally {
+      handleManager.clear();
+      JdbiTransactionManager.setInstance(previous);
+    }
+  }
+
+  @Test
+  void replicaFailures() {
+    assertTrue(ReadReplicaRouter.isReplicaFailure(new SQLException("Communications link failure", "08S01")));
+    assertTrue(ReadReplicaRouter.isReplicaFailure(new UnableToExecuteStatementException(readOnlyViolation(), null)));
+    assertTrue(ReadReplicaRouter.isReplicaFailure(new SQLException("read-only", "HY000", 1290)));
+    assertTrue(ReadReplicaRouter.isReplicaFailure(new SQLException("Connection is read-only. Queries leading to ...")));
+
+    assertFalse(ReadReplicaRouter.isReplicaFailure(new SQLException("Duplicate entry", "23000", 1062)));
+    assertFalse(ReadReplicaRouter.isReplicaFailure(new UnableToExecuteStatementException("Syntax error")));
+    assertFalse(ReadReplicaRouter.isConnectionFailure(readOnlyViolation()));
+  }
+
+  private static SQLException readOnlyViolation() {
+    return new SQLException("cannot execute UPDATE in a read-only transaction", "25006");
+  }
+}
@@ -0,0 +1,52 @@
+package org.openmetadata.service.jdbi3.unitofwork;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.Test;
+
+class RequestScopedJdbiHandleManagerTest {
+  @Test
+  void cacheLoadsReadFromThePrimary() {
+    Jdbi primary = mock(Jdbi.class);
+    Handle primaryHandle = mock(Handle.class);
+    when(primary.open()).thenReturn(primaryHandle);
+    ReadReplicaRouter router = mock(ReadReplicaRouter.class);
+    Handle replicaHandle = mock(Handle.class);
+    when(router.openReplicaHandle()).thenReturn(replicaHandle);
+
+    RequestScopedJdbiHandleManager manager = new RequestScopedJdbiHandleManager(primary);
+    assertTrue(manager.supportsReadReplica());
+    manager.setReadReplicaRouter(router);
+    manager.setUseReplica(true);
+    assertSame(replicaHandle, manager.get());
+    assertTrue(manager.isOnReplica());
+
+    // The action runs on a handle of the primary, and the request continues on the replica afterwards
+    Handle used =
+        manager.onPrimary(
+            () -> {
+              assertFalse(manager.isOnReplica());
+              return manager.get();
+            });
+    assertSame(primaryHandle, used);
+    verify(primaryHandle).close();
+    assertSame(replicaHandle, manager.get());
+    assertTrue(manager.isOnReplica());
+    verify(replicaHandle, never()).close();
+
+    // Without the replica, the action runs on the handle of the request
+    manager.clear();
+    manager.setUseReplica(false);
+    assertSame(primaryHandle, manager.onPrimary(manager::get));
+    assertSame(primaryHandle, manager.get());
+    manager.clear();
+  }
+}
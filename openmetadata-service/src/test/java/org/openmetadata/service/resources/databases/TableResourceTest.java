@@ -113,9 +113,11 @@ import org.openmetadata.schema.type.ColumnProfile;
 import org.openmetadata.schema.type.ColumnProfilerConfig;
 import org.openmetadata.schema.type.DataModel;
 import org.openmetadata.schema.type.DataModel.ModelType;
+import org.openmetadata.schema.type.DmlOperationType;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.JoinedWith;
 import org.openmetadata.schema.type.MetadataOperation;
+import org.openmetadata.schema.type.SystemProfile;
 import org.openmetadata.schema.type.TableConstraint;
 import org.openmetadata.schema.type.TableConstraint.ConstraintType;
 import org.openmetadata.schema.type.TableData;
@@ -1243,6 +1245,49 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     verifyTableProfile(table2.getProfile(), createTableProfile.getTableProfile());
   }
 
+  @Test
+  void put_tableSystemProfile_200(TestInfo test) throws IOException, ParseException {
+    Table table = createEntity(createRequest(test), ADMIN_AUTH_HEADERS);
+    Long timestamp = TestUtils.dateToTimestamp("2021-09-09");
+    Long nextTimestamp = TestUtils.dateToTimestamp("2021-09-10");
+    TableProfile tableProfile = new TableProfile().withRowCount(6.0).withColumnCount(3.0).withTimestamp(timestamp);
+
+    // System profiles are stored once per operation and timestamp, keeping the last one in the request
+    List<SystemProfile> systemProfiles =
+        List.of(
+            getSystemProfile(timestamp, DmlOperationType.INSERT, 10),
+            getSystemProfile(timestamp, DmlOperationType.UPDATE, 20),
+            getSystemProfile(timestamp, DmlOperationType.UPDATE, 30));
+    CreateTableProfile createTableProfile =
+        new CreateTableProfile().withTableProfile(tableProfile).withSystemProfile(systemProfiles);
+    putTableProfileData(table.getId(), createTableProfile, ADMIN_AUTH_HEADERS);
+    ResultList<SystemProfile> storedProfiles =
+        getSystemProfiles(table.getFullyQualifiedName(), timestamp, nextTimestamp, ADMIN_AUTH_HEADERS);
+    assertEquals(
+        Map.of(timestamp + ":INSERT", 10, timestamp + ":UPDATE", 30), getRowsAffected(storedProfiles.getData()));
+
+    // Stored system profiles are updated, and the new ones are added
+    systemProfiles =
+        List.of(
+            getSystemProfile(timestamp, DmlOperationType.INSERT, 15),
+            getSystemProfile(timestamp, DmlOperationType.DELETE, 5),
+            getSystemProfile(nextTimestamp, DmlOperationType.INSERT, 40));
+    createTableProfile = new CreateTableProfile().withTableProfile(tableProfile).withSystemProfile(systemProfiles);
+    putTableProfileData(table.getId(), createTableProfile, ADMIN_AUTH_HEADERS);
+    storedProfiles = getSystemProfiles(table.getFullyQualifiedName(), timestamp, nextTimestamp, ADMIN_AUTH_HEADERS);
+    assertEquals(
+        Map.of(
+            timestamp + ":INSERT",
+            15,
+            timestamp + ":UPDATE",
+            30,
+            timestamp + ":DELETE",
+            5,
+            nextTimestamp + ":INSERT",
+            40),
+        getRowsAffected(storedProfiles.getData()));
+  }
+
   @Test
   void put_tableInvalidTableProfileData_4xx(TestInfo test) throws IOException, ParseException {
     Table table = createAndCheckEntity(createRequest(test), ADMIN_AUTH_HEADERS);
@@ -1819,6 +1864,75 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     assertNotNull(tables.getData().get(0).getTestSuite());
   }
 
+  @Test
+  void list_tablesWithBulkFields_200(TestInfo test) throws IOException {
+    // Create two tables in their own schema
+    DatabaseSchemaResourceTest schemaResourceTest = new DatabaseSchemaResourceTest();
+    DatabaseSchema schema = schemaResourceTest.createEntity(schemaResourceTest.createRequest(test), ADMIN_AUTH_HEADERS);
+    Table table1 =
+        createEntity(createRequest(test, 1).withDatabaseSchema(schema.getFullyQualifiedName()), ADMIN_AUTH_HEADERS);
+    Table table2 =
+        createEntity(createRequest(test, 2).withDatabaseSchema(schema.getFullyQualifiedName()), ADMIN_AUTH_HEADERS);
+
+    // Set joins, profiler config, and custom metrics of table1 and a test suite for table2
+    TableJoins joins =
+        new TableJoins()
+            .withDayCount(1)
+            .withStartDate(RestUtil.today(0))
+            .withColumnJoins(
+                List.of(
+                    new ColumnJoin()
+                        .withColumnName(C1)
+                        .withJoinedWith(
+                            List.of(
+                                new JoinedWith()
+                                    .withFullyQualifiedName(FullyQualifiedName.add(table2.getFullyQualifiedName(), C1))
+                                    .withJoinCount(10)))))
+            .withDirectTableJoins(
+                List.of(new JoinedWith().withFullyQualifiedName(table2.getFullyQualifiedName()).withJoinCount(5)));
+    putJoins(table1.getId(), joins, ADMIN_AUTH_HEADERS);
+    putTableProfilerConfig(
+        table1.getId(), new TableProfilerConfig().withProfileQuery("SELECT * FROM dual"), ADMIN_AUTH_HEADERS);
+    putCustomMetric(
+        table1.getId(),
+        new CreateCustomMetric().withName("custom").withColumnName(C1).withExpression("SELECT SUM(xyz) FROM abc"),
+        ADMIN_AUTH_HEADERS);
+    TestSuiteResourceTest testSuiteResourceTest = new TestSuiteResourceTest();
+    testSuiteResourceTest.createExecutableTestSuite(
+        testSuiteResourceTest.createRequest(table2.getFullyQualifiedName()), ADMIN_AUTH_HEADERS);
+
+    // The fields set for a list of tables are the same as the fields set for each table
+    String fields = "joins,lifeCycle,tableProfilerConfig,testSuite,customMetrics,usageSummary";
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("databaseSchema", schema.getFullyQualifiedName());
+    queryParams.put("fields", fields);
+    ResultList<Table> tables = listEntities(queryParams, ADMIN_AUTH_HEADERS);
+    assertEquals(2, tables.getData().size());
+    for (Table listed : tables.getData()) {
+      Table table = getEntity(listed.getId(), fields, ADMIN_AUTH_HEADERS);
+      assertColumnJoins(table.getJoins().getColumnJoins(), listed.getJoins());
+      assertDirectTableJoins(table.getJoins().getDirectTableJoins(), listed.getJoins());
+      assertEquals(table.getLifeCycle(), listed.getLifeCycle());
+      assertEquals(table.getTableProfilerConfig(), listed.getTableProfilerConfig());
+      assertEquals(table.getUsageSummary(), listed.getUsageSummary());
+      assertEquals(
+          table.getTestSuite() == null ? null : table.getTestSuite().getId(),
+          listed.getTestSuite() == null ? null : listed.getTestSuite().getId());
+      for (int i = 0; i < table.getColumns().size(); i++) {
+        assertEquals(table.getColumns().get(i).getCustomMetrics(), listed.getColumns().get(i).getCustomMetrics());
+      }
+    }
+    Table listed1 = tables.getData().stream().filter(t -> t.getId().equals(table1.getId())).findFirst().orElseThrow();
+    Table listed2 = tables.getData().stream().filter(t -> t.getId().equals(table2.getId())).findFirst().orElseThrow();
+    assertEquals(1, listed1.getJoins().getColumnJoins().size());
+    assertEquals(1, listed2.getJoins().getDirectTableJoins().size());
+    assertNotNull(listed1.getTableProfilerConfig());
+    Column column1 = listed1.getColumns().stream().filter(c -> c.getName().equals(C1)).findFirst().orElseThrow();
+    assertEquals(1, column1.getCustomMetrics().size());
+    assertNull(listed1.getTestSuite());
+    assertNotNull(listed2.getTestSuite());
+  }
+
   @Test
   void test_sensitivePIISampleData(TestInfo test) throws IOException {
     // Create table with owner and a column tagged with PII.Sensitive
@@ -2067,6 +2181,13 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     return TestUtils.get(target, TableResource.ColumnProfileList.class, authHeaders);
   }
 
+  public ResultList<SystemProfile> getSystemProfiles(
+      String fqn, Long startTs, Long endTs, Map<String, String> authHeaders) throws HttpResponseException {
+    WebTarget target = getCollection().path("/" + fqn + "/systemProfile");
+    target = target.queryParam("startTs", startTs).queryParam("endTs", endTs);
+    return TestUtils.get(target, TableResource.SystemProfileList.class, authHeaders);
+  }
+
   public ChangeEvent putTableQueriesData(UUID queryId, List<EntityReference> data, Map<String, String> authHeaders)
       throws HttpResponseException {
     WebTarget target = getResource(String.format("queries/%s/usage", queryId));
@@ -2308,6 +2429,20 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
         .withTimestamp(timestamp);
   }
 
+  private static SystemProfile getSystemProfile(Long timestamp, DmlOperationType operation, int rowsAffected) {
+    return new SystemProfile().withTimestamp(timestamp).withOperation(operation).withRowsAffected(rowsAffected);
+  }
+
+  /** Rows affected of the system profiles, keyed by the timestamp and operation of the profile */
+  private static Map<String, Integer> getRowsAffected(List<SystemProfile> systemProfiles) {
+    Map<String, Integer> rowsAffected = new HashMap<>();
+    for (SystemProfile systemProfile : systemProfiles) {
+      String key = systemProfile.getTimestamp() + ":" + systemProfile.getOperation().value();
+      assertNull(rowsAffected.put(key, systemProfile.getRowsAffected()), "Duplicate system profile " + key);
+    }
+    return rowsAffected;
+  }
+
   private static TableJoins getTableJoins(ColumnJoin... columnJoins) {
     return new TableJoins().withStartDate(RestUtil.today(0)).withDayCount(1).withColumnJoins(List.of(columnJoins));
   }
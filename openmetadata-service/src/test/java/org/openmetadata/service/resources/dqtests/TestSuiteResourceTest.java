@@ -30,6 +30,7 @@ import org.openmetadata.schema.api.tests.CreateLogicalTestCases;
 import org.openmetadata.schema.api.tests.CreateTestCase;
 import org.openmetadata.schema.api.tests.CreateTestSuite;
 import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.tests.ResultSummary;
 import org.openmetadata.schema.tests.TestCase;
 import org.openmetadata.schema.tests.TestSuite;
 import org.openmetadata.schema.tests.type.TestCaseResult;
@@ -195,6 +196,73 @@ public class TestSuiteResourceTest extends EntityResourceTest<TestSuite, CreateT
     verifyTestCases(executableTestSuite.getTests(), logicalTestSuite.getTests());
   }
 
+  @Test
+  void get_testSuiteResultSummary_200(TestInfo test) throws IOException, ParseException {
+    TestCaseResourceTest testCaseResourceTest = new TestCaseResourceTest();
+    TableResourceTest tableResourceTest = new TableResourceTest();
+    CreateTable tableReq =
+        tableResourceTest
+            .createRequest(test)
+            .withColumns(
+                List.of(
+                    new Column()
+                        .withName(C1)
+                        .withDisplayName("c1")
+                        .withDataType(ColumnDataType.VARCHAR)
+                        .withDataLength(10)));
+    Table table = tableResourceTest.createEntity(tableReq, ADMIN_AUTH_HEADERS);
+    TestSuite executableTestSuite =
+        createExecutableTestSuite(createRequest(table.getFullyQualifiedName()), ADMIN_AUTH_HEADERS);
+    CreateTestSuite createTestSuite = createRequest(test);
+    TestSuite logicalTestSuite = createEntity(createTestSuite, ADMIN_AUTH_HEADERS);
+
+    List<UUID> testCaseIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      CreateTestCase createTestCase =
+          testCaseResourceTest
+              .createRequest(String.format("test_resultSummary_%s_", test.getDisplayName()) + i)
+              .withTestSuite(executableTestSuite.getFullyQualifiedName());
+      testCaseIds.add(testCaseResourceTest.createAndCheckEntity(createTestCase, ADMIN_AUTH_HEADERS).getId());
+    }
+    addTestCasesToLogicalTestSuite(logicalTestSuite, testCaseIds);
+
+    // Record the results of the test cases, the latest result of a test case replaces the previous one
+    for (int i = 0; i < testCaseIds.size(); i++) {
+      TestCase testCase = testCaseResourceTest.getEntity(testCaseIds.get(i), "", ADMIN_AUTH_HEADERS);
+      TestCaseResult testCaseResult =
+          new TestCaseResult()
+              .withResult("tested")
+              .withTestCaseStatus(TestCaseStatus.Failed)
+              .withTimestamp(TestUtils.dateToTimestamp("2021-09-09"));
+      testCaseResourceTest.putTestCaseResult(testCase.getFullyQualifiedName(), testCaseResult, ADMIN_AUTH_HEADERS);
+      testCaseResult
+          .withTestCaseStatus(i == 0 ? TestCaseStatus.Failed : TestCaseStatus.Success)
+          .withTimestamp(TestUtils.dateToTimestamp("2021-09-10"));
+      testCaseResourceTest.putTestCaseResult(testCase.getFullyQualifiedName(), testCaseResult, ADMIN_AUTH_HEADERS);
+    }
+
+    // Result summaries are only returned when requested
+    assertNull(getEntity(logicalTestSuite.getId(), "tests", ADMIN_AUTH_HEADERS).getTestCaseResultSummary());
+    for (TestSuite testSuite : List.of(executableTestSuite, logicalTestSuite)) {
+      TestSuite actual = getEntity(testSuite.getId(), "testCaseResultSummary,summary", ADMIN_AUTH_HEADERS);
+      List<ResultSummary> resultSummaries = actual.getTestCaseResultSummary();
+      assertEquals(3, resultSummaries.size());
+      assertEquals(1, resultSummaries.stream().filter(r -> r.getStatus() == TestCaseStatus.Failed).count());
+      assertEquals(3, actual.getSummary().getTotal());
+      assertEquals(2, actual.getSummary().getSuccess());
+      assertEquals(1, actual.getSummary().getFailed());
+    }
+
+    // Result summaries of a page of test suites are loaded together
+    ResultList<TestSuite> testSuites = getTestSuites(1000, "testCaseResultSummary", ADMIN_AUTH_HEADERS);
+    for (TestSuite testSuite : testSuites.getData()) {
+      assertListNotNull(testSuite.getTestCaseResultSummary());
+      if (testSuite.getId().equals(logicalTestSuite.getId())) {
+        assertEquals(3, testSuite.getTestCaseResultSummary().size());
+      }
+    }
+  }
+
   @Test
   void addTestCaseWithLogicalEndPoint(TestInfo test) throws IOException {
     TestCaseResourceTest testCaseResourceTest = new TestCaseResourceTest();
@@ -30,7 +30,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response.Status;
 import lombok.extern.slf4j.Slf4j;
@@ -41,11 +43,13 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.openmetadata.api.configuration.LineageConfiguration;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.data.CreateDashboardDataModel;
 import org.openmetadata.schema.api.data.CreateTable;
 import org.openmetadata.schema.api.lineage.AddLineage;
 import org.openmetadata.schema.entity.data.DashboardDataModel;
+import org.openmetadata.schema.entity.data.Pipeline;
 import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.entity.teams.Role;
 import org.openmetadata.schema.entity.teams.User;
@@ -56,10 +60,16 @@ import org.openmetadata.schema.type.EntityLineage;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.LineageDetails;
 import org.openmetadata.schema.type.MetadataOperation;
+import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationTest;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.LineageRepository;
+import org.openmetadata.service.jdbi3.locator.ConnectionType;
+import org.openmetadata.service.migration.utils.v120.MigrationUtil;
 import org.openmetadata.service.resources.databases.TableResourceTest;
 import org.openmetadata.service.resources.datamodels.DashboardDataModelResourceTest;
+import org.openmetadata.service.resources.pipelines.PipelineResourceTest;
 import org.openmetadata.service.resources.teams.RoleResource;
 import org.openmetadata.service.resources.teams.RoleResourceTest;
 import org.openmetadata.service.resources.teams.UserResourceTest;
@@ -337,6 +347,175 @@ public class LineageResourceTest extends OpenMetadataApplicationTest {
     assertEquals(lineageDetails.getDescription(), edge.getLineageDetails().getDescription());
   }
 
+  @Order(6)
+  @Test
+  void get_pipelineLineage(TestInfo test) throws HttpResponseException {
+    PipelineResourceTest pipelineResourceTest = new PipelineResourceTest();
+    Pipeline pipeline =
+        pipelineResourceTest.createEntity(pipelineResourceTest.createRequest(test, 1), ADMIN_AUTH_HEADERS);
+    Pipeline otherPipeline =
+        pipelineResourceTest.createEntity(pipelineResourceTest.createRequest(test, 2), ADMIN_AUTH_HEADERS);
+
+    // Edges through the pipeline in the lineage details, and edges to and from the pipeline node
+    addPipelineEdge(TABLES.get(5), TABLES.get(6), pipeline);
+    addPipelineEdge(TABLES.get(7), pipeline, null);
+    addPipelineEdge(pipeline, TABLES.get(8), null);
+    // Edge to the pipeline node that is also through the pipeline in its lineage details
+    addPipelineEdge(TABLES.get(9), otherPipeline, otherPipeline);
+
+    // Edges of the pipeline node are those of the pipeline in the lineage details along with its own edges
+    EntityLineage lineage = getLineage(Entity.PIPELINE, pipeline.getId(), 1, 1, ADMIN_AUTH_HEADERS);
+    assertEquals(Set.of(TABLES.get(5).getId(), TABLES.get(7).getId()), getNodeIds(lineage.getUpstreamEdges(), true));
+    assertEquals(Set.of(TABLES.get(6).getId(), TABLES.get(8).getId()), getNodeIds(lineage.getDownstreamEdges(), false));
+    assertEquals(2, lineage.getUpstreamEdges().size());
+    assertEquals(2, lineage.getDownstreamEdges().size());
+    assertPipelineLineageMatchesStoredLineage(pipeline.getId(), lineage);
+
+    // An edge found both ways is returned once
+    lineage = getLineage(Entity.PIPELINE, otherPipeline.getId(), 1, 0, ADMIN_AUTH_HEADERS);
+    assertEquals(1, lineage.getUpstreamEdges().size());
+    assertEquals(TABLES.get(9).getId(), lineage.getUpstreamEdges().get(0).getFromEntity());
+    assertPipelineLineageMatchesStoredLineage(otherPipeline.getId(), lineage);
+
+    // Lineage stored before the pipelineId column is backfilled by the migration
+    String pipelineIdUpdate =
+        connectionType == ConnectionType.MYSQL
+            ? org.openmetadata.service.migration.mysql.v120.Migration.PIPELINE_ID_UPDATE
+            : org.openmetadata.service.migration.postgres.v120.Migration.PIPELINE_ID_UPDATE;
+    jdbi.useHandle(
+        handle -> {
+          handle
+              .createUpdate("UPDATE entity_relationship SET pipelineId = NULL WHERE pipelineId IN (<ids>)")
+              .bindList("ids", pipeline.getId().toString(), otherPipeline.getId().toString())
+              .execute();
+          MigrationUtil.addPipelineIdToLineage(handle, pipelineIdUpdate);
+        });
+    assertEquals(lineage, getLineage(Entity.PIPELINE, otherPipeline.getId(), 1, 0, ADMIN_AUTH_HEADERS));
+    lineage = getLineage(Entity.PIPELINE, pipeline.getId(), 1, 1, ADMIN_AUTH_HEADERS);
+    assertEquals(2, lineage.getUpstreamEdges().size());
+    assertEquals(2, lineage.getDownstreamEdges().size());
+    assertPipelineLineageMatchesStoredLineage(pipeline.getId(), lineage);
+  }
+
+  @Order(7)
+  @Test
+  void get_lineageBreadthFirst(TestInfo test) throws HttpResponseException {
+    TableResourceTest tableResourceTest = new TableResourceTest();
+    List<Table> tables = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      tables.add(tableResourceTest.createEntity(tableResourceTest.createRequest(test, 100 + i), ADMIN_AUTH_HEADERS));
+    }
+    Table a = tables.get(0);
+    Table b = tables.get(1);
+    Table c = tables.get(2);
+    Table d = tables.get(3);
+    Table e = tables.get(4);
+
+    // Lineage graph with two paths from a to d, and a cycle back to a
+    //     -->b-->
+    //   a        d-->e
+    //   ^ -->c-->    |
+    //   |____________|
+    addEdge(a, b);
+    addEdge(a, c);
+    addEdge(b, d);
+    addEdge(c, d);
+    addEdge(d, e);
+    addEdge(e, a);
+
+    // Each edge is returned once, and nodes reached by more than one path are walked once
+    Edge[] level1 = {getEdge(a, b), getEdge(a, c)};
+    Edge[] level2 = {getEdge(a, b), getEdge(a, c), getEdge(b, d), getEdge(c, d)};
+    Edge[] all = {getEdge(a, b), getEdge(a, c), getEdge(b, d), getEdge(c, d), getEdge(d, e), getEdge(e, a)};
+    assertLineage(Entity.TABLE, a.getId(), a.getFullyQualifiedName(), 0, 1, new Edge[0], level1);
+    assertLineage(Entity.TABLE, a.getId(), a.getFullyQualifiedName(), 0, 2, new Edge[0], level2);
+    assertLineage(Entity.TABLE, a.getId(), a.getFullyQualifiedName(), 0, 10, new Edge[0], all);
+    assertLineage(Entity.TABLE, d.getId(), d.getFullyQualifiedName(), 10, 0, all, new Edge[0]);
+    EntityLineage lineage = getLineage(Entity.TABLE, a.getId(), 10, 10, ADMIN_AUTH_HEADERS);
+    assertEquals(4, lineage.getNodes().size());
+    assertFalse(lineage.getTruncated());
+
+    // Lineage beyond the node and edge limits is truncated
+    LineageRepository repository = new LineageRepository(jdbi.onDemand(CollectionDAO.class));
+    repository.initialize(new LineageConfiguration().withMaxNodes(2).withMaxEdges(100));
+    lineage = repository.get(Entity.TABLE, a.getId().toString(), 0, 10);
+    assertTrue(lineage.getTruncated());
+    assertEquals(2, lineage.getNodes().size());
+    assertEquals(Set.of(getEdge(a, b), getEdge(a, c)), Set.copyOf(lineage.getDownstreamEdges()));
+
+    repository.initialize(new LineageConfiguration().withMaxNodes(100).withMaxEdges(3));
+    lineage = repository.get(Entity.TABLE, a.getId().toString(), 0, 10);
+    assertTrue(lineage.getTruncated());
+    assertEquals(3, lineage.getDownstreamEdges().size());
+
+    repository.initialize(new LineageConfiguration().withMaxNodes(4).withMaxEdges(6));
+    lineage = repository.get(Entity.TABLE, a.getId().toString(), 0, 10);
+    assertFalse(lineage.getTruncated());
+    assertEquals(Set.of(all), Set.copyOf(lineage.getDownstreamEdges()));
+
+    for (Edge edge : all) {
+      deleteLineage(
+          new EntitiesEdge()
+              .withFromEntity(new EntityReference().withType(Entity.TABLE).withId(edge.getFromEntity()))
+              .withToEntity(new EntityReference().withType(Entity.TABLE).withId(edge.getToEntity())),
+          ADMIN_AUTH_HEADERS);
+    }
+  }
+
+  /**
+   * Check that the lineage of a pipeline is same as the lineage found by looking up the pipeline id in the JSON of the
+   * lineage details, which is how it was found before the pipelineId column.
+   */
+  private void assertPipelineLineageMatchesStoredLineage(UUID pipelineId, EntityLineage lineage) {
+    String pipelineIdJson =
+        connectionType == ConnectionType.MYSQL
+            ? "JSON_UNQUOTE(JSON_EXTRACT(json, '$.pipeline.id'))"
+            : "json->'pipeline'->>'id'";
+    Set<UUID> downstream =
+        findStoredLineage(
+            "SELECT toId FROM entity_relationship WHERE "
+                + pipelineIdJson
+                + " = :id OR fromId = :id AND relation = :relation",
+            pipelineId);
+    Set<UUID> upstream =
+        findStoredLineage(
+            "SELECT fromId FROM entity_relationship WHERE "
+                + pipelineIdJson
+                + " = :id OR toId = :id AND relation = :relation",
+            pipelineId);
+    upstream.remove(pipelineId); // Edges from the pipeline node through the pipeline are downstream edges
+    if (!lineage.getUpstreamEdges().isEmpty()) {
+      assertEquals(upstream, getNodeIds(lineage.getUpstreamEdges(), true));
+    }
+    if (!lineage.getDownstreamEdges().isEmpty()) {
+      assertEquals(downstream, getNodeIds(lineage.getDownstreamEdges(), false));
+    }
+  }
+
+  private static Set<UUID> findStoredLineage(String sql, UUID pipelineId) {
+    return jdbi.withHandle(
+        handle ->
+            handle.createQuery(sql).bind("id", pipelineId.toString()).bind("relation", Relationship.UPSTREAM.ordinal())
+                .mapTo(String.class).stream()
+                .map(UUID::fromString)
+                .collect(Collectors.toSet()));
+  }
+
+  private static Set<UUID> getNodeIds(List<Edge> edges, boolean upstream) {
+    return edges.stream().map(edge -> upstream ? edge.getFromEntity() : edge.getToEntity()).collect(Collectors.toSet());
+  }
+
+  private void addPipelineEdge(EntityInterface from, EntityInterface to, Pipeline pipeline)
+      throws HttpResponseException {
+    LineageDetails details = pipeline == null ? null : new LineageDetails().withPipeline(pipeline.getEntityReference());
+    EntitiesEdge edge =
+        new EntitiesEdge()
+            .withFromEntity(from.getEntityReference())
+            .withToEntity(to.getEntityReference())
+            .withLineageDetails(details);
+    addLineage(new AddLineage().withEdge(edge), ADMIN_AUTH_HEADERS);
+  }
+
   public Edge getEdge(Table from, Table to) {
     return getEdge(from.getId(), to.getId(), null);
   }
@@ -0,0 +1,242 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.resources.tags;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.openmetadata.schema.type.Include.NON_DELETED;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.entity.classification.Tag;
+import org.openmetadata.schema.entity.data.GlossaryTerm;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.schema.type.TagLabel.TagSource;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.exception.EntityNotFoundException;
+import org.openmetadata.service.jdbi3.CollectionDAO.GlossaryTermDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.TagDAO;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.jdbi3.GlossaryTermRepository;
+import org.openmetadata.service.jdbi3.TagRepository;
+
+class TagLabelCacheTest {
+  private final Map<String, Tag> tags = new HashMap<>();
+  private final Map<String, GlossaryTerm> terms = new HashMap<>();
+  private final List<List<String>> tagQueries = new ArrayList<>();
+  private final List<List<String>> termQueries = new ArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    TagDAO tagDAO = mock(TagDAO.class);
+    when(tagDAO.findEntitiesByNames(anyList(), eq(NON_DELETED)))
+        .thenAnswer(i -> find(tags, tagQueries, i.getArgument(0)));
+    register(Tag.class, Entity.TAG, mock(TagRepository.class), tagDAO);
+
+    GlossaryTermDAO termDAO = mock(GlossaryTermDAO.class);
+    when(termDAO.findEntitiesByNames(anyList(), eq(NON_DELETED)))
+        .thenAnswer(i -> find(terms, termQueries, i.getArgument(0)));
+    register(GlossaryTerm.class, Entity.GLOSSARY_TERM, mock(GlossaryTermRepository.class), termDAO);
+
+    TagLabelCache.invalidateAll();
+  }
+
+  @Test
+  void testLabelsAreLoadedInBulk() {
+    addTag("PII.Sensitive", "sensitive data");
+    addTag("PII.NonSensitive", "non sensitive data");
+    addTag("Tier.Tier1", "tier 1");
+    addTerm("Business.Revenue", "revenue");
+    addTerm("Business.Revenue.Net", "net revenue");
+
+    List<TagLabel> labels =
+        List.of(
+            tagLabel("PII.Sensitive"),
+            tagLabel("PII.NonSensitive"),
+            tagLabel("Tier.Tier1"),
+            tagLabel("PII.Sensitive"),
+            termLabel("Business.Revenue"),
+            termLabel("Business.Revenue.Net"));
+    TagLabelCache.applyTagCommonFields(labels);
+
+    // One query per source, for the distinct labels
+    assertEquals(List.of(List.of("PII.Sensitive", "PII.NonSensitive", "Tier.Tier1")), tagQueries);
+    assertEquals(List.of(List.of("Business.Revenue", "Business.Revenue.Net")), termQueries);
+    assertLabel(labels.get(0), "Sensitive", "sensitive data");
+    assertLabel(labels.get(3), "Sensitive", "sensitive data");
+    assertLabel(labels.get(5), "Net", "net revenue");
+
+    // Only the labels missing from the cache are loaded
+    List<TagLabel> moreLabels =
+        List.of(tagLabel("PII.Sensitive"), tagLabel("Tier.Tier2"), termLabel("Business.Revenue"));
+    addTag("Tier.Tier2", "tier 2");
+    TagLabelCache.applyTagCommonFields(moreLabels);
+    assertEquals(List.of("Tier.Tier2"), tagQueries.get(1));
+    assertEquals(1, termQueries.size());
+    assertLabel(moreLabels.get(1), "Tier2", "tier 2");
+    assertLabel(moreLabels.get(2), "Revenue", "revenue");
+
+    // Labels of the tags that do not exist are rejected
+    List<TagLabel> unknown = List.of(tagLabel("PII.Unknown"));
+    assertThrows(EntityNotFoundException.class, () -> TagLabelCache.applyTagCommonFields(unknown));
+  }
+
+  @Test
+  void testLabelsAreInvalidatedOnUpdate() {
+    addTag("PII.Sensitive", "sensitive data");
+    addTag("PII.Sensitive.Email", "email");
+    addTag("PII.NonSensitive", "non sensitive data");
+    addTerm("Business.Revenue", "revenue");
+    addTerm("Business.Cost", "cost");
+    TagLabelCache.applyTagCommonFields(
+        List.of(
+            tagLabel("PII.Sensitive"),
+            tagLabel("PII.Sensitive.Email"),
+            tagLabel("PII.NonSensitive"),
+            termLabel("Business.Revenue"),
+            termLabel("Business.Cost")));
+    tagQueries.clear();
+    termQueries.clear();
+
+    // Updating a tag reloads it and the tags under it
+    addTag("PII.Sensitive", "updated sensitive data");
+    TagLabelCache.invalidate(Entity.TAG, "PII.Sensitive");
+    List<TagLabel> labels =
+        List.of(tagLabel("PII.Sensitive"), tagLabel("PII.Sensitive.Email"), tagLabel("PII.NonSensitive"));
+    TagLabelCache.applyTagCommonFields(labels);
+    assertEquals(List.of(List.of("PII.Sensitive", "PII.Sensitive.Email")), tagQueries);
+    assertLabel(labels.get(0), "Sensitive", "updated sensitive data");
+
+    // Updating a glossary term reloads it
+    addTerm("Business.Revenue", "updated revenue");
+    TagLabelCache.invalidate(Entity.GLOSSARY_TERM, "Business.Revenue");
+    labels = List.of(termLabel("Business.Revenue"), termLabel("Business.Cost"));
+    TagLabelCache.applyTagCommonFields(labels);
+    assertEquals(List.of(List.of("Business.Revenue")), termQueries);
+    assertLabel(labels.get(0), "Revenue", "updated revenue");
+    assertLabel(labels.get(1), "Cost", "cost");
+  }
+
+  @Test
+  void testLabelsAreInvalidatedOnRenameOrDelete() {
+    addTag("PII.Sensitive", "sensitive data");
+    addTag("PII.Sensitive.Email", "email");
+    addTag("PIIData.Sensitive", "sensitive data");
+    addTerm("Business.Revenue", "revenue");
+    addTerm("Business.Revenue.Net", "net revenue");
+    addTerm("Finance.Revenue", "revenue");
+    TagLabelCache.applyTagCommonFields(
+        List.of(
+            tagLabel("PII.Sensitive"),
+            tagLabel("PII.Sensitive.Email"),
+            tagLabel("PIIData.Sensitive"),
+            termLabel("Business.Revenue"),
+            termLabel("Business.Revenue.Net"),
+            termLabel("Finance.Revenue")));
+    tagQueries.clear();
+    termQueries.clear();
+
+    // Renaming a classification invalidates the tags under its old name, and only those
+    tags.remove("PII.Sensitive");
+    tags.remove("PII.Sensitive.Email");
+    addTag("Personal.Sensitive", "sensitive data");
+    TagLabelCache.invalidate(Entity.CLASSIFICATION, "PII");
+    List<TagLabel> oldName = List.of(tagLabel("PII.Sensitive"));
+    assertThrows(EntityNotFoundException.class, () -> TagLabelCache.applyTagCommonFields(oldName));
+    List<TagLabel> oldChild = List.of(tagLabel("PII.Sensitive.Email"));
+    assertThrows(EntityNotFoundException.class, () -> TagLabelCache.applyTagCommonFields(oldChild));
+    List<TagLabel> labels = List.of(tagLabel("Personal.Sensitive"), tagLabel("PIIData.Sensitive"));
+    TagLabelCache.applyTagCommonFields(labels);
+    assertEquals(
+        List.of(List.of("PII.Sensitive"), List.of("PII.Sensitive.Email"), List.of("Personal.Sensitive")), tagQueries);
+    assertLabel(labels.get(0), "Sensitive", "sensitive data");
+
+    // Deleting a glossary invalidates all the terms under it, and only those
+    terms.remove("Business.Revenue");
+    terms.remove("Business.Revenue.Net");
+    TagLabelCache.invalidate(Entity.GLOSSARY, "Business");
+    List<TagLabel> deleted = List.of(termLabel("Business.Revenue.Net"));
+    assertThrows(EntityNotFoundException.class, () -> TagLabelCache.applyTagCommonFields(deleted));
+    TagLabelCache.applyTagCommonFields(List.of(termLabel("Finance.Revenue")));
+    assertEquals(List.of(List.of("Business.Revenue.Net")), termQueries);
+  }
+
+  private static <T extends EntityInterface> List<T> find(
+      Map<String, T> entities, List<List<String>> queries, List<String> fqns) {
+    queries.add(List.copyOf(fqns));
+    List<T> found = new ArrayList<>();
+    for (String fqn : fqns) {
+      if (entities.containsKey(fqn)) {
+        found.add(entities.get(fqn));
+      }
+    }
+    return found;
+  }
+
+  private static <T extends EntityInterface> void register(
+      Class<T> clazz, String entityType, EntityRepository<T> repository, EntityDAO<T> dao) {
+    when(repository.getDao()).thenReturn(dao);
+    Entity.registerEntity(clazz, entityType, repository, null);
+  }
+
+  private void addTag(String fqn, String description) {
+    tags.put(
+        fqn,
+        new Tag()
+            .withId(UUID.randomUUID())
+            .withName(lastPart(fqn))
+            .withFullyQualifiedName(fqn)
+            .withDescription(description));
+  }
+
+  private void addTerm(String fqn, String description) {
+    terms.put(
+        fqn,
+        new GlossaryTerm()
+            .withId(UUID.randomUUID())
+            .withName(lastPart(fqn))
+            .withFullyQualifiedName(fqn)
+            .withDescription(description));
+  }
+
+  private static String lastPart(String fqn) {
+    return fqn.substring(fqn.lastIndexOf('.') + 1);
+  }
+
+  private static TagLabel tagLabel(String fqn) {
+    return new TagLabel().withTagFQN(fqn).withSource(TagSource.CLASSIFICATION);
+  }
+
+  private static TagLabel termLabel(String fqn) {
+    return new TagLabel().withTagFQN(fqn).withSource(TagSource.GLOSSARY);
+  }
+
+  private static void assertLabel(TagLabel label, String name, String description) {
+    assertEquals(name, label.getName());
+    assertEquals(description, label.getDescription());
+    assertTrue(label.getTagFQN().endsWith(name));
+  }
+}
@@ -0,0 +1,210 @@
+package org.openmetadata.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.service.configuration.elasticsearch.BulkIndexingConfiguration;
+import org.openmetadata.service.search.BulkIndexBuffer.Operation;
+
+class BulkIndexBufferTest {
+  private final List<List<String>> bulks = Collections.synchronizedList(new ArrayList<>());
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final Set<String> failOnce = ConcurrentHashMap.newKeySet(); // Requests failing once with a retryable error
+  private final Set<String> failAlways = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean throwOnce = new AtomicBoolean(false);
+  private final AtomicReference<Runnable> onSend = new AtomicReference<>(); // Runs once while sending a bulk
+
+  @Test
+  void testCoalesceRequestsPerDocument() {
+    BulkIndexBuffer<String> buffer = newBuffer(100, 60000, 1000);
+    buffer.add("table", "1", "upsert-1", Operation.UPSERT);
+    buffer.add("table", "1", "upsert-2", Operation.UPSERT); // Replaces the previous upsert
+    buffer.add("table", "1", "script-1", Operation.UPDATE);
+    buffer.add("table", "2", "script-2", Operation.UPDATE);
+    buffer.add("table", "2", "delete-2", Operation.DELETE); // Replaces all the pending requests of the document
+    buffer.add("topic", "1", "upsert-3", Operation.UPSERT); // Same id in another index is a different document
+    assertEquals(4, buffer.getBufferedCount());
+    assertEquals(3.0, registry.get("search_bulk_pending_requests").tag("index", "table").gauge().value());
+
+    buffer.flush();
+    assertEquals(List.of(List.of("upsert-2", "script-1", "delete-2", "upsert-3")), bulks);
+    assertEquals(0, buffer.getBufferedCount());
+    assertEquals(0.0, registry.get("search_bulk_pending_requests").tag("index", "table").gauge().value());
+    assertEquals(3, registry.get("search_bulk_lag").tag("index", "table").timer().count());
+    buffer.stop();
+  }
+
+  @Test
+  void testFlushBySizeAndInterval() {
+    BulkIndexBuffer<String> buffer = newBuffer(2, 60000, 1000);
+    buffer.add("table", "1", "a", Operation.UPDATE);
+    buffer.add("table", "2", "b", Operation.UPDATE); // Reaching bulkActions flushes the buffer
+    Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> bulks.size() == 1);
+    assertEquals(List.of("a", "b"), bulks.get(0));
+    buffer.stop();
+
+    bulks.clear();
+    buffer = newBuffer(100, 50, 1000);
+    buffer.add("table", "1", "c", Operation.UPDATE); // Flushed after the interval
+    Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> bulks.size() == 1);
+    assertEquals(List.of("c"), bulks.get(0));
+    buffer.stop();
+  }
+
+  @Test
+  void testBackpressureAndClose() {
+    BulkIndexBuffer<String> buffer = newBuffer(2, 60000, 2);
+    for (int i = 0; i < 10; i++) {
+      buffer.add("table", String.valueOf(i), "r" + i, Operation.UPDATE); // Blocks until the buffer is flushed
+      assertTrue(buffer.getBufferedCount() <= 2);
+    }
+    buffer.stop(); // Flushes the remaining requests
+    assertEquals(10, bulks.stream().mapToInt(List::size).sum());
+
+    buffer.add("table", "10", "r10", Operation.UPDATE); // Requests are sent right away after close
+    assertEquals(List.of("r10"), bulks.get(bulks.size() - 1));
+  }
+
+  @Test
+  void testSharedBufferLifecycle() {
+    AtomicBoolean sinkClosed = new AtomicBoolean(false);
+    BulkIndexBuffer.Sink<String> sink =
+        new BulkIndexBuffer.Sink<>() {
+          @Override
+          public List<String> send(List<String> requests) {
+            bulks.add(new ArrayList<>(requests));
+            return List.of();
+          }
+
+          @Override
+          public void close() {
+            sinkClosed.set(true);
+          }
+        };
+    BulkIndexBuffer<String> buffer =
+        new BulkIndexBuffer<>(new BulkIndexingConfiguration().withFlushIntervalMs(60000), sink, registry);
+    assertNull(BulkIndexBuffer.getInstance());
+
+    // The running buffer is shared by the search clients of the server
+    buffer.start();
+    assertSame(buffer, BulkIndexBuffer.getInstance());
+    BulkIndexBuffer.<String>getInstance().add("table", "1", "a", Operation.UPDATE);
+
+    // Stopping the buffer flushes the pending requests before closing the sink
+    buffer.stop();
+    assertNull(BulkIndexBuffer.getInstance());
+    assertEquals(List.of(List.of("a")), bulks);
+    assertTrue(sinkClosed.get());
+  }
+
+  @Test
+  void testRetryFailedRequests() {
+    BulkIndexBuffer<String> buffer = newBuffer(100, 60000, 1000);
+    failOnce.add("a");
+    buffer.add("table", "1", "a", Operation.UPDATE);
+    buffer.add("table", "2", "b", Operation.UPDATE);
+    buffer.flush();
+    assertEquals(1, buffer.getBufferedCount()); // The failed request is put back
+    assertEquals(1.0, registry.get("search_bulk_pending_requests").tag("index", "table").gauge().value());
+
+    // The failed request is sent again before the later requests of its document
+    buffer.add("table", "1", "c", Operation.UPDATE);
+    buffer.flush();
+    assertEquals(List.of(List.of("a", "b"), List.of("a", "c")), bulks);
+    assertEquals(0, buffer.getBufferedCount());
+
+    // A later upsert of the document replaces the failed request, whether it is sent in the same bulk or added while
+    // the failed request is being sent
+    bulks.clear();
+    failOnce.add("d");
+    buffer.add("table", "3", "d", Operation.UPDATE);
+    buffer.add("table", "3", "e", Operation.UPSERT);
+    buffer.flush();
+    assertEquals(0, buffer.getBufferedCount());
+    failOnce.add("f");
+    buffer.add("table", "4", "f", Operation.UPDATE);
+    onSend.set(() -> buffer.add("table", "4", "g", Operation.UPSERT));
+    buffer.flush();
+    buffer.flush();
+    assertEquals(List.of(List.of("d", "e"), List.of("f"), List.of("g")), bulks);
+    buffer.stop();
+  }
+
+  @Test
+  void testDropRequestsAfterMaxAttempts() {
+    BulkIndexBuffer<String> buffer = newBuffer(100, 60000, 1000);
+    failAlways.add("a");
+    buffer.add("table", "1", "a", Operation.UPDATE);
+    for (int i = 0; i < BulkIndexBuffer.MAX_ATTEMPTS; i++) {
+      assertEquals(1, buffer.getBufferedCount());
+      buffer.flush();
+    }
+    assertEquals(BulkIndexBuffer.MAX_ATTEMPTS, bulks.size());
+    assertEquals(0, buffer.getBufferedCount());
+    assertEquals(1.0, registry.get("search_bulk_dropped_requests").counter().count());
+    buffer.stop();
+  }
+
+  @Test
+  void testRetryAfterBackoffWhenTheSinkFails() {
+    BulkIndexBuffer<String> buffer = newBuffer(100, 50, 1000);
+    throwOnce.set(true);
+    buffer.add("table", "1", "a", Operation.UPDATE);
+
+    // The request is sent by the background flush, and sent again after the backoff when the sink throws
+    Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> bulks.size() == 2);
+    assertEquals(List.of(List.of("a"), List.of("a")), bulks);
+    assertEquals(0, buffer.getBufferedCount());
+    assertEquals(0.0, registry.get("search_bulk_pending_requests").tag("index", "table").gauge().value());
+    assertEquals(2, registry.get("search_bulk_lag").tag("index", "table").timer().count());
+    buffer.stop();
+  }
+
+  @Test
+  void testFlushBeforeRequestsThatAreNotBuffered() {
+    BulkIndexBuffer.flushInstance(); // Nothing to flush when bulk indexing is disabled
+    BulkIndexBuffer<String> buffer = newBuffer(100, 60000, 1000);
+    buffer.add("table", "1", "a", Operation.UPDATE);
+    BulkIndexBuffer.flushInstance();
+    assertEquals(List.of(List.of("a")), bulks);
+    buffer.stop();
+  }
+
+  private BulkIndexBuffer<String> newBuffer(int bulkActions, int flushIntervalMs, int maxBufferedRequests) {
+    BulkIndexingConfiguration config =
+        new BulkIndexingConfiguration()
+            .withBulkActions(bulkActions)
+            .withFlushIntervalMs(flushIntervalMs)
+            .withMaxBufferedRequests(maxBufferedRequests);
+    BulkIndexBuffer<String> buffer =
+        new BulkIndexBuffer<>(
+            config,
+            requests -> {
+              bulks.add(new ArrayList<>(requests));
+              Runnable runnable = onSend.getAndSet(null);
+              if (runnable != null) {
+                runnable.run();
+              }
+              if (throwOnce.getAndSet(false)) {
+                throw new IllegalStateException("Search is not reachable");
+              }
+              return requests.stream().filter(r -> failAlways.contains(r) || failOnce.remove(r)).toList();
+            },
+            registry);
+    buffer.start();
+    return buffer;
+  }
+}
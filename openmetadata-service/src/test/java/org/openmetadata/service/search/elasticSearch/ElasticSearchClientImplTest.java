@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.search.elasticSearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType.TOTAL_ENTITIES_BY_TYPE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.search.aggregations.Aggregation;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.MultiBucketsAggregation;
+import org.elasticsearch.search.aggregations.bucket.histogram.Histogram;
+import org.elasticsearch.search.aggregations.metrics.Sum;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.dataInsight.type.TotalEntitiesByType;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+
+class ElasticSearchClientImplTest {
+  private static final String DAY = "2023-10-01T00:00:00.000Z";
+
+  @Test
+  void testSortedDateByTeamIsMappedToTheTeams() throws Exception {
+    List<String> teams = List.of("team1", "team2", "team3", "team4", "team5");
+    List<MultiSearchRequest> requests = new ArrayList<>();
+    RestHighLevelClient client = mock(RestHighLevelClient.class);
+    when(client.msearch(any(MultiSearchRequest.class), any(RequestOptions.class)))
+        .thenAnswer(
+            i -> {
+              requests.add(i.getArgument(0));
+              // The responses are in the order of the requests, and the search for team3 failed
+              MultiSearchResponse.Item[] items = new MultiSearchResponse.Item[teams.size()];
+              for (int t = 0; t < teams.size(); t++) {
+                items[t] =
+                    t == 2
+                        ? new MultiSearchResponse.Item(null, new RuntimeException("search failed"))
+                        : new MultiSearchResponse.Item(totalEntitiesResponse(t + 1), null);
+              }
+              return new MultiSearchResponse(items, 10);
+            });
+    ElasticSearchClientImpl searchClient = new ElasticSearchClientImpl(client, mock(CollectionDAO.class));
+
+    Map<String, TreeMap<Long, List<Object>>> dataByTeam =
+        searchClient.getSortedDateByTeam(teams, 0L, 1L, TOTAL_ENTITIES_BY_TYPE, "entity_report_data_index");
+
+    // All the teams are searched with a single request, with one search filtered on each team
+    assertEquals(1, requests.size());
+    List<SearchRequest> searches = requests.get(0).requests();
+    assertEquals(teams.size(), searches.size());
+    for (int t = 0; t < teams.size(); t++) {
+      assertTrue(searches.get(t).source().toString().contains("\"" + teams.get(t) + "\""));
+    }
+
+    // Each team gets the data of its own search, and the team of the failed search gets none
+    assertEquals(List.of("team1", "team2", "team4", "team5"), new ArrayList<>(new TreeMap<>(dataByTeam).keySet()));
+    for (int t = 0; t < teams.size(); t++) {
+      if (t != 2) {
+        TreeMap<Long, List<Object>> data = dataByTeam.get(teams.get(t));
+        assertEquals(1, data.size());
+        TotalEntitiesByType entities = (TotalEntitiesByType) data.firstEntry().getValue().get(0);
+        assertEquals(t + 1.0, entities.getEntityCount());
+      }
+    }
+  }
+
+  /** Response of the total entities chart with the given number of tables on a single day */
+  private static SearchResponse totalEntitiesResponse(double count) {
+    Sum entityCount = aggregation(Sum.class, "entityCount");
+    when(entityCount.getValue()).thenReturn(count);
+    MultiBucketsAggregation.Bucket entityTypeBucket = mock(MultiBucketsAggregation.Bucket.class);
+    when(entityTypeBucket.getKeyAsString()).thenReturn("Table");
+    when(entityTypeBucket.getAggregations()).thenReturn(new Aggregations(List.of(entityCount)));
+    MultiBucketsAggregation entityTypes = aggregation(MultiBucketsAggregation.class, "entityType");
+    doReturn(List.of(entityTypeBucket)).when(entityTypes).getBuckets();
+
+    Histogram.Bucket timestampBucket = mock(Histogram.Bucket.class);
+    when(timestampBucket.getKeyAsString()).thenReturn(DAY);
+    when(timestampBucket.getAggregations()).thenReturn(new Aggregations(List.of(entityTypes)));
+    Histogram timestamps = aggregation(Histogram.class, "timestamp");
+    doReturn(List.of(timestampBucket)).when(timestamps).getBuckets();
+
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getAggregations()).thenReturn(new Aggregations(List.of(timestamps)));
+    return response;
+  }
+
+  private static <A extends Aggregation> A aggregation(Class<A> type, String name) {
+    A aggregation = mock(type);
+    when(aggregation.getName()).thenReturn(name);
+    return aggregation;
+  }
+}
@@ -230,24 +230,31 @@ class RuleEvaluatorTest {
     user.setRoles(listOf(createRole("user").getEntityReference()));
 
     // User in team111 inherits all roles
-    user.setTeams(listOf(team111.getEntityReference()));
+    setUserTeams(team111);
     for (String role : listOf("user", "team111", "team11", "team1")) {
       assertTrue(evaluateExpression(String.format("hasAnyRole('%s')", role)));
     }
 
     // User in team11 inherits all roles except team111
-    user.setTeams(listOf(team11.getEntityReference()));
+    setUserTeams(team11);
     for (String role : listOf("user", "team11", "team1")) {
       assertTrue(evaluateExpression(String.format("hasAnyRole('%s')", role)));
     }
 
     // User in team1 does not have parent team to inherit from
-    user.setTeams(listOf(team1.getEntityReference()));
+    setUserTeams(team1);
     for (String role : listOf("user", "team1")) {
       assertTrue(evaluateExpression(String.format("hasAnyRole('%s')", role)));
     }
   }
 
+  /** The roles of the user are computed once per subject context, so a new context is created for the new teams */
+  private void setUserTeams(Team team) {
+    user.setTeams(listOf(team.getEntityReference()));
+    subjectContext = new SubjectContext(user);
+    evaluationContext = new StandardEvaluationContext(new RuleEvaluator(null, subjectContext, resourceContext));
+  }
+
   private Boolean evaluateExpression(String condition) {
     return parseExpression(condition).getValue(evaluationContext, Boolean.class);
   }
@@ -282,6 +289,8 @@ class RuleEvaluatorTest {
       team.getInheritedRoles().addAll(listOrEmpty(parentTeam.getDefaultRoles()));
       team.getInheritedRoles().addAll(listOrEmpty(parentTeam.getInheritedRoles()));
     }
+    // Teams loaded by the subject cache before the roles were added are invalidated, as done when storing a team
+    SubjectCache.invalidate(Entity.TEAM, team);
     return team;
   }
 
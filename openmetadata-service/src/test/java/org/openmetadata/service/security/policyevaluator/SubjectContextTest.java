@@ -14,6 +14,8 @@ package org.openmetadata.service.security.policyevaluator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -205,6 +207,22 @@ public class SubjectContextTest {
     assertFalse(subjectContext.isTeamAsset("team13", teamOwner));
   }
 
+  @Test
+  void testSubjectContextCache() {
+    // Subject context is reused across requests till the user is invalidated
+    SubjectContext subjectContext = SubjectContext.getSubjectContext(user.getName());
+    assertSame(subjectContext, SubjectContext.getSubjectContext(user.getName()));
+
+    // User has direct roles and the roles inherited from team111, team11, team12, team1 and not from team13
+    assertTrue(subjectContext.hasAnyRole(userRoles.get(0).getName()));
+    assertTrue(subjectContext.hasAnyRole(team111Roles.get(0).getName()));
+    assertTrue(subjectContext.hasAnyRole(team1Roles.get(0).getName()));
+    assertFalse(subjectContext.hasAnyRole(team13Roles.get(0).getName()));
+
+    SubjectCache.invalidate(Entity.USER, user);
+    assertNotSame(subjectContext, SubjectContext.getSubjectContext(user.getName()));
+  }
+
   private static List<Role> getRoles(String prefix) {
     // Create roles with 3 policies each and each policy with 3 rules
     List<Role> roles = new ArrayList<>(3);
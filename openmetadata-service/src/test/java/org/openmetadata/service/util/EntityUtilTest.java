@@ -2,9 +2,14 @@ package org.openmetadata.service.util;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
 import org.junit.jupiter.api.Test;
 import org.openmetadata.schema.entity.data.GlossaryTerm;
 import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
 
 class EntityUtilTest {
   @Test
@@ -12,4 +17,44 @@ class EntityUtilTest {
     assertFalse(EntityUtil.isDescriptionRequired(Table.class)); // Table entity does not require description
     assertTrue(EntityUtil.isDescriptionRequired(GlossaryTerm.class)); // GlossaryTerm entity requires description
   }
+
+  @Test
+  void test_ignoreCaseKey() {
+    String[] names = {"abc", "ABC", "aBc", "straße", "STRASSE", "İ", "i", "ı", "I", "\u212A", "k", "K", "ǅ", "ǆ", "Ǆ"};
+    for (String name1 : names) {
+      for (String name2 : names) {
+        assertEquals(
+            name1.equalsIgnoreCase(name2),
+            EntityUtil.ignoreCaseKey(name1).equals(EntityUtil.ignoreCaseKey(name2)),
+            name1 + " " + name2);
+      }
+    }
+  }
+
+  @Test
+  void test_columnMatcher() {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      columns.add(new Column().withName("Col" + i).withDataType(ColumnDataType.INT));
+    }
+    columns.add(new Column().withName("col0").withDataType(ColumnDataType.STRING)); // Same name different type
+    columns.add(new Column().withName("COL1").withDataType(ColumnDataType.INT)); // Duplicate of col1
+
+    // The indexed matcher finds the same column as comparing the column with each column in the list
+    UnaryOperator<Column> matcher = EntityUtil.matcher(columns, EntityUtil.columnMatch);
+    List<Column> lookups =
+        List.of(
+            new Column().withName("col0").withDataType(ColumnDataType.INT),
+            new Column().withName("col0").withDataType(ColumnDataType.STRING),
+            new Column().withName("col1").withDataType(ColumnDataType.INT),
+            new Column().withName("col99").withDataType(ColumnDataType.INT),
+            new Column().withName("col100").withDataType(ColumnDataType.INT),
+            new Column().withName("col2").withDataType(ColumnDataType.ARRAY));
+    for (Column lookup : lookups) {
+      Column expected = columns.stream().filter(c -> EntityUtil.columnMatch.test(c, lookup)).findFirst().orElse(null);
+      assertSame(expected, matcher.apply(lookup));
+    }
+    assertSame(columns.get(1), matcher.apply(lookups.get(2)));
+    assertNull(EntityUtil.matcher(null, EntityUtil.columnMatch).apply(lookups.get(0)));
+  }
 }
@@ -1,14 +1,25 @@
 package org.openmetadata.service.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.FqnBaseListener;
+import org.openmetadata.schema.FqnLexer;
+import org.openmetadata.schema.FqnParser;
+import org.openmetadata.schema.FqnParser.QuotedNameContext;
+import org.openmetadata.schema.FqnParser.UnquotedNameContext;
 
 class FullyQualifiedNameTest {
   private static class FQNTest {
@@ -83,6 +94,79 @@ class FullyQualifiedNameTest {
     assertThrows(ParseCancellationException.class, () -> FullyQualifiedName.split("a\""));
   }
 
+  @Test
+  void test_splitMatchesGrammar() {
+    List<String> fqns =
+        List.of(
+            "a",
+            "a.b.c.d",
+            "service.db.schema.table.column",
+            "\"a.1\".b",
+            "a.\"b.2\"",
+            "\"a.b.c\".\"d.e\".f",
+            "\".\"",
+            "\"..\".a",
+            "a b.c d",
+            "ä.ö.\"ü.ß\"",
+            "",
+            ".",
+            "a.",
+            ".a",
+            "a..b",
+            "\"a\"",
+            "\"a\".b",
+            "\"a.b",
+            "a.\"b.c",
+            "\"a.b\"c",
+            "\"a.b\"\"c.d\"",
+            "a\"b",
+            "\"\"",
+            "\"");
+    for (String fqn : fqns) {
+      String[] expected;
+      try {
+        expected = splitWithGrammar(fqn);
+      } catch (ParseCancellationException e) {
+        assertThrows(ParseCancellationException.class, () -> FullyQualifiedName.split(fqn), fqn);
+        continue;
+      }
+      assertArrayEquals(expected, FullyQualifiedName.split(fqn), fqn);
+    }
+  }
+
+  @Test
+  void test_buildHash() {
+    String hash = FullyQualifiedName.buildHash("service.\"db.1\".table");
+    assertEquals(
+        String.join(".", EntityUtil.hash("service"), EntityUtil.hash("\"db.1\""), EntityUtil.hash("table")), hash);
+    assertEquals(hash, FullyQualifiedName.buildHash("service", "db.1", "table"));
+    assertEquals(hash, FullyQualifiedName.buildHash("service.\"db.1\".table")); // Hash from the cache is the same
+    assertNull(FullyQualifiedName.buildHash((String) null));
+    assertEquals("", FullyQualifiedName.buildHash(""));
+  }
+
+  /** Split using the ANTLR parser generated from Fqn.g4, which is the reference for FullyQualifiedName.split */
+  private static String[] splitWithGrammar(String fqn) {
+    FqnParser parser = new FqnParser(new CommonTokenStream(new FqnLexer(CharStreams.fromString(fqn))));
+    parser.setErrorHandler(new BailErrorStrategy());
+    List<String> parts = new ArrayList<>();
+    new ParseTreeWalker()
+        .walk(
+            new FqnBaseListener() {
+              @Override
+              public void enterQuotedName(QuotedNameContext ctx) {
+                parts.add(ctx.getText());
+              }
+
+              @Override
+              public void enterUnquotedName(UnquotedNameContext ctx) {
+                parts.add(ctx.getText());
+              }
+            },
+            parser.fqn());
+    return parts.toArray(new String[0]);
+  }
+
   @Test
   void test_getParentFQN() {
     assertEquals("a.b.c", FullyQualifiedName.getParentFQN("a.b.c.d"));
@@ -14,6 +14,7 @@
 package org.openmetadata.service.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -22,6 +23,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import javax.json.Json;
@@ -33,11 +35,15 @@ import javax.json.JsonPatchBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.openmetadata.schema.api.services.DatabaseConnection;
+import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.entity.services.DatabaseService;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.services.connections.dashboard.TableauConnection;
 import org.openmetadata.schema.services.connections.database.MysqlConnection;
 import org.openmetadata.schema.services.connections.database.common.basicAuth;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.schema.type.TagLabel;
 
 /** This test provides examples of how to use applyPatch */
 @Slf4j
@@ -140,4 +146,23 @@ class JsonUtilsTest {
     String actualJson = JsonUtils.pojoToMaskedJson(databaseService);
     assertEquals(expectedJson, actualJson);
   }
+
+  @Test
+  void testDeepCopy() {
+    Table table =
+        new Table()
+            .withId(UUID.randomUUID())
+            .withName("table")
+            .withVersion(0.1)
+            .withColumns(List.of(new Column().withName("c1").withDataType(ColumnDataType.INT)))
+            .withTags(List.of(new TagLabel().withTagFQN("tag.t1")));
+    Table copy = JsonUtils.deepCopy(table, Table.class);
+    assertEquals(JsonUtils.pojoToJson(table), JsonUtils.pojoToJson(copy));
+    assertNotSame(table, copy);
+    assertNotSame(table.getColumns().get(0), copy.getColumns().get(0));
+
+    // Updating the copy does not change the original
+    copy.getColumns().get(0).setName("c2");
+    assertEquals("c1", table.getColumns().get(0).getName());
+  }
 }
@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2022 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.workflows.searchIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.entity.Bot;
+import org.openmetadata.schema.system.ReindexRange;
+import org.openmetadata.schema.system.StepStats;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.exception.SourceException;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.BotDAO;
+import org.openmetadata.service.jdbi3.EntityDAO;
+import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.util.EntityUtil.Fields;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.ResultList;
+
+class PaginatedEntitiesSourceTest {
+  private static final int BATCH_SIZE = 10;
+
+  // Entities stored in the database by id
+  private final TreeMap<String, String> entities = new TreeMap<>();
+  private BotDAO dao;
+  private EntityRepository<Bot> repository;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    // The queries of keyset pagination are run on the stored entities
+    dao = mock(BotDAO.class, CALLS_REAL_METHODS);
+    doAnswer(i -> listBetween(i.getArgument(1), null, i.getArgument(2)))
+        .when(dao)
+        .listAfterIdWithLimit(anyString(), anyString(), anyInt());
+    doAnswer(i -> listBetween(i.getArgument(1), i.getArgument(2), i.getArgument(3)))
+        .when(dao)
+        .listBetweenIdsWithLimit(anyString(), anyString(), anyString(), anyInt());
+    CollectionDAO collectionDAO = mock(CollectionDAO.class);
+    repository =
+        mock(
+            EntityRepository.class,
+            withSettings()
+                .useConstructor("bots", Entity.BOT, Bot.class, dao, collectionDAO, "", "")
+                .defaultAnswer(CALLS_REAL_METHODS));
+    doAnswer(returnsFirstArg()).when(repository).setFields(any(), any());
+    doAnswer(returnsFirstArg()).when(repository).clearFields(any(), any());
+    Entity.registerEntity(Bot.class, Entity.BOT, repository, null);
+
+    for (int i = 0; i < 95; i++) {
+      UUID id = UUID.randomUUID();
+      entities.put(id.toString(), JsonUtils.pojoToJson(new Bot().withId(id).withName("bot" + i)));
+    }
+  }
+
+  @Test
+  void testKeysetQueries() throws NoSuchMethodException {
+    assertEquals(
+        "SELECT json FROM <table> WHERE id > :after ORDER BY id LIMIT :limit",
+        getQuery("listAfterIdWithLimit", String.class, String.class, int.class));
+    assertEquals(
+        "SELECT json FROM <table> WHERE id > :after AND id < :before ORDER BY id LIMIT :limit",
+        getQuery("listBetweenIdsWithLimit", String.class, String.class, String.class, int.class));
+  }
+
+  @Test
+  void testPagingStopsAtBefore() {
+    List<String> ids = new ArrayList<>(entities.keySet());
+    String before = ids.get(42);
+    Fields fields = repository.getFields("");
+
+    List<String> read = new ArrayList<>();
+    String after = "";
+    while (after != null) {
+      ResultList<Bot> page = repository.listAfterIdWithSkipFailure(fields, after, before, BATCH_SIZE);
+      page.getData().forEach(bot -> read.add(bot.getId().toString()));
+      after = page.getPaging().getAfter() == null ? null : read.get(read.size() - 1);
+    }
+    // The entities are read in the order of id up to the one before, which is not included
+    assertEquals(ids.subList(0, 42), read);
+    verify(dao, never()).listAfterIdWithLimit(anyString(), anyString(), anyInt());
+
+    // Without before, the entities are read up to the last one
+    ResultList<Bot> page = repository.listAfterIdWithSkipFailure(fields, ids.get(89), null, BATCH_SIZE);
+    assertEquals(ids.subList(90, 95), toIds(page.getData()));
+    assertNull(page.getPaging().getAfter());
+  }
+
+  @Test
+  void testReadRanges() throws SourceException {
+    // Reading all the ranges reads each entity once, in the order of id
+    List<String> read = new ArrayList<>();
+    for (ReindexRange range : ReindexingUtil.getReindexRanges(Entity.BOT, 4)) {
+      read.addAll(readAll(newSource(range)));
+    }
+    assertEquals(new ArrayList<>(entities.keySet()), read);
+  }
+
+  @Test
+  void testResumeFromCheckpoints() throws SourceException {
+    List<ReindexRange> ranges = ReindexingUtil.getReindexRanges(Entity.BOT, 3);
+
+    // A job completed the first range, read two batches of the second range, and was stopped
+    PaginatedEntitiesSource completed = newSource(ranges.get(0));
+    List<String> readBeforeStop = new ArrayList<>(readAll(completed));
+    PaginatedEntitiesSource partial = newSource(ranges.get(1));
+    readBeforeStop.addAll(toIds(partial.readNext(null).getData()));
+    readBeforeStop.addAll(toIds(partial.readNext(null).getData()));
+    checkpoint(completed);
+    checkpoint(partial);
+    assertTrue(ranges.get(0).getCompleted());
+    assertFalse(ranges.get(1).getCompleted());
+    assertEquals(readBeforeStop.get(readBeforeStop.size() - 1), ranges.get(1).getCursor());
+
+    // The resumed job skips the completed range, and reads the other ranges from their checkpoints
+    List<ReindexRange> checkpoints = JsonUtils.readObjects(JsonUtils.pojoToJson(ranges), ReindexRange.class);
+    List<String> readAfterResume = new ArrayList<>();
+    for (ReindexRange range : ReindexingUtil.getCheckpointedRanges(Entity.BOT, checkpoints)) {
+      PaginatedEntitiesSource source = newSource(range);
+      if (Boolean.TRUE.equals(range.getCompleted())) {
+        assertTrue(source.isDone());
+        assertNull(source.readNext(null));
+        continue;
+      }
+      readAfterResume.addAll(readAll(source));
+    }
+
+    // Each entity is read once across the stopped and the resumed job
+    List<String> read = new ArrayList<>(readBeforeStop);
+    read.addAll(readAfterResume);
+    assertEquals(new ArrayList<>(entities.keySet()), read);
+    assertFalse(readAfterResume.contains(ranges.get(1).getCursor()));
+  }
+
+  private PaginatedEntitiesSource newSource(ReindexRange range) {
+    return new PaginatedEntitiesSource(range, BATCH_SIZE, List.of(), new StepStats());
+  }
+
+  /** Record the progress of the source in its range, as the reindexing job does after each batch */
+  private static void checkpoint(PaginatedEntitiesSource source) {
+    source.getRange().setCursor(source.getCursor());
+    source.getRange().setCompleted(source.isDone());
+  }
+
+  private static List<String> readAll(PaginatedEntitiesSource source) throws SourceException {
+    List<String> ids = new ArrayList<>();
+    while (!source.isDone()) {
+      ids.addAll(toIds(source.readNext(null).getData()));
+    }
+    return ids;
+  }
+
+  private static List<String> toIds(List<? extends EntityInterface> data) {
+    return data.stream().map(entity -> entity.getId().toString()).collect(Collectors.toList());
+  }
+
+  private List<String> listBetween(String after, String before, int limit) {
+    return (before == null ? entities.tailMap(after, false) : entities.subMap(after, false, before, false))
+        .values().stream().limit(limit).collect(Collectors.toList());
+  }
+
+  private static String getQuery(String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+    return EntityDAO.class.getMethod(method, parameterTypes).getAnnotation(SqlQuery.class).value();
+  }
+}
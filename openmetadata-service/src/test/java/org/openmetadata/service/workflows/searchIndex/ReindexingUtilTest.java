@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2022 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.workflows.searchIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.system.ReindexRange;
+import org.openmetadata.service.Entity;
+
+class ReindexingUtilTest {
+  @Test
+  void testRangesCoverAllIds() {
+    for (int count = 1; count <= 256; count++) {
+      List<ReindexRange> ranges = ReindexingUtil.getReindexRanges(Entity.TABLE, count);
+      assertEquals(count, ranges.size());
+      assertRangesCoverAllIds(ranges);
+    }
+
+    // Ranges are split on the first two hex digits of the id, and hence there are at most 256 of them
+    assertEquals(256, ReindexingUtil.getReindexRanges(Entity.TABLE, 1000).size());
+    assertRangesCoverAllIds(ReindexingUtil.getReindexRanges(Entity.TABLE, 1000));
+    assertEquals(1, ReindexingUtil.getReindexRanges(Entity.TABLE, 0).size());
+  }
+
+  @Test
+  void testEachIdIsInOneRange() {
+    List<ReindexRange> ranges = ReindexingUtil.getReindexRanges(Entity.TABLE, 7);
+    int[] counts = new int[ranges.size()];
+    for (int i = 0; i < 10000; i++) {
+      String id = UUID.randomUUID().toString();
+      int matches = 0;
+      for (int r = 0; r < ranges.size(); r++) {
+        if (isInRange(ranges.get(r), id)) {
+          matches++;
+          counts[r]++;
+        }
+      }
+      assertEquals(1, matches, "Id " + id + " is in " + matches + " ranges");
+    }
+
+    // Random ids are spread evenly across the ranges
+    for (int count : counts) {
+      assertTrue(count > 10000 / 7 / 2, "Range has too few ids " + count);
+    }
+  }
+
+  @Test
+  void testCheckpointedRanges() {
+    List<ReindexRange> tableRanges = ReindexingUtil.getReindexRanges(Entity.TABLE, 2);
+    List<ReindexRange> topicRanges = ReindexingUtil.getReindexRanges(Entity.TOPIC, 3);
+    List<ReindexRange> checkpoints = List.of(tableRanges.get(0), topicRanges.get(0), tableRanges.get(1));
+    assertEquals(tableRanges, ReindexingUtil.getCheckpointedRanges(Entity.TABLE, checkpoints));
+    assertEquals(topicRanges.subList(0, 1), ReindexingUtil.getCheckpointedRanges(Entity.TOPIC, checkpoints));
+    assertTrue(ReindexingUtil.getCheckpointedRanges(Entity.DASHBOARD, checkpoints).isEmpty());
+  }
+
+  private static void assertRangesCoverAllIds(List<ReindexRange> ranges) {
+    // The first range starts before all the ids and the last range has no end
+    assertEquals("", ranges.get(0).getStart());
+    assertNull(ranges.get(ranges.size() - 1).getEnd());
+    for (int i = 1; i < ranges.size(); i++) {
+      ReindexRange previous = ranges.get(i - 1);
+      ReindexRange range = ranges.get(i);
+      // Each range starts where the previous range ends, so there are no gaps or overlaps
+      assertEquals(previous.getEnd(), range.getStart());
+      assertTrue(previous.getStart().compareTo(range.getStart()) < 0);
+      assertEquals(Entity.TABLE, range.getEntityType());
+    }
+  }
+
+  /** Ids are read with {@code id > start AND id < end}, where the start and end are shorter than an id */
+  private static boolean isInRange(ReindexRange range, String id) {
+    return id.compareTo(range.getStart()) > 0 && (range.getEnd() == null || id.compareTo(range.getEnd()) < 0);
+  }
+}